@@ -0,0 +1,101 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import simcore.Event;
+import simcore.SimData;
+
+/**
+ * Basisklasse fr die in den Benchmarks verwendeten Ereignisse.<br>
+ * Damit sich auch die Ereignis-Caches vergleichen lassen, stehen mehrere
+ * gleichartige Ereignisklassen zur Verfgung (siehe {@link #TYPES}).
+ * @author Alexander Herzog
+ * @see BenchmarkSimData
+ */
+public abstract class BenchmarkEvent extends Event {
+	/**
+	 * Laufende Nummer, die beim Einplanen vergeben wird<br>
+	 * (Dient dazu, recycelte Ereignisobjekte von den ursprnglich eingeplanten Ereignissen unterscheiden zu knnen.)
+	 */
+	public long serial;
+
+	/**
+	 * Gibt an, ob das Ereignis eingeplant, aber noch nicht ausgefhrt wurde.
+	 */
+	public boolean pending;
+
+	/**
+	 * Gibt an, ob es sich um ein Timeout-Ereignis handelt, welches ggf. wieder gelscht wird.
+	 */
+	public boolean timeout;
+
+	@Override
+	public final void run(final SimData data) {
+		pending=false;
+		((BenchmarkSimData)data).eventExecuted(this);
+	}
+
+	/** Ereignistyp 1 */
+	public static final class Type0 extends BenchmarkEvent {}
+	/** Ereignistyp 2 */
+	public static final class Type1 extends BenchmarkEvent {}
+	/** Ereignistyp 3 */
+	public static final class Type2 extends BenchmarkEvent {}
+	/** Ereignistyp 4 */
+	public static final class Type3 extends BenchmarkEvent {}
+	/** Ereignistyp 5 */
+	public static final class Type4 extends BenchmarkEvent {}
+	/** Ereignistyp 6 */
+	public static final class Type5 extends BenchmarkEvent {}
+	/** Ereignistyp 7 */
+	public static final class Type6 extends BenchmarkEvent {}
+	/** Ereignistyp 8 */
+	public static final class Type7 extends BenchmarkEvent {}
+	/** Ereignistyp 9 */
+	public static final class Type8 extends BenchmarkEvent {}
+	/** Ereignistyp 10 */
+	public static final class Type9 extends BenchmarkEvent {}
+	/** Ereignistyp 11 */
+	public static final class Type10 extends BenchmarkEvent {}
+	/** Ereignistyp 12 */
+	public static final class Type11 extends BenchmarkEvent {}
+	/** Ereignistyp 13 */
+	public static final class Type12 extends BenchmarkEvent {}
+	/** Ereignistyp 14 */
+	public static final class Type13 extends BenchmarkEvent {}
+	/** Ereignistyp 15 */
+	public static final class Type14 extends BenchmarkEvent {}
+	/** Ereignistyp 16 */
+	public static final class Type15 extends BenchmarkEvent {}
+
+	/**
+	 * Alle verfgbaren Ereignisklassen
+	 */
+	public static final Class<?>[] TYPES=new Class<?>[] {
+		Type0.class, Type1.class, Type2.class, Type3.class, Type4.class, Type5.class, Type6.class, Type7.class,
+		Type8.class, Type9.class, Type10.class, Type11.class, Type12.class, Type13.class, Type14.class, Type15.class
+	};
+
+	/**
+	 * Liefert die Ereignisklasse zu einem Ereignistyp.
+	 * @param type	Ereignistyp (beliebige nicht-negative Zahl; wird auf die verfgbaren Klassen abgebildet)
+	 * @return	Ereignisklasse
+	 */
+	@SuppressWarnings("unchecked")
+	public static Class<? extends BenchmarkEvent> getType(final int type) {
+		return (Class<? extends BenchmarkEvent>)TYPES[type%TYPES.length];
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import simcore.eventcache.AssociativeEventCache;
+import simcore.eventcache.EventCache;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventcache.ListEventCache;
+import simcore.eventcache.ListEventCacheLocked;
+import simcore.eventcache.NoEventCache;
+import simcore.eventcache.TypeIndexedEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
+import simcore.eventmanager.EventManager;
+import simcore.eventmanager.LongRunMultiPriorityQueueEventManager;
+import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
+import simcore.eventmanager.MapEventManager;
+import simcore.eventmanager.MultiArrayEventManager;
+import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
+import simcore.eventmanager.MultiPriorityQueueEventManager;
+import simcore.eventmanager.PriorityQueueEventManager;
+import simcore.eventmanager.TwoListsEventManager;
+
+/**
+ * Erstellt die in den Benchmarks zu vergleichenden Ereignisverwaltungen und Ereignis-Caches
+ * ber ihre in den JMH-Parametern verwendeten Namen.
+ * @author Alexander Herzog
+ */
+public final class BenchmarkFactory {
+	/**
+	 * Namen aller verfgbaren Ereignisverwaltungen
+	 * @see #getEventManager(String)
+	 */
+	public static final String[] EVENT_MANAGERS=new String[] {
+			"PriorityQueue","MultiPriorityQueue","MultiArray","MultiArrayWithHeapSort","Map",
+			"LongRunMultiPriorityQueue","LongRunMultiSortedArrayList","TwoLists","CalendarQueue"
+	};
+
+	/**
+	 * Namen aller verfgbaren Ereignis-Caches
+	 * @see #getEventCache(String)
+	 */
+	public static final String[] EVENT_CACHES=new String[] {
+			"No","List","ListLocked","HashMap","Associative","TypeIndexed"
+	};
+
+	/**
+	 * Anzahl an Teil-Ereigniswarteschlangen fr die <code>LongRun</code>-Ereignisverwaltungen
+	 */
+	private static final int LONG_RUN_SPLIT_LEVEL=4;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Die Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private BenchmarkFactory() {}
+
+	/**
+	 * Erstellt eine Ereignisverwaltung.
+	 * @param name	Name der Ereignisverwaltung (siehe {@link #EVENT_MANAGERS})
+	 * @return	Neue Ereignisverwaltung
+	 * @throws IllegalArgumentException	Wird ausgelst, wenn der Name unbekannt ist
+	 */
+	@SuppressWarnings("deprecation")
+	public static EventManager getEventManager(final String name) {
+		switch (name) {
+		case "PriorityQueue": return new PriorityQueueEventManager();
+		case "MultiPriorityQueue": return new MultiPriorityQueueEventManager();
+		case "MultiArray": return new MultiArrayEventManager();
+		case "MultiArrayWithHeapSort": return new MultiArrayEventManagerWithHeapSort();
+		case "Map": return new MapEventManager();
+		case "LongRunMultiPriorityQueue": return new LongRunMultiPriorityQueueEventManager(LONG_RUN_SPLIT_LEVEL);
+		case "LongRunMultiSortedArrayList": return new LongRunMultiSortedArrayListEventManager(LONG_RUN_SPLIT_LEVEL);
+		case "TwoLists": return new TwoListsEventManager();
+		case "CalendarQueue": return new CalendarQueueEventManager();
+		default: throw new IllegalArgumentException("Unknown event manager: "+name);
+		}
+	}
+
+	/**
+	 * Erstellt einen Ereignis-Cache.
+	 * @param name	Name des Ereignis-Caches (siehe {@link #EVENT_CACHES})
+	 * @return	Neuer Ereignis-Cache
+	 * @throws IllegalArgumentException	Wird ausgelst, wenn der Name unbekannt ist
+	 */
+	public static EventCache getEventCache(final String name) {
+		switch (name) {
+		case "No": return new NoEventCache();
+		case "List": return new ListEventCache();
+		case "ListLocked": return new ListEventCacheLocked();
+		case "HashMap": return new HashMapEventCache();
+		case "Associative": return new AssociativeEventCache();
+		case "TypeIndexed": return new TypeIndexedEventCache();
+		default: throw new IllegalArgumentException("Unknown event cache: "+name);
+		}
+	}
+}
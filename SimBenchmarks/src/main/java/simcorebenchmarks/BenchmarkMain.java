@@ -0,0 +1,48 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet die Benchmarks.<br>
+ * Es werden die blichen JMH-Kommandozeilenparameter untersttzt (z.B. <code>EventManagerBenchmark -p queueLength=1000</code>).
+ * Zustzlich zu den Ereignissen pro Sekunde wird ber den GC-Profiler stets auch die Speicherreservierungsrate ausgegeben.
+ * @author Alexander Herzog
+ */
+public class BenchmarkMain {
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Die Klasse stellt nur die statische {@link #main(String[])}-Methode zur Verfgung und kann nicht instanziert werden.
+	 */
+	private BenchmarkMain() {}
+
+	/**
+	 * Hauptroutine
+	 * @param args	JMH-Kommandozeilenparameter
+	 * @throws RunnerException	Fehler bei der Ausfhrung der Benchmarks
+	 * @throws CommandLineOptionException	Ungltige Kommandozeilenparameter
+	 */
+	public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+		final CommandLineOptions commandLine=new CommandLineOptions(args);
+		new Runner(new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import simcore.SimData;
+import simcore.eventcache.EventCache;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Basisklasse fr die Simulationsdaten der Benchmarks.<br>
+ * Die {@link BenchmarkEvent}-Ereignisse rufen bei ihrer Ausfhrung {@link #eventExecuted(BenchmarkEvent)} auf;
+ * die abgeleiteten Klassen planen dort die Folgeereignisse ein.
+ * @author Alexander Herzog
+ * @see BenchmarkEvent
+ */
+public abstract class BenchmarkSimData extends SimData {
+	/**
+	 * Laufende Nummer fr das nchste eingeplante Ereignis
+	 * @see BenchmarkEvent#serial
+	 */
+	private long nextSerial;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param eventManager	Zu verwendende Ereignisverwaltung
+	 * @param eventCache	Zu verwendender Ereignis-Cache
+	 */
+	public BenchmarkSimData(final EventManager eventManager, final EventCache eventCache) {
+		super(eventManager,eventCache,0,1);
+	}
+
+	/**
+	 * Wird aufgerufen, wenn ein Ereignis ausgefhrt wird.
+	 * @param event	Ausgefhrtes Ereignis
+	 */
+	protected abstract void eventExecuted(final BenchmarkEvent event);
+
+	/**
+	 * Legt ein neues Ereignis an (bzw. holt es aus dem Cache) und initialisiert es.
+	 * @param type	Ereignistyp (siehe {@link BenchmarkEvent#getType(int)})
+	 * @param time	Ausfhrungszeitpunkt
+	 * @param timeout	Handelt es sich um ein Timeout-Ereignis, welches ggf. wieder gelscht wird?
+	 * @return	Neues Ereignis (noch nicht in die Ereignisliste eingefgt)
+	 */
+	protected final BenchmarkEvent createEvent(final int type, final long time, final boolean timeout) {
+		final BenchmarkEvent event=(BenchmarkEvent)getEvent(BenchmarkEvent.getType(type));
+		event.init(time);
+		event.serial=nextSerial++;
+		event.pending=true;
+		event.timeout=timeout;
+		return event;
+	}
+
+	/**
+	 * Lscht ein zuvor eingeplantes Ereignis, sofern es noch nicht ausgefhrt wurde.
+	 * @param event	Zu lschendes Ereignis (darf <code>null</code> sein)
+	 * @param serial	Laufende Nummer, die das Ereignis beim Einplanen erhalten hat
+	 * @return	Liefert <code>true</code>, wenn das Ereignis gelscht wurde
+	 */
+	protected final boolean deleteEvent(final BenchmarkEvent event, final long serial) {
+		if (event==null || event.serial!=serial || !event.pending) return false;
+		event.pending=false;
+		eventManager.deleteEvent(event,this);
+		return true;
+	}
+}
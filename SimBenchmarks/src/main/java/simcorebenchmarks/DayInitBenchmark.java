@@ -0,0 +1,91 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.SimulationData;
+import ui.model.CallcenterModel;
+import ui.model.CallcenterRunModel;
+
+/**
+ * Misst die Vorbereitung eines Simulationstages (Anlegen der Anrufer- und Agenten-Ereignisse)
+ * ab dem zweiten Tag eines Beispielmodells, d.h. ohne den einmaligen Aufbau der Datenstze am ersten Tag.
+ * Gemessen wird die Anzahl an vorbereiteten Tagen pro Sekunde.
+ * @author Alexander Herzog
+ * @see SimulationData#initDay(long, long, boolean)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+public class DayInitBenchmark {
+	/** Name des Beispielmodells (siehe {@link EventTraceRecorder#getExampleModel(String)}) */
+	@Param({"Small","Medium","Large","ExtraLarge"})
+	public String model;
+
+	/** Name der Ereignisverwaltung (siehe {@link BenchmarkFactory#EVENT_MANAGERS}) */
+	@Param({"MultiArrayWithHeapSort","CalendarQueue"})
+	public String manager;
+
+	/** Simulationsdaten */
+	private SimulationData data;
+
+	/** Nummer des nchsten vorzubereitenden Tages */
+	private long day;
+
+	/**
+	 * Legt die Simulationsdaten an und bereitet den ersten Tag vor.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		final CallcenterModel editModel=EventTraceRecorder.getExampleModel(model).clone();
+		final CallcenterRunModel runModel=new CallcenterRunModel(editModel);
+		final String error=runModel.checkAndInit(false,false,false);
+		if (error!=null) throw new IllegalStateException(error);
+
+		data=new SimulationData(BenchmarkFactory.getEventManager(manager),BenchmarkFactory.getEventCache("TypeIndexed"),0,1,runModel);
+		data.initDay(0,0,false);
+		data.eventManager.deleteAllEvents();
+		day=1;
+	}
+
+	/**
+	 * Bereitet einen weiteren Tag vor und verwirft die dabei angelegten Ereignisse wieder.
+	 * @return	Nummer des vorbereiteten Tages (damit der Aufruf nicht wegoptimiert wird)
+	 */
+	@Benchmark
+	public long initDay() {
+		data.initDay(day,day,false);
+		data.eventManager.deleteAllEvents();
+		return day++;
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import simcore.eventcache.EventCache;
+import simcore.eventmanager.EventManager;
+import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
+
+/**
+ * Vergleicht die verschiedenen Ereignis-Caches im Hold-Modell.<br>
+ * Als Ereignisverwaltung wird dabei stets die auch in der Simulation verwendete {@link MultiArrayEventManagerWithHeapSort} eingesetzt.
+ * @author Alexander Herzog
+ * @see HoldModelBenchmark
+ */
+@State(Scope.Thread)
+public class EventCacheBenchmark extends HoldModelBenchmark {
+	/** Name des Ereignis-Caches (siehe {@link BenchmarkFactory#EVENT_CACHES}) */
+	@Param({"No","List","ListLocked","HashMap","Associative","TypeIndexed"})
+	public String cache;
+
+	@Override
+	protected EventManager createEventManager() {
+		return new MultiArrayEventManagerWithHeapSort();
+	}
+
+	@Override
+	protected EventCache createEventCache() {
+		return BenchmarkFactory.getEventCache(cache);
+	}
+}
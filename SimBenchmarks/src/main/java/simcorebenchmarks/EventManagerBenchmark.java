@@ -0,0 +1,47 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import simcore.eventcache.EventCache;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Vergleicht die verschiedenen Ereignisverwaltungen im Hold-Modell.<br>
+ * Als Ereignis-Cache wird dabei stets der auch in der Simulation verwendete {@link HashMapEventCache} eingesetzt.
+ * @author Alexander Herzog
+ * @see HoldModelBenchmark
+ */
+@State(Scope.Thread)
+public class EventManagerBenchmark extends HoldModelBenchmark {
+	/** Name der Ereignisverwaltung (siehe {@link BenchmarkFactory#EVENT_MANAGERS}) */
+	@Param({"PriorityQueue","MultiPriorityQueue","MultiArray","MultiArrayWithHeapSort","Map","LongRunMultiPriorityQueue","LongRunMultiSortedArrayList","TwoLists","CalendarQueue"})
+	public String manager;
+
+	@Override
+	protected EventManager createEventManager() {
+		return BenchmarkFactory.getEventManager(manager);
+	}
+
+	@Override
+	protected EventCache createEventCache() {
+		return new HashMapEventCache();
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Aufzeichnung der Operationen auf der Ereignisliste whrend eines Simulationstages.<br>
+ * Die Daten werden in primitiven Arrays gespeichert, damit auch sehr lange Aufzeichnungen
+ * bei der Wiedergabe keinen zustzlichen Speicherverwaltungsaufwand verursachen.
+ * @author Alexander Herzog
+ * @see RecordingEventManager
+ * @see TraceReplaySimData
+ */
+public final class EventTrace {
+	/** Ereignistyp, der fr Lsch-Operationen verwendet wird */
+	public static final int DELETE=-1;
+
+	/** Initiale Gre der Arrays */
+	private static final int INITIAL_SIZE=1024;
+
+	/** Ausfhrungszeitpunkte der initialen Ereignisse */
+	private long[] initialTimes;
+	/** Typen der initialen Ereignisse */
+	private int[] initialTypes;
+	/** Anzahl an initialen Ereignissen */
+	private int initialCount;
+
+	/** Simulationszeit, zu der die jeweilige Operation erfolgt ist (-1 fr Operationen vor dem Start der Simulation) */
+	private long[] operationNow;
+	/** Ausfhrungszeitpunkt des hinzugefgten Ereignisses */
+	private long[] operationTime;
+	/** Typ des hinzugefgten Ereignisses oder {@link #DELETE} */
+	private int[] operationType;
+	/** Bei Lsch-Operationen: Index der Operation, mit der das Ereignis hinzugefgt wurde */
+	private int[] operationReference;
+	/** Anzahl an Operationen */
+	private int operationCount;
+
+	/** Anzahl an verschiedenen Ereignistypen */
+	private int typeCount;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public EventTrace() {
+		initialTimes=new long[INITIAL_SIZE];
+		initialTypes=new int[INITIAL_SIZE];
+		operationNow=new long[INITIAL_SIZE];
+		operationTime=new long[INITIAL_SIZE];
+		operationType=new int[INITIAL_SIZE];
+		operationReference=new int[INITIAL_SIZE];
+	}
+
+	/**
+	 * Zeichnet ein initiales Ereignis auf.
+	 * @param time	Ausfhrungszeitpunkt
+	 * @param type	Ereignistyp
+	 */
+	public void addInitialEvent(final long time, final int type) {
+		if (initialCount==initialTimes.length) {
+			initialTimes=Arrays.copyOf(initialTimes,initialCount*2);
+			initialTypes=Arrays.copyOf(initialTypes,initialCount*2);
+		}
+		initialTimes[initialCount]=time;
+		initialTypes[initialCount]=type;
+		initialCount++;
+		typeCount=Math.max(typeCount,type+1);
+	}
+
+	/**
+	 * Fgt eine Operation hinzu.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param time	Ausfhrungszeitpunkt des hinzugefgten Ereignisses
+	 * @param type	Ereignistyp oder {@link #DELETE}
+	 * @param reference	Bei Lsch-Operationen: Index der Operation, mit der das Ereignis hinzugefgt wurde
+	 * @return	Index der Operation
+	 */
+	private int addOperation(final long now, final long time, final int type, final int reference) {
+		if (operationCount==operationNow.length) {
+			final int size=operationCount*2;
+			operationNow=Arrays.copyOf(operationNow,size);
+			operationTime=Arrays.copyOf(operationTime,size);
+			operationType=Arrays.copyOf(operationType,size);
+			operationReference=Arrays.copyOf(operationReference,size);
+		}
+		operationNow[operationCount]=now;
+		operationTime[operationCount]=time;
+		operationType[operationCount]=type;
+		operationReference[operationCount]=reference;
+		return operationCount++;
+	}
+
+	/**
+	 * Zeichnet das Hinzufgen eines Ereignisses auf.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param time	Ausfhrungszeitpunkt des Ereignisses
+	 * @param type	Ereignistyp
+	 * @return	Index der Operation (wird fr sptere Lsch-Operationen bentigt)
+	 */
+	public int addEvent(final long now, final long time, final int type) {
+		typeCount=Math.max(typeCount,type+1);
+		return addOperation(now,time,type,-1);
+	}
+
+	/**
+	 * Zeichnet das Lschen eines Ereignisses auf.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param addOperationIndex	Index der Operation, mit der das Ereignis hinzugefgt wurde
+	 */
+	public void deleteEvent(final long now, final int addOperationIndex) {
+		addOperation(now,0,DELETE,addOperationIndex);
+	}
+
+	/**
+	 * Liefert die Anzahl an initialen Ereignissen.
+	 * @return	Anzahl an initialen Ereignissen
+	 */
+	public int getInitialCount() {
+		return initialCount;
+	}
+
+	/**
+	 * Liefert den Ausfhrungszeitpunkt eines initialen Ereignisses.
+	 * @param index	Index des initialen Ereignisses
+	 * @return	Ausfhrungszeitpunkt
+	 */
+	public long getInitialTime(final int index) {
+		return initialTimes[index];
+	}
+
+	/**
+	 * Liefert den Typ eines initialen Ereignisses.
+	 * @param index	Index des initialen Ereignisses
+	 * @return	Ereignistyp
+	 */
+	public int getInitialType(final int index) {
+		return initialTypes[index];
+	}
+
+	/**
+	 * Liefert die Anzahl an aufgezeichneten Operationen.
+	 * @return	Anzahl an Operationen
+	 */
+	public int size() {
+		return operationCount;
+	}
+
+	/**
+	 * Liefert die Simulationszeit, zu der eine Operation erfolgt ist.
+	 * @param index	Index der Operation
+	 * @return	Simulationszeit (-1 fr Operationen vor dem Start der Simulation)
+	 */
+	public long getNow(final int index) {
+		return operationNow[index];
+	}
+
+	/**
+	 * Liefert den Ausfhrungszeitpunkt des bei einer Operation hinzugefgten Ereignisses.
+	 * @param index	Index der Operation
+	 * @return	Ausfhrungszeitpunkt
+	 */
+	public long getTime(final int index) {
+		return operationTime[index];
+	}
+
+	/**
+	 * Liefert den Typ des bei einer Operation hinzugefgten Ereignisses.
+	 * @param index	Index der Operation
+	 * @return	Ereignistyp oder {@link #DELETE}
+	 */
+	public int getType(final int index) {
+		return operationType[index];
+	}
+
+	/**
+	 * Liefert bei einer Lsch-Operation den Index der Operation, mit der das Ereignis hinzugefgt wurde.
+	 * @param index	Index der Operation
+	 * @return	Index der Hinzufgen-Operation
+	 */
+	public int getReference(final int index) {
+		return operationReference[index];
+	}
+
+	/**
+	 * Liefert die Anzahl an verschiedenen Ereignistypen.
+	 * @return	Anzahl an verschiedenen Ereignistypen
+	 */
+	public int getTypeCount() {
+		return typeCount;
+	}
+}
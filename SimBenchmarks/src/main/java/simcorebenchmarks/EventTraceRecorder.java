@@ -0,0 +1,98 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import language.Language;
+import simcore.SimData;
+import simcore.SimDayDispatcher;
+import simcore.SimulatorBase;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
+import simulator.SimulationData;
+import tools.SetupData;
+import ui.model.CallcenterModel;
+import ui.model.CallcenterModelExamples;
+import ui.model.CallcenterRunModel;
+
+/**
+ * Zeichnet die Operationen auf der Ereignisliste whrend der Simulation
+ * eines Tages eines Callcenter-Modells auf.
+ * @author Alexander Herzog
+ * @see EventTrace
+ * @see TraceReplayBenchmark
+ */
+public final class EventTraceRecorder {
+	/** Startwert fr den Zufallszahlengenerator der aufgezeichneten Simulation */
+	private static final long SEED=1;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Die Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private EventTraceRecorder() {}
+
+	/**
+	 * Liefert eines der Beispielmodelle.
+	 * @param name	Name des Beispielmodells ("Small", "Medium", "Large" oder "ExtraLarge")
+	 * @return	Beispielmodell
+	 * @throws IllegalArgumentException	Wird ausgelst, wenn der Name unbekannt ist
+	 */
+	public static CallcenterModel getExampleModel(final String name) {
+		Language.init(SetupData.getSetup().language);
+		switch (name) {
+		case "Small": return CallcenterModelExamples.getExampleSmall();
+		case "Medium": return CallcenterModelExamples.getExampleMedium();
+		case "Large": return CallcenterModelExamples.getExampleLarge();
+		case "ExtraLarge": return CallcenterModelExamples.getExampleExtraLarge();
+		default: throw new IllegalArgumentException("Unknown example model: "+name);
+		}
+	}
+
+	/**
+	 * Simuliert einen Tag des Modells (mit festem Startwert fr den Zufallszahlengenerator)
+	 * und zeichnet dabei die Operationen auf der Ereignisliste auf.
+	 * @param model	Zu simulierendes Modell
+	 * @return	Aufzeichnung der Operationen auf der Ereignisliste
+	 * @throws IllegalStateException	Wird ausgelst, wenn das Modell nicht simuliert werden kann
+	 */
+	public static EventTrace record(final CallcenterModel model) {
+		final CallcenterModel editModel=model.clone();
+		editModel.days=1;
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=SEED;
+
+		final CallcenterRunModel runModel=new CallcenterRunModel(editModel);
+		final String error=runModel.checkAndInit(false,false,false);
+		if (error!=null) throw new IllegalStateException(error);
+
+		final RecordingEventManager manager=new RecordingEventManager(new MultiArrayEventManagerWithHeapSort());
+		final SimDayDispatcher dayDispatcher=new SimDayDispatcher(1);
+		final SimulatorBase simulator=new SimulatorBase(1,false,false) {
+			@Override
+			protected SimData getSimDataForThread(final int threadNr, final int threadCount) {
+				return new SimulationData(manager,new HashMapEventCache(),threadNr,threadCount,runModel,dayDispatcher);
+			}
+		};
+
+		simulator.start(false);
+		while (simulator.isRunning()) {
+			try {Thread.sleep(10);} catch (InterruptedException e) {Thread.currentThread().interrupt(); break;}
+		}
+		simulator.finalizeRun();
+
+		return manager.getTrace();
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simcore.eventcache.EventCache;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Basisklasse fr die Benchmarks auf Basis des Hold-Modells (siehe {@link HoldModelSimData}).<br>
+ * Abgeleitete Klassen legen fest, welche Ereignisverwaltung und welcher Ereignis-Cache verwendet werden.
+ * Gemessen wird die Anzahl an ausgefhrten Ereignissen pro Sekunde.
+ * @author Alexander Herzog
+ * @see EventManagerBenchmark
+ * @see EventCacheBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public abstract class HoldModelBenchmark {
+	/** Anzahl an Ereignissen, die pro Aufruf der Benchmark-Methode ausgefhrt werden */
+	private static final int BATCH_SIZE=1024;
+
+	/** Startwert fr den Zufallszahlengenerator (damit alle Varianten dieselbe Ereignisfolge verwenden) */
+	private static final long SEED=1;
+
+	/** Anzahl an Ereignissen in der Ereignisliste */
+	@Param({"1000","100000"})
+	public int queueLength;
+
+	/** Verteilung der Haltezeiten */
+	@Param
+	public HoldTime holdTime;
+
+	/** Anteil der ausgefhrten Ereignisse, die zustzlich ein (meist wieder gelschtes) Timeout-Ereignis einplanen */
+	@Param({"0","0.2"})
+	public double deleteRatio;
+
+	/** Anzahl an verschiedenen Ereignisklassen */
+	@Param({"1","8"})
+	public int eventTypes;
+
+	/** Simulationsdaten */
+	private HoldModelSimData data;
+
+	/**
+	 * Erstellt die zu verwendende Ereignisverwaltung.
+	 * @return	Neue Ereignisverwaltung
+	 */
+	protected abstract EventManager createEventManager();
+
+	/**
+	 * Erstellt den zu verwendenden Ereignis-Cache.
+	 * @return	Neuer Ereignis-Cache
+	 */
+	protected abstract EventCache createEventCache();
+
+	/**
+	 * Legt die Simulationsdaten an und fllt die Ereignisliste.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		data=new HoldModelSimData(createEventManager(),createEventCache(),queueLength,holdTime,deleteRatio,eventTypes,SEED);
+		data.startDay();
+	}
+
+	/**
+	 * Fhrt {@link #BATCH_SIZE} Ereignisse aus.
+	 * @return	Aktuelle Simulationszeit (damit der Aufruf nicht wegoptimiert wird)
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long hold() {
+		data.eventManager.executeNextEvents(data,BATCH_SIZE,Integer.MAX_VALUE);
+		if (data.currentTime>=HoldModelSimData.DAY_LENGTH) data.startDay();
+		return data.currentTime;
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.SplittableRandom;
+
+import simcore.eventcache.EventCache;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Simulationsdaten fr das klassische Hold-Modell:<br>
+ * Es befindet sich stets eine feste Anzahl an Ereignissen in der Ereignisliste. Jedes ausgefhrte Ereignis
+ * plant ein Folgeereignis mit zuflliger Haltezeit ein. Zustzlich kann ein Teil der Ereignisse ein
+ * Timeout-Ereignis einplanen, welches (wie z.B. die Wartezeittoleranz eines Kunden) in der Regel
+ * vor seiner Ausfhrung wieder gelscht wird.
+ * @author Alexander Herzog
+ * @see HoldModelBenchmark
+ */
+public final class HoldModelSimData extends BenchmarkSimData {
+	/** Lnge eines simulierten Tages in Millisekunden; danach wird die Ereignisliste wie bei der echten Simulation neu aufgebaut */
+	public static final long DAY_LENGTH=86_400_000L;
+
+	/** Mittlerer Abstand zwischen zwei Ereignissen in Millisekunden (entspricht in etwa einem groen Callcenter-Modell) */
+	private static final double MEAN_EVENT_DISTANCE=20;
+
+	/** Zufallszahlengenerator */
+	private final SplittableRandom random;
+	/** Anzahl an Ereignissen in der Ereignisliste */
+	private final int queueLength;
+	/** Verteilung der Haltezeiten */
+	private final HoldTime holdTime;
+	/** Mittlere Haltezeit in Millisekunden */
+	private final double meanHoldTime;
+	/** Anteil der ausgefhrten Ereignisse, die zustzlich ein Timeout-Ereignis einplanen */
+	private final double deleteRatio;
+	/** Anzahl an verschiedenen Ereignisklassen */
+	private final int eventTypes;
+
+	/** Ringpuffer der zuletzt eingeplanten Timeout-Ereignisse; beim berschreiben wird das alte Ereignis gelscht */
+	private final BenchmarkEvent[] timeouts;
+	/** Laufende Nummern der Ereignisse in {@link #timeouts} */
+	private final long[] timeoutSerials;
+	/** Nchste zu verwendende Position in {@link #timeouts} */
+	private int timeoutIndex;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param eventManager	Zu verwendende Ereignisverwaltung
+	 * @param eventCache	Zu verwendender Ereignis-Cache
+	 * @param queueLength	Anzahl an Ereignissen in der Ereignisliste
+	 * @param holdTime	Verteilung der Haltezeiten
+	 * @param deleteRatio	Anteil der ausgefhrten Ereignisse, die zustzlich ein Timeout-Ereignis einplanen (Wert zwischen 0 und 1)
+	 * @param eventTypes	Anzahl an verschiedenen Ereignisklassen
+	 * @param seed	Startwert fr den Zufallszahlengenerator
+	 */
+	public HoldModelSimData(final EventManager eventManager, final EventCache eventCache, final int queueLength, final HoldTime holdTime, final double deleteRatio, final int eventTypes, final long seed) {
+		super(eventManager,eventCache);
+		random=new SplittableRandom(seed);
+		this.queueLength=Math.max(1,queueLength);
+		this.holdTime=holdTime;
+		meanHoldTime=this.queueLength*MEAN_EVENT_DISTANCE;
+		this.deleteRatio=deleteRatio;
+		this.eventTypes=Math.max(1,eventTypes);
+		timeouts=new BenchmarkEvent[Math.max(1,this.queueLength/16)];
+		timeoutSerials=new long[timeouts.length];
+	}
+
+	/**
+	 * Leert die Ereignisliste und fllt sie fr einen neuen Tag mit der vorgegebenen Anzahl an Ereignissen.
+	 */
+	public void startDay() {
+		eventManager.deleteAllEvents();
+		eventManager.resetTime();
+		currentTime=0;
+		for (int i=0;i<timeouts.length;i++) timeouts[i]=null;
+		timeoutIndex=0;
+		for (int i=0;i<queueLength;i++) schedule(false);
+	}
+
+	/**
+	 * Plant ein neues Ereignis mit zuflliger Haltezeit ein.
+	 * @param timeout	Handelt es sich um ein Timeout-Ereignis?
+	 * @return	Eingeplantes Ereignis
+	 */
+	private BenchmarkEvent schedule(final boolean timeout) {
+		final BenchmarkEvent event=createEvent(random.nextInt(eventTypes),currentTime+holdTime.next(random,meanHoldTime),timeout);
+		eventManager.addEvent(event);
+		return event;
+	}
+
+	@Override
+	protected void eventExecuted(final BenchmarkEvent event) {
+		if (event.timeout) return;
+		schedule(false);
+
+		if (deleteRatio>0 && random.nextDouble()<deleteRatio) {
+			deleteEvent(timeouts[timeoutIndex],timeoutSerials[timeoutIndex]);
+			final BenchmarkEvent timeout=schedule(true);
+			timeouts[timeoutIndex]=timeout;
+			timeoutSerials[timeoutIndex]=timeout.serial;
+			timeoutIndex=(timeoutIndex+1)%timeouts.length;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Verteilungen der Haltezeiten (Abstand zwischen Einplanen und Ausfhren eines Ereignisses) im Hold-Modell
+ * @author Alexander Herzog
+ * @see HoldModelSimData
+ */
+public enum HoldTime {
+	/** Exponentialverteilte Haltezeiten */
+	EXPONENTIAL,
+	/** Gleichverteilte Haltezeiten zwischen 0 und dem doppelten Mittelwert */
+	UNIFORM,
+	/** Bimodale Haltezeiten: 90% sehr kurze und 10% sehr lange Haltezeiten */
+	BIMODAL,
+	/** Haltezeiten auf ganze Sekunden gerundet (viele zeitgleiche Ereignisse) */
+	DISCRETE,
+	/** Pareto-verteilte Haltezeiten (schwerer Rand, einzelne Ereignisse liegen sehr weit in der Zukunft) */
+	HEAVY_TAIL;
+
+	/**
+	 * Zieht eine Haltezeit.
+	 * @param random	Zu verwendender Zufallszahlengenerator
+	 * @param mean	Mittelwert der Haltezeit in Millisekunden
+	 * @return	Haltezeit in Millisekunden
+	 */
+	public long next(final SplittableRandom random, final double mean) {
+		switch (this) {
+		case EXPONENTIAL: return Math.round(-mean*Math.log(1-random.nextDouble()));
+		case UNIFORM: return Math.round(2*mean*random.nextDouble());
+		case BIMODAL: return Math.round(((random.nextDouble()<0.9)?0.1:9.1)*mean*random.nextDouble()*2);
+		case DISCRETE: return 1000*Math.round(-mean*Math.log(1-random.nextDouble())/1000);
+		case HEAVY_TAIL: return Math.round(mean/2*(Math.pow(1-random.nextDouble(),-1/1.5)-1));
+		default: return Math.round(mean);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import simcore.Event;
+import simcore.SimData;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Ereignisverwaltung, die alle Aufrufe an eine andere Ereignisverwaltung weiterleitet und dabei
+ * das Hinzufgen und Lschen von Ereignissen in einem {@link EventTrace} aufzeichnet.
+ * @author Alexander Herzog
+ * @see EventTraceRecorder
+ */
+public final class RecordingEventManager implements EventManager {
+	/** Eigentliche Ereignisverwaltung */
+	private final EventManager manager;
+	/** Aufzeichnung */
+	private final EventTrace trace;
+	/** Zuordnung der Ereignisklassen zu Ereignistypen */
+	private final Map<Class<?>,Integer> types;
+	/** Index der Hinzufgen-Operation fr die momentan eingeplanten Ereignisse */
+	private final Map<Event,Integer> addOperations;
+	/** Simulationsdaten (zur Bestimmung der aktuellen Simulationszeit; vor dem Start der Simulation <code>null</code>) */
+	private SimData simData;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param manager	Eigentliche Ereignisverwaltung
+	 */
+	public RecordingEventManager(final EventManager manager) {
+		this.manager=manager;
+		trace=new EventTrace();
+		types=new HashMap<>();
+		addOperations=new IdentityHashMap<>();
+	}
+
+	/**
+	 * Liefert die Aufzeichnung.
+	 * @return	Aufzeichnung der Operationen auf der Ereignisliste
+	 */
+	public EventTrace getTrace() {
+		return trace;
+	}
+
+	/**
+	 * Liefert die aktuelle Simulationszeit.
+	 * @return	Aktuelle Simulationszeit oder -1, wenn die Simulation noch nicht begonnen hat
+	 */
+	private long getNow() {
+		return (simData==null)?-1:simData.currentTime;
+	}
+
+	/**
+	 * Liefert den Ereignistyp zu einem Ereignis.
+	 * @param event	Ereignis
+	 * @return	Ereignistyp
+	 */
+	private int getType(final Event event) {
+		return types.computeIfAbsent(event.getClass(),cls->types.size());
+	}
+
+	@Override
+	public void directAbortThread() {
+		manager.directAbortThread();
+	}
+
+	@Override
+	public boolean executeNextEvents(final SimData simData, final int maxExecuteEvents, final int maxRunTime) {
+		this.simData=simData;
+		return manager.executeNextEvents(simData,maxExecuteEvents,maxRunTime);
+	}
+
+	@Override
+	public void addEvent(final Event event) {
+		addOperations.put(event,trace.addEvent(getNow(),event.time,getType(event)));
+		manager.addEvent(event);
+	}
+
+	@Override
+	public void deleteEvent(final Event event, final SimData simData) {
+		final Integer index=(event==null)?null:addOperations.remove(event);
+		if (index!=null) trace.deleteEvent(getNow(),index);
+		manager.deleteEvent(event,simData);
+	}
+
+	@Override
+	public void deleteAllEvents() {
+		addOperations.clear();
+		manager.deleteAllEvents();
+	}
+
+	@Override
+	public void addInitialEvents(final List<? extends Event> events) {
+		for (Event event: events) trace.addInitialEvent(event.time,getType(event));
+		manager.addInitialEvents(events);
+	}
+
+	@Override
+	public long eventCount() {
+		return manager.eventCount();
+	}
+
+	@Override
+	public int eventQueueLength() {
+		return manager.eventQueueLength();
+	}
+
+	@Override
+	public void resetTime() {
+		manager.resetTime();
+	}
+
+	@Override
+	public void resetCount() {
+		manager.resetCount();
+	}
+
+	@Override
+	public void setPause() {
+		manager.setPause();
+	}
+
+	@Override
+	public List<Event> getAllEvents() {
+		return manager.getAllEvents();
+	}
+}
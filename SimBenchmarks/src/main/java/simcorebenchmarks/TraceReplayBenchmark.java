@@ -0,0 +1,87 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Gibt die aufgezeichneten Operationen auf der Ereignisliste eines simulierten Tages eines
+ * Beispielmodells mit den verschiedenen Ereignisverwaltungen und Ereignis-Caches wieder.
+ * Gemessen wird die Anzahl an ausgefhrten Ereignissen pro Sekunde.
+ * @author Alexander Herzog
+ * @see EventTraceRecorder
+ * @see TraceReplaySimData
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+public class TraceReplayBenchmark {
+	/** Anzahl an Ereignissen, die pro Aufruf der Benchmark-Methode ausgefhrt werden */
+	private static final int BATCH_SIZE=1024;
+
+	/** Name des Beispielmodells, dessen Ereignisablauf aufgezeichnet wird (siehe {@link EventTraceRecorder#getExampleModel(String)}) */
+	@Param({"Small","Medium","Large"})
+	public String model;
+
+	/** Name der Ereignisverwaltung (siehe {@link BenchmarkFactory#EVENT_MANAGERS}) */
+	@Param({"PriorityQueue","MultiPriorityQueue","MultiArray","MultiArrayWithHeapSort","Map","LongRunMultiPriorityQueue","LongRunMultiSortedArrayList","TwoLists","CalendarQueue"})
+	public String manager;
+
+	/** Name des Ereignis-Caches (siehe {@link BenchmarkFactory#EVENT_CACHES}) */
+	@Param({"HashMap"})
+	public String cache;
+
+	/** Simulationsdaten */
+	private TraceReplaySimData data;
+
+	/**
+	 * Zeichnet den Ereignisablauf auf und bereitet die Wiedergabe vor.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		final EventTrace trace=EventTraceRecorder.record(EventTraceRecorder.getExampleModel(model));
+		data=new TraceReplaySimData(BenchmarkFactory.getEventManager(manager),BenchmarkFactory.getEventCache(cache),trace);
+		data.startDay();
+	}
+
+	/**
+	 * Fhrt {@link #BATCH_SIZE} Ereignisse aus (und beginnt die Wiedergabe von vorne, wenn die Aufzeichnung durchlaufen ist).
+	 * @return	Aktuelle Simulationszeit (damit der Aufruf nicht wegoptimiert wird)
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long replay() {
+		if (!data.eventManager.executeNextEvents(data,BATCH_SIZE,Integer.MAX_VALUE)) data.startDay();
+		return data.currentTime;
+	}
+}
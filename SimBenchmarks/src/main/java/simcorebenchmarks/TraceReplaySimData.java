@@ -0,0 +1,100 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcorebenchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simcore.eventcache.EventCache;
+import simcore.eventmanager.EventManager;
+
+/**
+ * Simulationsdaten fr die Wiedergabe eines aufgezeichneten Simulationstages.<br>
+ * Bei der Ausfhrung eines Ereignisses werden alle Operationen, die in der echten Simulation bis zu
+ * diesem Zeitpunkt erfolgt sind, erneut auf die Ereignisliste angewandt. Die Ereignisliste durchluft so
+ * dieselben Fllstnde und Zeitabstnde wie in der echten Simulation, ohne dass die eigentliche
+ * Simulationslogik ausgefhrt wird.
+ * @author Alexander Herzog
+ * @see TraceReplayBenchmark
+ * @see EventTrace
+ */
+public final class TraceReplaySimData extends BenchmarkSimData {
+	/** Wiederzugebende Aufzeichnung */
+	private final EventTrace trace;
+	/** Bei der Wiedergabe zu den Hinzufgen-Operationen angelegte Ereignisse (Index ist der Index der Operation) */
+	private final BenchmarkEvent[] added;
+	/** Laufende Nummern der Ereignisse in {@link #added} */
+	private final long[] addedSerials;
+	/** Index der nchsten anzuwendenden Operation */
+	private int next;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param eventManager	Zu verwendende Ereignisverwaltung
+	 * @param eventCache	Zu verwendender Ereignis-Cache
+	 * @param trace	Wiederzugebende Aufzeichnung
+	 */
+	public TraceReplaySimData(final EventManager eventManager, final EventCache eventCache, final EventTrace trace) {
+		super(eventManager,eventCache);
+		this.trace=trace;
+		added=new BenchmarkEvent[trace.size()];
+		addedSerials=new long[trace.size()];
+	}
+
+	/**
+	 * Leert die Ereignisliste und startet die Wiedergabe von vorne.
+	 */
+	public void startDay() {
+		eventManager.deleteAllEvents();
+		eventManager.resetTime();
+		currentTime=0;
+		for (int i=0;i<added.length;i++) added[i]=null;
+		next=0;
+
+		final int count=trace.getInitialCount();
+		final List<BenchmarkEvent> initialEvents=new ArrayList<>(count);
+		for (int i=0;i<count;i++) initialEvents.add(createEvent(trace.getInitialType(i),trace.getInitialTime(i),false));
+		eventManager.addInitialEvents(initialEvents);
+
+		applyOperations(-1);
+	}
+
+	/**
+	 * Wendet alle Operationen an, die bis zu einem bestimmten Zeitpunkt erfolgt sind.
+	 * @param now	Aktuelle Simulationszeit
+	 */
+	private void applyOperations(final long now) {
+		final int size=trace.size();
+		while (next<size && trace.getNow(next)<=now) {
+			final int type=trace.getType(next);
+			if (type==EventTrace.DELETE) {
+				final int reference=trace.getReference(next);
+				deleteEvent(added[reference],addedSerials[reference]);
+			} else {
+				final BenchmarkEvent event=createEvent(type,Math.max(now,trace.getTime(next)),false);
+				added[next]=event;
+				addedSerials[next]=event.serial;
+				eventManager.addEvent(event);
+			}
+			next++;
+		}
+	}
+
+	@Override
+	protected void eventExecuted(final BenchmarkEvent event) {
+		applyOperations(currentTime);
+	}
+}
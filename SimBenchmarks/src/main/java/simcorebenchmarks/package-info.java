@@ -0,0 +1,6 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr die verschiedenen Ereignisverwaltungs- und Ereignis-Cache-Klassen
+ * (synthetisches Hold-Modell und Wiedergabe von aufgezeichneten Ereignisablufen echter Simulationen).
+ * @author Alexander Herzog
+ */
+package simcorebenchmarks;
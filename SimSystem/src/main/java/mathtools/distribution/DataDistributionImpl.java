@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.BinomialDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
@@ -67,6 +68,13 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 	 */
 	public double[] cumulativeDensity;
 
+	/**
+	 * Vorberechneter Zufallszahlengenerator (wird ber {@link #prepareSampler()} angelegt und beim
+	 * Neuberechnen der Verteilungsfunktion wieder verworfen)
+	 * @see #prepareSampler()
+	 */
+	private transient DataDistributionSampler sampler;
+
 	/**
 	 * Konstruktor der Klasse <code>DataDistributionImpl</code>
 	 * @param upperBound	Gibt die Obergrenze des Trgers der Dichte an
@@ -179,9 +187,13 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 	 */
 	public void updateCumulativeDensity() {
 		double sum=0;
-		if (cumulativeDensity==null || cumulativeDensity.length!=densityData.length) cumulativeDensity=new double[densityData.length];
-		for (int i=0;i<densityData.length;i++) cumulativeDensity[i]=(sum+=densityData[i]);
-		if (sum>0 && sum!=1) for (int i=0;i<densityData.length;i++) cumulativeDensity[i]/=sum;
+		/* Neues Array erst nach dem vollstndigen Befllen eintragen, da random() auch aus mehreren Simulationsthreads gleichzeitig aufgerufen werden kann */
+		final boolean newArray=(cumulativeDensity==null || cumulativeDensity.length!=densityData.length);
+		final double[] cumulative=newArray?new double[densityData.length]:cumulativeDensity;
+		for (int i=0;i<densityData.length;i++) cumulative[i]=(sum+=densityData[i]);
+		if (sum>0 && sum!=1) for (int i=0;i<densityData.length;i++) cumulative[i]/=sum;
+		if (newArray) cumulativeDensity=cumulative;
+		sampler=null;
 	}
 
 	/**
@@ -191,6 +203,7 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 	public void normalizeDensity() {
 		final int size=densityData.length;
 		double sum=0;
+		sampler=null;
 		if (cumulativeDensity==null || cumulativeDensity.length!=size) cumulativeDensity=new double[size];
 		for (int i=0;i<size;i++) cumulativeDensity[i]=(sum+=densityData[i]);
 		if (sum>0 && Math.abs(sum-1)>1E-8) for (int i=0;i<size;i++) {
@@ -598,6 +611,8 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 	 * @see #inverseCumulativeProbability(double)
 	 */
 	public double inverseCumulativeProbabilityWithOutThrowsAndChecks(double p) {
+		final DataDistributionSampler s=sampler;
+		if (s!=null) return s.inverseCumulativeProbability(p);
 		if (densityData.length==0) return 0;
 		if (cumulativeDensity==null) updateCumulativeDensity();
 
@@ -619,14 +634,37 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 		return (nr+add)/argumentScaleFactor;
 	}
 
+	/**
+	 * Legt (sofern noch nicht geschehen) einen unvernderlichen, vorberechneten Zufallszahlengenerator an,
+	 * der anschlieend von {@link #random(RandomGenerator)} verwendet wird. Dieser findet das passende
+	 * Dichte-Intervall in konstanter mittlerer Zeit statt ber eine Binrsuche und liefert dabei bitgenau
+	 * dieselben Werte.<br>
+	 * Die Methode sollte vor dem Start der Simulationsthreads aufgerufen werden; danach kann die Verteilung
+	 * ohne weitere Synchronisation von mehreren Threads gleichzeitig zur Erzeugung von Zufallszahlen verwendet werden,
+	 * solange die Dichte nicht mehr verndert wird.
+	 * @return	Vorberechneter Zufallszahlengenerator oder <code>null</code>, wenn die Dichte leer ist
+	 * @see DataDistributionSampler
+	 */
+	public DataDistributionSampler prepareSampler() {
+		if (sampler==null && densityData.length>0) {
+			if (cumulativeDensity==null || cumulativeDensity.length!=densityData.length) updateCumulativeDensity();
+			sampler=new DataDistributionSampler(cumulativeDensity,argumentScaleFactor);
+		}
+		return sampler;
+	}
+
 	/**
 	 * Erzeugt direkt eine Zufallszahl gem der Verteilung.
 	 * @return	Zufallswert gem der Verteilung
+	 * @see #prepareSampler()
 	 */
 	@Override
 	public double random(final RandomGenerator generator) {
 		/* return inverseCumulativeProbabilityWithOutThrowsAndChecks(rnd.nextDouble()); */
 
+		final DataDistributionSampler s=sampler;
+		if (s!=null) return s.random(generator);
+
 		double p=generator.nextDouble();
 
 		if (cumulativeDensity==null) updateCumulativeDensity();
@@ -654,6 +692,53 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 		return (nr+add)/argumentScaleFactor;
 	}
 
+	/**
+	 * Erzeugt mehrere Zufallszahlen gem der Verteilung, die bereits aufsteigend sortiert geliefert werden.<br><br>
+	 * Die Anzahlen pro Dichte-Intervall werden dabei multinomialverteilt (als Folge bedingter Binomialverteilungen)
+	 * bestimmt. Innerhalb eines Intervalls ist die Dichte konstant, so dass die Werte dort als sortierte Ordnungsstatistiken
+	 * der Gleichverteilung ber normierte Summen exponentialverteilter Abstnde erzeugt werden knnen. Die Werte besitzen
+	 * damit dieselbe gemeinsame Verteilung wie sortierte Ergebnisse von {@link #random(RandomGenerator)}, es ist aber kein
+	 * Sortieren ntig (Laufzeit linear in der Anzahl an Werten).
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param count	Anzahl an zu erzeugenden Werten
+	 * @return	Aufsteigend sortierte Zufallswerte gem der Verteilung
+	 */
+	public double[] randomSorted(final RandomGenerator generator, final int count) {
+		final double[] values=new double[Math.max(0,count)];
+		if (values.length==0 || densityData.length==0) return values;
+		if (cumulativeDensity==null) updateCumulativeDensity();
+		final double[] cumulative=cumulativeDensity;
+
+		int index=0;
+		int remaining=values.length;
+		double remainingProbability=1;
+		double lastCumulative=0;
+		for (int i=0;i<cumulative.length && remaining>0;i++) {
+			/* Anzahl im Intervall i gegeben die Anzahl in den Intervallen 0..i-1 */
+			final double p=cumulative[i]-lastCumulative;
+			lastCumulative=cumulative[i];
+			int n;
+			if (i==cumulative.length-1 || p>=remainingProbability*(1-1E-12)) {
+				n=remaining;
+			} else {
+				n=(p<=0)?0:new BinomialDistribution(generator,remaining,Math.min(1,p/remainingProbability)).sample();
+			}
+			remainingProbability-=p;
+			if (n==0) continue;
+
+			/* Sortierte gleichverteilte Werte im Intervall [i;i+1) ber Summen exponentialverteilter Abstnde */
+			double sum=0;
+			for (int j=0;j<n;j++) {sum-=FastMath.log(1-generator.nextDouble()); values[index+j]=sum;}
+			sum-=FastMath.log(1-generator.nextDouble());
+			final double scale=1/sum;
+			for (int j=0;j<n;j++) values[index+j]=(i+values[index+j]*scale)/argumentScaleFactor;
+
+			index+=n;
+			remaining-=n;
+		}
+		return values;
+	}
+
 	/**
 	 * Wandelt das in <code>densityData</code> gespeicherte Array aus Dichtewerten in eine Zeichenkette um.
 	 * Dabei werden Zahlen in lokalisierter Form ausgegeben.
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Unvernderlicher, vorberechneter Zufallszahlengenerator fr eine {@link DataDistributionImpl}-Verteilung.<br><br>
+ * Die Suche des Dichte-Intervalls erfolgt ber eine Leittabelle (Guide-Table-Verfahren nach Chen): Zu jedem
+ * Teilintervall [k/m;(k+1)/m) der Wahrscheinlichkeiten ist der kleinste Index gespeichert, ab dem die Verteilungsfunktion
+ * den Wert k/m berschreitet. Von dort aus sind im Mittel nur noch konstant viele Vergleiche ntig. Da anschlieend
+ * dasselbe Intervall gefunden und auf dieselbe Weise linear interpoliert wird wie bei der Binrsuche in
+ * {@link DataDistributionImpl#random(RandomGenerator)}, sind die Ergebnisse bitgenau identisch.<br>
+ * Da das Objekt nach der Erstellung nicht mehr verndert wird, kann es von mehreren Simulationsthreads gleichzeitig verwendet werden.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see DataDistributionImpl#prepareSampler()
+ */
+public final class DataDistributionSampler implements DistributionWithRandom {
+	/** Kopie der Werte der Verteilungsfunktion */
+	private final double[] cumulative;
+	/** Leittabelle: Kleinster Index <code>i</code> mit <code>cumulative[i]&gt;k/m</code> fr jedes <code>k</code> */
+	private final int[] guide;
+	/** Index des letzten Dichte-Intervalls */
+	private final int last;
+	/** Umrechnungsfaktor zwischen den Verteilungsschritten und dem Trgerbereich */
+	private final double argumentScaleFactor;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param cumulativeDensity	Werte der Verteilungsfunktion (werden kopiert; drfen nicht leer sein)
+	 * @param argumentScaleFactor	Umrechnungsfaktor zwischen den Verteilungsschritten und dem Trgerbereich
+	 */
+	DataDistributionSampler(final double[] cumulativeDensity, final double argumentScaleFactor) {
+		cumulative=cumulativeDensity.clone();
+		last=cumulative.length-1;
+		this.argumentScaleFactor=argumentScaleFactor;
+
+		guide=new int[cumulative.length];
+		final int m=guide.length;
+		int i=0;
+		for (int k=0;k<m;k++) {
+			final double limit=((double)k)/m;
+			while (i<last && cumulative[i]<=limit) i++;
+			guide[k]=i;
+		}
+	}
+
+	/**
+	 * Bestimmt das Dichte-Intervall zu einer Wahrscheinlichkeit.
+	 * @param p	Wahrscheinlichkeit
+	 * @return	Kleinster Index <code>i</code> mit <code>p&lt;cumulative[i]</code> bzw. letzter Index, wenn es keinen solchen gibt
+	 */
+	private int getIndex(final double p) {
+		int nr=0;
+		if (p>=0) {
+			final int k=(int)(p*guide.length);
+			nr=guide[(k>last)?last:k];
+		}
+		while (nr<last && p>=cumulative[nr]) nr++;
+		return nr;
+	}
+
+	/**
+	 * Berechnet die Umkehrfunktion der Verteilungsfunktion (ohne Prfung des Parameters).
+	 * @param p	Wahrscheinlichkeit (im Bereich [0;1))
+	 * @return	F^-1(p) Wert zu der gegebenen Wahrscheinlichkeit
+	 * @see DataDistributionImpl#inverseCumulativeProbabilityWithOutThrowsAndChecks(double)
+	 */
+	public double inverseCumulativeProbability(double p) {
+		final int nr=getIndex(p);
+
+		double diff;
+		if (nr>0) {
+			p-=cumulative[nr-1];
+			diff=cumulative[nr]-cumulative[nr-1];
+		} else {
+			diff=cumulative[nr];
+		}
+
+		/* wenn P(nr) und P(nr-1) unterschiedlich: Zwischen den Werten linear interpolieren */
+		final double add=(diff==0)?0:p/diff;
+
+		return (nr+add)/argumentScaleFactor;
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		return inverseCumulativeProbability(generator.nextDouble());
+	}
+}
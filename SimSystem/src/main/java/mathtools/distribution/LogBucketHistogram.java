@@ -0,0 +1,335 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution;
+
+import java.util.Arrays;
+
+/**
+ * Kompaktes Histogramm fr nicht-negative ganzzahlige Werte mit logarithmisch wachsenden Klassenbreiten.<br><br>
+ * Werte unterhalb von 2^<code>precisionBits</code> werden exakt erfasst. Darber verdoppelt sich die Klassenbreite
+ * jeweils mit jeder Zweierpotenz, so dass der relative Fehler stets kleiner als 2^(1-<code>precisionBits</code>) bleibt.
+ * Das Zhlerarray wird erst bei Bedarf bis zur Klasse des grten erfassten Wertes vergrert, d.h. der
+ * Speicherbedarf richtet sich nach den tatschlich aufgetretenen Werten und nicht nach dem maximal mglichen Wert.<br>
+ * ber {@link #toDataDistribution(double, int)} kann das Histogramm berall dort verwendet werden, wo eine
+ * {@link DataDistributionImpl} erwartet wird.<br>
+ * Die Klasse ist nicht thread-sicher; sie ist fr die Erfassung innerhalb eines Simulationsthreads und die
+ * anschlieende Zusammenfassung per {@link #addToThis(LogBucketHistogram)} gedacht.
+ * @author Alexander Herzog
+ * @version 1.0
+ */
+public final class LogBucketHistogram implements Cloneable {
+	/**
+	 * Standardwert fr die Anzahl an Bits, bis zu denen Werte exakt erfasst werden (d.h. Werte von 0 bis 2047)
+	 */
+	public static final int DEFAULT_PRECISION_BITS=11;
+
+	/**
+	 * Anfngliche Gre des Zhlerarrays
+	 */
+	private static final int INITIAL_SIZE=16;
+
+	/**
+	 * Anzahl an Bits, bis zu denen Werte exakt erfasst werden
+	 */
+	private final int precisionBits;
+
+	/**
+	 * Anzahl an Klassen pro Zweierpotenz oberhalb des exakten Bereichs (2^(<code>precisionBits</code>-1))
+	 */
+	private final int subBucketHalfCount;
+
+	/**
+	 * Obergrenze (exklusive) des Bereichs, in dem Werte exakt erfasst werden (2^<code>precisionBits</code>)
+	 */
+	private final long subBucketCount;
+
+	/**
+	 * Anzahl an Werten pro Klasse
+	 */
+	private long[] counts;
+
+	/**
+	 * Gesamtzahl der erfassten Werte
+	 */
+	private long totalCount;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Werte von 0 bis 2047 werden exakt erfasst.
+	 * @see #DEFAULT_PRECISION_BITS
+	 */
+	public LogBucketHistogram() {
+		this(DEFAULT_PRECISION_BITS);
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param precisionBits	Anzahl an Bits, bis zu denen Werte exakt erfasst werden (2 bis 24)
+	 */
+	public LogBucketHistogram(final int precisionBits) {
+		this.precisionBits=Math.max(2,Math.min(24,precisionBits));
+		subBucketHalfCount=1<<(this.precisionBits-1);
+		subBucketCount=1L<<this.precisionBits;
+		counts=new long[INITIAL_SIZE];
+	}
+
+	/**
+	 * Liefert die Anzahl an Bits, bis zu denen Werte exakt erfasst werden.
+	 * @return	Anzahl an Bits, bis zu denen Werte exakt erfasst werden
+	 */
+	public int getPrecisionBits() {
+		return precisionBits;
+	}
+
+	/**
+	 * Liefert den Index der Klasse, in die ein Wert fllt.
+	 * @param value	Nicht-negativer Wert
+	 * @return	Index der Klasse
+	 */
+	private int getIndex(final long value) {
+		if (value<subBucketCount) return (int)value;
+		final int shift=(63-Long.numberOfLeadingZeros(value))-(precisionBits-1);
+		return shift*subBucketHalfCount+(int)(value>>>shift);
+	}
+
+	/**
+	 * Liefert die Breite einer Klasse als Zweierpotenz.
+	 * @param index	Index der Klasse
+	 * @return	Exponent der Klassenbreite (0 im exakten Bereich)
+	 */
+	private int getShift(final int index) {
+		if (index<subBucketCount) return 0;
+		return index/subBucketHalfCount-1;
+	}
+
+	/**
+	 * Liefert den kleinsten Wert, der in eine Klasse fllt.
+	 * @param index	Index der Klasse
+	 * @return	Untergrenze der Klasse
+	 */
+	private long getLowerBound(final int index) {
+		final int shift=getShift(index);
+		return ((long)(index-shift*subBucketHalfCount))<<shift;
+	}
+
+	/**
+	 * Liefert den Wert, der eine Klasse bei der Berechnung von Kenngren reprsentiert (die Klassenmitte).
+	 * @param index	Index der Klasse
+	 * @return	Reprsentant der Klasse
+	 */
+	private double getRepresentative(final int index) {
+		return getLowerBound(index)+((1L<<getShift(index))-1)/2.0;
+	}
+
+	/**
+	 * Stellt sicher, dass das Zhlerarray eine Klasse aufnehmen kann.
+	 * @param index	Index der Klasse, der verfgbar sein muss
+	 */
+	private void ensureIndex(final int index) {
+		if (index<counts.length) return;
+		counts=Arrays.copyOf(counts,Math.max(index+1,counts.length*2));
+	}
+
+	/**
+	 * Erfasst einen Wert.
+	 * @param value	Zu erfassender Wert (negative Werte werden als 0 gezhlt)
+	 */
+	public void add(final long value) {
+		final int index=getIndex((value<0)?0:value);
+		if (index>=counts.length) ensureIndex(index);
+		counts[index]++;
+		totalCount++;
+	}
+
+	/**
+	 * Erfasst einen Wert mehrfach.
+	 * @param value	Zu erfassender Wert (negative Werte werden als 0 gezhlt)
+	 * @param count	Anzahl, wie oft der Wert erfasst werden soll (Werte kleiner oder gleich 0 werden ignoriert)
+	 */
+	public void add(final long value, final long count) {
+		if (count<=0) return;
+		final int index=getIndex((value<0)?0:value);
+		ensureIndex(index);
+		counts[index]+=count;
+		totalCount+=count;
+	}
+
+	/**
+	 * Fgt die Werte eines anderen Histogramms zu diesem Histogramm hinzu.
+	 * @param histogram	Histogramm, dessen Werte hinzugefgt werden sollen
+	 */
+	public void addToThis(final LogBucketHistogram histogram) {
+		if (histogram==null || histogram.totalCount==0) return;
+		final long[] add=histogram.counts;
+		if (histogram.precisionBits==precisionBits) {
+			int last=add.length-1;
+			while (last>0 && add[last]==0) last--;
+			ensureIndex(last);
+			for (int i=0;i<=last;i++) counts[i]+=add[i];
+			totalCount+=histogram.totalCount;
+		} else {
+			for (int i=0;i<add.length;i++) if (add[i]!=0) add(histogram.getLowerBound(i),add[i]);
+		}
+	}
+
+	/**
+	 * Lscht alle erfassten Werte.
+	 */
+	public void clear() {
+		counts=new long[INITIAL_SIZE];
+		totalCount=0;
+	}
+
+	/**
+	 * Liefert die Gesamtzahl der erfassten Werte.
+	 * @return	Gesamtzahl der erfassten Werte
+	 */
+	public long getCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Liefert die Anzahl der erfassten Werte in der Klasse, in die ein bestimmter Wert fllt.<br>
+	 * Im exakten Bereich ist dies die Anzahl, wie oft genau dieser Wert erfasst wurde.
+	 * @param value	Wert, dessen Klasse betrachtet werden soll
+	 * @return	Anzahl der Werte in der Klasse
+	 */
+	public long getCount(final long value) {
+		final int index=getIndex((value<0)?0:value);
+		return (index<counts.length)?counts[index]:0;
+	}
+
+	/**
+	 * Liefert den grten erfassten Wert (Obergrenze der hchsten belegten Klasse).
+	 * @return	Grter erfasster Wert oder 0, wenn noch keine Werte erfasst wurden
+	 */
+	public long getMax() {
+		for (int i=counts.length-1;i>=0;i--) if (counts[i]!=0) return getLowerBound(i)+(1L<<getShift(i))-1;
+		return 0;
+	}
+
+	/**
+	 * Berechnet den Mittelwert der erfassten Werte.
+	 * @return	Mittelwert (0, wenn noch keine Werte erfasst wurden)
+	 */
+	public double getMean() {
+		if (totalCount==0) return 0.0;
+		double sum=0;
+		for (int i=0;i<counts.length;i++) if (counts[i]!=0) sum+=counts[i]*getRepresentative(i);
+		return sum/totalCount;
+	}
+
+	/**
+	 * Berechnet ein Quantil der erfassten Werte.
+	 * @param p	Wert fr das Quantil (zwischen 0 und 1)
+	 * @return	Quantil der erfassten Werte (0, wenn noch keine Werte erfasst wurden)
+	 */
+	public double getQuantil(final double p) {
+		if (totalCount==0) return 0.0;
+		final double quantilSum=totalCount*Math.min(1.0,Math.max(0.0,p));
+		long partialSum=0;
+		for (int i=0;i<counts.length;i++) {
+			partialSum+=counts[i];
+			if (counts[i]!=0 && partialSum>=quantilSum) return getRepresentative(i);
+		}
+		return getMax();
+	}
+
+	/**
+	 * Berechnet den Median der erfassten Werte.
+	 * @return	Median der erfassten Werte
+	 */
+	public double getMedian() {
+		return getQuantil(0.5);
+	}
+
+	/**
+	 * Wandelt das Histogramm in eine empirische Verteilung um.<br>
+	 * Jeder Wert wird dabei dem Dichte-Eintrag mit dem entsprechenden Index zugeordnet;
+	 * Werte oberhalb von <code>steps-1</code> werden im letzten Eintrag zusammengefasst.
+	 * @param upperBound	Obergrenze des Trgers der Verteilung
+	 * @param steps	Anzahl an Werten in der Verteilung
+	 * @return	Neue empirische Verteilung
+	 */
+	public DataDistributionImpl toDataDistribution(final double upperBound, final int steps) {
+		final double[] data=new double[Math.max(0,steps)];
+		if (data.length>0) for (int i=0;i<counts.length;i++) if (counts[i]!=0) {
+			data[(int)Math.min(data.length-1,getLowerBound(i))]+=counts[i];
+		}
+		return new DataDistributionImpl(upperBound,data);
+	}
+
+	/**
+	 * Erstellt ein Histogramm aus einem Dichte-Array.<br>
+	 * Der Index eines Eintrags wird dabei als Wert, der (gerundete) Eintrag als Anzahl interpretiert.
+	 * @param density	Dichte-Array (z.B. aus {@link DataDistributionImpl#densityData})
+	 * @return	Neues Histogramm
+	 */
+	public static LogBucketHistogram createFromDensity(final double[] density) {
+		final LogBucketHistogram histogram=new LogBucketHistogram();
+		if (density!=null) for (int i=0;i<density.length;i++) histogram.add(i,Math.round(density[i]));
+		return histogram;
+	}
+
+	/**
+	 * Wandelt das Histogramm in eine Zeichenkette um.<br>
+	 * Es werden nur belegte Klassen in der Form "Untergrenze:Anzahl" durch ";" getrennt ausgegeben.
+	 * @return	Histogramm als Zeichenkette
+	 * @see #createFromString(String)
+	 */
+	public String storeToString() {
+		final StringBuilder sb=new StringBuilder();
+		for (int i=0;i<counts.length;i++) if (counts[i]!=0) {
+			if (sb.length()>0) sb.append(';');
+			sb.append(getLowerBound(i));
+			sb.append(':');
+			sb.append(counts[i]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Erstellt ein Histogramm aus einer Zeichenkette, wie sie von {@link #storeToString()} erzeugt wird.
+	 * @param s	Zeichenkette mit den Histogrammdaten
+	 * @return	Neues Histogramm oder <code>null</code>, wenn die Zeichenkette nicht im passenden Format vorliegt
+	 * @see #storeToString()
+	 */
+	public static LogBucketHistogram createFromString(final String s) {
+		final LogBucketHistogram histogram=new LogBucketHistogram();
+		if (s==null || s.trim().isEmpty()) return histogram;
+		for (String part: s.split(";")) {
+			final int index=part.indexOf(':');
+			if (index<0) return null;
+			try {
+				final long value=Long.parseLong(part.substring(0,index).trim());
+				final long count=Long.parseLong(part.substring(index+1).trim());
+				if (value<0 || count<0) return null;
+				histogram.add(value,count);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return histogram;
+	}
+
+	@Override
+	public LogBucketHistogram clone() {
+		final LogBucketHistogram histogram=new LogBucketHistogram(precisionBits);
+		histogram.counts=Arrays.copyOf(counts,counts.length);
+		histogram.totalCount=totalCount;
+		return histogram;
+	}
+}
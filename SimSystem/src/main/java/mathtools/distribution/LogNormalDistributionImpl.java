@@ -22,10 +22,13 @@ import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
+import mathtools.distribution.tools.SeedableThreadLocalRandomGenerator;
+import mathtools.distribution.tools.SplittableRandomGenerator;
+
 /**
  * Klasse zur Abbildung der Lognormalverteilung
  * @author Alexander Herzog
- * @version 1.2
+ * @version 1.3
  */
 public final class LogNormalDistributionImpl extends AbstractRealDistribution implements Cloneable, DistributionWithRandom {
 	/**
@@ -157,7 +160,13 @@ public final class LogNormalDistributionImpl extends AbstractRealDistribution im
 
 	@Override
 	public double random(final RandomGenerator generator) {
-		if (!randomAvailable) {
+		/*
+		 * Die zweite Zahl wird im (von allen Threads gemeinsam genutzten) Verteilungsobjekt zwischengespeichert.
+		 * Bei einem festen Startwert muss die Zahlenfolge aber unabhngig von den anderen Threads sein,
+		 * daher wird in diesem Fall jeweils nur die erste Zahl verwendet. Dasselbe gilt fr explizit bergebene Zufallszahlenstrme.
+		 */
+		final boolean seeded=(generator instanceof SplittableRandomGenerator) || ((generator instanceof SeedableThreadLocalRandomGenerator) && ((SeedableThreadLocalRandomGenerator)generator).isSeeded());
+		if (seeded || !randomAvailable) {
 			/* https://de.wikipedia.org/wiki/Box-Muller-Methode - Vertrgt sich nicht gut mit dem linearen Kongruenz Math.random() */
 			/*
 			final double r1=TwoTimesPI*rnd.nextDouble();
@@ -175,9 +184,11 @@ public final class LogNormalDistributionImpl extends AbstractRealDistribution im
 				q=u*u+v*v;
 			}
 			final double p=StrictMath.sqrt(-2*Math.log(q)/q); /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
-			randomAvailable=true;
 			final double product=p*sigma;
-			nextRandom=FastMath.exp(v*product+mu);
+			if (!seeded) {
+				randomAvailable=true;
+				nextRandom=FastMath.exp(v*product+mu);
+			}
 			return FastMath.exp(u*product+mu);
 		} else {
 			randomAvailable=false;
@@ -15,15 +15,21 @@
  */
 package mathtools.distribution.tools;
 
+import java.util.SplittableRandom;
+
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.CauchyDistribution;
 import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.GumbelDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.distribution.WeibullDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.DataDistributionSampler;
 import mathtools.distribution.DistributionWithRandom;
 
 /**
@@ -45,15 +51,106 @@ public final class DistributionRandomNumber {
 	/**
 	 * Zu verwendender Zufallszahlengenerator. Der Generator muss Thread-lokal oder zumindest
 	 * Thread-save arbeiten.<br>
-	 * Standardmig wird <code>ThreadLocalRandomGenerator</code>, der auf <code>ThreadLocalRandom</code>
-	 * aufbaut und damit sehr schnell ist, verwendet. Soll ein Seed gesetzt werden, muss hier eine
-	 * Instanz von <code>SeedableThreadLocalRandomGenerator</code> eingetragen werden. Diese ist zwar
-	 * auch Thread-lokal, aber nicht ganz so schnell.
+	 * Standardmig wird <code>SeedableThreadLocalRandomGenerator</code> verwendet. Dieser baut,
+	 * solange kein Seed gesetzt wurde, auf <code>ThreadLocalRandom</code> auf und ist damit sehr
+	 * schnell. ber {@link #setThreadStream(long, long)} kann jedoch fr einzelne Threads ein
+	 * reproduzierbarer Zufallszahlenstrom eingestellt werden.
+	 * @see #setThreadStream(long, long)
+	 * @see #clearThreadSeed()
 	 */
 	public static RandomGenerator generator;
 
 	static {
-		generator=new ThreadLocalRandomGenerator();
+		generator=new SeedableThreadLocalRandomGenerator();
+	}
+
+	/**
+	 * Weist dem aktuellen Thread einen reproduzierbaren Zufallszahlenstrom zu.<br>
+	 * Alle weiteren Zufallszahlen in diesem Thread hngen dann nur noch von
+	 * <code>masterSeed</code> und <code>streamNr</code> ab (und nicht davon, in
+	 * welchem Thread oder in welcher Reihenfolge die Strme verwendet werden).
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms (z.B. globale Nummer des simulierten Tages)
+	 * @return	Liefert <code>false</code>, wenn der eingestellte Generator keine Seeds untersttzt
+	 * @see SeedableThreadLocalRandomGenerator#setStream(long, long)
+	 */
+	public static boolean setThreadStream(final long masterSeed, final long streamNr) {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return false;
+		((SeedableThreadLocalRandomGenerator)generator).setStream(masterSeed,streamNr);
+		return true;
+	}
+
+	/**
+	 * Weist dem aktuellen Thread einen reproduzierbaren, ggf. antithetisch zu verwendenden Zufallszahlenstrom zu.<br>
+	 * Wird derselbe Strom einmal normal und einmal antithetisch verwendet, so liefert er im zweiten Fall
+	 * anstelle jeder gleichverteilten Zufallszahl <code>u</code> den Wert <code>1-u</code>.
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms (z.B. globale Nummer des ersten Tages eines Tagespaares)
+	 * @param antithetic	Soll der Strom antithetisch verwendet werden?
+	 * @return	Liefert <code>false</code>, wenn der eingestellte Generator keine Seeds untersttzt
+	 * @see SeedableThreadLocalRandomGenerator#setStream(long, long, boolean)
+	 */
+	public static boolean setThreadStream(final long masterSeed, final long streamNr, final boolean antithetic) {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return false;
+		((SeedableThreadLocalRandomGenerator)generator).setStream(masterSeed,streamNr,antithetic);
+		return true;
+	}
+
+	/**
+	 * Gibt an, ob der Zufallszahlenstrom des aktuellen Threads antithetisch verwendet wird.
+	 * @return	Liefert <code>true</code>, wenn fr den aktuellen Thread ein antithetischer Strom eingestellt ist
+	 * @see #setThreadStream(long, long, boolean)
+	 */
+	public static boolean isThreadStreamAntithetic() {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return false;
+		return ((SeedableThreadLocalRandomGenerator)generator).isAntithetic();
+	}
+
+	/**
+	 * Entfernt einen ber {@link #setThreadStream(long, long)} eingestellten
+	 * Zufallszahlenstrom fr den aktuellen Thread wieder.
+	 * @see #setThreadStream(long, long)
+	 */
+	public static void clearThreadSeed() {
+		if (generator instanceof SeedableThreadLocalRandomGenerator) ((SeedableThreadLocalRandomGenerator)generator).clearSeed();
+	}
+
+	/**
+	 * Entfernt den ber {@link #setThreadStream(long, long)} eingestellten Zufallszahlenstrom
+	 * des aktuellen Threads und liefert ihn in seinem aktuellen Zustand zurck, so dass er
+	 * ber {@link #attachThreadStream(SplittableRandom)} in einem anderen Thread fortgesetzt werden kann.
+	 * @return	Zufallszahlenstrom oder <code>null</code>, wenn kein Strom eingestellt war
+	 * @see SeedableThreadLocalRandomGenerator#detachStream()
+	 */
+	public static SplittableRandom detachThreadStream() {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return null;
+		return ((SeedableThreadLocalRandomGenerator)generator).detachStream();
+	}
+
+	/**
+	 * Setzt einen ber {@link #detachThreadStream()} entnommenen Zufallszahlenstrom im aktuellen Thread fort.
+	 * @param stream	Fortzusetzender Zufallszahlenstrom (bei <code>null</code> wird der Seed des Threads entfernt)
+	 * @return	Liefert <code>false</code>, wenn der eingestellte Generator keine Seeds untersttzt
+	 * @see SeedableThreadLocalRandomGenerator#attachStream(SplittableRandom)
+	 */
+	public static boolean attachThreadStream(final SplittableRandom stream) {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return false;
+		((SeedableThreadLocalRandomGenerator)generator).attachStream(stream);
+		return true;
+	}
+
+	/**
+	 * Setzt einen ber {@link #detachThreadStream()} entnommenen Zufallszahlenstrom im aktuellen Thread fort.
+	 * @param stream	Fortzusetzender Zufallszahlenstrom (bei <code>null</code> wird der Seed des Threads entfernt)
+	 * @param antithetic	Soll der Strom antithetisch verwendet werden?
+	 * @return	Liefert <code>false</code>, wenn der eingestellte Generator keine Seeds untersttzt
+	 * @see #isThreadStreamAntithetic()
+	 * @see SeedableThreadLocalRandomGenerator#attachStream(SplittableRandom, boolean)
+	 */
+	public static boolean attachThreadStream(final SplittableRandom stream, final boolean antithetic) {
+		if (!(generator instanceof SeedableThreadLocalRandomGenerator)) return false;
+		((SeedableThreadLocalRandomGenerator)generator).attachStream(stream,antithetic);
+		return true;
 	}
 
 	/**
@@ -74,20 +171,21 @@ public final class DistributionRandomNumber {
 
 	/**
 	 * Liefert 1/e.<br>
-	 * Wird in {@link #randomGammaDirect(double, double)} verwendet.<br>
+	 * Wird in {@link #randomGammaDirect(RandomGenerator, double, double)} verwendet.<br>
 	 * Die Vorausberechnung macht die Pseudozufallszahlenerzeugung schneller.
-	 * @see #randomGammaDirect(double, double)
+	 * @see #randomGammaDirect(RandomGenerator, double, double)
 	 */
 	private static final double inverseE=1/FastMath.E;
 
 	/**
 	 * Liefert eine Pseudozufallszahl gem der Gamma-Verteilung
+	 * @param generator	Zu verwendender Zufallszahlengenerator
 	 * @param shape	Form-Parameter
 	 * @param scale	Skalierungsparameter
 	 * @return	Pseudozufallszahl
 	 * @see #random(AbstractRealDistribution)
 	 */
-	private static double randomGammaDirect(final double shape, final double scale)  {
+	private static double randomGammaDirect(final RandomGenerator generator, final double shape, final double scale)  {
 		/*
 		 * see org.apache.commons.math3.distribution.GammaDistribution.sample()
 		 * By using this method wie avoid creating a GammaDistribution object each time a random number is needed.
@@ -133,7 +231,20 @@ public final class DistributionRandomNumber {
 
 		final double d = shape - 0.333333333333333333;
 		final double c = 1 / (3 * FastMath.sqrt(d));
+		return randomGammaMarsagliaTsang(generator,d,c,scale);
+	}
 
+	/**
+	 * Liefert eine Pseudozufallszahl gem der Gamma-Verteilung mit einem Form-Parameter von mindestens 1
+	 * (Verfahren nach Marsaglia und Tsang).
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param d	Form-Parameter minus 1/3
+	 * @param c	1/(3*sqrt(d))
+	 * @param scale	Skalierungsparameter
+	 * @return	Pseudozufallszahl
+	 * @see #randomGammaDirect(RandomGenerator, double, double)
+	 */
+	private static double randomGammaMarsagliaTsang(final RandomGenerator generator, final double d, final double c, final double scale) {
 		while (true) {
 			final double x = generator.nextGaussian();
 			final double v = (1 + c * x) * (1 + c * x) * (1 + c * x);
@@ -188,7 +299,7 @@ public final class DistributionRandomNumber {
 				/* Ist Exp-Verteilung mit E=1/beta */
 				return -Math.log(1-generator.nextDouble())*beta; /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
 			}
-			return randomGammaDirect(alpha,beta);
+			return randomGammaDirect(generator,alpha,beta);
 			/*
 			Um Faktor 3 langsamer:
 			final GammaDistribution tempGamma=new GammaDistribution(generator,alpha,beta,GammaDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY);
@@ -225,4 +336,104 @@ public final class DistributionRandomNumber {
 		}
 		return (d>=0)?d:0;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Erzeugt eine nicht-negative Zufallszahl ber einen per {@link #getSampler(AbstractRealDistribution)}
+	 * vorbereiteten Zufallszahlengenerator.
+	 * @param sampler	Vorbereiteter Zufallszahlengenerator
+	 * @return	Zufallszahl gem der zugehrigen Verteilung
+	 * @see #randomNonNegative(AbstractRealDistribution)
+	 */
+	public static double sampleNonNegative(final DistributionWithRandom sampler) {
+		return sampleNonNegative(sampler,DistributionRandomNumber.generator);
+	}
+
+	/**
+	 * Erzeugt eine nicht-negative Zufallszahl ber einen per {@link #getSampler(AbstractRealDistribution)}
+	 * vorbereiteten Zufallszahlengenerator unter Verwendung eines bestimmten Zufallszahlenstroms.
+	 * @param sampler	Vorbereiteter Zufallszahlengenerator
+	 * @param generator	Zu verwendender Zufallszahlenstrom (z.B. ein {@link SplittableRandomGenerator})
+	 * @return	Zufallszahl gem der zugehrigen Verteilung
+	 * @see #sampleNonNegative(DistributionWithRandom)
+	 */
+	public static double sampleNonNegative(final DistributionWithRandom sampler, final RandomGenerator generator) {
+		double d=sampler.random(generator);
+		if (d>=0) return d;
+
+		final int maxTrys=10;
+
+		int count=0;
+		while (d<0 && count<maxTrys) {
+			count++;
+			d=sampler.random(generator);
+		}
+		return (d>=0)?d:0;
+	}
+
+	/**
+	 * Wandelt eine Verteilung einmalig in einen Zufallszahlengenerator um, der anschlieend ohne Fallunterscheidung
+	 * nach dem Verteilungstyp verwendet werden kann. Die Parameter der Verteilung werden dabei vorab ausgelesen.<br>
+	 * Fr Verteilungen, fr die {@link #random(AbstractRealDistribution)} eine direkte Erzeugungsmethode besitzt
+	 * (inkl. Verteilungen mit geschlossen darstellbarer Umkehrfunktion wie Weibull- und Gumbel-Verteilung), liefert
+	 * der Generator bitgenau dieselben Werte. Fr alle brigen Verteilungen (z.B. Chi-, F-, Chi-, Pert- und
+	 * Fatigue-Life-Verteilung), bei denen sonst die Umkehrfunktion der Verteilungsfunktion per Bisektion bestimmt wird,
+	 * wird eine tabellierte Umkehrfunktion mit beschrnktem Fehler verwendet.<br>
+	 * Die gelieferten Generatoren sind unvernderlich und knnen von mehreren Threads gleichzeitig verwendet werden.
+	 * @param distribution	Verteilung
+	 * @return	Zufallszahlengenerator oder <code>null</code>, wenn <code>null</code> bergeben wurde
+	 * @see #sampleNonNegative(DistributionWithRandom)
+	 */
+	public static DistributionWithRandom getSampler(final AbstractRealDistribution distribution) {
+		if (distribution==null) return null;
+
+		if (distribution instanceof DataDistributionImpl) {
+			final DataDistributionSampler sampler=((DataDistributionImpl)distribution).prepareSampler();
+			if (sampler!=null) return sampler;
+		}
+
+		if (distribution instanceof DistributionWithRandom) return (DistributionWithRandom)distribution;
+
+		if (distribution instanceof UniformRealDistribution) {
+			final double lower=distribution.getSupportLowerBound();
+			final double range=distribution.getSupportUpperBound()-lower;
+			return generator->lower+range*generator.nextDouble();
+		}
+
+		if (distribution instanceof ExponentialDistribution) {
+			final double mean=((ExponentialDistribution)distribution).getMean();
+			return generator->-Math.log(1-generator.nextDouble())*mean;
+		}
+
+		if (distribution instanceof NormalDistribution) {
+			final double mean=((NormalDistribution)distribution).getMean();
+			final double sd=((NormalDistribution)distribution).getStandardDeviation();
+			return generator->generator.nextGaussian()*sd+mean;
+		}
+
+		if (distribution instanceof GammaDistribution) {
+			final double alpha=((GammaDistribution)distribution).getShape();
+			final double beta=((GammaDistribution)distribution).getScale();
+			if (Math.abs(alpha-1)<0.00000001) return generator->-Math.log(1-generator.nextDouble())*beta;
+			if (alpha<1) return generator->randomGammaDirect(generator,alpha,beta);
+			final double d=alpha-0.333333333333333333;
+			final double c=1/(3*FastMath.sqrt(d));
+			return generator->randomGammaMarsagliaTsang(generator,d,c,beta);
+		}
+
+		if (distribution instanceof CauchyDistribution) {
+			final double median=((CauchyDistribution)distribution).getMedian();
+			final double scale=((CauchyDistribution)distribution).getScale();
+			return generator->scale*(1/FastMath.tan(Math.PI*generator.nextDouble()))+median;
+		}
+
+		/* Geschlossen darstellbare Umkehrfunktion */
+		if (distribution instanceof WeibullDistribution || distribution instanceof GumbelDistribution) {
+			return generator->distribution.inverseCumulativeProbability(generator.nextDouble());
+		}
+
+		/* Sonst: Tabellierte Umkehrfunktion statt Bisektion */
+		final TabulatedInverseSampler sampler=TabulatedInverseSampler.build(distribution,TabulatedInverseSampler.DEFAULT_CELLS,TabulatedInverseSampler.DEFAULT_TAIL);
+		if (sampler!=null) return sampler;
+		return generator->distribution.inverseCumulativeProbability(generator.nextDouble());
+	}
+}
@@ -15,10 +15,9 @@
  */
 package mathtools.distribution.tools;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
-import org.apache.commons.math3.random.JDKRandomGenerator;
 import org.apache.commons.math3.random.RandomGenerator;
 
 /**
@@ -26,11 +25,20 @@ import org.apache.commons.math3.random.RandomGenerator;
  * verwendet werden kann.<br>
  * Das System ist Thread-Local, d.h. pro Thread wird ein eigener
  * Generator mit eigenem Seed verwendet. Eine Synchronisation ist daher nicht
- * ntig, aber da nicht <code>ThreadLocalRandom</code> verwendet werden kann,
- * ist das System trotzdem nicht sehr schnell. Der Vorteil dieser Implementierung
- * ist, dass ein Seed (pro Thread) gesetzt werden kann.
+ * ntig. Solange fr einen Thread kein Seed gesetzt wurde, wird intern
+ * <code>ThreadLocalRandom</code> verwendet, d.h. das System ist dann genauso schnell
+ * wie <code>ThreadLocalRandomGenerator</code>. Wird ein Seed (pro Thread) gesetzt, so
+ * wird fr diesen Thread ein eigener <code>SplittableRandom</code>-Generator verwendet.<br>
+ * ber {@link #setStream(long, long)} kann einem Thread ein Zufallszahlenstrom zugewiesen
+ * werden, der nur von einem globalen Startwert und einer Stromnummer (z.B. der globalen
+ * Nummer des simulierten Tages) abhngt. Auf diese Weise liefert eine Simulation unabhngig
+ * davon, welcher Thread welchen Tag simuliert, stets dieselben Ergebnisse.<br>
+ * ber {@link #setStream(long, long, boolean)} kann ein Strom auerdem antithetisch verwendet
+ * werden, d.h. anstelle jeder gleichverteilten Zufallszahl <code>u</code> wird <code>1-u</code> geliefert.
  * @see DistributionRandomNumber
+ * @see ThreadLocalRandomGenerator
  * @author Alexander Herzog
+ * @version 2.0
  */
 public class SeedableThreadLocalRandomGenerator implements RandomGenerator {
 	/**
@@ -39,85 +47,240 @@ public class SeedableThreadLocalRandomGenerator implements RandomGenerator {
 	private static final double TwoTimesPI=2*Math.PI;
 
 	/**
-	 * Zuordnung von Threads zu {@link RandomGenerator}-Objekten,
-	 * damit jeder Thread seinen eigenen Generator verwendet.
+	 * Abstand zwischen den Startwerten aufeinanderfolgender Zufallszahlenstrme (Goldener Schnitt als 64-Bit-Wert)
+	 * @see #getStreamSeed(long, long)
+	 */
+	private static final long GOLDEN_GAMMA=0x9E3779B97F4A7C15L;
+
+	/**
+	 * Pro Thread verwendeter Zufallszahlenstrom.<br>
+	 * Ist fr einen Thread kein Strom hinterlegt (Wert <code>null</code>), so wird <code>ThreadLocalRandom</code> verwendet.
 	 * @see #getGenerator()
 	 */
-	private final Map<Thread,RandomGenerator> map;
+	private final ThreadLocal<ThreadStream> generator;
+
+	/**
+	 * Zufallszahlenstrom eines Threads
+	 */
+	private static final class ThreadStream {
+		/** Generator des Stroms */
+		public final SplittableRandom random;
+		/** Sollen die Zufallszahlen antithetisch (<code>1-u</code> statt <code>u</code>) geliefert werden? */
+		public final boolean antithetic;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param random	Generator des Stroms
+		 * @param antithetic	Sollen die Zufallszahlen antithetisch (<code>1-u</code> statt <code>u</code>) geliefert werden?
+		 */
+		public ThreadStream(final SplittableRandom random, final boolean antithetic) {
+			this.random=random;
+			this.antithetic=antithetic;
+		}
+	}
 
 	/**
 	 * Konstruktor der Klasse
 	 */
 	public SeedableThreadLocalRandomGenerator() {
-		map=new HashMap<>();
+		generator=new ThreadLocal<>();
 	}
 
 	/**
-	 * Liefert den Thread-abhngigen Pseudozufallszahlengenerator
-	 * @return	Pseudozufallszahlengenerator fr den aktuellen Thread
+	 * Liefert den Thread-abhngigen Zufallszahlenstrom
+	 * @return	Zufallszahlenstrom fr den aktuellen Thread oder <code>null</code>, wenn fr den aktuellen Thread kein Seed gesetzt wurde
 	 */
-	private synchronized RandomGenerator getGenerator() {
-		final Thread key=Thread.currentThread();
-		RandomGenerator generator=map.get(key);
-		if (generator==null) {
-			generator=new JDKRandomGenerator();
-			map.put(key,generator);
-		}
-		return generator;
+	private ThreadStream getGenerator() {
+		return generator.get();
+	}
+
+	/**
+	 * Mischt die Bits eines 64-Bit-Wertes (Finalisierungsfunktion von SplitMix64).
+	 * @param z	Ausgangswert
+	 * @return	Gemischter Wert
+	 */
+	private static long mix64(long z) {
+		z=(z^(z>>>30))*0xBF58476D1CE4E5B9L;
+		z=(z^(z>>>27))*0x94D049BB133111EBL;
+		return z^(z>>>31);
+	}
+
+	/**
+	 * Berechnet den Startwert fr einen Zufallszahlenstrom.<br>
+	 * Der Startwert hngt nur vom globalen Startwert und der Nummer des Stroms ab;
+	 * die Startwerte verschiedener Strme sind (auch fr benachbarte Nummern) gut durchmischt.
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms (z.B. globale Nummer des simulierten Tages)
+	 * @return	Startwert fr den Zufallszahlenstrom
+	 * @see #setStream(long, long)
+	 */
+	public static long getStreamSeed(final long masterSeed, final long streamNr) {
+		return mix64(mix64(masterSeed)+GOLDEN_GAMMA*(streamNr+1));
+	}
+
+	/**
+	 * Weist dem aktuellen Thread einen Zufallszahlenstrom zu.<br>
+	 * Alle weiteren in diesem Thread erzeugten Zufallszahlen hngen dann nur noch von
+	 * <code>masterSeed</code> und <code>streamNr</code> ab.
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms (z.B. globale Nummer des simulierten Tages)
+	 * @see #getStreamSeed(long, long)
+	 * @see #clearSeed()
+	 */
+	public void setStream(final long masterSeed, final long streamNr) {
+		setSeed(getStreamSeed(masterSeed,streamNr));
+	}
+
+	/**
+	 * Weist dem aktuellen Thread einen ggf. antithetisch zu verwendenden Zufallszahlenstrom zu.<br>
+	 * Im antithetischen Fall liefert der Strom anstelle jeder gleichverteilten Zufallszahl <code>u</code>
+	 * den Wert <code>1-u</code> (bzw. bei normalverteilten Zufallszahlen <code>-z</code> statt <code>z</code>).
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms (z.B. globale Nummer des simulierten Tages)
+	 * @param antithetic	Soll der Strom antithetisch verwendet werden?
+	 * @see #setStream(long, long)
+	 */
+	public void setStream(final long masterSeed, final long streamNr, final boolean antithetic) {
+		generator.set(new ThreadStream(new SplittableRandom(getStreamSeed(masterSeed,streamNr)),antithetic));
+	}
+
+	/**
+	 * Entfernt einen fr den aktuellen Thread gesetzten Seed wieder.<br>
+	 * Danach wird fr diesen Thread wieder <code>ThreadLocalRandom</code> verwendet.
+	 * @see #setSeed(long)
+	 * @see #setStream(long, long)
+	 */
+	public void clearSeed() {
+		generator.remove();
+	}
+
+	/**
+	 * Entfernt den Zufallszahlenstrom des aktuellen Threads und liefert ihn in seinem aktuellen Zustand zurck.<br>
+	 * Der Strom kann anschlieend ber {@link #attachStream(SplittableRandom)} in einem anderen Thread fortgesetzt werden.
+	 * @return	Zufallszahlenstrom des aktuellen Threads oder <code>null</code>, wenn fr den aktuellen Thread kein Seed gesetzt wurde
+	 * @see #attachStream(SplittableRandom)
+	 */
+	public SplittableRandom detachStream() {
+		final ThreadStream stream=getGenerator();
+		generator.remove();
+		return (stream==null)?null:stream.random;
+	}
+
+	/**
+	 * Setzt einen ber {@link #detachStream()} entnommenen Zufallszahlenstrom im aktuellen Thread fort.
+	 * @param stream	Fortzusetzender Zufallszahlenstrom (bei <code>null</code> wird wieder <code>ThreadLocalRandom</code> verwendet)
+	 * @see #detachStream()
+	 */
+	public void attachStream(final SplittableRandom stream) {
+		attachStream(stream,false);
+	}
+
+	/**
+	 * Setzt einen ber {@link #detachStream()} entnommenen Zufallszahlenstrom im aktuellen Thread fort.
+	 * @param stream	Fortzusetzender Zufallszahlenstrom (bei <code>null</code> wird wieder <code>ThreadLocalRandom</code> verwendet)
+	 * @param antithetic	Soll der Strom antithetisch verwendet werden?
+	 * @see #detachStream()
+	 * @see #isAntithetic()
+	 */
+	public void attachStream(final SplittableRandom stream, final boolean antithetic) {
+		if (stream==null) generator.remove(); else generator.set(new ThreadStream(stream,antithetic));
+	}
+
+	/**
+	 * Gibt an, ob fr den aktuellen Thread ein Seed gesetzt wurde.
+	 * @return	Liefert <code>true</code>, wenn fr den aktuellen Thread ein Seed gesetzt wurde
+	 */
+	public boolean isSeeded() {
+		return getGenerator()!=null;
+	}
+
+	/**
+	 * Gibt an, ob der Zufallszahlenstrom des aktuellen Threads antithetisch verwendet wird.
+	 * @return	Liefert <code>true</code>, wenn fr den aktuellen Thread ein antithetischer Strom eingestellt ist
+	 * @see #setStream(long, long, boolean)
+	 */
+	public boolean isAntithetic() {
+		final ThreadStream stream=getGenerator();
+		return stream!=null && stream.antithetic;
 	}
 
 	@Override
 	public void setSeed(int seed) {
-		getGenerator().setSeed(seed);
+		setSeed((long)seed);
 	}
 
 	@Override
 	public void setSeed(int[] seed) {
-		getGenerator().setSeed(seed);
+		long l=0;
+		for (int i: seed) l=l*31+i;
+		setSeed(l);
 	}
 
 	@Override
 	public void setSeed(long seed) {
-		getGenerator().setSeed(seed);
+		generator.set(new ThreadStream(new SplittableRandom(seed),false));
 	}
 
 	@Override
 	public void nextBytes(byte[] bytes) {
-		getGenerator().nextBytes(bytes);
+		final ThreadStream stream=getGenerator();
+		if (stream==null) {ThreadLocalRandom.current().nextBytes(bytes); return;}
+		int i=0;
+		while (i<bytes.length) {
+			long l=stream.random.nextLong();
+			if (stream.antithetic) l=~l;
+			for (int j=0;j<8 && i<bytes.length;j++) {bytes[i++]=(byte)l; l>>>=8;}
+		}
 	}
 
 	@Override
 	public int nextInt() {
-		return getGenerator().nextInt();
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextInt();
+		return stream.antithetic?~stream.random.nextInt():stream.random.nextInt();
 	}
 
 	@Override
 	public int nextInt(int n) {
-		return getGenerator().nextInt(n);
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextInt(n);
+		return stream.antithetic?(n-1-stream.random.nextInt(n)):stream.random.nextInt(n);
 	}
 
 	@Override
 	public long nextLong() {
-		return getGenerator().nextLong();
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextLong();
+		return stream.antithetic?~stream.random.nextLong():stream.random.nextLong();
 	}
 
 	@Override
 	public boolean nextBoolean() {
-		return getGenerator().nextBoolean();
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextBoolean();
+		return stream.antithetic!=stream.random.nextBoolean();
 	}
 
 	@Override
 	public float nextFloat() {
-		return getGenerator().nextFloat();
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextFloat();
+		final int bits=stream.random.nextInt();
+		return ((stream.antithetic?~bits:bits)>>>8)*0x1.0p-24f;
 	}
 
 	@Override
 	public double nextDouble() {
-		return getGenerator().nextDouble();
+		final ThreadStream stream=getGenerator();
+		if (stream==null) return ThreadLocalRandom.current().nextDouble();
+		/* Antithetisch: 53 Bit-Wert k wird zu 2^53-1-k, d.h. 1-u-2^-53; so bleibt der Wertebereich [0;1) erhalten. */
+		return stream.antithetic?((~stream.random.nextLong())>>>11)*0x1.0p-53:stream.random.nextDouble();
 	}
 
 	@Override
 	public double nextGaussian() {
-		return Math.cos(TwoTimesPI*nextDouble())*StrictMath.sqrt(-2*Math.log(nextDouble()));
+		final ThreadStream stream=getGenerator();
+		if (stream==null || !stream.antithetic) return Math.cos(TwoTimesPI*nextDouble())*StrictMath.sqrt(-2*Math.log(nextDouble()));
+		return -Math.cos(TwoTimesPI*stream.random.nextDouble())*StrictMath.sqrt(-2*Math.log(stream.random.nextDouble()));
 	}
 }
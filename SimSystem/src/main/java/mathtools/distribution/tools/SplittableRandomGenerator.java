@@ -0,0 +1,164 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import java.util.SplittableRandom;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Einzelner, explizit verwalteter Zufallszahlenstrom auf Basis von <code>SplittableRandom</code>.<br><br>
+ * Im Gegensatz zu {@link SeedableThreadLocalRandomGenerator} ist dieser Generator nicht an einen Thread gebunden,
+ * sondern wird direkt an die Stellen bergeben, an denen Zufallszahlen gezogen werden. Auf diese Weise knnen
+ * mehrere voneinander unabhngige Strme (z.B. einer pro Kundengruppe und Verwendungszweck) parallel verwendet
+ * werden. Das Objekt selbst ist nicht thread-sicher und darf daher jeweils nur von einem Thread verwendet werden.<br>
+ * ber {@link #setStream(long, long, boolean)} kann der Strom antithetisch verwendet werden (<code>1-u</code> statt <code>u</code>).
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SeedableThreadLocalRandomGenerator#getStreamSeed(long, long)
+ * @see DistributionRandomNumber#sampleNonNegative(DistributionWithRandom, RandomGenerator)
+ */
+public final class SplittableRandomGenerator implements RandomGenerator {
+	/**
+	 * Vorabberechneter Wert 2*pi, um in {@link #nextGaussian()} Zeit zu sparen.
+	 */
+	private static final double TwoTimesPI=2*Math.PI;
+
+	/**
+	 * Aktueller Zufallszahlenstrom
+	 */
+	private SplittableRandom random;
+
+	/**
+	 * Sollen die Zufallszahlen antithetisch (<code>1-u</code> statt <code>u</code>) geliefert werden?
+	 */
+	private boolean antithetic;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param seed	Startwert fr den Zufallszahlenstrom
+	 */
+	public SplittableRandomGenerator(final long seed) {
+		random=new SplittableRandom(seed);
+	}
+
+	/**
+	 * Startet den Zufallszahlenstrom mit einem Startwert neu, der nur vom globalen Startwert und der Nummer des Stroms abhngt.
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms
+	 * @see SeedableThreadLocalRandomGenerator#getStreamSeed(long, long)
+	 */
+	public void setStream(final long masterSeed, final long streamNr) {
+		setSeed(SeedableThreadLocalRandomGenerator.getStreamSeed(masterSeed,streamNr));
+	}
+
+	/**
+	 * Startet den Zufallszahlenstrom mit einem Startwert neu, der nur vom globalen Startwert und der Nummer des Stroms abhngt,
+	 * und legt fest, ob der Strom antithetisch verwendet werden soll.
+	 * @param masterSeed	Globaler Startwert
+	 * @param streamNr	Nummer des Zufallszahlenstroms
+	 * @param antithetic	Soll der Strom antithetisch (<code>1-u</code> statt <code>u</code>) verwendet werden?
+	 * @see SeedableThreadLocalRandomGenerator#setStream(long, long, boolean)
+	 */
+	public void setStream(final long masterSeed, final long streamNr, final boolean antithetic) {
+		setSeed(SeedableThreadLocalRandomGenerator.getStreamSeed(masterSeed,streamNr));
+		setAntithetic(antithetic);
+	}
+
+	/**
+	 * Legt fest, ob der Strom antithetisch verwendet werden soll.<br>
+	 * (Ein Aufruf von {@link #setSeed(long)} setzt diese Einstellung wieder zurck.)
+	 * @param antithetic	Soll der Strom antithetisch (<code>1-u</code> statt <code>u</code>) verwendet werden?
+	 */
+	public void setAntithetic(final boolean antithetic) {
+		this.antithetic=antithetic;
+	}
+
+	/**
+	 * Gibt an, ob der Strom antithetisch verwendet wird.
+	 * @return	Liefert <code>true</code>, wenn die Zufallszahlen antithetisch (<code>1-u</code> statt <code>u</code>) geliefert werden
+	 * @see #setAntithetic(boolean)
+	 */
+	public boolean isAntithetic() {
+		return antithetic;
+	}
+
+	@Override
+	public void setSeed(int seed) {
+		setSeed((long)seed);
+	}
+
+	@Override
+	public void setSeed(int[] seed) {
+		long l=0;
+		for (int i: seed) l=l*31+i;
+		setSeed(l);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		random=new SplittableRandom(seed);
+		antithetic=false;
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		int i=0;
+		while (i<bytes.length) {
+			long l=random.nextLong();
+			if (antithetic) l=~l;
+			for (int j=0;j<8 && i<bytes.length;j++) {bytes[i++]=(byte)l; l>>>=8;}
+		}
+	}
+
+	@Override
+	public int nextInt() {
+		return antithetic?~random.nextInt():random.nextInt();
+	}
+
+	@Override
+	public int nextInt(int n) {
+		return antithetic?(n-1-random.nextInt(n)):random.nextInt(n);
+	}
+
+	@Override
+	public long nextLong() {
+		return antithetic?~random.nextLong():random.nextLong();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return antithetic!=random.nextBoolean();
+	}
+
+	@Override
+	public float nextFloat() {
+		final int bits=random.nextInt();
+		return ((antithetic?~bits:bits)>>>8)*0x1.0p-24f;
+	}
+
+	@Override
+	public double nextDouble() {
+		/* Antithetisch: 53 Bit-Wert k wird zu 2^53-1-k, d.h. 1-u-2^-53; so bleibt der Wertebereich [0;1) erhalten. */
+		return antithetic?((~random.nextLong())>>>11)*0x1.0p-53:random.nextDouble();
+	}
+
+	@Override
+	public double nextGaussian() {
+		final double z=Math.cos(TwoTimesPI*random.nextDouble())*StrictMath.sqrt(-2*Math.log(random.nextDouble()));
+		return antithetic?-z:z;
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.DistributionWithRandom;
+
+/**
+ * Erzeugt Zufallszahlen gem einer Verteilung, fr die keine direkte Erzeugungsmethode existiert,
+ * ber eine tabellierte Umkehrfunktion der Verteilungsfunktion.<br><br>
+ * Die Verteilungsfunktion wird einmalig auf einem quidistanten Gitter zwischen dem <code>tail</code>- und dem
+ * <code>1-tail</code>-Quantil ausgewertet. Eine Zufallszahl wird bestimmt, indem (ber eine Leittabelle in konstanter
+ * mittlerer Zeit) die Gitterzelle gesucht wird, in die die gleichverteilte Zufallszahl fllt, und innerhalb der Zelle
+ * linear interpoliert wird. Da die Verteilungsfunktion monoton ist, liegt das exakte Quantil in derselben Zelle,
+ * d.h. der Fehler ist betragsmig durch die Zellbreite begrenzt. In den beiden Rndern wird weiterhin
+ * {@link AbstractRealDistribution#inverseCumulativeProbability(double)} verwendet.<br>
+ * Das Objekt ist nach der Erstellung unvernderlich und kann von mehreren Threads gleichzeitig verwendet werden.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+ */
+final class TabulatedInverseSampler implements DistributionWithRandom {
+	/** Standardmige Anzahl an Gitterzellen */
+	public static final int DEFAULT_CELLS=4096;
+	/** Standardmige Wahrscheinlichkeit pro Rand, fr die die exakte Umkehrfunktion verwendet wird */
+	public static final double DEFAULT_TAIL=1E-3;
+
+	/** Verteilung (fr die Rnder) */
+	private final AbstractRealDistribution distribution;
+	/** Linker Rand des Gitters */
+	private final double xMin;
+	/** Breite einer Gitterzelle (maximaler Fehler) */
+	private final double width;
+	/** Werte der Verteilungsfunktion an den Gitterpunkten (monoton gemacht) */
+	private final double[] cumulative;
+	/** Wert der Verteilungsfunktion am linken Rand des Gitters */
+	private final double pMin;
+	/** Wert der Verteilungsfunktion am rechten Rand des Gitters */
+	private final double pMax;
+	/** Umrechnungsfaktor von Wahrscheinlichkeiten in Indices der Leittabelle */
+	private final double guideScale;
+	/** Leittabelle: Kleinste Zelle <code>j</code> mit <code>cumulative[j+1]</code> grer als die untere Grenze des jeweiligen Abschnitts */
+	private final int[] guide;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param distribution	Verteilung
+	 * @param xMin	Linker Rand des Gitters
+	 * @param xMax	Rechter Rand des Gitters
+	 * @param cells	Anzahl an Gitterzellen
+	 */
+	private TabulatedInverseSampler(final AbstractRealDistribution distribution, final double xMin, final double xMax, final int cells) {
+		this.distribution=distribution;
+		this.xMin=xMin;
+		width=(xMax-xMin)/cells;
+
+		cumulative=new double[cells+1];
+		double last=0;
+		for (int i=0;i<=cells;i++) {
+			final double p=distribution.cumulativeProbability((i==cells)?xMax:(xMin+i*width));
+			last=Math.max(last,p);
+			cumulative[i]=last;
+		}
+		pMin=cumulative[0];
+		pMax=cumulative[cells];
+
+		guide=new int[cells];
+		guideScale=cells/(pMax-pMin);
+		int j=0;
+		for (int k=0;k<cells;k++) {
+			final double limit=pMin+k/guideScale;
+			while (j<cells-1 && cumulative[j+1]<=limit) j++;
+			guide[k]=j;
+		}
+	}
+
+	/**
+	 * Legt eine tabellierte Umkehrfunktion fr eine Verteilung an.
+	 * @param distribution	Verteilung
+	 * @param cells	Anzahl an Gitterzellen
+	 * @param tail	Wahrscheinlichkeit pro Rand, fr die die exakte Umkehrfunktion verwendet wird
+	 * @return	Zufallszahlengenerator oder <code>null</code>, wenn sich fr die Verteilung kein endlicher, nicht-leerer Gitterbereich bestimmen lsst
+	 */
+	public static TabulatedInverseSampler build(final AbstractRealDistribution distribution, final int cells, final double tail) {
+		if (distribution==null || cells<1) return null;
+		final double xMin, xMax;
+		try {
+			xMin=distribution.inverseCumulativeProbability(tail);
+			xMax=distribution.inverseCumulativeProbability(1-tail);
+		} catch (RuntimeException e) {
+			return null;
+		}
+		if (!Double.isFinite(xMin) || !Double.isFinite(xMax) || xMax<=xMin) return null;
+		final TabulatedInverseSampler sampler=new TabulatedInverseSampler(distribution,xMin,xMax,cells);
+		if (!(sampler.pMax>sampler.pMin)) return null;
+		return sampler;
+	}
+
+	/**
+	 * Liefert den maximalen Fehler der Werte im tabellierten Bereich.
+	 * @return	Maximaler Fehler (Breite einer Gitterzelle)
+	 */
+	public double getMaxError() {
+		return width;
+	}
+
+	/**
+	 * Berechnet die Umkehrfunktion der Verteilungsfunktion.
+	 * @param p	Wahrscheinlichkeit (im Bereich [0;1])
+	 * @return	F^-1(p) Wert zu der gegebenen Wahrscheinlichkeit (im tabellierten Bereich bis auf {@link #getMaxError()} genau)
+	 */
+	public double inverseCumulativeProbability(final double p) {
+		if (!(p>=pMin && p<pMax)) return distribution.inverseCumulativeProbability(p);
+
+		final int k=(int)((p-pMin)*guideScale);
+		int j=guide[(k>=guide.length)?guide.length-1:k];
+		while (j<guide.length-1 && p>=cumulative[j+1]) j++;
+
+		final double a=cumulative[j];
+		final double diff=cumulative[j+1]-a;
+		final double add=(diff<=0)?0:(p-a)/diff;
+		return xMin+(j+add)*width;
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		return inverseCumulativeProbability(generator.nextDouble());
+	}
+}
@@ -217,6 +217,29 @@ public class CalcSystem extends CalcSystemBase {
 		}
 	}
 
+	/**
+	 * Erstellt eine kompilierte Form des bereits geparsten Ausdrucks, die ohne Zustand im Rechensystem
+	 * (und damit auch von mehreren Threads gleichzeitig) ausgewertet werden kann.
+	 * @return	Kompilierter Ausdruck
+	 * @see CalcSystemCompiled
+	 */
+	public CalcSystemCompiled compile() {
+		return new CalcSystemCompiled(this,0);
+	}
+
+	/**
+	 * Erstellt eine kompilierte Form des bereits geparsten Ausdrucks, die ohne Zustand im Rechensystem
+	 * (und damit auch von mehreren Threads gleichzeitig) ausgewertet werden kann.<br>
+	 * Ist der Ausdruck deterministisch und besitzt er genau eine Variable, so werden die Ergebnisse
+	 * fr die ganzzahligen Variablenwerte von 0 bis <code>tableSize-1</code> vorab berechnet.
+	 * @param tableSize	Anzahl an vorab zu berechnenden Variablenwerten
+	 * @return	Kompilierter Ausdruck
+	 * @see CalcSystemCompiled#calc(double)
+	 */
+	public CalcSystemCompiled compile(final int tableSize) {
+		return new CalcSystemCompiled(this,tableSize);
+	}
+
 	/**
 	 * Berechnet den Wert eines Ausdrucks ohne weitere Variablen
 	 * @param text	Zu berechnender Ausdruck
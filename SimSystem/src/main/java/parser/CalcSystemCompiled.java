@@ -0,0 +1,119 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parser;
+
+import parser.coresymbols.CalcSymbolCompiled;
+import parser.coresymbols.CalcSymbolNumber;
+
+/**
+ * Kompilierte Form eines per {@link CalcSystem} geparsten Ausdrucks zur wiederholten Auswertung whrend der Simulation.<br><br>
+ * Die Ergebnisse sind identisch zu {@link CalcSystem#calc(double[])}, allerdings speichert ein kompilierter Ausdruck
+ * whrend der Berechnung keinen Zustand und kann daher von mehreren Threads gleichzeitig verwendet werden.
+ * Deterministische Ausdrcke mit genau einer Variable knnen zustzlich fr die ganzzahligen Variablenwerte
+ * von 0 bis zu einer vorgegebenen Obergrenze vorab berechnet werden, so dass die Auswertung fr diese Werte
+ * nur noch aus einem Tabellenzugriff besteht.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see CalcSystem#compile()
+ * @see CalcSystem#compile(int)
+ */
+public final class CalcSystemCompiled {
+	/** Kompilierter Symbolbaum (ist <code>null</code>, wenn der Ausdruck nicht kompiliert werden konnte) */
+	private final CalcSymbolCompiled root;
+	/** Rechensystem, das (synchronisiert) verwendet wird, wenn der Ausdruck nicht kompiliert werden konnte */
+	private final CalcSystem fallback;
+	/** Vorgabewerte fr die Variablen, wenn bei der Berechnung keine Werte bergeben werden */
+	private final double[] defaultValues;
+	/** Vorab berechnete Ergebnisse fr die Variablenwerte 0, 1, 2, ... (kann <code>null</code> sein) */
+	private final double[] table;
+	/** Gibt fr die Eintrge in {@link #table} an, ob die Berechnung fehlgeschlagen ist (kann <code>null</code> sein) */
+	private final boolean[] tableError;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param calc	Bereits erfolgreich geparster Ausdruck
+	 * @param tableSize	Anzahl an ganzzahligen Werten (ab 0) der einzigen Variable, fr die die Ergebnisse vorab berechnet werden sollen (Werte &le;0 fr keine Tabelle)
+	 * @see CalcSystem#compile(int)
+	 */
+	CalcSystemCompiled(final CalcSystem calc, final int tableSize) {
+		defaultValues=(calc.values==null)?null:calc.values.clone();
+		if (calc.isConstValue()) {
+			final CalcSymbolNumber number=new CalcSymbolNumber();
+			number.setValue(calc.getConstValue());
+			root=CalcSymbolCompiled.compile(number);
+		} else {
+			root=CalcSymbolCompiled.compile(calc.root);
+		}
+		fallback=(root==null)?calc:null;
+
+		if (root!=null && !root.isConst() && root.isDeterministic() && tableSize>0 && calc.variables.length==1) {
+			table=new double[tableSize];
+			tableError=new boolean[tableSize];
+			for (int i=0;i<tableSize;i++) try {
+				table[i]=root.getValue(i);
+			} catch (MathCalcError e) {
+				tableError[i]=true;
+			}
+		} else {
+			table=null;
+			tableError=null;
+		}
+	}
+
+	/**
+	 * Gibt an, ob der Ausdruck ein konstanter Zahlenwert ist.
+	 * @return	Liefert <code>true</code>, wenn der Ausdruck unabhngig von den Variablen stets denselben Wert liefert
+	 */
+	public boolean isConstValue() {
+		return root!=null && root.isConst();
+	}
+
+	/**
+	 * Berechnet den Ausdruck auf Basis der hier angegebenen Werte.
+	 * @param variableValues	Liste mit den Werten der Variablen (ist dieser Parameter <code>null</code>, so werden die Vorgabewerte des Rechensystems verwendet)
+	 * @return	Zahlenwert des Ergebnisses
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 * @see CalcSystem#calc(double[])
+	 */
+	public double calc(final double[] variableValues) throws MathCalcError {
+		if (root!=null) return root.getValue((variableValues==null)?defaultValues:variableValues);
+		synchronized(fallback) {
+			return fallback.calc((variableValues==null)?defaultValues:variableValues);
+		}
+	}
+
+	/**
+	 * Berechnet den Ausdruck, wenn genau eine Variable belegt ist.<br>
+	 * Entspricht <code>calc(new double[]{value})</code>, ohne dass ein Array angelegt werden muss.
+	 * Liegt fr den Wert ein vorab berechnetes Ergebnis vor, so wird dieses geliefert.
+	 * @param value	Wert der ersten Variable
+	 * @return	Zahlenwert des Ergebnisses
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 */
+	public double calc(final double value) throws MathCalcError {
+		if (table!=null) {
+			final int index=(int)value;
+			if (index==value && index>=0 && index<table.length && (index>0 || Double.doubleToRawLongBits(value)==0)) {
+				if (tableError[index]) throw new MathCalcError(this);
+				return table[index];
+			}
+		}
+		if (root!=null) return root.getValue(value);
+		synchronized(fallback) {
+			return fallback.calc(new double[]{value});
+		}
+	}
+}
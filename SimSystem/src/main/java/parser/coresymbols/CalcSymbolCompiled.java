@@ -0,0 +1,411 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parser.coresymbols;
+
+import parser.MathCalcError;
+
+/**
+ * Kompilierte Form eines Symbolbaums.<br><br>
+ * Im Gegensatz zu {@link CalcSymbol#getValue(parser.CalcSystem)} werden die Variablenwerte direkt bergeben
+ * und es wird whrend der Berechnung kein Zustand im Rechensystem oder in den Symbolen abgelegt. Ein kompilierter
+ * Symbolbaum kann daher von mehreren Threads gleichzeitig ausgewertet werden. Teilbume, die nur aus Konstanten
+ * und deterministischen Funktionen bestehen, werden beim Kompilieren zu Zahlenwerten zusammengefasst. Alle anderen
+ * Knoten rufen dieselben Berechnungsmethoden der Operatoren auf wie die Auswertung des Symbolbaums, so dass
+ * die Ergebnisse identisch sind.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see #compile(CalcSymbol)
+ */
+public abstract class CalcSymbolCompiled {
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Objekte werden ausschlielich ber {@link #compile(CalcSymbol)} angelegt.
+	 */
+	private CalcSymbolCompiled() {
+	}
+
+	/**
+	 * Berechnet den Wert des Knotens.
+	 * @param values	Werte der Variablen
+	 * @return	Wert des Knotens
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 */
+	public abstract double getValue(final double[] values) throws MathCalcError;
+
+	/**
+	 * Berechnet den Wert des Knotens, wenn genau eine Variable belegt ist.<br>
+	 * Entspricht <code>getValue(new double[]{value})</code>, ohne dass ein Array angelegt werden muss.
+	 * @param value	Wert der ersten Variable
+	 * @return	Wert des Knotens
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 */
+	public abstract double getValue(final double value) throws MathCalcError;
+
+	/**
+	 * Gibt an, ob der Knoten ein konstanter Zahlenwert ist.
+	 * @return	Liefert <code>true</code>, wenn der Knoten unabhngig von den Variablen stets denselben Wert liefert
+	 */
+	public boolean isConst() {
+		return false;
+	}
+
+	/**
+	 * Gibt an, ob der Knoten bei gleichen Variablenwerten stets dasselbe Ergebnis liefert
+	 * (was z.B. bei Zufallszahlen nicht der Fall ist).
+	 * @return	Liefert <code>true</code>, wenn der Knoten und alle Unterknoten deterministisch sind
+	 */
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	/**
+	 * Kompiliert einen Symbolbaum.<br>
+	 * Der Symbolbaum wird dabei nicht verndert; Funktionen mit internem Zustand (z.B. Verteilungen)
+	 * werden kopiert, so dass der Symbolbaum unabhngig weiter verwendet werden kann.
+	 * @param symbol	Wurzel des Symbolbaums
+	 * @return	Kompilierter Symbolbaum oder <code>null</code>, wenn der Baum Symbole enthlt, die nicht kompiliert werden knnen
+	 */
+	public static CalcSymbolCompiled compile(final CalcSymbol symbol) {
+		if (symbol==null) return null;
+
+		if (symbol instanceof CalcSymbolConst) return new Const(((CalcSymbolConst)symbol).getValue());
+
+		if (symbol instanceof CalcSymbolVariable) return new Variable(symbol,((CalcSymbolVariable)symbol).getVariableIndex());
+
+		if (symbol instanceof CalcSymbolSub) {
+			final CalcSymbol[] sub=((CalcSymbolSub)symbol).getData();
+			if (sub==null || sub.length!=1) return new Invalid(symbol);
+			return compile(sub[0]);
+		}
+
+		if (symbol instanceof CalcSymbolMiddleOperator) {
+			final CalcSymbolMiddleOperator operator=(CalcSymbolMiddleOperator)symbol;
+			if (operator.left==null || operator.right==null) return new Invalid(symbol);
+			final CalcSymbolCompiled left=compile(operator.left);
+			final CalcSymbolCompiled right=compile(operator.right);
+			if (left==null || right==null) return null;
+			if (left.isConst() && right.isConst()) try {
+				return new Const(operator.calc(left.getValue(null),right.getValue(null)));
+			} catch (MathCalcError e) {
+				/* Fehler erst bei der Berechnung melden */
+			}
+			return new MiddleOperator(operator,left,right);
+		}
+
+		if (symbol instanceof CalcSymbolPostOperator) {
+			final CalcSymbolPostOperator operator=(CalcSymbolPostOperator)symbol;
+			if (operator.sub==null) return new Invalid(symbol);
+			final CalcSymbolCompiled sub=compile(operator.sub);
+			if (sub==null) return null;
+			if (sub.isConst()) try {
+				return new Const(operator.calc(sub.getValue(null)));
+			} catch (MathCalcError e) {
+				/* Fehler erst bei der Berechnung melden */
+			}
+			return new PostOperator(operator,sub);
+		}
+
+		if (symbol instanceof CalcSymbolPreOperator) {
+			final CalcSymbolPreOperator operator=(CalcSymbolPreOperator)symbol;
+			if (operator.symbols==null) return new Invalid(symbol);
+			final CalcSymbolCompiled[] parameters=new CalcSymbolCompiled[operator.symbols.length];
+			boolean allConst=true;
+			for (int i=0;i<parameters.length;i++) {
+				if (operator.symbols[i]==null) return null;
+				parameters[i]=compile(operator.symbols[i]);
+				if (parameters[i]==null) return null;
+				if (!parameters[i].isConst()) allConst=false;
+			}
+			final boolean deterministic=operator.isDeterministic();
+			if (deterministic && allConst) try {
+				final double[] values=new double[parameters.length];
+				for (int i=0;i<values.length;i++) values[i]=parameters[i].getValue(null);
+				return new Const(operator.calc(values));
+			} catch (MathCalcError e) {
+				/* Fehler erst bei der Berechnung melden */
+			}
+			if (deterministic) return new PreOperator(operator,parameters);
+			/* Nicht-deterministische Funktionen (Verteilungen) besitzen einen internen Zustand und werden daher kopiert und synchronisiert ausgewertet */
+			final CalcSymbol clone=operator.cloneSymbol();
+			if (!(clone instanceof CalcSymbolPreOperator)) return null;
+			return new SynchronizedPreOperator((CalcSymbolPreOperator)clone,parameters);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Konstanter Zahlenwert
+	 */
+	private static final class Const extends CalcSymbolCompiled {
+		/** Zahlenwert */
+		private final double value;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param value	Zahlenwert
+		 */
+		public Const(final double value) {
+			this.value=value;
+		}
+
+		@Override
+		public double getValue(final double[] values) {
+			return value;
+		}
+
+		@Override
+		public double getValue(final double value) {
+			return this.value;
+		}
+
+		@Override
+		public boolean isConst() {
+			return true;
+		}
+	}
+
+	/**
+	 * Knoten, dessen Berechnung stets fehlschlgt (z.B. Operator ohne Parameter)
+	 */
+	private static final class Invalid extends CalcSymbolCompiled {
+		/** Symbol, das im Fehlerobjekt angegeben wird */
+		private final CalcSymbol symbol;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param symbol	Symbol, das im Fehlerobjekt angegeben wird
+		 */
+		public Invalid(final CalcSymbol symbol) {
+			this.symbol=symbol;
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			throw symbol.error();
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			throw symbol.error();
+		}
+	}
+
+	/**
+	 * Variable
+	 */
+	private static final class Variable extends CalcSymbolCompiled {
+		/** Symbol, das im Fehlerobjekt angegeben wird */
+		private final CalcSymbol symbol;
+		/** Index der Variable */
+		private final int index;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param symbol	Symbol, das im Fehlerobjekt angegeben wird
+		 * @param index	Index der Variable
+		 */
+		public Variable(final CalcSymbol symbol, final int index) {
+			this.symbol=symbol;
+			this.index=index;
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			if (values==null || index<0 || index>=values.length) throw symbol.error();
+			return values[index];
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			if (index!=0) throw symbol.error();
+			return value;
+		}
+	}
+
+	/**
+	 * Zweiwertiger, in der Mitte stehender Operator
+	 */
+	private static final class MiddleOperator extends CalcSymbolCompiled {
+		/** Operator (wird nur zur Berechnung verwendet und besitzt keinen Zustand) */
+		private final CalcSymbolMiddleOperator operator;
+		/** Linker Parameter */
+		private final CalcSymbolCompiled left;
+		/** Rechter Parameter */
+		private final CalcSymbolCompiled right;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Operator
+		 * @param left	Linker Parameter
+		 * @param right	Rechter Parameter
+		 */
+		public MiddleOperator(final CalcSymbolMiddleOperator operator, final CalcSymbolCompiled left, final CalcSymbolCompiled right) {
+			this.operator=operator;
+			this.left=left;
+			this.right=right;
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			final double valLeft=left.getValue(values);
+			final double valRight=right.getValue(values);
+			return operator.calc(valLeft,valRight);
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			final double valLeft=left.getValue(value);
+			final double valRight=right.getValue(value);
+			return operator.calc(valLeft,valRight);
+		}
+
+		@Override
+		public boolean isDeterministic() {
+			return left.isDeterministic() && right.isDeterministic();
+		}
+	}
+
+	/**
+	 * Nachgestellter Operator
+	 */
+	private static final class PostOperator extends CalcSymbolCompiled {
+		/** Operator (wird nur zur Berechnung verwendet und besitzt keinen Zustand) */
+		private final CalcSymbolPostOperator operator;
+		/** Parameter */
+		private final CalcSymbolCompiled sub;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Operator
+		 * @param sub	Parameter
+		 */
+		public PostOperator(final CalcSymbolPostOperator operator, final CalcSymbolCompiled sub) {
+			this.operator=operator;
+			this.sub=sub;
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			return operator.calc(sub.getValue(values));
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			return operator.calc(sub.getValue(value));
+		}
+
+		@Override
+		public boolean isDeterministic() {
+			return sub.isDeterministic();
+		}
+	}
+
+	/**
+	 * Deterministische Funktion
+	 */
+	private static class PreOperator extends CalcSymbolCompiled {
+		/** Funktion */
+		protected final CalcSymbolPreOperator operator;
+		/** Parameter der Funktion */
+		private final CalcSymbolCompiled[] parameters;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Funktion
+		 * @param parameters	Parameter der Funktion
+		 */
+		public PreOperator(final CalcSymbolPreOperator operator, final CalcSymbolCompiled[] parameters) {
+			this.operator=operator;
+			this.parameters=parameters;
+		}
+
+		/**
+		 * Berechnet die Werte der Parameter der Funktion.
+		 * @param values	Werte der Variablen
+		 * @return	Array mit den Werten der Parameter
+		 * @throws MathCalcError	Fehler whrend der Berechnung
+		 */
+		protected final double[] getParameterValues(final double[] values) throws MathCalcError {
+			final double[] result=new double[parameters.length];
+			for (int i=0;i<result.length;i++) result[i]=parameters[i].getValue(values);
+			return result;
+		}
+
+		/**
+		 * Berechnet die Werte der Parameter der Funktion, wenn genau eine Variable belegt ist.
+		 * @param value	Wert der ersten Variable
+		 * @return	Array mit den Werten der Parameter
+		 * @throws MathCalcError	Fehler whrend der Berechnung
+		 */
+		protected final double[] getParameterValues(final double value) throws MathCalcError {
+			final double[] result=new double[parameters.length];
+			for (int i=0;i<result.length;i++) result[i]=parameters[i].getValue(value);
+			return result;
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			return operator.calc(getParameterValues(values));
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			return operator.calc(getParameterValues(value));
+		}
+
+		@Override
+		public boolean isDeterministic() {
+			for (CalcSymbolCompiled parameter: parameters) if (!parameter.isDeterministic()) return false;
+			return true;
+		}
+	}
+
+	/**
+	 * Nicht-deterministische Funktion mit internem Zustand, die synchronisiert ausgewertet wird
+	 */
+	private static final class SynchronizedPreOperator extends PreOperator {
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Funktion (Kopie, die nur von diesem Knoten verwendet wird)
+		 * @param parameters	Parameter der Funktion
+		 */
+		public SynchronizedPreOperator(final CalcSymbolPreOperator operator, final CalcSymbolCompiled[] parameters) {
+			super(operator,parameters);
+		}
+
+		@Override
+		public double getValue(final double[] values) throws MathCalcError {
+			final double[] parameterValues=getParameterValues(values);
+			synchronized(operator) {
+				return operator.calc(parameterValues);
+			}
+		}
+
+		@Override
+		public double getValue(final double value) throws MathCalcError {
+			final double[] parameterValues=getParameterValues(value);
+			synchronized(operator) {
+				return operator.calc(parameterValues);
+			}
+		}
+
+		@Override
+		public boolean isDeterministic() {
+			return false;
+		}
+	}
+}
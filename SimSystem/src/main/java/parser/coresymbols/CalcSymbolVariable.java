@@ -37,6 +37,14 @@ public class CalcSymbolVariable extends CalcSymbol {
 		this.variableIndex=variableIndex;
 	}
 
+	/**
+	 * Liefert den Index der Variable, auf deren Wert sich diese Variable bezieht
+	 * @return	Index der Variable in der Liste der Variablen in {@link CalcSystemBase#variables}
+	 */
+	public int getVariableIndex() {
+		return variableIndex;
+	}
+
 	@Override
 	public final SymbolType getType() {
 		return CalcSymbol.SymbolType.TYPE_CONST;
@@ -16,6 +16,8 @@
 package simcore;
 
 import simcore.eventcache.AssociativeEventCache;
+import simcore.eventcache.EventTypes;
+import simcore.eventcache.TypeIndexedEventCache;
 
 /**
  * Basisklasse fr alle Ereignisses whrend der Simulation
@@ -33,6 +35,11 @@ public abstract class Event implements Comparable<Event> {
 	 */
 	public int cacheClassHash;
 
+	/**
+	 * Wird von {@link TypeIndexedEventCache} verwendet (Typ-ID gem {@link EventTypes}, -1 fr "noch nicht bestimmt").
+	 */
+	public int cacheTypeId=-1;
+
 	/**
 	 * Ist in <code>addNextEvent</code> ein Ereignisses eingetragen, so wird das
 	 * <code>addNextEvent</code> beim Ausfhren dieses Ereignisses vom EventManager
@@ -48,11 +55,20 @@ public abstract class Event implements Comparable<Event> {
 
 	/**
 	 * Wird dieses Feld auf <code>true</code> gesetzt, so wird das Ereignis bei der Bearbeitung bersprungen.<br>
-	 * (Normalerweise werden Ereignisse beim Lschen direkt aus der Ereignisliste entfernt. Wenn es sich jedoch
-	 * um ein dort noch gar nicht eingefgtes, nur verkettet vorhandenes Ereignis handelt, muss dieser Weg gewhlt werden.)
+	 * (Beim Lschen eines Ereignisses wird nur dieses Feld gesetzt; das Ereignis verbleibt zunchst als Platzhalter
+	 * in der Ereignisliste. Die Ereignisverwaltungen berspringen solche Ereignisse bei der Ausfhrung und entfernen
+	 * sie, sobald sie an der Reihe sind oder sobald sich genug gelschte Ereignisse angesammelt haben, gesammelt beim
+	 * Bereinigen der Ereignisliste. Verkettete Folgeereignisse eines gelschten Ereignisses werden dabei weiterhin ausgefhrt.)
 	 */
 	public boolean isDeleted;
 
+	/**
+	 * Gibt an, ob sich das Ereignis aktuell in der Ereignisliste befindet.<br>
+	 * (Wird vom EventManager beim Einfgen gesetzt und beim Entnehmen wieder zurckgesetzt. Nur gelschte Ereignisse,
+	 * die sich noch in der Liste befinden, werden bei der Entscheidung ber eine Bereinigung der Liste bercksichtigt.)
+	 */
+	public boolean isQueued;
+
 	/**
 	 * Initialisierung des Ereignisses<br><br>
 	 * Sollte in abgeleiteten Klassen berschrieben werden, um weitere Felder zu initialisieren.<br>
@@ -63,6 +79,7 @@ public abstract class Event implements Comparable<Event> {
 	public final void init(final long time) {
 		this.time=time;
 		isDeleted=false;
+		isQueued=false;
 		addNextEvent=null;
 	}
 
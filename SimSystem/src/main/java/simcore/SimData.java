@@ -56,6 +56,15 @@ public class SimData {
 	 */
 	public long simDaysByOtherThreads=0;
 
+	/**
+	 * Optionales Objekt zur dynamischen Verteilung der Tage auf die Threads<br><br>
+	 * Ist hier ein Objekt eingetragen, so holt sich der Simulationsthread die zu simulierenden
+	 * Tage nacheinander von diesem Objekt und {@link #simDays} sowie {@link #simDaysByOtherThreads}
+	 * werden nicht verwendet. Ist der Wert <code>null</code>, so wird die feste Aufteilung verwendet.
+	 * @see SimDayDispatcher
+	 */
+	public SimDayDispatcher dayDispatcher=null;
+
 	/**
 	 * Referenz auf den EventManager<br><br>
 	 * Mit Hilfe dieser Referenz knnen whrend der Ausfhrung von Ereignissen
@@ -134,7 +143,7 @@ public class SimData {
 		eventManager.deleteAllEvents();
 		eventCache=null;
 		eventManager=null;
-		if (logging!=null) logging.done();
+		disableLogging();
 	}
 
 	/**
@@ -143,9 +152,44 @@ public class SimData {
 	 * @param dayGlobal	Nummer der (bezogen auf alle Threads) zu simulierenden Tages (beginnend ab 0)
 	 * @param	backgroundMode	Gibt an, ob die Simulation explizit gestartet wurde (false) oder als Hintergrundsimulation ausgefhrt wird (true)
 	 * @see #simDays
+	 * @see #dayDispatcher
 	 */
 	public void initDay(long day, long dayGlobal, boolean backgroundMode) {}
 
+	/**
+	 * Liefert bei dynamischer Verteilung der Tage die globale Nummer des nchsten in diesem Thread zu simulierenden Tages.<br><br>
+	 * Diese Methode wird von <code>SimThread</code> automatisch aufgerufen, wenn {@link #dayDispatcher} gesetzt ist.
+	 * Abgeleitete Klassen knnen die Methode berschreiben, um Tage bereits im Voraus anzufordern.
+	 * Vergibt der {@link SimDayDispatcher} die Tage in Blcken, so werden die brigen Tage eines Blocks
+	 * ohne erneute Anfrage beim Dispatcher geliefert.
+	 * @return	Globale Nummer des nchsten Tages (0-basierend) oder -1, wenn bereits alle Tage vergeben wurden
+	 * @see #dayDispatcher
+	 * @see SimDayDispatcher#nextDay()
+	 */
+	public long nextDay() {
+		if (blockNextDay<blockEndDay) return blockNextDay++;
+		final long day=dayDispatcher.nextDay();
+		if (day>=0) {
+			blockNextDay=day+1;
+			blockEndDay=Math.min(day+dayDispatcher.getBlockSize(),dayDispatcher.getDays());
+		}
+		return day;
+	}
+
+	/**
+	 * Nchster noch zu simulierender Tag des aktuellen Blocks
+	 * @see #nextDay()
+	 * @see SimDayDispatcher#getBlockSize()
+	 */
+	private long blockNextDay=0;
+
+	/**
+	 * Erster Tag nach dem Ende des aktuellen Blocks
+	 * @see #nextDay()
+	 * @see SimDayDispatcher#getBlockSize()
+	 */
+	private long blockEndDay=0;
+
 	/**
 	 * Ereignis in den EventCache aufnehmen<br><br>
 	 * Ereignisse sollten nach ihrer Ausfhrung nicht einfach freigegeben, sondern in
@@ -171,6 +215,15 @@ public class SimData {
 	 */
 	public final Event getEvent(final Class<? extends Event> eventClass) {return eventCache.get(eventClass);}
 
+	/**
+	 * Ereignis aus dem EventCache holen<br><br>
+	 * Entspricht {@link #getEvent(Class)}, der Ereignistyp wird jedoch ber seine Typ-ID angegeben,
+	 * so dass der Cache (bei Verwendung von {@link simcore.eventcache.TypeIndexedEventCache}) ohne Hash-Zugriff auskommt.
+	 * @param typeId	Typ-ID des angeforderten Ereignisses gem {@link simcore.eventcache.EventTypes}
+	 * @return	Referenz auf das Ereignis des gewnschten Typs
+	 */
+	public final Event getEvent(final int typeId) {return eventCache.get(typeId);}
+
 	/**
 	 * Ereignis aus dem EventCache holen<br><br>
 	 * Ereignisse sollten nach ihrer Ausfhrung nicht einfach freigegeben, sondern per
@@ -192,6 +245,18 @@ public class SimData {
 	 * @see SimLogging
 	 */
 	protected SimLogging getLogger(final File logFile) {
+		return getDefaultLogger(logFile);
+	}
+
+	/**
+	 * Liefert das Standard-Logging-System fr eine Logdatei.<br>
+	 * Dieses wird auch als Ziel verwendet, wenn die Logeintrge mehrerer Threads zusammengefhrt werden.
+	 * @param logFile	Dateiname der Logfile-Datei
+	 * @return	Logging-System, welches das Interface <code>SimLogging</code> implementiert
+	 * @see #getLogger(File)
+	 * @see simcore.logging.ShardedLogger
+	 */
+	public static SimLogging getDefaultLogger(final File logFile) {
 		return new PlainTextLogger(logFile,false,false,false,logFile.toString().toUpperCase().endsWith(".CSV"));
 	}
 
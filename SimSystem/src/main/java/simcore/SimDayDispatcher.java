@@ -0,0 +1,131 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verteilt die zu simulierenden Tage dynamisch auf die Simulationsthreads.<br><br>
+ * Anstatt jedem Thread vorab einen festen Block an Tagen zuzuweisen, holen sich die
+ * Threads ber {@link #nextDay()} jeweils den nchsten noch nicht simulierten Tag.
+ * Dadurch bleiben alle Threads bis zum letzten Tag ausgelastet, auch wenn einzelne
+ * Threads (z.B. durch unterschiedlich aufwndige Tage oder die Garbage Collection)
+ * langsamer vorankommen.<br>
+ * Die globalen Tagesnummern (von 0 an gezhlt) bleiben dabei unverndert, d.h. jeder
+ * Tag wird genau einmal und mit seiner globalen Nummer simuliert.<br>
+ * ber {@link #stop()} kann die Vergabe weiterer Tage vorzeitig beendet werden
+ * (z.B. wenn ein sequentielles Abbruchkriterium erfllt ist); bereits vergebene Tage
+ * werden dabei noch vollstndig simuliert.<br>
+ * Optional knnen die Tage in Blcken fester Gre vergeben werden (z.B. Paare aus einem normalen
+ * und einem antithetischen Tag). Alle Tage eines Blocks werden dann von demselben Thread unmittelbar
+ * nacheinander simuliert; {@link #nextDay()} liefert in diesem Fall jeweils den ersten Tag eines Blocks.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SimData#dayDispatcher
+ * @see SimThread
+ */
+public final class SimDayDispatcher {
+	/**
+	 * Gesamtzahl der zu simulierenden Tage (ber alle Threads)
+	 */
+	private final long days;
+
+	/**
+	 * Anzahl an Tagen, die jeweils gemeinsam an einen Thread vergeben werden
+	 */
+	private final int blockSize;
+
+	/**
+	 * Nummer des nchsten zu vergebenden Tages
+	 */
+	private final AtomicLong nextDay;
+
+	/**
+	 * Wurde die Vergabe weiterer Tage per {@link #stop()} beendet?
+	 */
+	private volatile boolean stopped;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param days	Gesamtzahl der zu simulierenden Tage (ber alle Threads)
+	 */
+	public SimDayDispatcher(final long days) {
+		this(days,1);
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param days	Gesamtzahl der zu simulierenden Tage (ber alle Threads)
+	 * @param blockSize	Anzahl an Tagen, die jeweils gemeinsam an einen Thread vergeben werden (Werte &lt;1 werden als 1 interpretiert)
+	 */
+	public SimDayDispatcher(final long days, final int blockSize) {
+		this.days=Math.max(0,days);
+		this.blockSize=Math.max(1,blockSize);
+		nextDay=new AtomicLong(0);
+	}
+
+	/**
+	 * Liefert die Gesamtzahl der zu simulierenden Tage.
+	 * @return	Gesamtzahl der zu simulierenden Tage (ber alle Threads)
+	 */
+	public long getDays() {
+		return days;
+	}
+
+	/**
+	 * Liefert die Anzahl an Tagen, die jeweils gemeinsam an einen Thread vergeben werden.
+	 * @return	Anzahl an Tagen pro Block
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * Liefert die globale Nummer des nchsten zu simulierenden Tages bzw. des ersten Tages des nchsten Blocks.
+	 * @return	Globale Nummer des nchsten Tages (0-basierend) oder -1, wenn bereits alle Tage vergeben wurden oder die Vergabe beendet wurde
+	 * @see #getBlockSize()
+	 */
+	public long nextDay() {
+		if (stopped || nextDay.get()>=days) return -1;
+		final long day=(blockSize==1)?nextDay.getAndIncrement():nextDay.getAndAdd(blockSize);
+		return (day<days)?day:-1;
+	}
+
+	/**
+	 * Liefert die Anzahl der bereits an Threads vergebenen Tage.
+	 * @return	Anzahl der bereits vergebenen Tage
+	 */
+	public long getDispatchedDays() {
+		return Math.min(days,nextDay.get());
+	}
+
+	/**
+	 * Beendet die Vergabe weiterer Tage.<br>
+	 * Anschlieende Aufrufe von {@link #nextDay()} liefern -1. Die Anzahl der tatschlich
+	 * simulierten Tage kann danach ber {@link #getDispatchedDays()} abgefragt werden.
+	 */
+	public void stop() {
+		stopped=true;
+	}
+
+	/**
+	 * Gibt an, ob die Vergabe weiterer Tage per {@link #stop()} beendet wurde.
+	 * @return	Liefert <code>true</code>, wenn keine weiteren Tage mehr vergeben werden
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+}
@@ -155,35 +155,22 @@ public final class SimThread extends Thread {
 
 		try {
 			eventManager=simData.eventManager;
-			final long days=simData.simDays;
-			final long daysByOtherThreads=simData.simDaysByOtherThreads;
-			for (long day=0;day<days;day++) {
-				currentDay=day+1;
-				simData.initDay(day,daysByOtherThreads+day,getPriority()==MIN_PRIORITY);
-				eventManager.resetTime();
-				if (isInterrupted()) {
-					simData.terminateCleanUp(simData.currentTime);
-					simData.finalTerminateCleanUp(eventCount);
-					simDoneTime=System.currentTimeMillis();
-					return;
+			final SimDayDispatcher dayDispatcher=simData.dayDispatcher;
+			if (dayDispatcher==null) {
+				/* Feste Aufteilung der Tage auf die Threads */
+				final long days=simData.simDays;
+				final long daysByOtherThreads=simData.simDaysByOtherThreads;
+				for (long day=0;day<days;day++) {
+					if (!runDay(day,daysByOtherThreads+day)) return;
 				}
-				while (eventManager.executeNextEvents(simData,pauseSimulation?1:200000,1000)) {
-					if (pauseSimulation) synchronized (pauseObject) {
-						try {while (!doStepOrContinue) pauseObject.wait(1000);} catch (InterruptedException e) {}
-						doStepOrContinue=false;
-					}
-					if (abortSimulation || isInterrupted()) {
-						simData.terminateCleanUp(simData.currentTime);
-						simData.finalTerminateCleanUp(eventCount);
-						simDoneTime=System.currentTimeMillis();
-						return;
-					}
-					eventCount=eventManager.eventCount();
-					eventQueueLength=eventManager.eventQueueLength();
+			} else {
+				/* Dynamische Verteilung: Tage werden einzeln abgeholt, bis alle Tage vergeben sind */
+				long day=0;
+				long dayGlobal;
+				while ((dayGlobal=simData.nextDay())>=0) {
+					if (!runDay(day,dayGlobal)) return;
+					day++;
 				}
-				eventCount=eventManager.eventCount();
-				eventQueueLength=eventManager.eventQueueLength();
-				simData.terminateCleanUp(simData.currentTime);
 			}
 			simData.finalTerminateCleanUp(eventCount);
 		} catch (Exception e) {
@@ -194,11 +181,54 @@ public final class SimThread extends Thread {
 			eventManager.deleteAllEvents();
 			/* Fehler erfassen */
 			simData.catchOutOfMemory(traceInfo(e.getStackTrace()));
+		} finally {
+			/* Logging auch im Fehlerfall beenden, damit z.B. ein ShardedLogger die Eintrge der brigen Threads zusammenfhren kann */
+			simData.disableLogging();
 		}
 
 		simDoneTime=System.currentTimeMillis();
 	}
 
+	/**
+	 * Simuliert einen einzelnen Tag.<br>
+	 * Wird die Simulation whrend des Tages abgebrochen, so werden die
+	 * Abschlussarbeiten fr den Thread bereits hier durchgefhrt.
+	 * @param day	Nummer des Tages innerhalb dieses Threads (beginnend ab 0)
+	 * @param dayGlobal	Nummer des Tages bezogen auf alle Threads (beginnend ab 0)
+	 * @return	Liefert <code>true</code>, wenn der Tag vollstndig simuliert wurde, und <code>false</code>, wenn die Simulation abgebrochen wurde
+	 * @see #run()
+	 */
+	private boolean runDay(final long day, final long dayGlobal) {
+		currentDay=day+1;
+		if (simData.logging!=null) simData.logging.startDay(dayGlobal);
+		simData.initDay(day,dayGlobal,getPriority()==MIN_PRIORITY);
+		eventManager.resetTime();
+		if (isInterrupted()) {
+			simData.terminateCleanUp(simData.currentTime);
+			simData.finalTerminateCleanUp(eventCount);
+			simDoneTime=System.currentTimeMillis();
+			return false;
+		}
+		while (eventManager.executeNextEvents(simData,pauseSimulation?1:200000,1000)) {
+			if (pauseSimulation) synchronized (pauseObject) {
+				try {while (!doStepOrContinue) pauseObject.wait(1000);} catch (InterruptedException e) {}
+				doStepOrContinue=false;
+			}
+			if (abortSimulation || isInterrupted()) {
+				simData.terminateCleanUp(simData.currentTime);
+				simData.finalTerminateCleanUp(eventCount);
+				simDoneTime=System.currentTimeMillis();
+				return false;
+			}
+			eventCount=eventManager.eventCount();
+			eventQueueLength=eventManager.eventQueueLength();
+		}
+		eventCount=eventManager.eventCount();
+		eventQueueLength=eventManager.eventQueueLength();
+		simData.terminateCleanUp(simData.currentTime);
+		return true;
+	}
+
 	/**
 	 * Tritt innerhalb der Simulationsthreads eine nicht behandelte
 	 * Exception auf, so wird der Stack-Trace ber diese Methode
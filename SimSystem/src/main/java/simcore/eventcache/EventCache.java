@@ -48,6 +48,20 @@ public interface EventCache {
 	 */
 	public Event getOrNull(final Class<? extends Event> eventClass);
 
+	/**
+	 * Liefert ein Ereignis des im Parameter angegebenen Typs zurck (siehe {@link #get(Class)}).
+	 * @param typeId	Typ-ID des gewnschten Ereignisobjektes gem {@link EventTypes}
+	 * @return Liefert ein Ereignis des gewnschten Typs
+	 */
+	default Event get(final int typeId) {return get(EventTypes.getEventClass(typeId));}
+
+	/**
+	 * Liefert ein Ereignis des im Parameter angegebenen Typs aus dem Cache zurck (siehe {@link #getOrNull(Class)}).
+	 * @param typeId	Typ-ID des gewnschten Ereignisobjektes gem {@link EventTypes}
+	 * @return Liefert ein Ereignis des gewnschten Typs oder <code>null</code>
+	 */
+	default Event getOrNull(final int typeId) {return getOrNull(EventTypes.getEventClass(typeId));}
+
 	/**
 	 * Lscht den gesamten Cache.
 	 */
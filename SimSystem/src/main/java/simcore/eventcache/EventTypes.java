@@ -0,0 +1,168 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.eventcache;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import simcore.Event;
+
+/**
+ * Verwaltet die global fr alle Simulationsthreads gltigen, fortlaufend ab 0 vergebenen Typ-IDs der Ereignisklassen.<br><br>
+ * Ereignisklassen knnen sich ber {@link #register(Class, Supplier)} mit einer Fabrikmethode registrieren und
+ * die so erhaltene ID (typischerweise als statische Konstante) beim Abruf von Ereignissen aus dem Cache verwenden.
+ * Dann ist fr das Anlegen und Recyceln von Ereignissen weder ein Hash-Zugriff noch Reflection ntig.
+ * Nicht registrierte Klassen werden bei Bedarf automatisch mit einer per Reflection arbeitenden Fabrikmethode registriert.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see TypeIndexedEventCache
+ */
+public final class EventTypes {
+	/** Zuordnung von Ereignisklassen zu Typ-IDs (wird bei jeder Registrierung komplett ersetzt, so dass lesende Zugriffe nicht synchronisiert werden mssen) */
+	private static volatile Map<Class<? extends Event>,Integer> ids=new IdentityHashMap<>();
+	/** Ereignisklassen pro Typ-ID */
+	private static volatile Class<? extends Event>[] classes=newClassArray(0);
+	/** Fabrikmethoden pro Typ-ID */
+	private static volatile Supplier<? extends Event>[] factories=newFactoryArray(0);
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private EventTypes() {}
+
+	/**
+	 * Legt ein neues Array fr Ereignisklassen an.
+	 * @param size	Gre des Arrays
+	 * @return	Neues Array
+	 */
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Event>[] newClassArray(final int size) {
+		return new Class[size];
+	}
+
+	/**
+	 * Legt ein neues Array fr Fabrikmethoden an.
+	 * @param size	Gre des Arrays
+	 * @return	Neues Array
+	 */
+	@SuppressWarnings("unchecked")
+	private static Supplier<? extends Event>[] newFactoryArray(final int size) {
+		return new Supplier[size];
+	}
+
+	/**
+	 * Fgt einen neuen Ereignistyp hinzu.
+	 * @param eventClass	Ereignisklasse
+	 * @param factory	Fabrikmethode fr neue Ereignisse dieser Klasse
+	 * @return	Typ-ID der Ereignisklasse
+	 */
+	private static synchronized int add(final Class<? extends Event> eventClass, final Supplier<? extends Event> factory) {
+		final Integer id=ids.get(eventClass);
+		if (id!=null) return id;
+
+		final int newId=classes.length;
+		final Class<? extends Event>[] newClasses=Arrays.copyOf(classes,newId+1);
+		newClasses[newId]=eventClass;
+		final Supplier<? extends Event>[] newFactories=Arrays.copyOf(factories,newId+1);
+		newFactories[newId]=factory;
+		final Map<Class<? extends Event>,Integer> newIds=new IdentityHashMap<>(ids);
+		newIds.put(eventClass,newId);
+
+		/* Reihenfolge beachten: getCount() liest classes, die Fabrikmethoden mssen dann bereits verfgbar sein */
+		factories=newFactories;
+		classes=newClasses;
+		ids=newIds;
+		return newId;
+	}
+
+	/**
+	 * Registriert eine Ereignisklasse.<br>
+	 * Ist die Klasse bereits registriert, so wird die bisherige Typ-ID geliefert.
+	 * @param eventClass	Ereignisklasse
+	 * @param factory	Fabrikmethode fr neue Ereignisse dieser Klasse
+	 * @return	Typ-ID der Ereignisklasse
+	 */
+	public static <E extends Event> int register(final Class<E> eventClass, final Supplier<E> factory) {
+		return add(eventClass,factory);
+	}
+
+	/**
+	 * Registriert eine Ereignisklasse, deren Objekte per Reflection ber den parameterlosen Konstruktor angelegt werden.<br>
+	 * Ist die Klasse bereits registriert, so wird die bisherige Typ-ID geliefert. Besitzt die Klasse keinen ffentlichen
+	 * parameterlosen Konstruktor, so liefert die Fabrikmethode <code>null</code>.
+	 * @param eventClass	Ereignisklasse
+	 * @return	Typ-ID der Ereignisklasse
+	 */
+	public static int register(final Class<? extends Event> eventClass) {
+		final Integer id=ids.get(eventClass);
+		if (id!=null) return id;
+
+		final Constructor<? extends Event> constructor;
+		try {
+			constructor=eventClass.getConstructor();
+		} catch (NoSuchMethodException | SecurityException e) {
+			/* Ereignisse knnen dann nur recycelt, aber nicht neu angelegt werden */
+			return add(eventClass,()->null);
+		}
+		return add(eventClass,()->{
+			try {
+				return constructor.newInstance();
+			} catch (ReflectiveOperationException e) {
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Liefert die Typ-ID einer Ereignisklasse.
+	 * @param eventClass	Ereignisklasse
+	 * @return	Typ-ID oder -1, wenn die Klasse nicht registriert ist
+	 */
+	public static int getTypeId(final Class<? extends Event> eventClass) {
+		final Integer id=ids.get(eventClass);
+		return (id==null)?-1:id;
+	}
+
+	/**
+	 * Liefert die Anzahl an registrierten Ereignisklassen.
+	 * @return	Anzahl an registrierten Ereignisklassen (die Typ-IDs laufen von 0 bis zu diesem Wert minus 1)
+	 */
+	public static int getCount() {
+		return classes.length;
+	}
+
+	/**
+	 * Liefert die Ereignisklasse zu einer Typ-ID.
+	 * @param typeId	Typ-ID
+	 * @return	Ereignisklasse
+	 */
+	public static Class<? extends Event> getEventClass(final int typeId) {
+		return classes[typeId];
+	}
+
+	/**
+	 * Liefert die Fabrikmethode zu einer Typ-ID.
+	 * @param typeId	Typ-ID
+	 * @return	Fabrikmethode fr neue Ereignisse dieses Typs
+	 */
+	public static Supplier<? extends Event> getFactory(final int typeId) {
+		return factories[typeId];
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.eventcache;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import simcore.Event;
+
+/**
+ * Die <code>TypeIndexedEventCache</code>-Klasse implementiert das <code>EventCache</code>-Interfaces.
+ * Die Ereignisse werden pro Ereignistyp in einem Array-basierten Stapel gespeichert, der direkt ber die
+ * Typ-ID gem {@link EventTypes} adressiert wird. Die Typ-ID eines recycelten Ereignisses wird im Ereignis
+ * selbst ({@link Event#cacheTypeId}) vorgehalten, neue Ereignisse werden ber die registrierte Fabrikmethode
+ * angelegt. Werden Ereignisse ber {@link #get(int)} abgerufen, so ist weder ein Hash-Zugriff noch Reflection ntig.<br><br>
+ * Die Anzahl an Ereignissen pro Typ im Cache ist begrenzt; darber hinaus zurckgegebene Ereignisse werden verworfen.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see EventTypes
+ */
+public final class TypeIndexedEventCache implements EventCache {
+	/** Anfngliche Gre eines Stapels */
+	private static final int INITIAL_POOL_SIZE=64;
+
+	/** Maximale Anzahl an Ereignissen pro Typ fr Typen, fr die keine eigene Grenze eingestellt wurde */
+	private final int defaultMaxPoolSize;
+	/** Maximale Anzahl an Ereignissen pro Typ */
+	private int[] maxPoolSizes;
+	/** Stapel der Ereignisse pro Typ */
+	private Event[][] pools;
+	/** Anzahl an Ereignissen pro Typ im Cache */
+	private int[] sizes;
+	/** Fabrikmethoden pro Typ (lokale Kopie aus {@link EventTypes}) */
+	private Supplier<? extends Event>[] factories;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param defaultMaxPoolSize	Maximale Anzahl an Ereignissen pro Typ im Cache (sofern per {@link #setMaxPoolSize(int, int)} nichts anderes eingestellt wird)
+	 */
+	@SuppressWarnings("unchecked")
+	public TypeIndexedEventCache(final int defaultMaxPoolSize) {
+		this.defaultMaxPoolSize=Math.max(0,defaultMaxPoolSize);
+		maxPoolSizes=new int[0];
+		pools=new Event[0][];
+		sizes=new int[0];
+		factories=new Supplier[0];
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Cache pro Typ wird auf maximal 2.000 Ereignisse eingestellt.
+	 */
+	public TypeIndexedEventCache() {this(2000);}
+
+	/**
+	 * bernimmt neu registrierte Ereignistypen in die lokalen Arrays.
+	 * @param typeId	Typ-ID, die anschlieend verfgbar sein muss
+	 */
+	private void ensureType(final int typeId) {
+		final int count=Math.max(typeId+1,EventTypes.getCount());
+		if (count<=sizes.length) return;
+		final int oldCount=sizes.length;
+		maxPoolSizes=Arrays.copyOf(maxPoolSizes,count);
+		Arrays.fill(maxPoolSizes,oldCount,count,defaultMaxPoolSize);
+		pools=Arrays.copyOf(pools,count);
+		sizes=Arrays.copyOf(sizes,count);
+		factories=Arrays.copyOf(factories,count);
+		for (int i=oldCount;i<count;i++) factories[i]=EventTypes.getFactory(i);
+	}
+
+	/**
+	 * Stellt die maximale Anzahl an Ereignissen eines Typs im Cache ein.
+	 * @param typeId	Typ-ID gem {@link EventTypes}
+	 * @param maxPoolSize	Maximale Anzahl an Ereignissen dieses Typs im Cache
+	 */
+	public void setMaxPoolSize(final int typeId, final int maxPoolSize) {
+		ensureType(typeId);
+		maxPoolSizes[typeId]=Math.max(0,maxPoolSize);
+		if (sizes[typeId]>maxPoolSizes[typeId]) {
+			Arrays.fill(pools[typeId],maxPoolSizes[typeId],sizes[typeId],null);
+			sizes[typeId]=maxPoolSizes[typeId];
+		}
+	}
+
+	/**
+	 * Liefert ein Ereignis des angegebenen Typs. Wenn mglich wird das Ereignis aus dem Cache geholt,
+	 * sonst wird es ber die Fabrikmethode neu angelegt.
+	 * @param typeId	Typ-ID gem {@link EventTypes}
+	 * @return	Ereignis des gewnschten Typs
+	 */
+	@Override
+	public Event get(final int typeId) {
+		if (typeId>=sizes.length) ensureType(typeId);
+		final int size=sizes[typeId];
+		if (size>0) {
+			final Event[] pool=pools[typeId];
+			final Event event=pool[size-1];
+			pool[size-1]=null;
+			sizes[typeId]=size-1;
+			return event;
+		}
+		final Event event=factories[typeId].get();
+		if (event!=null) event.cacheTypeId=typeId;
+		return event;
+	}
+
+	/**
+	 * Liefert ein Ereignis des angegebenen Typs aus dem Cache.
+	 * @param typeId	Typ-ID gem {@link EventTypes}
+	 * @return	Ereignis des gewnschten Typs oder <code>null</code>, wenn sich kein Ereignis dieses Typs im Cache befindet
+	 */
+	@Override
+	public Event getOrNull(final int typeId) {
+		if (typeId>=sizes.length) return null;
+		final int size=sizes[typeId];
+		if (size==0) return null;
+		final Event[] pool=pools[typeId];
+		final Event event=pool[size-1];
+		pool[size-1]=null;
+		sizes[typeId]=size-1;
+		return event;
+	}
+
+	@Override
+	public void put(final Event event) {
+		int typeId=event.cacheTypeId;
+		if (typeId<0) {
+			/* Ereignis wurde nicht ber diesen Cache angelegt: Typ-ID einmalig bestimmen */
+			typeId=EventTypes.register(event.getClass());
+			event.cacheTypeId=typeId;
+		}
+		if (typeId>=sizes.length) ensureType(typeId);
+
+		final int size=sizes[typeId];
+		if (size>=maxPoolSizes[typeId]) return;
+		Event[] pool=pools[typeId];
+		if (pool==null || size==pool.length) {
+			pool=(pool==null)?new Event[Math.min(INITIAL_POOL_SIZE,maxPoolSizes[typeId])]:Arrays.copyOf(pool,Math.min(maxPoolSizes[typeId],Math.max(INITIAL_POOL_SIZE,size*2)));
+			pools[typeId]=pool;
+		}
+		pool[size]=event;
+		sizes[typeId]=size+1;
+	}
+
+	@Override
+	public Event get(final Class<? extends Event> eventClass) {
+		return get(EventTypes.register(eventClass));
+	}
+
+	@Override
+	public Event getOrNull(final Class<? extends Event> eventClass) {
+		final int typeId=EventTypes.getTypeId(eventClass);
+		if (typeId<0) return null;
+		return getOrNull(typeId);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(pools,null);
+		Arrays.fill(sizes,0);
+	}
+}
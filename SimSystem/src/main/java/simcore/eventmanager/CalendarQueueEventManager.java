@@ -0,0 +1,250 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.eventmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simcore.Event;
+import simcore.eventcache.EventCache;
+
+/**
+ * Implementierung des <code>EventManager</code>-Interface in Form einer Kalender-Warteschlange
+ * (Calendar Queue nach R. Brown).<br><br>
+ * Die Ereignisse werden gem ihrer Ausfhrungszeit auf ringfrmig angeordnete Teilwarteschlangen
+ * (Tage des "Kalenders") verteilt. Im Gegensatz zu {@link MultiArrayEventManager} ist weder die Anzahl
+ * der Teilwarteschlangen noch deren Breite an eine feste Tageslnge gebunden: Die Anzahl wird an die
+ * Anzahl der wartenden Ereignisse angepasst und die Breite wird dabei jeweils aus den Abstnden der
+ * als nchstes anstehenden Ereignisse neu bestimmt. Ereignisse, die weit in der Zukunft liegen,
+ * landen so nicht alle in einer gemeinsamen Teilwarteschlange.<br>
+ * Ereignisse mit identischer Ausfhrungszeit werden in der Reihenfolge ausgefhrt, in der sie eingefgt wurden.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see EventManager
+ */
+public class CalendarQueueEventManager extends EventManagerBase implements EventManager {
+	/** Minimale (und initiale) Anzahl an Teilwarteschlangen (muss eine Zweierpotenz sein) */
+	private static final int MIN_BUCKET_COUNT=16;
+	/** Initiale Breite einer Teilwarteschlange in Millisekunden */
+	private static final long INITIAL_BUCKET_WIDTH=1000;
+	/** Anzahl an Ereignissen, die zur Bestimmung der neuen Breite der Teilwarteschlangen herangezogen werden */
+	private static final int WIDTH_SAMPLE_SIZE=25;
+	/** Initiale Lnge der einzelnen Teilwarteschlangen */
+	private static final int BUCKET_INITIAL_SIZE=4;
+
+	/** Teilwarteschlangen (Anzahl ist immer eine Zweierpotenz) */
+	private EventQueue[] buckets;
+	/** Bitmaske zur Bestimmung der Teilwarteschlange aus der Ausfhrungszeit (Anzahl an Teilwarteschlangen minus 1) */
+	private int bucketMask;
+	/** Breite einer Teilwarteschlange in Millisekunden */
+	private long bucketWidth;
+	/** Teilwarteschlange, aus der als letztes ein Ereignis entnommen wurde */
+	private int lastBucket;
+	/** Startzeitpunkt des Zeitfensters der Teilwarteschlange {@link #lastBucket}; alle Ereignisse liegen zeitlich nicht vor diesem Zeitpunkt */
+	private long bucketStart;
+	/** Anzahl an momentan verwalteten Ereignissen */
+	private int size;
+	/** Ab dieser Anzahl an Ereignissen wird die Anzahl an Teilwarteschlangen verdoppelt */
+	private int growThreshold;
+	/** Unterhalb dieser Anzahl an Ereignissen wird die Anzahl an Teilwarteschlangen halbiert */
+	private int shrinkThreshold;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public CalendarQueueEventManager() {
+		init(MIN_BUCKET_COUNT,INITIAL_BUCKET_WIDTH);
+	}
+
+	/**
+	 * Legt die Teilwarteschlangen neu an.
+	 * @param bucketCount	Anzahl an Teilwarteschlangen (muss eine Zweierpotenz sein)
+	 * @param width	Breite einer Teilwarteschlange in Millisekunden
+	 */
+	private void init(final int bucketCount, final long width) {
+		buckets=new EventQueue[bucketCount];
+		for (int i=0;i<bucketCount;i++) buckets[i]=new EventQueue(BUCKET_INITIAL_SIZE);
+		bucketMask=bucketCount-1;
+		bucketWidth=Math.max(1,width);
+		lastBucket=0;
+		bucketStart=0;
+		size=0;
+		growThreshold=2*bucketCount;
+		shrinkThreshold=(bucketCount>MIN_BUCKET_COUNT)?(bucketCount/2):-1;
+	}
+
+	/**
+	 * Fgt ein Ereignis in die passende Teilwarteschlange ein, ohne die Anzahl an Teilwarteschlangen zu prfen.
+	 * @param event	Einzufgendes Ereignis
+	 */
+	private void insert(final Event event) {
+		final long slot=event.time/bucketWidth;
+		final int index=(int)(slot&bucketMask);
+		if (event.time<bucketStart) {
+			/* Ereignis liegt vor dem aktuellen Zeitfenster: Suche ab diesem Ereignis neu beginnen */
+			lastBucket=index;
+			bucketStart=slot*bucketWidth;
+		}
+		buckets[index].add(event);
+		size++;
+	}
+
+	/**
+	 * Entnimmt das nchste Ereignis, ohne die Anzahl an Teilwarteschlangen zu prfen.
+	 * @return	Nchstes Ereignis oder <code>null</code>, wenn keine Ereignisse vorhanden sind
+	 */
+	private Event poll() {
+		if (size==0) return null;
+
+		/* Teilwarteschlangen ab der aktuellen Position ein Jahr lang durchlaufen */
+		int index=lastBucket;
+		long start=bucketStart;
+		for (int i=0;i<=bucketMask;i++) {
+			final EventQueue bucket=buckets[index];
+			final Event event=bucket.peek();
+			if (event!=null && event.time<start+bucketWidth) {
+				bucket.next();
+				lastBucket=index;
+				bucketStart=start;
+				size--;
+				return event;
+			}
+			index=(index+1)&bucketMask;
+			start+=bucketWidth;
+		}
+
+		/* Kein Ereignis im nchsten Jahr: direkt nach dem frhesten Ereignis suchen */
+		Event min=null;
+		int minIndex=0;
+		for (int i=0;i<=bucketMask;i++) {
+			final Event event=buckets[i].peek();
+			if (event!=null && (min==null || event.time<min.time)) {min=event; minIndex=i;}
+		}
+		buckets[minIndex].next();
+		lastBucket=minIndex;
+		bucketStart=(min.time/bucketWidth)*bucketWidth;
+		size--;
+		return min;
+	}
+
+	/**
+	 * Bestimmt die Breite der Teilwarteschlangen aus den Abstnden der als nchstes anstehenden Ereignisse.
+	 * @param sample	Als nchstes anstehende Ereignisse in Ausfhrungsreihenfolge
+	 * @return	Neue Breite einer Teilwarteschlange in Millisekunden
+	 */
+	private long calcBucketWidth(final List<Event> sample) {
+		final int count=sample.size();
+		if (count<2) return bucketWidth;
+
+		final long total=sample.get(count-1).time-sample.get(0).time;
+		if (total<=0) return bucketWidth;
+		final double average=((double)total)/(count-1);
+
+		/* Ausreier (Abstnde grer als der doppelte Mittelwert) nicht bercksichtigen */
+		long sum=0;
+		int used=0;
+		for (int i=1;i<count;i++) {
+			final long delta=sample.get(i).time-sample.get(i-1).time;
+			if (delta<=2*average) {sum+=delta; used++;}
+		}
+		if (used==0 || sum==0) return Math.max(1,Math.round(3*average));
+		return Math.max(1,Math.round(3.0*sum/used));
+	}
+
+	/**
+	 * Verteilt alle Ereignisse auf eine neue Anzahl an Teilwarteschlangen mit neu bestimmter Breite.
+	 * @param bucketCount	Neue Anzahl an Teilwarteschlangen (muss eine Zweierpotenz sein)
+	 */
+	private void resize(final int bucketCount) {
+		final List<Event> events=new ArrayList<>(size);
+
+		/* Stichprobe der als nchstes anstehenden Ereignisse zur Bestimmung der Breite */
+		for (int i=0;i<WIDTH_SAMPLE_SIZE;i++) {
+			final Event event=poll();
+			if (event==null) break;
+			events.add(event);
+		}
+		final long width=calcBucketWidth(events);
+
+		/* Die Stichprobe steht am Anfang der Liste, so bleibt die Reihenfolge zeitgleicher Ereignisse erhalten */
+		for (EventQueue bucket: buckets) bucket.drainTo(events);
+
+		final long startTime=events.isEmpty()?bucketStart:events.get(0).time;
+		init(bucketCount,width);
+		bucketStart=(startTime/bucketWidth)*bucketWidth;
+		lastBucket=(int)((startTime/bucketWidth)&bucketMask);
+		for (Event event: events) insert(event);
+	}
+
+	@Override
+	protected final Event getNextEvent() {
+		final Event event=poll();
+		if (size<shrinkThreshold) resize(buckets.length/2);
+		return event;
+	}
+
+	@Override
+	protected final void removeDeletedEvents(final EventCache eventCache) {
+		for (EventQueue bucket: buckets) size-=bucket.removeDeleted(eventCache);
+	}
+
+	@Override
+	public final void addEvent(final Event event) {
+		event.isQueued=true;
+		insert(event);
+		if (size>growThreshold) resize(buckets.length*2);
+	}
+
+	@Override
+	public final void addInitialEvents(final List<? extends Event> events) {
+		if (events.isEmpty()) return;
+
+		/* Stabile Sortierung, damit zeitgleiche Ereignisse in der Reihenfolge der Liste ausgefhrt werden */
+		final List<Event> sorted=new ArrayList<>(events);
+		sorted.sort(null);
+
+		Event lastevent=null;
+		for (Event event: sorted) {
+			if (lastevent==null) addEvent(event); else lastevent.addNextEvent=event;
+			lastevent=event;
+		}
+	}
+
+	@Override
+	protected final int storedEventsCount() {return size;}
+
+	@Override
+	public final void resetTime() {
+		lastBucket=0;
+		bucketStart=0;
+	}
+
+	@Override
+	public final void deleteAllEvents() {
+		super.deleteAllEvents();
+		init(MIN_BUCKET_COUNT,INITIAL_BUCKET_WIDTH);
+	}
+
+	@Override
+	public List<Event> getAllEvents() {
+		final List<Event> result=new ArrayList<>();
+		for (EventQueue bucket: buckets) result.addAll(bucket.getAll());
+
+		result.removeIf(event->event.isDeleted);
+		result.sort(null);
+		return result;
+	}
+}
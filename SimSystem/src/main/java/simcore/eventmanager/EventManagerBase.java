@@ -27,9 +27,13 @@ import simcore.eventcache.EventCache;
  * In dieser Implementierung werden all die Methoden zur Verfgung gestellt,
  * die keinen direkten Zugriff auf die Ereignisliste selbst bentigen. In
  * abgeleiteten Klassen muss dann lediglich noch die Ereignisliste selbst
- * implementiert werden.
+ * implementiert werden.<br><br>
+ * Gelschte Ereignisse werden nicht sofort aus der Ereignisliste entfernt, sondern nur
+ * als gelscht markiert. Sie werden beim Entnehmen aus der Liste bersprungen und erst dann
+ * recycelt. bersteigt der Anteil der gelschten Ereignisse in der Liste einen Schwellenwert,
+ * so wird die Liste per {@link #removeDeletedEvents(EventCache)} bereinigt.
  * @author Alexander Herzog
- * @version 1.1
+ * @version 1.2
  * @see EventManager
  */
 public abstract class EventManagerBase implements EventManager {
@@ -40,6 +44,13 @@ public abstract class EventManagerBase implements EventManager {
 	/** Signalisiert, dass die Simulation unterbrochen werden soll und dass {@link #executeNextEvents(SimData, int, int)} nach dem Ende der Ausfhrung des aktuellen Ereignisses direkt zurckkehren soll. */
 	private boolean pauseSimulation;
 
+	/** Mindestanzahl an gelschten Ereignissen in der Ereignisliste, ab der eine Bereinigung erfolgen kann */
+	private static final int COMPACT_MIN_DELETED=1024;
+	/** Anteil der gelschten Ereignisse an allen Ereignissen in der Ereignisliste, ab dem die Liste bereinigt wird */
+	private static final double COMPACT_DELETED_PART=0.5;
+	/** Anzahl der als gelscht markierten Ereignisse (ohne verkettete Folgeereignisse), die sich noch in der Ereignisliste befinden */
+	private int deletedEventsCount;
+
 	/**
 	 * Konstruktor der Klasse <code>EventManagerBase</code>
 	 */
@@ -76,6 +87,14 @@ public abstract class EventManagerBase implements EventManager {
 			}
 			Event event=getNextEvent();
 			if (event==null) return false;
+			event.isQueued=false;
+
+			/* Gelschtes Ereignis ohne Folgeereignis: Simulationszeit nicht weiterschalten, nur recyceln */
+			if (isRemovable(event)) {
+				if (deletedEventsCount>0) deletedEventsCount--;
+				eventCache.put(event);
+				continue;
+			}
 
 			simData.currentTime=event.time;
 			if (!event.isDeleted) {
@@ -114,26 +133,59 @@ public abstract class EventManagerBase implements EventManager {
 	}
 
 	/**
-	 * Lscht das bergebene Ereignis aus der Ereignisliste, ohne es in den Cache aufzunehmen.<br><br>
-	 * Diese Methode wird von <code>deleteEvent</code> aufgerufen. Beim Aufruf von <code>deleteEvent</code>
-	 * wird das bergebene Ereignis zunchst per <code>onlyDeleteEvent</code> aus der Ereignisliste gelscht.
-	 * Wenn dieses erfolgreich verlaufen ist (Rckgabewert von <code>onlyDeleteEvent</code> ist <code>true</code>)
-	 * wird das Ereignis von <code>deleteEvent</code> in den Cache aufgenommen.
-	 * @param event	Ereignis, das aus der Ereignisliste gelscht werden soll
-	 * @return	Gibt <code>true</code> zurck, wenn das Ereignis gelscht werden konnte
+	 * Entfernt alle als gelscht markierten Ereignisse (die keine verketteten Folgeereignisse besitzen)
+	 * aus der Ereignisliste und bergibt sie an den Cache.<br><br>
+	 * Diese Methode wird von <code>deleteEvent</code> aufgerufen, wenn der Anteil der gelschten Ereignisse
+	 * in der Ereignisliste zu gro wird. Die Reihenfolge der verbleibenden Ereignisse darf sich dabei nicht ndern.
+	 * @param eventCache	Cache, in den die entfernten Ereignisse aufgenommen werden sollen
+	 * @see #deleteEvent(Event, SimData)
+	 */
+	protected abstract void removeDeletedEvents(final EventCache eventCache);
+
+	/**
+	 * Liefert die Anzahl an Ereignissen, die in der Ereignisliste gespeichert sind
+	 * (inklusive der als gelscht markierten, aber noch nicht entfernten Ereignisse).
+	 * @return	Anzahl an gespeicherten Ereignissen
+	 * @see #eventQueueLength()
+	 */
+	protected abstract int storedEventsCount();
+
+	/**
+	 * Prft, ob ein Ereignis bei der Bereinigung der Ereignisliste entfernt werden darf.
+	 * @param event	Zu prfendes Ereignis
+	 * @return	Liefert <code>true</code>, wenn das Ereignis gelscht ist und keine verketteten Folgeereignisse besitzt
+	 * @see #removeDeletedEvents(EventCache)
 	 */
-	protected abstract boolean onlyDeleteEvent(final Event event);
+	protected static final boolean isRemovable(final Event event) {
+		return event.isDeleted && event.addNextEvent==null;
+	}
 
 	@Override
 	public final void deleteEvent(final Event event, final SimData simData) {
-		if (event==null) return;
-		if (onlyDeleteEvent(event)) {
-			simData.recycleEvent(event);
-		} else {
-			event.isDeleted=true;
+		if (event==null || event.isDeleted) return;
+		event.isDeleted=true;
+
+		/* Nur Ereignisse, die sich in der Liste befinden und bei einer Bereinigung entfernt werden knnen, zhlen als Platzhalter. */
+		/* (Das gerade ausgefhrte Ereignis oder nur verkettet vorhandene Ereignisse befinden sich z.B. nicht in der Liste.) */
+		if (!event.isQueued || !isRemovable(event)) return;
+		deletedEventsCount++;
+
+		if (deletedEventsCount>=COMPACT_MIN_DELETED && deletedEventsCount>storedEventsCount()*COMPACT_DELETED_PART) {
+			removeDeletedEvents(simData.eventCache);
+			deletedEventsCount=0;
 		}
 	}
 
+	@Override
+	public final int eventQueueLength() {
+		return Math.max(0,storedEventsCount()-deletedEventsCount);
+	}
+
+	@Override
+	public void deleteAllEvents() {
+		deletedEventsCount=0;
+	}
+
 	@Override
 	public void addInitialEvents(final List<? extends Event> events) {
 		if (events.isEmpty()) return;
@@ -19,14 +19,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Teil-Ereigniswarteschlange<br>
- * Wird in {@link MultiArrayEventManager} und in {@link MultiArrayEventManagerWithHeapSort}
- * verwendet.
+ * Wird in {@link MultiArrayEventManager}, in {@link MultiArrayEventManagerWithHeapSort}
+ * und in {@link CalendarQueueEventManager} verwendet.
  * @author Alexander Herzog
  * @see MultiArrayEventManager
  * @see MultiArrayEventManagerWithHeapSort
+ * @see CalendarQueueEventManager
  */
 public final class EventQueue {
 	/** Initiale Lnge der Warteschlange */
@@ -41,7 +43,15 @@ public final class EventQueue {
 	 * Konstruktor der Klasse
 	 */
 	public EventQueue() {
-		list=new Event[INITIAL_SIZE];
+		this(INITIAL_SIZE);
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param initialSize	Initiale Lnge der Warteschlange (muss mindestens 1 sein)
+	 */
+	public EventQueue(final int initialSize) {
+		list=new Event[Math.max(1,initialSize)];
 	}
 
 	/**
@@ -101,6 +111,24 @@ public final class EventQueue {
 		used=0;
 	}
 
+	/**
+	 * Liefert das zeitlich als nchstes anstehende Ereignis,
+	 * ohne es aus der Warteschlange zu entfernen.
+	 * @return	Nchstes Ereignis oder <code>null</code>, wenn die Warteschlange leer ist
+	 */
+	public Event peek() {
+		if (used==0) return null;
+		return list[used-1];
+	}
+
+	/**
+	 * Liefert die Anzahl an Ereignissen in der Warteschlange.
+	 * @return	Anzahl an Ereignissen in der Warteschlange
+	 */
+	public int size() {
+		return used;
+	}
+
 	/**
 	 * Liefert das zeitlich als nchstes anstehende Ereignis
 	 * und entfernt es dabei aus der Warteschlange.
@@ -115,39 +143,23 @@ public final class EventQueue {
 	}
 
 	/**
-	 * Entfernt ein Ereignis aus der Warteschlange.
-	 * @param event	Zu entfernendes Ereignis
-	 * @return	Gibt an, ob das Ereignis entfernt werden konnte (bzw. ob es zuvor also in der Warteschlange enthalten war)
+	 * Entfernt alle als gelscht markierten Ereignisse (ohne verkettete Folgeereignisse) aus der Warteschlange.<br>
+	 * Die Reihenfolge der brigen Ereignisse bleibt dabei erhalten.
+	 * @param eventCache	Cache, in den die entfernten Ereignisse aufgenommen werden
+	 * @return	Anzahl an entfernten Ereignissen
 	 */
-	public boolean remove(final Event event) {
-		if (used==0) return false;
-
-		final long time=event.time;
-		int indexMin=0;
-		int indexMax=used-1;
-		while (indexMin<indexMax-1) {
-			int index=(indexMin+indexMax)/2;
-			final long t=list[index].time;
-			if (t<time) {indexMax=index; continue;}
-			if (t>time) {indexMin=index; continue;}
-			break;
+	public int removeDeleted(final EventCache eventCache) {
+		int newUsed=0;
+		for (int i=0;i<used;i++) {
+			final Event event=list[i];
+			if (event.isDeleted && event.addNextEvent==null) {eventCache.put(event); continue;}
+			list[newUsed]=event;
+			newUsed++;
 		}
-		for (int index=indexMin;index<=indexMax;index++) if (event==list[index]) return remove(index);
-
-		return false;
-	}
-
-	/**
-	 * Entfernt ein Ereignis aus der Warteschlange.
-	 * @param index	Index des zu entfernenden Ereignisses
-	 * @return	Gibt an, ob das Ereignis entfernt werden konnte (bzw. ob der Index einen zuvor gltigen Eintrag in der Warteschlange reprsentierte)
-	 */
-	public boolean remove(final int index) {
-		if (index<0 || index>=used) return false;
-		if (index==used-1) list[index]=null;
-		if (index<used-1) System.arraycopy(list,index+1,list,index,used-index-1);
-		used--;
-		return true;
+		for (int i=newUsed;i<used;i++) list[i]=null;
+		final int removed=used-newUsed;
+		used=newUsed;
+		return removed;
 	}
 
 	/**
@@ -160,4 +172,17 @@ public final class EventQueue {
 		for (Event event: list) if (event!=null) result.add(event);
 		return result;
 	}
+
+	/**
+	 * Hngt alle Ereignisse der Warteschlange in der Reihenfolge, in der sie
+	 * entnommen werden wrden, an eine Liste an und leert die Warteschlange dabei.
+	 * @param result	Liste, an die die Ereignisse angehngt werden sollen
+	 */
+	public void drainTo(final List<Event> result) {
+		for (int i=used-1;i>=0;i--) {
+			result.add(list[i]);
+			list[i]=null;
+		}
+		used=0;
+	}
 }
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.PriorityQueue;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe mehrerer
@@ -83,6 +84,7 @@ public class LongRunMultiPriorityQueueEventManager extends EventManagerBase {
 
 	@Override
 	public final void addEvent(Event event) {
+		event.isQueued=true;
 		if (event.time==lastTime && fastBufferNextAdd!=fastBufferStart) {
 			fastBuffer[fastBufferNextAdd]=event;
 			if (fastBufferStart==-1) fastBufferStart=fastBufferNextAdd;
@@ -95,28 +97,34 @@ public class LongRunMultiPriorityQueueEventManager extends EventManagerBase {
 	}
 
 	@Override
-	public final int eventQueueLength() {
+	protected final int storedEventsCount() {
 		int sum=0;
 		for (PriorityQueue<Event> queue: queues) sum+=queue.size();
 		return sum;
 	}
 
 	@Override
-	protected final boolean onlyDeleteEvent(Event event) {
-		if (event.time==lastTime && fastBufferStart!=-1) {
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		if (fastBufferStart!=-1) {
 			int index=fastBufferStart;
 			while (index!=fastBufferNextAdd) {
-				if (fastBuffer[index]==event) {fastBuffer[index]=null; return true;}
+				final Event event=fastBuffer[index];
+				if (event!=null && isRemovable(event)) {eventCache.put(event); fastBuffer[index]=null;}
 				index++;
 				if (index==fastBuffer.length) index=0;
 			}
 		}
 
-		return queues[(int)(event.time%queuesLength)].remove(event);
+		for (PriorityQueue<Event> queue: queues) queue.removeIf(event->{
+			if (!isRemovable(event)) return false;
+			eventCache.put(event);
+			return true;
+		});
 	}
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		for (PriorityQueue<Event> queue: queues) queue.clear();
 		fastBufferStart=-1;
 		fastBufferNextAdd=0;
@@ -138,6 +146,7 @@ public class LongRunMultiPriorityQueueEventManager extends EventManagerBase {
 			}
 		}
 
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
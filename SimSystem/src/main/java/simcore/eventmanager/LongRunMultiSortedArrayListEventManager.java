@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe mehrerer
@@ -82,6 +83,7 @@ public class LongRunMultiSortedArrayListEventManager extends EventManagerBase {
 
 	@Override
 	public final void addEvent(final Event event) {
+		event.isQueued=true;
 		final long time=event.time;
 		if (time==lastTime && fastBufferNextAdd!=fastBufferStart) {
 			fastBuffer[fastBufferNextAdd]=event;
@@ -99,33 +101,34 @@ public class LongRunMultiSortedArrayListEventManager extends EventManagerBase {
 	}
 
 	@Override
-	public final int eventQueueLength() {
+	protected final int storedEventsCount() {
 		int sum=0;
 		for (SortedEventArrayList queue: queues) sum+=queue.fastSize;
 		return sum;
 	}
 
 	@Override
-	protected final boolean onlyDeleteEvent(final Event event) {
-		final long time=event.time;
-		if (time==lastTime && fastBufferStart!=-1) {
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		if (fastBufferStart!=-1) {
 			int index=fastBufferStart;
 			while (index!=fastBufferNextAdd) {
-				if (fastBuffer[index]==event) {fastBuffer[index]=null; return true;}
+				final Event event=fastBuffer[index];
+				if (event!=null && isRemovable(event)) {eventCache.put(event); fastBuffer[index]=null;}
 				index++;
 				if (index==fastBuffer.length) index=0;
 			}
 		}
 
-		if (time>=0) {
-			return queues[(int)(time%queuesLength)].remove(event);
-		} else {
-			return queues[(int)((-time)%queuesLength)].remove(event);
-		}
+		for (SortedEventArrayList queue: queues) queue.removeIf(event->{
+			if (!isRemovable(event)) return false;
+			eventCache.put(event);
+			return true;
+		});
 	}
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		for (SortedEventArrayList queue: queues) queue.clear();
 		fastBufferStart=-1;
 		fastBufferNextAdd=0;
@@ -147,6 +150,7 @@ public class LongRunMultiSortedArrayListEventManager extends EventManagerBase {
 			}
 		}
 
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
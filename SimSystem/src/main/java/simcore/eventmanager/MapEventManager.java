@@ -16,12 +16,14 @@
 package simcore.eventmanager;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.collections4.map.HashedMap;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung eines HashMap-basierenden Test-Event-Manager.
@@ -46,6 +48,7 @@ public class MapEventManager extends EventManagerBase {
 
 	@Override
 	public void addEvent(Event event) {
+		event.isQueued=true;
 		List<Event> list=map.get(event.time);
 		if (list==null) map.put(event.time,list=new ArrayList<>());
 		list.add(event);
@@ -73,22 +76,29 @@ public class MapEventManager extends EventManagerBase {
 	}
 
 	@Override
-	protected boolean onlyDeleteEvent(Event event) {
-		final List<Event> list=map.get(event.time);
-		if (list==null) return false;
-		boolean b=list.remove(event);
-		if (b) size--;
-		if (list.isEmpty()) map.remove(event.time);
-		return b;
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		final Iterator<List<Event>> iterator=map.values().iterator();
+		while (iterator.hasNext()) {
+			final List<Event> list=iterator.next();
+			final int listSize=list.size();
+			list.removeIf(event->{
+				if (!isRemovable(event)) return false;
+				eventCache.put(event);
+				return true;
+			});
+			size-=listSize-list.size();
+			if (list.isEmpty()) iterator.remove();
+		}
 	}
 
 	@Override
-	public int eventQueueLength() {
+	protected int storedEventsCount() {
 		return size;
 	}
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		map.clear();
 		size=0;
 	}
@@ -97,6 +107,7 @@ public class MapEventManager extends EventManagerBase {
 	public List<Event> getAllEvents() {
 		final List<Event> result=new ArrayList<>();
 		for (List<Event> queue: map.values()) result.addAll(queue);
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe mehrerer Arrays.
@@ -81,17 +82,13 @@ public class MultiArrayEventManager extends EventManagerBase implements EventMan
 	}
 
 	@Override
-	protected final boolean onlyDeleteEvent(final Event event) {
-		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
-		EventQueue currentQueue=queue[index];
-		if (currentQueue==null) return false;
-		final boolean b=currentQueue.remove(event);
-		if (b) allQueueLength--;
-		return b;
+	protected final void removeDeletedEvents(final EventCache eventCache) {
+		for (EventQueue currentQueue: queue) if (currentQueue!=null) allQueueLength-=currentQueue.removeDeleted(eventCache);
 	}
 
 	@Override
 	public final void addEvent(final Event event) {
+		event.isQueued=true;
 		allQueueLength++;
 		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
 		if (queue[index]==null) {
@@ -107,7 +104,7 @@ public class MultiArrayEventManager extends EventManagerBase implements EventMan
 	}
 
 	@Override
-	public final int eventQueueLength() {return allQueueLength;}
+	protected final int storedEventsCount() {return allQueueLength;}
 
 	@Override
 	public final void resetTime() {lastList=0;}
@@ -172,6 +169,7 @@ public class MultiArrayEventManager extends EventManagerBase implements EventMan
 
 	@Override
 	public final void deleteAllEvents() {
+		super.deleteAllEvents();
 		allQueueLength=0;
 		for (int i=0;i<queue.length;i++) queue[i]=null;
 		for (int i=0;i<queueCountForInitialEvents;i++) initialEventsQueue[i]=null; /* Speicher sparen */
@@ -185,6 +183,7 @@ public class MultiArrayEventManager extends EventManagerBase implements EventMan
 		for (EventQueue eventQueue: queue) if (eventQueue!=null) result.addAll(eventQueue.getAll());
 		for (List<Event> queue: initialEventsQueue) if (queue!=null) result.addAll(queue);
 
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe mehrerer Arrays.
@@ -97,17 +98,13 @@ public final class MultiArrayEventManagerWithHeapSort extends EventManagerBase i
 	}
 
 	@Override
-	protected boolean onlyDeleteEvent(final Event event) {
-		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
-		EventQueue currentQueue=queue[index];
-		if (currentQueue==null) return false;
-		final boolean b=currentQueue.remove(event);
-		if (b) allQueueLength--;
-		return b;
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		for (EventQueue currentQueue: queue) if (currentQueue!=null) allQueueLength-=currentQueue.removeDeleted(eventCache);
 	}
 
 	@Override
 	public void addEvent(final Event event) {
+		event.isQueued=true;
 		allQueueLength++;
 		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
 		if (queue[index]==null) {
@@ -123,7 +120,7 @@ public final class MultiArrayEventManagerWithHeapSort extends EventManagerBase i
 	}
 
 	@Override
-	public int eventQueueLength() {return allQueueLength;}
+	protected int storedEventsCount() {return allQueueLength;}
 
 	@Override
 	public void resetTime() {lastList=0;}
@@ -205,6 +202,7 @@ public final class MultiArrayEventManagerWithHeapSort extends EventManagerBase i
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		allQueueLength=0;
 		for (int i=0;i<queue.length;i++) if (queue[i]!=null) {queue[i].clear();  queue[i]=null;}
 		for (int i=0;i<queueCountForInitialEvents;i++) initialEventsQueue[i]=null; /* Speicher sparen */
@@ -218,6 +216,7 @@ public final class MultiArrayEventManagerWithHeapSort extends EventManagerBase i
 		for (EventQueue eventQueue: queue) if (eventQueue!=null) result.addAll(eventQueue.getAll());
 		for (Event[] queue: initialEventsQueue) if (queue!=null) result.addAll(Arrays.asList(queue));
 
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
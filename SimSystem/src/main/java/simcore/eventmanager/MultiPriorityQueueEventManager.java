@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.PriorityQueue;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe mehrerer
@@ -74,22 +75,29 @@ public final class MultiPriorityQueueEventManager extends EventManagerBase imple
 	}
 
 	@Override
-	protected boolean onlyDeleteEvent(final Event event) {
-		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
-		final boolean b=queue[index].remove(event);
-		if (b) allQueueLength--;
-		return b;
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		for (PriorityQueue<Event> eventQueue: queue) {
+			final int size=eventQueue.size();
+			if (size==0) continue;
+			eventQueue.removeIf(event->{
+				if (!isRemovable(event)) return false;
+				eventCache.put(event);
+				return true;
+			});
+			allQueueLength-=size-eventQueue.size();
+		}
 	}
 
 	@Override
 	public void addEvent(final Event event) {
+		event.isQueued=true;
 		allQueueLength++;
 		final int index=(int)Math.min(queueCount-1,event.time/milliSecondsPerQueue);
 		queue[index].offer(event);
 	}
 
 	@Override
-	public int eventQueueLength() {return allQueueLength;}
+	protected int storedEventsCount() {return allQueueLength;}
 
 	@Override
 	public void resetTime() {lastList=0;}
@@ -125,6 +133,7 @@ public final class MultiPriorityQueueEventManager extends EventManagerBase imple
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		allQueueLength=0;
 		for (int i=0;i<queue.length;i++) queue[i].clear();
 
@@ -137,6 +146,7 @@ public final class MultiPriorityQueueEventManager extends EventManagerBase imple
 		for (PriorityQueue<Event> eventQueue: queue) result.addAll(eventQueue);
 		for (List<Event> queue: initialEventsQueue) result.addAll(queue);
 
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.PriorityQueue;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe der
@@ -39,23 +40,28 @@ public final class PriorityQueueEventManager extends EventManagerBase implements
 	protected Event getNextEvent() {return queue.poll();}
 
 	@Override
-	public void addEvent(Event event) {queue.add(event);}
+	public void addEvent(Event event) {event.isQueued=true; queue.add(event);}
 
 	@Override
-	public int eventQueueLength() {return queue.size();}
+	protected int storedEventsCount() {return queue.size();}
 
 	@Override
-	protected boolean onlyDeleteEvent(Event event) {
-		return queue.remove(event);
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		queue.removeIf(event->{
+			if (!isRemovable(event)) return false;
+			eventCache.put(event);
+			return true;
+		});
 	}
 
 	@Override
-	public void deleteAllEvents() {queue.clear();}
+	public void deleteAllEvents() {super.deleteAllEvents(); queue.clear();}
 
 	@Override
 	public List<Event> getAllEvents() {
 		final List<Event> result=new ArrayList<>();
 		result.addAll(queue);
+		result.removeIf(event->event.isDeleted);
 
 		result.sort(null);
 		return result;
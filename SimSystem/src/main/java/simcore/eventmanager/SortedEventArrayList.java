@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 import simcore.Event;
 
@@ -141,4 +142,12 @@ public class SortedEventArrayList extends ArrayList<Event> {
 		if (ok) fastSize--;
 		return ok;
 	}
+
+	@Override
+	public boolean removeIf(final Predicate<? super Event> filter) {
+		lastPeek=null;
+		final boolean ok=super.removeIf(filter);
+		fastSize=size();
+		return ok;
+	}
 }
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import simcore.Event;
+import simcore.eventcache.EventCache;
 
 /**
  * Implementierung des <code>EventManager</code>-Interface mit Hilfe von zwei
@@ -93,46 +94,36 @@ public final class TwoListsEventManager extends EventManagerBase implements Even
 
 	@Override
 	public void addEvent(Event event) {
+		event.isQueued=true;
 		if (list1.size()<list2.size()) addToList(list1,event); else addToList(list2,event);
 	}
 
 	@Override
-	public int eventQueueLength() {return list1.size()+list2.size();}
+	protected int storedEventsCount() {return list1.size()+list2.size();}
 
 	/**
-	 * Versucht ein Ereignis aus einer Teiliste zu lschen (ohne es auszufhren).
-	 * @param list	Liste aus der das Ereignis gelscht werden soll
-	 * @param event	Ereignis, das aus der Ereignisliste gelscht werden soll
-	 * @return	Gibt <code>true</code> zurck, wenn das Ereignis gelscht werden konnte
-	 * @see #onlyDeleteEvent(Event)
+	 * Entfernt alle als gelscht markierten Ereignisse aus einer Teilliste.
+	 * @param list	Liste aus der die gelschten Ereignisse entfernt werden sollen
+	 * @param eventCache	Cache, in den die entfernten Ereignisse aufgenommen werden
+	 * @see #removeDeletedEvents(EventCache)
 	 */
-	private boolean deleteFromList(List<Event> list, Event event) {
-		if (list.isEmpty()) return false;
-
-		int nr1=0;
-		int nr2=list.size()-1;
-		int i;
-
-		while (Math.abs(nr1-nr2)>1) {
-			i=(nr1+nr2)/2;
-			if (list.get(i).time<event.time) nr2=i; else nr1=i;
-		}
-
-		while ((list.get(nr1).time>=event.time) && (nr1>0)) nr1--;
-
-		for (i=nr1;i<=nr2;i++) if (list.get(i)==event) {list.remove(i); return true;}
-
-
-		return false;
+	private void removeDeletedFromList(final List<Event> list, final EventCache eventCache) {
+		list.removeIf(event->{
+			if (!isRemovable(event)) return false;
+			eventCache.put(event);
+			return true;
+		});
 	}
 
 	@Override
-	protected boolean onlyDeleteEvent(Event event) {
-		if (deleteFromList(list1,event)) return true; else return deleteFromList(list2,event);
+	protected void removeDeletedEvents(final EventCache eventCache) {
+		removeDeletedFromList(list1,eventCache);
+		removeDeletedFromList(list2,eventCache);
 	}
 
 	@Override
 	public void deleteAllEvents() {
+		super.deleteAllEvents();
 		list1.clear();
 		list2.clear();
 	}
@@ -142,6 +133,7 @@ public final class TwoListsEventManager extends EventManagerBase implements Even
 		final List<Event> result=new ArrayList<>(list1.size()+list2.size());
 		result.addAll(list1);
 		result.addAll(list2);
+		result.removeIf(event->event.isDeleted);
 		result.sort(null);
 		return result;
 	}
@@ -0,0 +1,302 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.logging;
+
+import java.awt.Color;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ermglicht das Logging einer Simulation, die mit mehreren Threads ausgefhrt wird.<br><br>
+ * Jeder Thread erhlt ber {@link #getShard(int)} einen eigenen Logger, der die Logeintrge
+ * ohne Synchronisation in eine temporre Binrdatei schreibt. Zu jedem Eintrag wird dabei
+ * der globale Simulationstag (siehe {@link SimLogging#startDay(long)}) gespeichert.
+ * Wenn alle Threads ihr Logging beendet haben, werden die temporren Dateien nach Tag und
+ * Zeitpunkt zusammengefhrt und an den eigentlichen Ziel-Logger bergeben. Die Ausgabe
+ * entspricht so der Reihenfolge einer Simulation mit nur einem Thread.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SimLogging
+ */
+public final class ShardedLogger {
+	/** Puffergre fr das Schreiben und Lesen der temporren Dateien */
+	private static final int BUFFER_SIZE=65536;
+
+	/** Logger, in den die zusammengefhrten Eintrge geschrieben werden */
+	private final SimLogging target;
+
+	/** Logger der einzelnen Threads */
+	private final Shard[] shards;
+
+	/** Anzahl der Threads, die ihr Logging bereits beendet haben */
+	private int shardsDone;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param target	Logger, in den die zusammengefhrten Eintrge geschrieben werden
+	 * @param threadCount	Anzahl an Simulationsthreads
+	 */
+	public ShardedLogger(final SimLogging target, final int threadCount) {
+		this.target=target;
+		shards=new Shard[Math.max(1,threadCount)];
+		shardsDone=0;
+	}
+
+	/**
+	 * Liefert den Logger fr einen Simulationsthread.
+	 * @param threadNr	Nummer des Threads (0 bis Anzahl Threads minus 1)
+	 * @return	Logger fr den Thread
+	 */
+	public synchronized SimLogging getShard(final int threadNr) {
+		if (shards[threadNr]==null) shards[threadNr]=new Shard();
+		return shards[threadNr];
+	}
+
+	/**
+	 * Wird von einem Thread-Logger aufgerufen, wenn dieser sein Logging beendet hat.<br>
+	 * Haben alle Threads ihr Logging beendet, so werden die Eintrge zusammengefhrt.
+	 * @return	Liefert <code>false</code>, wenn beim Zusammenfhren ein Fehler aufgetreten ist
+	 */
+	private boolean shardDone() {
+		synchronized(this) {
+			shardsDone++;
+			if (shardsDone<shards.length) return true;
+		}
+		return merge();
+	}
+
+	/**
+	 * Fhrt die Eintrge aller Threads nach Tag und Zeitpunkt zusammen, bergibt sie an den
+	 * Ziel-Logger und lscht die temporren Dateien.
+	 * @return	Liefert <code>true</code>, wenn alle Eintrge bertragen werden konnten
+	 */
+	private boolean merge() {
+		boolean ok=true;
+		final List<ShardReader> readers=new ArrayList<>(shards.length);
+		final PriorityQueue<ShardReader> queue=new PriorityQueue<>(shards.length);
+		try {
+			for (int i=0;i<shards.length;i++) if (shards[i]!=null && shards[i].file!=null) {
+				final ShardReader reader=new ShardReader(shards[i].file,i);
+				readers.add(reader);
+				if (reader.next()) queue.add(reader);
+			}
+			ShardReader reader;
+			while ((reader=queue.poll())!=null) {
+				if (target.ready()) target.log(reader.time,reader.color,reader.event,reader.id,reader.info);
+				if (reader.next()) queue.add(reader);
+			}
+		} catch (IOException e) {
+			ok=false;
+		} finally {
+			for (ShardReader reader: readers) reader.close();
+			for (Shard shard: shards) if (shard!=null && shard.file!=null) shard.file.delete();
+		}
+		if (!target.done()) ok=false;
+		return ok;
+	}
+
+	/**
+	 * Schreibt eine Zeichenkette (oder <code>null</code>) in eine temporre Datei.
+	 * @param output	Ausgabestrom
+	 * @param text	Zu schreibende Zeichenkette (kann <code>null</code> sein)
+	 * @throws IOException	Fehler beim Schreiben
+	 */
+	private static void writeString(final DataOutputStream output, final String text) throws IOException {
+		if (text==null) {output.writeInt(-1); return;}
+		final byte[] bytes=text.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Liest eine Zeichenkette (oder <code>null</code>) aus einer temporren Datei.
+	 * @param input	Eingabestrom
+	 * @return	Gelesene Zeichenkette (kann <code>null</code> sein)
+	 * @throws IOException	Fehler beim Lesen
+	 */
+	private static String readString(final DataInputStream input) throws IOException {
+		final int length=input.readInt();
+		if (length<0) return null;
+		final byte[] bytes=new byte[length];
+		input.readFully(bytes);
+		return new String(bytes,StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Logger fr einen einzelnen Simulationsthread, der alle Eintrge in eine temporre Datei schreibt
+	 */
+	private final class Shard implements SimLogging {
+		/** Temporre Datei (oder <code>null</code>, wenn diese nicht angelegt werden konnte) */
+		private File file;
+		/** Ausgabestrom in die temporre Datei (ist nach dem Beenden des Loggings <code>null</code>) */
+		private DataOutputStream output;
+		/** Globale Nummer des aktuell simulierten Tages */
+		private long day;
+		/** Optionaler nachgeschalteter weiterer Logger */
+		private SimLogging nextLogger;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public Shard() {
+			try {
+				file=File.createTempFile("SimLog",".tmp");
+				file.deleteOnExit();
+				output=new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file),BUFFER_SIZE));
+			} catch (IOException e) {
+				if (file!=null) file.delete();
+				file=null;
+				output=null;
+				/* Dieser Thread wird nie Eintrge liefern, das Zusammenfhren soll aber trotzdem erfolgen */
+				shardDone();
+			}
+		}
+
+		@Override
+		public boolean ready() {
+			return output!=null;
+		}
+
+		@Override
+		public void startDay(final long dayGlobal) {
+			day=dayGlobal;
+			if (nextLogger!=null) nextLogger.startDay(dayGlobal);
+		}
+
+		@Override
+		public boolean log(final long time, final Color color, final String event, final int id, final String info) {
+			if (output==null) return false;
+			try {
+				output.writeLong(day);
+				output.writeLong(time);
+				output.writeBoolean(color!=null);
+				if (color!=null) output.writeInt(color.getRGB());
+				writeString(output,event);
+				output.writeInt(id);
+				writeString(output,info);
+			} catch (IOException e) {return false;}
+			if (nextLogger!=null) nextLogger.log(time,color,event,id,info);
+			return true;
+		}
+
+		@Override
+		public boolean done() {
+			if (output==null) return false;
+			boolean ok=true;
+			try {output.close();} catch (IOException e) {ok=false;}
+			output=null;
+			if (nextLogger!=null) nextLogger.done();
+			if (!shardDone()) ok=false;
+			return ok;
+		}
+
+		@Override
+		public void setNextLogger(final SimLogging logger) {
+			nextLogger=logger;
+		}
+
+		@Override
+		public SimLogging getNextLogger() {
+			return nextLogger;
+		}
+	}
+
+	/**
+	 * Liest die Eintrge aus der temporren Datei eines Threads wieder ein
+	 */
+	private static final class ShardReader implements Comparable<ShardReader> {
+		/** Eingabestrom aus der temporren Datei (ist nach dem Ende der Datei <code>null</code>) */
+		private DataInputStream input;
+		/** Nummer des Threads (zur eindeutigen Sortierung) */
+		private final int nr;
+		/** Globale Nummer des Tages des aktuellen Eintrags */
+		private long day;
+		/** Zeitpunkt des aktuellen Eintrags */
+		private long time;
+		/** Farbe des aktuellen Eintrags */
+		private Color color;
+		/** Name des Ereignisses des aktuellen Eintrags */
+		private String event;
+		/** ID der Station des aktuellen Eintrags */
+		private int id;
+		/** Beschreibung des aktuellen Eintrags */
+		private String info;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param file	Temporre Datei
+		 * @param nr	Nummer des Threads
+		 * @throws IOException	Fehler beim ffnen der Datei
+		 */
+		public ShardReader(final File file, final int nr) throws IOException {
+			input=new DataInputStream(new BufferedInputStream(new FileInputStream(file),BUFFER_SIZE));
+			this.nr=nr;
+		}
+
+		/**
+		 * Liest den nchsten Eintrag ein.
+		 * @return	Liefert <code>false</code>, wenn das Ende der Datei erreicht wurde
+		 * @throws IOException	Fehler beim Lesen der Datei
+		 */
+		public boolean next() throws IOException {
+			if (input==null) return false;
+			try {
+				day=input.readLong();
+			} catch (EOFException e) {
+				close();
+				return false;
+			}
+			time=input.readLong();
+			if (input.readBoolean()) {
+				final int rgb=input.readInt();
+				color=(rgb==Color.BLACK.getRGB())?Color.BLACK:new Color(rgb,true);
+			} else {
+				color=null;
+			}
+			event=readString(input);
+			id=input.readInt();
+			info=readString(input);
+			return true;
+		}
+
+		/**
+		 * Schliet die Datei.
+		 */
+		public void close() {
+			if (input==null) return;
+			try {input.close();} catch (IOException e) {}
+			input=null;
+		}
+
+		@Override
+		public int compareTo(final ShardReader other) {
+			if (day!=other.day) return Long.compare(day,other.day);
+			if (time!=other.time) return Long.compare(time,other.time);
+			return Integer.compare(nr,other.nr);
+		}
+	}
+}
@@ -43,6 +43,14 @@ public interface SimLogging {
 	 */
 	boolean log(final long time, final Color color, final String event, final int id, final String info);
 
+	/**
+	 * Teilt dem Logger mit, dass die Simulation eines weiteren Tages beginnt.<br>
+	 * Logger, die die Eintrge mehrerer Threads zusammenfhren, knnen so die Tage unterscheiden.
+	 * @param dayGlobal	Globale Nummer des Tages (bezogen auf alle Threads, beginnend mit 0)
+	 * @see ShardedLogger
+	 */
+	default void startDay(final long dayGlobal) {}
+
 	/**
 	 * Beendet das Logging und schliet die Ausgabedatei
 	 * @return	Gibt an, ob die Ausgabedatei erfolgreich geschlossen werden konnte.
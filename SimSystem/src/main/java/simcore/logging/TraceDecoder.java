@@ -0,0 +1,394 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.logging;
+
+import java.awt.Color;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import simcore.SimData;
+
+/**
+ * Liest eine oder mehrere (z.B. pro Simulationsthread eine) per {@link TraceRecorder} erstellte
+ * Aufzeichnungsdateien und wandelt diese in die blichen Log-Formate (Text, CSV, HTML, RTF) um
+ * oder erstellt eine Zusammenfassung (Anzahl an Ereignissen pro Typ und pro Zeitintervall).<br>
+ * Die Datenstze mehrerer Dateien werden dabei nach Tag und Zeitpunkt zusammengefhrt.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see TraceRecorder
+ */
+public final class TraceDecoder {
+	/** Geladene Aufzeichnungsdateien */
+	private final List<TraceFile> files;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public TraceDecoder() {
+		files=new ArrayList<>();
+	}
+
+	/**
+	 * Ldt Aufzeichnungsdateien.
+	 * @param traceFiles	Zu ladende Aufzeichnungsdateien
+	 * @return	Liefert <code>true</code>, wenn alle Dateien geladen werden konnten
+	 */
+	public boolean load(final File... traceFiles) {
+		try {
+			for (File file: traceFiles) files.add(new TraceFile(file));
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Liefert die Anzahl an in den geladenen Dateien vorhandenen Datenstzen.
+	 * @return	Anzahl an Datenstzen
+	 */
+	public long getRecordCount() {
+		long sum=0;
+		for (TraceFile file: files) sum+=file.count;
+		return sum;
+	}
+
+	/**
+	 * bergibt alle Datenstze nach Tag und Zeitpunkt sortiert an einen Logger.
+	 * @param target	Logger, an den die Datenstze bergeben werden sollen (wird am Ende beendet)
+	 * @return	Liefert <code>true</code>, wenn alle Datenstze bergeben werden konnten
+	 */
+	public boolean decode(final SimLogging target) {
+		if (target==null || !target.ready()) return false;
+		boolean ok=true;
+		final PriorityQueue<TraceCursor> queue=new PriorityQueue<>(Math.max(1,files.size()));
+		try {
+			for (int i=0;i<files.size();i++) {
+				final TraceCursor cursor=new TraceCursor(files.get(i),i);
+				if (cursor.next()) queue.add(cursor);
+			}
+			long lastDay=-1;
+			TraceCursor cursor;
+			while ((cursor=queue.poll())!=null) {
+				if (cursor.day!=lastDay) {lastDay=cursor.day; target.startDay(lastDay);}
+				if (!target.log(cursor.time,cursor.getColor(),cursor.getName(),cursor.id,cursor.getInfo())) ok=false;
+				if (cursor.next()) queue.add(cursor);
+			}
+		} catch (IOException e) {
+			ok=false;
+		} finally {
+			for (TraceCursor cursor: queue) cursor.close();
+		}
+		if (!target.done()) ok=false;
+		return ok;
+	}
+
+	/**
+	 * Wandelt die Datenstze in eine Logdatei um.
+	 * @param outputFile	Ausgabedatei (das Format wird ber die Dateiendung bestimmt)
+	 * @return	Liefert <code>true</code>, wenn alle Datenstze gespeichert werden konnten
+	 * @see #getLogger(File)
+	 */
+	public boolean decode(final File outputFile) {
+		return decode(getLogger(outputFile));
+	}
+
+	/**
+	 * Liefert einen zu der Dateiendung passenden Logger.
+	 * @param outputFile	Ausgabedatei (".csv", ".html", ".htm", ".rtf" oder Text in allen anderen Fllen)
+	 * @return	Logger fr die Ausgabedatei
+	 */
+	public static SimLogging getLogger(final File outputFile) {
+		final String name=outputFile.getName().toLowerCase();
+		if (name.endsWith(".html") || name.endsWith(".htm")) return new HTMLLogger(outputFile,false,false,true,true,true,null);
+		if (name.endsWith(".rtf")) return new RTFLogger(outputFile,false,false,true,true,true,null);
+		return new PlainTextLogger(outputFile,false,name.endsWith(".csv"),true,name.endsWith(".csv"));
+	}
+
+	/**
+	 * Erstellt eine Zusammenfassung der Datenstze.<br>
+	 * Es werden die Anzahl an Ereignissen pro Typ sowie pro Zeitintervall (bezogen auf die Tageszeit
+	 * und zusammengefasst ber alle Tage) ausgegeben.
+	 * @param intervalMS	Lnge eines Intervalls in Millisekunden
+	 * @return	Zusammenfassung als tabulator-getrennter Text oder <code>null</code>, wenn die Datenstze nicht gelesen werden konnten
+	 */
+	public String getSummary(final long intervalMS) {
+		final long interval=Math.max(1,intervalMS);
+		final Map<String,Integer> typeIndex=new HashMap<>();
+		final List<String> typeNames=new ArrayList<>();
+		final List<Long> typeCounts=new ArrayList<>();
+		final TreeMap<Long,Map<Integer,Long>> intervals=new TreeMap<>();
+
+		for (int i=0;i<files.size();i++) try (TraceCursor cursor=new TraceCursor(files.get(i),i)) {
+			while (cursor.next()) {
+				final String name=cursor.getName();
+				Integer index=typeIndex.get(name);
+				if (index==null) {
+					index=typeNames.size();
+					typeIndex.put(name,index);
+					typeNames.add(name);
+					typeCounts.add(0L);
+				}
+				typeCounts.set(index,typeCounts.get(index)+1);
+				intervals.computeIfAbsent(cursor.time/interval,k->new HashMap<>()).merge(index,1L,Long::sum);
+			}
+		} catch (IOException e) {
+			return null;
+		}
+
+		final StringBuilder sb=new StringBuilder();
+		for (int i=0;i<typeNames.size();i++) sb.append(typeNames.get(i).replace('\n',' ')).append('\t').append(typeCounts.get(i)).append(System.lineSeparator());
+		sb.append(System.lineSeparator());
+
+		for (String name: typeNames) sb.append('\t').append(name.replace('\n',' '));
+		sb.append(System.lineSeparator());
+		for (Map.Entry<Long,Map<Integer,Long>> entry: intervals.entrySet()) {
+			sb.append(SimData.formatSimTime(entry.getKey()*interval));
+			for (int i=0;i<typeNames.size();i++) sb.append('\t').append(entry.getValue().getOrDefault(i,0L));
+			sb.append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Schreibt eine Zeichenkette in eine Aufzeichnungsdatei.
+	 * @param output	Ausgabestrom
+	 * @param text	Zu schreibende Zeichenkette
+	 * @throws IOException	Fehler beim Schreiben
+	 */
+	static void writeString(final DataOutputStream output, final String text) throws IOException {
+		final byte[] bytes=text.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Liest eine Zeichenkette aus einer Aufzeichnungsdatei.
+	 * @param input	Eingabestrom
+	 * @return	Gelesene Zeichenkette
+	 * @throws IOException	Fehler beim Lesen
+	 */
+	private static String readString(final DataInputStream input) throws IOException {
+		final byte[] bytes=new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes,StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Liest eine Liste von Zeichenketten aus einer Aufzeichnungsdatei.
+	 * @param input	Eingabestrom
+	 * @return	Gelesene Zeichenketten
+	 * @throws IOException	Fehler beim Lesen
+	 */
+	private static String[] readStrings(final DataInputStream input) throws IOException {
+		final String[] result=new String[input.readInt()];
+		for (int i=0;i<result.length;i++) result[i]=readString(input);
+		return result;
+	}
+
+	/**
+	 * Inhalt einer einzelnen Aufzeichnungsdatei
+	 */
+	private static final class TraceFile {
+		/** Aufzeichnungsdatei */
+		private final File file;
+		/** Anzahl an vorhandenen Datenstzen */
+		private final long count;
+		/** Bezeichner fr die erste Objekt-ID */
+		private final String objectLabel1;
+		/** Bezeichner fr die zweite Objekt-ID */
+		private final String objectLabel2;
+		/** Namen der Ereignistypen */
+		private final String[] typeNames;
+		/** Farben der Ereignistypen */
+		private final Color[] typeColors;
+		/** Beschreibungstexte */
+		private final String[] strings;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param file	Zu ladende Aufzeichnungsdatei
+		 * @throws IOException	Fehler beim Laden oder ungltiges Dateiformat
+		 */
+		public TraceFile(final File file) throws IOException {
+			this.file=file;
+			final long tableOffset;
+			try (RandomAccessFile randomAccessFile=new RandomAccessFile(file,"r")) {
+				final FileChannel channel=randomAccessFile.getChannel();
+				final ByteBuffer header=channel.map(FileChannel.MapMode.READ_ONLY,0,TraceRecorder.HEADER_SIZE);
+				if (header.getInt(0)!=TraceRecorder.MAGIC || header.getInt(4)!=TraceRecorder.VERSION) throw new IOException();
+				count=header.getLong(16);
+				tableOffset=header.getLong(24);
+				if (count<0 || tableOffset<TraceRecorder.HEADER_SIZE+count*TraceRecorder.RECORD_SIZE || tableOffset>channel.size()) throw new IOException();
+			}
+
+			try (FileInputStream stream=new FileInputStream(file)) {
+				if (stream.skip(tableOffset)!=tableOffset) throw new IOException();
+				final DataInputStream input=new DataInputStream(new BufferedInputStream(stream));
+				objectLabel1=readString(input);
+				objectLabel2=readString(input);
+				typeNames=readStrings(input);
+				typeColors=new Color[typeNames.length];
+				for (int i=0;i<typeColors.length;i++) typeColors[i]=new Color(input.readInt(),true);
+				strings=readStrings(input);
+			}
+		}
+
+		/**
+		 * Liefert einen Text aus der Tabelle der Beschreibungstexte.
+		 * @param index	Index des Textes
+		 * @return	Text oder <code>null</code>, wenn der Index ungltig ist
+		 */
+		private String getString(final int index) {
+			return (index>=0 && index<strings.length)?strings[index]:null;
+		}
+	}
+
+	/**
+	 * Durchluft die Datenstze einer Aufzeichnungsdatei in der Reihenfolge, in der sie aufgezeichnet wurden
+	 */
+	private static final class TraceCursor implements Comparable<TraceCursor>, AutoCloseable {
+		/** Aufzeichnungsdatei */
+		private final TraceFile file;
+		/** Nummer der Datei (zur eindeutigen Sortierung) */
+		private final int nr;
+		/** Eingabestrom, aus dem die Datenstze nacheinander gelesen werden (ist nach dem letzten Datensatz <code>null</code>) */
+		private DataInputStream input;
+		/** Laufende Nummer des nchsten zu lesenden Datensatzes */
+		private long next;
+		/** Zeitpunkt des aktuellen Datensatzes */
+		private long time;
+		/** Globale Nummer des Tages des aktuellen Datensatzes */
+		private int day;
+		/** Index des Ereignistyps des aktuellen Datensatzes */
+		private int type;
+		/** Erste Objekt-ID des aktuellen Datensatzes */
+		private int objectId1;
+		/** Zweite Objekt-ID des aktuellen Datensatzes */
+		private int objectId2;
+		/** Index des Beschreibungstextes des aktuellen Datensatzes */
+		private int info;
+		/** Station-ID des aktuellen Datensatzes */
+		private int id;
+		/** Index der Bezeichnung der ersten Zeitangabe des aktuellen Datensatzes */
+		private int label1;
+		/** Index der Bezeichnung der zweiten Zeitangabe des aktuellen Datensatzes */
+		private int label2;
+		/** Erste Zeitangabe des aktuellen Datensatzes */
+		private long value1;
+		/** Zweite Zeitangabe des aktuellen Datensatzes */
+		private long value2;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param file	Aufzeichnungsdatei
+		 * @param nr	Nummer der Datei
+		 * @throws IOException	Fehler beim ffnen der Datei
+		 */
+		public TraceCursor(final TraceFile file, final int nr) throws IOException {
+			this.file=file;
+			this.nr=nr;
+			next=0;
+			final FileInputStream stream=new FileInputStream(file.file);
+			input=new DataInputStream(new BufferedInputStream(stream,1<<16));
+			if (input.skip(TraceRecorder.HEADER_SIZE)!=TraceRecorder.HEADER_SIZE) {close(); throw new IOException();}
+		}
+
+		/**
+		 * Liest den nchsten Datensatz.
+		 * @return	Liefert <code>false</code>, wenn keine weiteren Datenstze vorhanden sind
+		 * @throws IOException	Fehler beim Lesen
+		 */
+		public boolean next() throws IOException {
+			if (input==null) return false;
+			if (next>=file.count) {close(); return false;}
+			time=input.readLong();
+			day=input.readInt();
+			type=input.readInt();
+			objectId1=input.readInt();
+			objectId2=input.readInt();
+			info=input.readInt();
+			id=input.readInt();
+			label1=input.readInt();
+			label2=input.readInt();
+			value1=input.readLong();
+			value2=input.readLong();
+			next++;
+			return true;
+		}
+
+		@Override
+		public void close() {
+			if (input==null) return;
+			try {input.close();} catch (IOException e) {}
+			input=null;
+		}
+
+		/**
+		 * Liefert den Namen des Ereignistyps des aktuellen Datensatzes.
+		 * @return	Name des Ereignistyps
+		 */
+		public String getName() {
+			return (type>=0 && type<file.typeNames.length)?file.typeNames[type]:"";
+		}
+
+		/**
+		 * Liefert die Farbe des Ereignistyps des aktuellen Datensatzes.
+		 * @return	Farbe des Ereignistyps
+		 */
+		public Color getColor() {
+			return (type>=0 && type<file.typeColors.length)?file.typeColors[type]:Color.BLACK;
+		}
+
+		/**
+		 * Erstellt den Beschreibungstext fr den aktuellen Datensatz.
+		 * @return	Beschreibungstext
+		 */
+		public String getInfo() {
+			final String infoText=file.getString(info);
+			final String labelText1=file.getString(label1);
+			final String labelText2=file.getString(label2);
+			if (objectId1<0 && objectId2<0 && labelText1==null && labelText2==null) return (infoText==null)?"":infoText;
+			final StringBuilder sb=new StringBuilder();
+			if (objectId1>=0) sb.append(file.objectLabel1).append(": ").append(Integer.toHexString(objectId1)).append('\n');
+			if (objectId2>=0) sb.append(file.objectLabel2).append(": ").append(Integer.toHexString(objectId2)).append('\n');
+			if (infoText!=null) sb.append(infoText);
+			if (labelText1!=null) sb.append(labelText1).append(": ").append(SimData.formatSimTime(value1)).append('\n');
+			if (labelText2!=null) sb.append(labelText2).append(": ").append(SimData.formatSimTime(value2)).append('\n');
+			return sb.toString();
+		}
+
+		@Override
+		public int compareTo(final TraceCursor other) {
+			if (day!=other.day) return Integer.compare(day,other.day);
+			if (time!=other.time) return Long.compare(time,other.time);
+			return Integer.compare(nr,other.nr);
+		}
+	}
+}
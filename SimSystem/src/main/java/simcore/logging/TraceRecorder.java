@@ -0,0 +1,332 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.logging;
+
+import java.awt.Color;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zeichnet die Ereignisse eines Simulationsthreads in Form von Binrdatenstzen fester Lnge
+ * in einer per Memory-Mapping eingebundenen Datei auf.<br><br>
+ * Im Gegensatz zu den Text-Loggern erfolgt whrend der Simulation keine Formatierung von Zeichenketten:
+ * Ereignisnamen und feste Beschreibungstexte werden nur einmal in Tabellen abgelegt, die Datenstze enthalten nur
+ * deren Indices sowie Zeitpunkt, Tag, zwei Objekt-IDs, eine Station-ID und bis zu zwei Zeitangaben (z.B. Warte-
+ * oder Bedienzeiten), die erst bei der Dekodierung formatiert werden. Die Datei wird abschnittsweise in den
+ * Speicher eingebunden; ist ein Abschnitt voll, so wird er auf die Platte geschrieben und der nchste Abschnitt
+ * eingebunden, d.h. es wird stets der vollstndige Simulationslauf aufgezeichnet.
+ * Die Tabellen werden beim Beenden des Loggings hinter dem letzten Abschnitt gespeichert.<br>
+ * Die Aufzeichnung kann ber {@link TraceDecoder} wieder in die blichen Log-Formate umgewandelt werden.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see TraceDecoder
+ */
+public final class TraceRecorder implements SimLogging {
+	/** Kennung am Anfang einer Aufzeichnungsdatei */
+	public static final int MAGIC=0x53545243;
+	/** Version des Dateiformats */
+	public static final int VERSION=2;
+	/** Gre des Dateikopfes in Bytes */
+	public static final int HEADER_SIZE=64;
+	/** Gre eines Datensatzes in Bytes */
+	public static final int RECORD_SIZE=56;
+	/** Standardmige Anzahl an Datenstzen pro eingebundenem Abschnitt */
+	public static final int DEFAULT_CAPACITY=1<<20;
+	/** Maximale Anzahl an Datenstzen pro eingebundenem Abschnitt (ein Abschnitt muss in einem Stck eingebunden werden knnen) */
+	public static final int MAX_CAPACITY=Integer.MAX_VALUE/RECORD_SIZE;
+
+	/** Aufzeichnungsdatei */
+	private final File file;
+	/** Anzahl an Datenstzen pro eingebundenem Abschnitt */
+	private final int capacity;
+	/** Geffnete Aufzeichnungsdatei (ist nach dem Beenden des Loggings <code>null</code>) */
+	private RandomAccessFile randomAccessFile;
+	/** Eingebundener Dateikopf */
+	private MappedByteBuffer header;
+	/** Eingebundener aktueller Abschnitt der Aufzeichnungsdatei */
+	private MappedByteBuffer buffer;
+	/** Laufende Nummer des ersten Datensatzes im aktuellen Abschnitt */
+	private long bufferStart;
+	/** Anzahl an bislang insgesamt aufgezeichneten Datenstzen */
+	private long written;
+	/** Globale Nummer des aktuell simulierten Tages */
+	private int day;
+
+	/** Zuordnung von Ereignisnamen zu ihren Indices in {@link #typeNames} */
+	private final Map<String,Integer> types;
+	/** Namen der Ereignistypen */
+	private final List<String> typeNames;
+	/** Farben der Ereignistypen */
+	private final List<Color> typeColors;
+	/** Zuordnung von festen Beschreibungstexten zu ihren Indices in {@link #stringList} */
+	private final Map<String,Integer> strings;
+	/** Beschreibungstexte */
+	private final List<String> stringList;
+	/** Bezeichner fr die erste Objekt-ID */
+	private String objectLabel1;
+	/** Bezeichner fr die zweite Objekt-ID */
+	private String objectLabel2;
+
+	/** Optionaler nachgeschalteter weiterer Logger */
+	private SimLogging nextLogger;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param file	Aufzeichnungsdatei (wird berschrieben)
+	 * @param capacity	Anzahl an Datenstzen pro eingebundenem Abschnitt
+	 */
+	public TraceRecorder(final File file, final int capacity) {
+		this.file=file;
+		this.capacity=Math.max(1,Math.min(MAX_CAPACITY,capacity));
+		types=new HashMap<>();
+		typeNames=new ArrayList<>();
+		typeColors=new ArrayList<>();
+		strings=new HashMap<>();
+		stringList=new ArrayList<>();
+		objectLabel1="";
+		objectLabel2="";
+		init();
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param file	Aufzeichnungsdatei (wird berschrieben)
+	 */
+	public TraceRecorder(final File file) {
+		this(file,DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Legt die Aufzeichnungsdatei an und bindet den Dateikopf und den ersten Abschnitt in den Speicher ein.
+	 */
+	private void init() {
+		if (file==null) return;
+		try {
+			randomAccessFile=new RandomAccessFile(file,"rw");
+			randomAccessFile.setLength(0);
+			header=randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE,0,HEADER_SIZE);
+			header.putInt(0,MAGIC);
+			header.putInt(4,VERSION);
+			header.putInt(8,capacity);
+			bufferStart=0;
+			buffer=mapSegment(bufferStart);
+		} catch (IOException e) {
+			if (randomAccessFile!=null) try {randomAccessFile.close();} catch (IOException e2) {}
+			randomAccessFile=null;
+			header=null;
+			buffer=null;
+		}
+	}
+
+	/**
+	 * Bindet einen Abschnitt der Aufzeichnungsdatei in den Speicher ein (die Datei wird dabei bei Bedarf vergrert).
+	 * @param start	Laufende Nummer des ersten Datensatzes in dem Abschnitt
+	 * @return	Eingebundener Abschnitt
+	 * @throws IOException	Fehler beim Einbinden
+	 */
+	private MappedByteBuffer mapSegment(final long start) throws IOException {
+		return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE,HEADER_SIZE+start*RECORD_SIZE,((long)capacity)*RECORD_SIZE);
+	}
+
+	/**
+	 * Schreibt den vollen aktuellen Abschnitt auf die Platte und bindet den nchsten Abschnitt ein.
+	 * @return	Liefert <code>true</code>, wenn der nchste Abschnitt eingebunden werden konnte
+	 */
+	private boolean nextSegment() {
+		buffer.force();
+		try {
+			buffer=mapSegment(bufferStart+capacity);
+			bufferStart+=capacity;
+			return true;
+		} catch (IOException e) {
+			buffer=null;
+			return false;
+		}
+	}
+
+	/**
+	 * Stellt die Bezeichner ein, die bei der Dekodierung den beiden Objekt-IDs vorangestellt werden.
+	 * @param label1	Bezeichner fr die erste Objekt-ID (z.B. "Kunde")
+	 * @param label2	Bezeichner fr die zweite Objekt-ID (z.B. "Agent")
+	 */
+	public void setObjectLabels(final String label1, final String label2) {
+		objectLabel1=(label1==null)?"":label1;
+		objectLabel2=(label2==null)?"":label2;
+	}
+
+	/**
+	 * Liefert den Index eines Ereignistyps und legt diesen bei Bedarf neu an.
+	 * @param name	Name des Ereignisses
+	 * @param color	Farbe, in der Ereignisse dieses Typs ausgegeben werden sollen (kann <code>null</code> sein)
+	 * @return	Index des Ereignistyps
+	 */
+	public int getType(final String name, final Color color) {
+		final String key=(name==null)?"":name;
+		final Integer index=types.get(key);
+		if (index!=null) return index;
+		final int newIndex=typeNames.size();
+		typeNames.add(key);
+		typeColors.add(color);
+		types.put(key,newIndex);
+		return newIndex;
+	}
+
+	/**
+	 * Liefert den Index eines Beschreibungstextes und legt diesen bei Bedarf neu an.<br>
+	 * Die Texte werden dauerhaft in einer Tabelle vorgehalten. Es drfen daher nur feste Texte
+	 * (z.B. Meldungsbezeichner) bergeben werden; vernderliche Zahlenwerte mssen ber
+	 * {@link #record(long, int, int, int, int, int, int, long, int, long)} als Zahlen gespeichert werden.
+	 * @param text	Beschreibungstext
+	 * @return	Index des Textes oder -1, wenn der Text leer ist
+	 */
+	public int getString(final String text) {
+		if (text==null || text.isEmpty()) return -1;
+		final Integer index=strings.get(text);
+		if (index!=null) return index;
+		final int newIndex=stringList.size();
+		stringList.add(text);
+		strings.put(text,newIndex);
+		return newIndex;
+	}
+
+	/**
+	 * Speichert einen Datensatz.
+	 * @param time	Zeitpunkt des Ereignisses
+	 * @param type	Index des Ereignistyps (siehe {@link #getType(String, Color)})
+	 * @param objectId1	Erste Objekt-ID (Werte kleiner als 0 fr "kein Objekt")
+	 * @param objectId2	Zweite Objekt-ID (Werte kleiner als 0 fr "kein Objekt")
+	 * @param info	Index des Beschreibungstextes (siehe {@link #getString(String)}, -1 fr "keine Beschreibung")
+	 * @param id	ID der Station, an der das Ereignis stattfand (Werte kleiner als 0 fr "keine Station")
+	 * @param label1	Index der Bezeichnung der ersten Zeitangabe (siehe {@link #getString(String)}, -1 fr "keine Zeitangabe")
+	 * @param value1	Erste Zeitangabe in Millisekunden
+	 * @param label2	Index der Bezeichnung der zweiten Zeitangabe (siehe {@link #getString(String)}, -1 fr "keine Zeitangabe")
+	 * @param value2	Zweite Zeitangabe in Millisekunden
+	 * @return	Gibt an, ob der Datensatz gespeichert werden konnte
+	 */
+	public boolean record(final long time, final int type, final int objectId1, final int objectId2, final int info, final int id, final int label1, final long value1, final int label2, final long value2) {
+		if (buffer==null) return false;
+		if (written-bufferStart>=capacity && !nextSegment()) return false;
+		final int position=(int)(written-bufferStart)*RECORD_SIZE;
+		buffer.putLong(position,time);
+		buffer.putInt(position+8,day);
+		buffer.putInt(position+12,type);
+		buffer.putInt(position+16,objectId1);
+		buffer.putInt(position+20,objectId2);
+		buffer.putInt(position+24,info);
+		buffer.putInt(position+28,id);
+		buffer.putInt(position+32,label1);
+		buffer.putInt(position+36,label2);
+		buffer.putLong(position+40,value1);
+		buffer.putLong(position+48,value2);
+		written++;
+		return true;
+	}
+
+	/**
+	 * Speichert einen Datensatz ohne Zeitangaben.
+	 * @param time	Zeitpunkt des Ereignisses
+	 * @param type	Index des Ereignistyps (siehe {@link #getType(String, Color)})
+	 * @param objectId1	Erste Objekt-ID (Werte kleiner als 0 fr "kein Objekt")
+	 * @param objectId2	Zweite Objekt-ID (Werte kleiner als 0 fr "kein Objekt")
+	 * @param info	Index des Beschreibungstextes (siehe {@link #getString(String)}, -1 fr "keine Beschreibung")
+	 * @param id	ID der Station, an der das Ereignis stattfand (Werte kleiner als 0 fr "keine Station")
+	 * @return	Gibt an, ob der Datensatz gespeichert werden konnte
+	 */
+	public boolean record(final long time, final int type, final int objectId1, final int objectId2, final int info, final int id) {
+		return record(time,type,objectId1,objectId2,info,id,-1,0,-1,0);
+	}
+
+	@Override
+	public boolean ready() {
+		return buffer!=null;
+	}
+
+	@Override
+	public void startDay(final long dayGlobal) {
+		day=(int)dayGlobal;
+		if (nextLogger!=null) nextLogger.startDay(dayGlobal);
+	}
+
+	@Override
+	public boolean log(final long time, final Color color, final String event, final int id, final String info) {
+		final boolean ok=record(time,getType(event,color),-1,-1,getString(info),id);
+		if (nextLogger!=null) nextLogger.log(time,color,event,id,info);
+		return ok;
+	}
+
+	/**
+	 * Schreibt eine Liste von Zeichenketten in die Aufzeichnungsdatei.
+	 * @param output	Ausgabestrom
+	 * @param list	Zu schreibende Zeichenketten
+	 * @throws IOException	Fehler beim Schreiben
+	 */
+	private static void writeStrings(final DataOutputStream output, final List<String> list) throws IOException {
+		output.writeInt(list.size());
+		for (String s: list) TraceDecoder.writeString(output,s);
+	}
+
+	@Override
+	public boolean done() {
+		if (nextLogger!=null) nextLogger.done();
+		if (header==null) return false;
+
+		boolean ok=(buffer!=null); /* buffer==null: Der nchste Abschnitt konnte nicht eingebunden werden, die bisherigen Datenstze bleiben aber erhalten. */
+		final long tableOffset=HEADER_SIZE+(bufferStart+capacity)*RECORD_SIZE;
+		if (buffer!=null) buffer.force();
+		buffer=null;
+		header.putLong(16,written);
+		header.putLong(24,tableOffset);
+		header.force();
+		header=null;
+
+		try {
+			final FileChannel channel=randomAccessFile.getChannel();
+			channel.position(tableOffset);
+			final DataOutputStream output=new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			TraceDecoder.writeString(output,objectLabel1);
+			TraceDecoder.writeString(output,objectLabel2);
+			writeStrings(output,typeNames);
+			for (Color color: typeColors) output.writeInt((color==null)?Color.BLACK.getRGB():color.getRGB());
+			writeStrings(output,stringList);
+			output.close();
+		} catch (IOException e) {
+			ok=false;
+		}
+		try {randomAccessFile.close();} catch (IOException e) {ok=false;}
+		randomAccessFile=null;
+		return ok;
+	}
+
+	@Override
+	public void setNextLogger(final SimLogging logger) {
+		nextLogger=logger;
+	}
+
+	@Override
+	public SimLogging getNextLogger() {
+		return nextLogger;
+	}
+}
@@ -19,6 +19,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -66,6 +68,76 @@ public abstract class StatisticsBase extends XMLData {
 			performanceIndicators.get(i).add(moreStatistics.performanceIndicators.get(i));
 	}
 
+	/**
+	 * Fasst mehrere Statistik-Objekte (z.B. die Teilstatistiken der einzelnen Simulations-Threads) zusammen.<br>
+	 * Die Objekte werden dabei paarweise in einem Baum (mit log(n) Ebenen) parallel per {@link #addData(StatisticsBase)}
+	 * zusammengefhrt. Die Reihenfolge bleibt dabei erhalten, d.h. das Ergebnis entspricht dem, das sich ergibt, wenn alle
+	 * weiteren Objekte der Reihe nach zu dem ersten Objekt hinzugefgt werden.
+	 * @param <T>	Klassentyp der Statistik-Objekte
+	 * @param statistics	Zusammenzufassende Statistik-Objekte (es drfen keine <code>null</code>-Eintrge enthalten sein)
+	 * @return	Erstes Objekt aus dem Array, welches nun die Daten aller Objekte enthlt (oder <code>null</code>, wenn das Array leer ist)
+	 */
+	public static <T extends StatisticsBase> T addDataParallel(final T[] statistics) {
+		if (statistics==null || statistics.length==0) return null;
+		if (statistics.length==2) {
+			statistics[0].addData(statistics[1]);
+		} else if (statistics.length>2) {
+			ForkJoinPool.commonPool().invoke(new AddDataTask(statistics,0,statistics.length));
+		}
+		return statistics[0];
+	}
+
+	/**
+	 * Fhrt die Statistik-Objekte eines Teilbereichs eines Arrays in dem ersten Objekt des Teilbereichs zusammen.
+	 * @see StatisticsBase#addDataParallel(StatisticsBase[])
+	 */
+	private static class AddDataTask extends RecursiveAction {
+		/**
+		 * Serialisierungs-ID der Klasse
+		 * @see java.io.Serializable
+		 */
+		private static final long serialVersionUID=-2409622342466364791L;
+
+		/**
+		 * Zusammenzufassende Statistik-Objekte
+		 */
+		private final StatisticsBase[] statistics;
+
+		/**
+		 * Erster Index des Teilbereichs (inklusive)
+		 */
+		private final int from;
+
+		/**
+		 * Letzter Index des Teilbereichs (exklusive)
+		 */
+		private final int to;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param statistics	Zusammenzufassende Statistik-Objekte
+		 * @param from	Erster Index des Teilbereichs (inklusive)
+		 * @param to	Letzter Index des Teilbereichs (exklusive)
+		 */
+		public AddDataTask(final StatisticsBase[] statistics, final int from, final int to) {
+			this.statistics=statistics;
+			this.from=from;
+			this.to=to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to-from<2) return;
+			if (to-from==2) {
+				statistics[from].addData(statistics[from+1]);
+				return;
+			}
+			final int middle=(from+to)/2;
+			invokeAll(new AddDataTask(statistics,from,middle),new AddDataTask(statistics,middle,to));
+			statistics[from].addData(statistics[middle]);
+		}
+	}
+
 	/**
 	 * Berechnet ganz am Ende aus den aufgezeichneten Daten die interessanten Kenngren.
 	 * Aufgezeichnet werden knnen z.B. Anzahl von Ereignis X, Summe der Werte von Ereignis X und quadrierter Summe der Werte von Ereignis X.
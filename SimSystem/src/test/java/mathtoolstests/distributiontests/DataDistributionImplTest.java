@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.lang.reflect.Field;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -687,4 +688,61 @@ class DataDistributionImplTest {
 		assertEquals(7.5,dist.random(new DummyRandomGenerator(0.25+0.75/2)));
 		assertEquals(10.0,dist.random(new DummyRandomGenerator(1)));
 	}
+
+	/**
+	 * Test: Erzeugung von Zufallszahlen ber den vorberechneten Zufallszahlengenerator
+	 * (muss bitgenau dieselben Werte wie die Binrsuche liefern)
+	 * @see DataDistributionImpl#prepareSampler()
+	 */
+	@Test
+	void testRandomSampler() {
+		final Random rnd=new Random(17);
+		final double[] largeData=new double[1440];
+		for (int i=0;i<largeData.length;i++) largeData[i]=(i%7==0)?0:rnd.nextDouble();
+
+		final double[][] testData=new double[][]{
+			new double[]{1,3},
+			exampleDataDouble1,
+			exampleDataDouble3,
+			new double[]{0,0,5,0,0},
+			new double[]{2},
+			new double[]{0,0,0},
+			largeData
+		};
+
+		for (double[] data: testData) {
+			final DataDistributionImpl dist=new DataDistributionImpl(86399,data);
+
+			final double[] p=new double[3*data.length+1000+2];
+			int count=0;
+			for (double c: dist.cumulativeDensity) {
+				p[count++]=c;
+				p[count++]=Math.nextDown(c);
+				p[count++]=Math.min(Math.nextUp(c),1);
+			}
+			for (int i=0;i<1000;i++) p[count++]=rnd.nextDouble();
+			p[count++]=0;
+			p[count++]=1;
+
+			final double[] expected=new double[p.length];
+			for (int i=0;i<p.length;i++) expected[i]=dist.random(new DummyRandomGenerator(p[i]));
+
+			assertNotNull(dist.prepareSampler());
+			assertSame(dist.prepareSampler(),dist.prepareSampler());
+			for (int i=0;i<p.length;i++) {
+				assertEquals(expected[i],dist.random(new DummyRandomGenerator(p[i])));
+				assertEquals(expected[i],dist.inverseCumulativeProbabilityWithOutThrowsAndChecks(p[i]));
+			}
+		}
+
+		/* Neuberechnen der Verteilungsfunktion verwirft den vorberechneten Generator */
+		final DataDistributionImpl dist=new DataDistributionImpl(10.0,new double[]{1,3});
+		dist.prepareSampler();
+		dist.densityData[0]=3;
+		dist.densityData[1]=1;
+		dist.updateCumulativeDensity();
+		assertEquals(5.0,dist.random(new DummyRandomGenerator(0.75)));
+
+		assertEquals(null,new DataDistributionImpl(10.0,0).prepareSampler());
+	}
 }
\ No newline at end of file
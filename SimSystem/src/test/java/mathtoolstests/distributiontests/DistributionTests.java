@@ -21,17 +21,25 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.BetaDistribution;
 import org.apache.commons.math3.distribution.CauchyDistribution;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.apache.commons.math3.distribution.FDistribution;
 import org.apache.commons.math3.distribution.GammaDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.distribution.WeibullDistribution;
 import org.apache.commons.math3.util.FastMath;
 import org.junit.jupiter.api.Test;
 
 import mathtools.distribution.ChiDistributionImpl;
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.DistributionWithRandom;
 import mathtools.distribution.ErlangDistributionImpl;
 import mathtools.distribution.ExtBetaDistributionImpl;
 import mathtools.distribution.FatigueLifeDistributionImpl;
@@ -52,6 +60,7 @@ import mathtools.distribution.RayleighDistributionImpl;
 import mathtools.distribution.TriangularDistributionImpl;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionTools;
+import mathtools.distribution.tools.SplittableRandomGenerator;
 
 /**
  * Prft die Funktionsweise der verschiedenen Wahrscheinlichkeitsverteilungen
@@ -1386,4 +1395,282 @@ class DistributionTests {
 		testDistributionTools(distribution);
 		testDistributionParameters(distribution,new double[] {1.0/3,2});
 	}
+
+	/**
+	 * Testet die reproduzierbaren, von der Thread-Zuordnung unabhngigen Zufallszahlenstrme
+	 * @see DistributionRandomNumber#setThreadStream(long, long)
+	 */
+	@Test
+	void testSeededStreams() {
+		final LogNormalDistributionImpl logNormal=new LogNormalDistributionImpl(50,20);
+		final double[][] values=new double[2][3];
+		try {
+			for (int run=0;run<2;run++) {
+				/* Strme in unterschiedlicher Reihenfolge abrufen */
+				for (int i=0;i<3;i++) {
+					final int stream=(run==0)?i:(2-i);
+					assertTrue(DistributionRandomNumber.setThreadStream(123,stream));
+					DistributionRandomNumber.nextDouble();
+					values[run][stream]=DistributionRandomNumber.random(logNormal);
+				}
+			}
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+		for (int i=0;i<3;i++) assertEquals(values[0][i],values[1][i]);
+		assertTrue(values[0][0]!=values[0][1]);
+		assertTrue(values[0][1]!=values[0][2]);
+	}
+
+	/**
+	 * Testet die bergabe eines Zufallszahlenstroms an einen anderen Thread
+	 * @see DistributionRandomNumber#detachThreadStream()
+	 * @see DistributionRandomNumber#attachThreadStream(SplittableRandom)
+	 */
+	@Test
+	void testStreamHandover() throws InterruptedException {
+		final double[] expected=new double[4];
+		try {
+			assertTrue(DistributionRandomNumber.setThreadStream(7,3));
+			for (int i=0;i<expected.length;i++) expected[i]=DistributionRandomNumber.nextDouble();
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+
+		/* Die ersten beiden Werte in einem anderen Thread ziehen, dann den Strom hier fortsetzen */
+		final double[] values=new double[expected.length];
+		final SplittableRandom[] stream=new java.util.SplittableRandom[1];
+		final Thread thread=new Thread(()->{
+			DistributionRandomNumber.setThreadStream(7,3);
+			values[0]=DistributionRandomNumber.nextDouble();
+			values[1]=DistributionRandomNumber.nextDouble();
+			stream[0]=DistributionRandomNumber.detachThreadStream();
+		});
+		thread.start();
+		thread.join();
+		assertNotNull(stream[0]);
+		try {
+			assertTrue(DistributionRandomNumber.attachThreadStream(stream[0]));
+			values[2]=DistributionRandomNumber.nextDouble();
+			values[3]=DistributionRandomNumber.nextDouble();
+			assertNotNull(DistributionRandomNumber.detachThreadStream());
+			assertNull(DistributionRandomNumber.detachThreadStream());
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+		for (int i=0;i<expected.length;i++) assertEquals(expected[i],values[i]);
+	}
+
+	/**
+	 * Testet die explizit bergebenen, voneinander unabhngigen Zufallszahlenstrme
+	 * @see SplittableRandomGenerator
+	 * @see DistributionRandomNumber#sampleNonNegative(DistributionWithRandom, org.apache.commons.math3.random.RandomGenerator)
+	 */
+	@Test
+	void testExplicitStreams() {
+		final LogNormalDistributionImpl logNormal=new LogNormalDistributionImpl(50,20);
+		final SplittableRandomGenerator stream1=new SplittableRandomGenerator(0);
+		final SplittableRandomGenerator stream2=new SplittableRandomGenerator(0);
+
+		/* Gleicher Strom liefert unabhngig von anderen Strmen dieselben Werte */
+		stream1.setStream(123,4);
+		final double[] expected=new double[5];
+		for (int i=0;i<expected.length;i++) expected[i]=DistributionRandomNumber.sampleNonNegative(logNormal,stream1);
+		stream1.setStream(123,4);
+		stream2.setStream(123,5);
+		for (int i=0;i<expected.length;i++) {
+			stream2.nextDouble();
+			assertEquals(expected[i],DistributionRandomNumber.sampleNonNegative(logNormal,stream1));
+		}
+
+		/* Unterschiedliche Strme liefern unterschiedliche Werte */
+		stream1.setStream(123,4);
+		stream2.setStream(123,5);
+		assertTrue(stream1.nextDouble()!=stream2.nextDouble());
+
+		/* Wertebereiche */
+		for (int i=0;i<1000;i++) {
+			final double d=stream1.nextDouble();
+			assertTrue(d>=0 && d<1);
+			final float f=stream1.nextFloat();
+			assertTrue(f>=0 && f<1);
+			final int n=stream1.nextInt(7);
+			assertTrue(n>=0 && n<7);
+		}
+	}
+
+	/**
+	 * Test: Antithetische Verwendung von Zufallszahlenstrmen
+	 */
+	@Test
+	void testAntitheticStreams() {
+		final SplittableRandomGenerator stream1=new SplittableRandomGenerator(0);
+		final SplittableRandomGenerator stream2=new SplittableRandomGenerator(0);
+
+		/* Expliziter Strom: 1-u statt u */
+		stream1.setStream(123,4,false);
+		stream2.setStream(123,4,true);
+		for (int i=0;i<1000;i++) {
+			final double u=stream1.nextDouble();
+			final double v=stream2.nextDouble();
+			assertTrue(v>=0 && v<1);
+			assertEquals(1-u,v,1E-15);
+			assertEquals(6-stream1.nextInt(7),stream2.nextInt(7));
+		}
+
+		/* Thread-lokaler Strom: 1-u statt u */
+		try {
+			DistributionRandomNumber.setThreadStream(123,4,false);
+			final double[] values=new double[100];
+			for (int i=0;i<values.length;i++) values[i]=DistributionRandomNumber.nextDouble();
+			DistributionRandomNumber.setThreadStream(123,4,true);
+			assertTrue(DistributionRandomNumber.isThreadStreamAntithetic());
+			for (int i=0;i<values.length;i++) assertEquals(1-values[i],DistributionRandomNumber.nextDouble(),1E-15);
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+		assertFalse(DistributionRandomNumber.isThreadStreamAntithetic());
+	}
+
+	/**
+	 * Bestimmt die Kolmogorov-Smirnov-Teststatistik einer aufsteigend sortierten Stichprobe.
+	 * @param distribution	Verteilung, gegen die getestet werden soll
+	 * @param sorted	Aufsteigend sortierte Stichprobe
+	 * @return	Maximaler Abstand zwischen empirischer und theoretischer Verteilungsfunktion
+	 */
+	private static double getKSStatistic(final AbstractRealDistribution distribution, final double[] sorted) {
+		double max=0;
+		for (int i=0;i<sorted.length;i++) {
+			final double p=distribution.cumulativeProbability(sorted[i]);
+			max=Math.max(max,Math.max(Math.abs((i+1.0)/sorted.length-p),Math.abs(p-((double)i)/sorted.length)));
+		}
+		return max;
+	}
+
+	/**
+	 * Testet die sortierte Erzeugung von Zufallszahlen gem einer empirischen Verteilung
+	 * und deren Gleichwertigkeit zur unabhngigen Erzeugung
+	 * @see DataDistributionImpl#randomSorted(org.apache.commons.math3.random.RandomGenerator, int)
+	 */
+	@Test
+	void testDataDistributionRandomSorted() {
+		final double[] density=new double[48];
+		for (int i=0;i<density.length;i++) density[i]=(i<12 || i==30)?0:(1+Math.sin(i/4.0));
+		final DataDistributionImpl dist=new DataDistributionImpl(86399,density);
+		dist.normalizeDensity();
+
+		final int count=20000;
+		/* Kritischer Wert des Kolmogorov-Smirnov-Tests zum Niveau 0,001 */
+		final double critical=1.95/Math.sqrt(count);
+
+		try {
+			assertTrue(DistributionRandomNumber.setThreadStream(17,1));
+			final double[] sorted=dist.randomSorted(DistributionRandomNumber.generator,count);
+			final double[] independent=new double[count];
+			for (int i=0;i<count;i++) independent[i]=dist.random(DistributionRandomNumber.generator);
+			Arrays.sort(independent);
+
+			assertEquals(count,sorted.length);
+			for (int i=0;i<count;i++) {
+				assertTrue(sorted[i]>=0 && sorted[i]<=86400);
+				if (i>0) assertTrue(sorted[i]>=sorted[i-1]);
+				/* Keine Werte in Intervallen ohne Dichte */
+				final int interval=(int)(sorted[i]/1800);
+				assertTrue(interval>=12 && interval!=30);
+			}
+			assertTrue(getKSStatistic(dist,sorted)<critical);
+			assertTrue(getKSStatistic(dist,independent)<critical);
+
+			/* Anzahl pro Intervall: Gleicher Erwartungswert wie bei unabhngiger Erzeugung */
+			final int[] countSorted=new int[48];
+			final int[] countIndependent=new int[48];
+			for (int i=0;i<count;i++) {countSorted[Math.min(47,(int)(sorted[i]/1800))]++; countIndependent[Math.min(47,(int)(independent[i]/1800))]++;}
+			for (int i=0;i<48;i++) {
+				final double expected=count*dist.densityData[i];
+				final double sd=Math.sqrt(expected*(1-dist.densityData[i]));
+				assertTrue(Math.abs(countSorted[i]-expected)<=5*sd+1);
+				assertTrue(Math.abs(countIndependent[i]-expected)<=5*sd+1);
+			}
+
+			/* Sonderflle */
+			assertEquals(0,dist.randomSorted(DistributionRandomNumber.generator,0).length);
+			assertEquals(1,dist.randomSorted(DistributionRandomNumber.generator,1).length);
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+	}
+
+	/**
+	 * Testet die vorberechneten Zufallszahlengeneratoren
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 * @see DistributionRandomNumber#sampleNonNegative(DistributionWithRandom)
+	 */
+	@Test
+	void testSamplers() {
+		assertNull(DistributionRandomNumber.getSampler(null));
+
+		/* Direkte Verfahren: Bitgenau dieselben Werte wie DistributionRandomNumber.random */
+		final AbstractRealDistribution[] direct=new AbstractRealDistribution[] {
+				new ExponentialDistribution(null,80),
+				new NormalDistribution(null,100,20),
+				new UniformRealDistribution(null,10,30),
+				new GammaDistribution(null,0.5,40),
+				new GammaDistribution(null,1,40),
+				new GammaDistribution(null,3,40),
+				new ErlangDistributionImpl(2,50),
+				new CauchyDistribution(null,5,2),
+				new WeibullDistribution(null,1.5,60),
+				new LogNormalDistributionImpl(90,30),
+				new DataDistributionImpl(86399,new double[]{1,0,3,2})
+		};
+		try {
+			for (AbstractRealDistribution distribution: direct) {
+				final DistributionWithRandom sampler=DistributionRandomNumber.getSampler(distribution);
+				assertNotNull(sampler);
+				final double[] expected=new double[1000];
+				DistributionRandomNumber.setThreadStream(5,1);
+				for (int i=0;i<expected.length;i++) expected[i]=DistributionRandomNumber.random(distribution);
+				DistributionRandomNumber.setThreadStream(5,1);
+				for (int i=0;i<expected.length;i++) assertEquals(expected[i],sampler.random(DistributionRandomNumber.generator));
+
+				DistributionRandomNumber.setThreadStream(5,2);
+				for (int i=0;i<expected.length;i++) expected[i]=DistributionRandomNumber.randomNonNegative(distribution);
+				DistributionRandomNumber.setThreadStream(5,2);
+				for (int i=0;i<expected.length;i++) assertEquals(expected[i],DistributionRandomNumber.sampleNonNegative(sampler));
+			}
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+
+		/* Tabellierte Umkehrfunktion: Fehler durch die Zellbreite beschrnkt, Verteilung bleibt erhalten */
+		final AbstractRealDistribution[] tabulated=new AbstractRealDistribution[] {
+				new ChiSquaredDistribution(null,5),
+				new FDistribution(null,5,10),
+				new ChiDistributionImpl(3),
+				new PertDistributionImpl(10,20,50),
+				new FatigueLifeDistributionImpl(0,20,0.5)
+		};
+		final int count=20000;
+		final double critical=1.95/Math.sqrt(count);
+		try {
+			for (AbstractRealDistribution distribution: tabulated) {
+				final DistributionWithRandom sampler=DistributionRandomNumber.getSampler(distribution);
+				assertNotNull(sampler);
+				final double maxError=(distribution.inverseCumulativeProbability(0.999)-distribution.inverseCumulativeProbability(0.001))/4096+1E-5;
+				for (int i=0;i<1000;i++) {
+					final double p=i/1000.0;
+					final double value=sampler.random(new DummyRandomGenerator(p));
+					assertTrue(Math.abs(value-distribution.inverseCumulativeProbability(p))<=maxError);
+				}
+
+				DistributionRandomNumber.setThreadStream(11,1);
+				final double[] values=new double[count];
+				for (int i=0;i<count;i++) values[i]=sampler.random(DistributionRandomNumber.generator);
+				Arrays.sort(values);
+				assertTrue(getKSStatistic(distribution,values)<critical);
+			}
+		} finally {
+			DistributionRandomNumber.clearThreadSeed();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.LogBucketHistogram;
+
+/**
+ * Prft die Funktionsweise von {@link LogBucketHistogram}
+ * @author Alexander Herzog
+ * @see LogBucketHistogram
+ */
+class LogBucketHistogramTest {
+	/**
+	 * Test: Erfassung im exakten Bereich und Umwandlung in eine empirische Verteilung
+	 */
+	@Test
+	void exactRange() {
+		final LogBucketHistogram histogram=new LogBucketHistogram();
+		for (int i=0;i<2048;i++) histogram.add(i,i%3);
+		histogram.add(-5);
+
+		assertEquals(1,histogram.getCount(0));
+		for (int i=1;i<2048;i++) assertEquals(i%3,histogram.getCount(i));
+
+		final DataDistributionImpl dist=histogram.toDataDistribution(1800,1800);
+		assertEquals(1800,dist.densityData.length);
+		assertEquals(1,dist.densityData[0]);
+		assertEquals(1798%3,dist.densityData[1798]);
+		assertEquals(histogram.getCount(),dist.getSum(),0.0001);
+	}
+
+	/**
+	 * Test: Relativer Fehler oberhalb des exakten Bereichs und Quantile
+	 */
+	@Test
+	void relativeError() {
+		final LogBucketHistogram histogram=new LogBucketHistogram();
+		for (long value=2048;value<100_000_000L;value=value*3/2+7) {
+			histogram.clear();
+			histogram.add(value);
+			assertEquals(1,histogram.getCount(value));
+			final double median=histogram.getMedian();
+			assertTrue(Math.abs(median-value)/value<1.0/1024,"value="+value+", median="+median);
+			assertTrue(histogram.getMax()>=value);
+		}
+
+		histogram.clear();
+		for (int i=1;i<=100;i++) histogram.add(i);
+		assertEquals(50,histogram.getQuantil(0.5));
+		assertEquals(90,histogram.getQuantil(0.9));
+		assertEquals(50.5,histogram.getMean(),0.0001);
+		assertEquals(100,histogram.getMax());
+	}
+
+	/**
+	 * Test: Zusammenfassen von Histogrammen
+	 */
+	@Test
+	void merge() {
+		final LogBucketHistogram histogram1=new LogBucketHistogram();
+		final LogBucketHistogram histogram2=new LogBucketHistogram();
+		final LogBucketHistogram histogram3=new LogBucketHistogram(5);
+		histogram1.add(3,2);
+		histogram2.add(3);
+		histogram2.add(1_000_000);
+		histogram3.add(7);
+
+		histogram1.addToThis(histogram2);
+		histogram1.addToThis(histogram3);
+		histogram1.addToThis(null);
+		assertEquals(5,histogram1.getCount());
+		assertEquals(3,histogram1.getCount(3));
+		assertEquals(1,histogram1.getCount(7));
+		assertEquals(1,histogram1.getCount(1_000_000));
+		assertEquals(2,histogram2.getCount());
+
+		final LogBucketHistogram clone=histogram1.clone();
+		histogram1.add(3);
+		assertEquals(3,clone.getCount(3));
+		assertEquals(5,clone.getCount());
+	}
+
+	/**
+	 * Test: Speichern und Laden als Zeichenkette
+	 */
+	@Test
+	void storeAndLoad() {
+		final LogBucketHistogram histogram=new LogBucketHistogram();
+		histogram.add(0,10);
+		histogram.add(17,2);
+		histogram.add(123_456_789);
+
+		final String s=histogram.storeToString();
+		final LogBucketHistogram loaded=LogBucketHistogram.createFromString(s);
+		assertNotNull(loaded);
+		assertEquals(s,loaded.storeToString());
+		assertEquals(13,loaded.getCount());
+		assertEquals(2,loaded.getCount(17));
+		assertEquals(1,loaded.getCount(123_456_789));
+
+		assertEquals(0,LogBucketHistogram.createFromString("").getCount());
+		assertNull(LogBucketHistogram.createFromString("1;2;3"));
+		assertNull(LogBucketHistogram.createFromString("1:x"));
+		assertNull(LogBucketHistogram.createFromString("-1:2"));
+
+		/* Alte Daten im Format von DataDistributionImpl */
+		final LogBucketHistogram old=LogBucketHistogram.createFromDensity(new double[] {3,0,2});
+		assertEquals(5,old.getCount());
+		assertEquals(2,old.getCount(2));
+	}
+}
@@ -28,6 +28,7 @@ import java.util.Objects;
 import org.junit.jupiter.api.Test;
 
 import parser.CalcSystem;
+import parser.CalcSystemCompiled;
 import parser.MathCalcError;
 import parser.coresymbols.CalcSymbolPreOperator;
 
@@ -404,4 +405,69 @@ class ParserTests {
 		assertTrue(calc.isConstValue());
 		assertEquals(8,calc.getConstValue());
 	}
+
+	/**
+	 * Vergleicht die Ergebnisse eines kompilierten Ausdrucks mit denen des Rechensystems.
+	 * @param text	Ausdruck
+	 * @param values	Zu prfende Werte der einzigen Variable "a"
+	 * @param tableSize	Anzahl an vorab zu berechnenden Werten im kompilierten Ausdruck
+	 * @see #compileTest()
+	 */
+	private void compileTest(final String text, final double[] values, final int tableSize) {
+		final CalcSystem calc=new CalcSystem(text,new String[]{"a"});
+		assertTrue(calc.parse()<0);
+		final CalcSystemCompiled compiled=calc.compile(tableSize);
+		assertEquals(calc.isConstValue(),compiled.isConstValue());
+		for (double value: values) {
+			Double expected;
+			try {
+				expected=calc.calc(new double[]{value});
+			} catch (MathCalcError e) {
+				expected=null;
+			}
+			if (expected==null) {
+				assertThrows(MathCalcError.class,()->compiled.calc(value));
+				assertThrows(MathCalcError.class,()->compiled.calc(new double[]{value}));
+			} else {
+				try {
+					assertEquals(Double.doubleToLongBits(expected),Double.doubleToLongBits(compiled.calc(value)));
+					assertEquals(Double.doubleToLongBits(expected),Double.doubleToLongBits(compiled.calc(new double[]{value})));
+				} catch (MathCalcError e) {
+					assertTrue(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test: Kompilierte Ausdrcke liefern dieselben Ergebnisse wie das Rechensystem
+	 * @see CalcSystem#compile(int)
+	 */
+	@Test
+	void compileTest() {
+		final double[] values=new double[]{-3,-0.0,0,1,2,2.5,7,19,20,100,1E10,Double.NaN};
+		for (int tableSize: new int[]{0,20}) {
+			compileTest("5",values,tableSize);
+			compileTest("a",values,tableSize);
+			compileTest("2*a+1",values,tableSize);
+			compileTest("max(5;a/2)+sqrt(16)",values,tableSize);
+			compileTest("1/a",values,tableSize);
+			compileTest("a^2-3*a!+(a%)",values,tableSize);
+			compileTest("sqrt(a-2)",values,tableSize);
+			compileTest("median(a;3;2*a)",values,tableSize);
+			compileTest("if(a-5;1;2;3)",values,tableSize);
+			compileTest("a/(2-2)",values,tableSize);
+		}
+
+		/* Zufallszahlen: Ergebnis kann nicht verglichen werden, muss aber berechenbar sein */
+		final CalcSystem calc=new CalcSystem("a+ExpDist(10)",new String[]{"a"});
+		assertTrue(calc.parse()<0);
+		final CalcSystemCompiled compiled=calc.compile(20);
+		assertTrue(!compiled.isConstValue());
+		try {
+			for (int i=0;i<100;i++) assertTrue(compiled.calc(i%10)>=i%10);
+		} catch (MathCalcError e) {
+			assertTrue(false);
+		}
+	}
 }
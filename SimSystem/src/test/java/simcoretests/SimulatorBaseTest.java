@@ -16,12 +16,15 @@
 package simcoretests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.Color;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -33,12 +36,16 @@ import org.junit.jupiter.api.Test;
 
 import simcore.Event;
 import simcore.SimData;
+import simcore.SimDayDispatcher;
 import simcore.eventcache.AssociativeEventCache;
 import simcore.eventcache.EventCache;
+import simcore.eventcache.EventTypes;
 import simcore.eventcache.HashMapEventCache;
 import simcore.eventcache.ListEventCache;
 import simcore.eventcache.ListEventCacheLocked;
 import simcore.eventcache.NoEventCache;
+import simcore.eventcache.TypeIndexedEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
 import simcore.eventmanager.EventManager;
 import simcore.eventmanager.LongRunMultiPriorityQueueEventManager;
 import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
@@ -51,6 +58,10 @@ import simcore.logging.CallbackLogger;
 import simcore.logging.HTMLLogger;
 import simcore.logging.PlainTextLogger;
 import simcore.logging.RTFLogger;
+import simcore.logging.ShardedLogger;
+import simcore.logging.SimLogging;
+import simcore.logging.TraceDecoder;
+import simcore.logging.TraceRecorder;
 import simcoretests.simcoreimpl.EventTestImpl;
 import simcoretests.simcoreimpl.SimulatorBaseTestImpl;
 
@@ -79,6 +90,7 @@ class SimulatorBaseTest {
 			new AssociativeEventCache(),
 			new HashMapEventCache(),
 			new NoEventCache(),
+			new TypeIndexedEventCache(),
 			null
 	};
 
@@ -94,6 +106,7 @@ class SimulatorBaseTest {
 	 */
 	@BeforeAll
 	private static void initEventManagersSuppliersList() {
+		managers.add(()->new CalendarQueueEventManager());
 		managers.add(()->new LongRunMultiPriorityQueueEventManager(4));
 		managers.add(()->new LongRunMultiSortedArrayListEventManager(4));
 		managers.add(()->new MapEventManager());
@@ -357,6 +370,99 @@ class SimulatorBaseTest {
 		}
 	}
 
+	/**
+	 * Test: Lschen von Ereignissen, die sich nicht in der Ereignisliste befinden (darf die Lnge der Liste nicht verndern)
+	 */
+	@Test
+	void testDeleteNotQueuedEvents() {
+		for (int coreCount=1;coreCount<=2;coreCount++) for (Supplier<EventManager> manager: managers) {
+			log.clear();
+			final int[] queueLength=new int[coreCount];
+			final SimulatorBaseTestImpl simulator=new SimulatorBaseTestImpl(coreCount,false,false,manager,()->new ListEventCache(),(data,nr)->{
+				final List<Event> list=new ArrayList<>();
+				list.add(new EventTestImpl(100,1,(nr==0)?logger:null,(data2,e)->{
+					data.eventManager.addEvent(new EventTestImpl(200,2,(nr==0)?logger:null));
+					/* Gerade ausgefhrtes und nie eingefgtes Ereignis lschen */
+					data.eventManager.deleteEvent(e,data);
+					data.eventManager.deleteEvent(new EventTestImpl(300,3,(nr==0)?logger:null),data);
+					queueLength[nr]=data.eventManager.eventQueueLength();
+					return null;
+				}));
+				return list;
+			});
+			assertEquals(coreCount,simulator.threadCount);
+			runSimulator(simulator);
+
+			assertEquals(2,log.size());
+			assertEquals("1 100",log.get(0));
+			assertEquals("2 200",log.get(1));
+			for (int i=0;i<coreCount;i++) assertEquals(1,queueLength[i]);
+
+			assertEquals(2*simulator.threadCount,simulator.getEventCount());
+			assertEquals(0,simulator.getEventQueueLength());
+		}
+	}
+
+	/**
+	 * Test: Lschen vieler Ereignisse (so dass die Ereignisliste aufgerumt wird)
+	 */
+	@Test
+	void testDeleteManyEvents() {
+		for (int coreCount=1;coreCount<=2;coreCount++) for (Supplier<EventManager> manager: managers) {
+			log.clear();
+			final SimulatorBaseTestImpl simulator=new SimulatorBaseTestImpl(coreCount,false,false,manager,()->new ListEventCache(),(data,nr)->{
+				final List<Event> list=new ArrayList<>();
+				list.add(new EventTestImpl(100,0,null,(data2,e)->{
+					final List<Event> added=new ArrayList<>();
+					for (int i=0;i<3000;i++) {
+						final EventTestImpl event=new EventTestImpl(1000+i,i,(nr==0)?logger:null);
+						data.eventManager.addEvent(event);
+						added.add(event);
+					}
+					for (int i=0;i<3000;i++) if (i%10!=0) data.eventManager.deleteEvent(added.get(i),data);
+					return null;
+				}));
+				return list;
+			});
+			assertEquals(coreCount,simulator.threadCount);
+			runSimulator(simulator);
+
+			assertEquals(300,log.size());
+			for (int i=0;i<300;i++) assertEquals((i*10)+" "+(1000+i*10),log.get(i));
+
+			assertEquals(301*simulator.threadCount,simulator.getEventCount());
+			assertEquals(0,simulator.getEventQueueLength());
+		}
+	}
+
+	/**
+	 * Test: Ereignisse, die sich ber viele Tage verteilen
+	 */
+	@Test
+	void testLongHorizonEvents() {
+		for (int coreCount=1;coreCount<=2;coreCount++) for (Supplier<EventManager> manager: managers) {
+			log.clear();
+			final SimulatorBaseTestImpl simulator=new SimulatorBaseTestImpl(coreCount,false,false,manager,()->new ListEventCache(),(data,nr)->{
+				final List<Event> list=new ArrayList<>();
+				list.add(new EventTestImpl(100,0,(nr==0)?logger:null,(data2,e)->{
+					/* 2000 Ereignisse in zuflliger Reihenfolge, stndlich ber mehr als 80 Tage verteilt */
+					for (int i=1;i<=2000;i++) data.eventManager.addEvent(new EventTestImpl(1000+((i*7919L)%2000)*3_600_000,i,(nr==0)?logger:null));
+					return null;
+				}));
+				return list;
+			});
+			assertEquals(coreCount,simulator.threadCount);
+			runSimulator(simulator);
+
+			assertEquals(2001,log.size());
+			assertEquals("0 100",log.get(0));
+			for (int i=1;i<=2000;i++) assertEquals(1000+(i-1)*3_600_000L,Long.parseLong(log.get(i).split(" ")[1]));
+
+			assertEquals(2001*simulator.threadCount,simulator.getEventCount());
+			assertEquals(0,simulator.getEventQueueLength());
+		}
+	}
+
 	/* Eventcache */
 
 	/**
@@ -569,6 +675,129 @@ class SimulatorBaseTest {
 		}
 	}
 
+	/**
+	 * Test: Zusammenfhren der Logeintrge mehrerer Threads
+	 * @see ShardedLogger
+	 */
+	@Test
+	void testShardedLogging() {
+		final List<String> merged=new ArrayList<>();
+		final ShardedLogger sharded=new ShardedLogger(new CallbackLogger(c->merged.add(c.info)),2);
+
+		final SimLogging shard0=sharded.getShard(0);
+		final SimLogging shard1=sharded.getShard(1);
+		assertTrue(shard0.ready());
+		assertTrue(shard1.ready());
+
+		shard0.startDay(0);
+		shard0.log(5,null,"Event",0,"a");
+		shard0.log(10,Color.RED,"Event",0,"b");
+		shard1.startDay(1);
+		shard1.log(0,null,"Event",1,"c");
+		shard0.startDay(2);
+		shard0.log(1,null,"Event",0,"e");
+		shard1.log(3,null,"Event",1,"d");
+
+		assertTrue(shard0.done());
+		assertTrue(merged.isEmpty()); /* Zusammenfhren erst, wenn alle Threads fertig sind */
+		assertTrue(shard1.done());
+
+		assertEquals(5,merged.size());
+		assertEquals("a",merged.get(0));
+		assertEquals("b",merged.get(1));
+		assertEquals("c",merged.get(2));
+		assertEquals("d",merged.get(3));
+		assertEquals("e",merged.get(4));
+	}
+
+	/**
+	 * Test: Abruf ber Typ-IDs und Begrenzung der Anzahl an Ereignissen pro Typ
+	 * @see TypeIndexedEventCache
+	 * @see EventTypes
+	 */
+	@Test
+	void testTypeIndexedEventCache() {
+		final int typeId=EventTypes.register(EventTestImpl.class,EventTestImpl::new);
+		assertEquals(typeId,EventTypes.register(EventTestImpl.class));
+		assertEquals(typeId,EventTypes.getTypeId(EventTestImpl.class));
+		assertEquals(EventTestImpl.class,EventTypes.getEventClass(typeId));
+
+		final TypeIndexedEventCache cache=new TypeIndexedEventCache();
+		cache.setMaxPoolSize(typeId,2);
+		final SimData simData=new SimData(new PriorityQueueEventManager(),cache,0,1);
+
+		assertNull(simData.getEventOrNull(EventTestImpl.class));
+		final Event event1=simData.getEvent(typeId);
+		assertTrue(event1 instanceof EventTestImpl);
+		assertEquals(typeId,event1.cacheTypeId);
+
+		/* Direkt angelegte Ereignisse erhalten ihre Typ-ID beim Recyceln */
+		final Event event2=new EventTestImpl();
+		final Event event3=new EventTestImpl();
+		simData.recycleEvent(event1);
+		simData.recycleEvent(event2);
+		simData.recycleEvent(event3); /* berschreitet die Grenze, wird verworfen */
+		assertEquals(typeId,event2.cacheTypeId);
+
+		assertEquals(event2,cache.getOrNull(typeId));
+		assertEquals(event1,simData.getEvent(typeId));
+		assertNull(cache.getOrNull(typeId));
+		assertNotSame(event3,simData.getEvent(typeId));
+	}
+
+	/**
+	 * Test: Binre Ereignisaufzeichnung und deren Dekodierung
+	 * @throws IOException	Fehler beim Anlegen der temporren Dateien
+	 * @see TraceRecorder
+	 * @see TraceDecoder
+	 */
+	@Test
+	void testTraceRecorder() throws IOException {
+		final File file1=File.createTempFile("SimTrace",".trace");
+		final File file2=File.createTempFile("SimTrace",".trace");
+		try {
+			/* Thread 1: Abschnitte mit Platz fr je 3 Datenstze, beim vierten Datensatz wird der nchste Abschnitt eingebunden */
+			final TraceRecorder recorder1=new TraceRecorder(file1,3);
+			assertTrue(recorder1.ready());
+			recorder1.setObjectLabels("Kunde","Agent");
+			recorder1.startDay(0);
+			recorder1.log(1,null,"Event",0,"a");
+			recorder1.log(5,null,"Event",0,"b");
+			recorder1.record(10,recorder1.getType("Match",Color.RED),0x1f,0x2e,-1,-1,recorder1.getString("Wartezeit"),2000,-1,0);
+			recorder1.startDay(2);
+			recorder1.log(1,null,"Event",0,"e");
+			assertTrue(recorder1.done());
+
+			/* Thread 2 */
+			final TraceRecorder recorder2=new TraceRecorder(file2);
+			recorder2.startDay(1);
+			recorder2.log(0,null,"Event",1,"c");
+			recorder2.log(3,null,"Event",1,"d");
+			assertTrue(recorder2.done());
+
+			final TraceDecoder decoder=new TraceDecoder();
+			assertTrue(decoder.load(file1,file2));
+			assertEquals(6,decoder.getRecordCount());
+
+			final List<String> decoded=new ArrayList<>();
+			assertTrue(decoder.decode(new CallbackLogger(c->decoded.add(c.event+" "+c.info.replace("\n","|")))));
+			assertEquals(6,decoded.size());
+			assertEquals("Event a",decoded.get(0));
+			assertEquals("Event b",decoded.get(1));
+			assertEquals("Match Kunde: 1f|Agent: 2e|Wartezeit: "+SimData.formatSimTime(2000)+"|",decoded.get(2));
+			assertEquals("Event c",decoded.get(3));
+			assertEquals("Event d",decoded.get(4));
+			assertEquals("Event e",decoded.get(5));
+
+			final String summary=decoder.getSummary(1000);
+			assertTrue(summary.startsWith("Event\t5"));
+			assertTrue(summary.contains("Match\t1"));
+		} finally {
+			file1.delete();
+			file2.delete();
+		}
+	}
+
 	/**
 	 * Test: Formatierung der Zeit fr die Logging-Ausgabe
 	 * @see SimData#formatSimTime(long)
@@ -606,4 +835,50 @@ class SimulatorBaseTest {
 		assertEquals("0",SimData.formatObjectID(null));
 		assertTrue(!SimData.formatObjectID(new Object()).isEmpty());
 	}
+
+	/**
+	 * Test: Dynamische Verteilung der Tage auf mehrere Threads
+	 * @see SimDayDispatcher
+	 */
+	@Test
+	void testDayDispatcher() throws InterruptedException {
+		final SimDayDispatcher empty=new SimDayDispatcher(0);
+		assertEquals(-1,empty.nextDay());
+		assertEquals(0,empty.getDispatchedDays());
+
+		final int days=1000;
+		final SimDayDispatcher dispatcher=new SimDayDispatcher(days);
+		assertEquals(days,dispatcher.getDays());
+		final int[] count=new int[days];
+		final Thread[] threads=new Thread[4];
+		for (int i=0;i<threads.length;i++) {
+			threads[i]=new Thread(()->{
+				long day;
+				while ((day=dispatcher.nextDay())>=0) synchronized(count) {count[(int)day]++;}
+			});
+			threads[i].start();
+		}
+		for (Thread thread: threads) thread.join();
+
+		for (int i=0;i<days;i++) assertEquals(1,count[i]);
+		assertEquals(-1,dispatcher.nextDay());
+		assertEquals(days,dispatcher.getDispatchedDays());
+
+		final SimDayDispatcher stopped=new SimDayDispatcher(days);
+		assertEquals(0,stopped.nextDay());
+		assertEquals(1,stopped.nextDay());
+		assertFalse(stopped.isStopped());
+		stopped.stop();
+		assertTrue(stopped.isStopped());
+		assertEquals(-1,stopped.nextDay());
+		assertEquals(2,stopped.getDispatchedDays());
+
+		final SimDayDispatcher pairs=new SimDayDispatcher(5,2);
+		assertEquals(2,pairs.getBlockSize());
+		assertEquals(0,pairs.nextDay());
+		assertEquals(2,pairs.nextDay());
+		assertEquals(4,pairs.nextDay());
+		assertEquals(-1,pairs.nextDay());
+		assertEquals(5,pairs.getDispatchedDays());
+	}
 }
\ No newline at end of file
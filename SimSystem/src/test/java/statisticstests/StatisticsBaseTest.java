@@ -0,0 +1,94 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statisticstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import statistics.StatisticsBase;
+import statistics.StatisticsCountPerformanceIndicator;
+
+/**
+ * Testet die Funktionsweise von {@link StatisticsBase}
+ * @author Alexander Herzog
+ * @see StatisticsBase
+ */
+class StatisticsBaseTest {
+	/**
+	 * Minimales Statistik-Objekt, welches zustzlich die Reihenfolge
+	 * erfasst, in der die Teilstatistiken zusammengefhrt wurden
+	 */
+	private static class TestStatistics extends StatisticsBase {
+		/** Zhler, der ber die Basisklasse zusammengefhrt wird */
+		private final StatisticsCountPerformanceIndicator counter;
+		/** Nummern der enthaltenen Teilstatistiken in der Reihenfolge des Zusammenfhrens */
+		private final List<Integer> parts;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param nr	Nummer der Teilstatistik
+		 */
+		public TestStatistics(final int nr) {
+			addPerformanceIndicator(counter=new StatisticsCountPerformanceIndicator(new String[]{"Counter"}));
+			counter.add(true);
+			parts=new ArrayList<>();
+			parts.add(nr);
+		}
+
+		@Override
+		public void addData(final StatisticsBase moreStatistics) {
+			super.addData(moreStatistics);
+			parts.addAll(((TestStatistics)moreStatistics).parts);
+		}
+
+		@Override
+		public String[] getRootNodeNames() {
+			return new String[]{"Test"};
+		}
+
+		@Override
+		protected void addDataToXML(final Document doc, final Element node, final boolean isPartOfOtherFile, final File file) {
+		}
+	}
+
+	/**
+	 * Test: Paralleles Zusammenfhren von Teilstatistiken
+	 */
+	@Test
+	void addDataParallelTest() {
+		assertNull(StatisticsBase.addDataParallel(new TestStatistics[0]));
+
+		for (int count: new int[]{1,2,3,7,64}) {
+			final TestStatistics[] statistics=new TestStatistics[count];
+			for (int i=0;i<count;i++) statistics[i]=new TestStatistics(i);
+
+			final TestStatistics result=StatisticsBase.addDataParallel(statistics);
+			assertSame(statistics[0],result);
+			assertEquals(count,result.counter.getAll());
+			assertEquals(count,result.parts.size());
+			for (int i=0;i<count;i++) assertEquals(i,result.parts.get(i).intValue());
+		}
+	}
+}
@@ -20,6 +20,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[15] = "Schichtplan pro Callcenter";
     t[18] = "Editor.GeneralData.GlobalParameters.ServiceLevel.InvalidTitle";
     t[19] = "Der angegebene Wert f\u00fcr den Service-Level %s ist ung\u00fcltig.";
+    t[30] = "CommandLine.Optimizer.CompareWarmStart";
+    t[31] = "StartwerteVergleichen";
     t[32] = "Optimizer.Error.TargetServiceLevel.Info";
     t[33] = "Der angegebene Ziel-Service-Level %s ist ung\u00fcltig.\nDer Wert muss eine nichtnegative Zahl (optional ein Prozentwert) sein.";
     t[36] = "MainMenu.File.NewModel";
@@ -62,6 +64,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[125] = "Mindestens sechs weitere Parameter: \n 1. Name des anzupassenden Callcenters \n 2. Eingabe-Modell-Datei \n 3. Tabellen-Eingabe-Datei \n 4. Ausgabe-Modell-Datei \n Die Eingabedateien m\u00fcssen existieren, die Ausgabedatei darf nicht existieren. \n Den ersten vier Parametern k\u00f6nnen beliebig viele Zweierp\u00e4rchen der folgenden \n Art folgen: \n - Erste Tabellenzelle (in der Form A1), ab der die zu ladenden Daten in einer Spalte stehen \n - Agentengruppennummer, deren Produktivit\u00e4tsverteilung geladen werden soll";
     t[128] = "XML.OptimizerSetup.Value";
     t[129] = "Optimierung-Wert";
+    t[132] = "CommandLine.Trace.ErrorSaving";
+    t[133] = "Die Ausgabedatei %s konnte nicht geschrieben werden.";
     t[134] = "SimStatistic.AverageWaitingAndCancelTimes";
     t[135] = "Mittlere Warte- und Abbruchzeiten";
     t[136] = "SimStatistic.ClientType.Short";
@@ -96,6 +100,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[217] = "Erfolgreiche Anrufe";
     t[218] = "FileType.LaTeX";
     t[219] = "LaTeX-Dateien";
+    t[232] = "CommandLine.Trace.Records";
+    t[233] = "Anzahl an Datens\u00e4tzen";
     t[234] = "MainMenu.Simulation.Optimizer.Tooltip";
     t[235] = "Startet den Optimierer";
     t[242] = "MainMenu.Simulation.OptimizerResults";
@@ -166,6 +172,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[403] = "In Ordnung";
     t[404] = "Statistic.Viewer.Toolbar.Search.DialogTitle";
     t[405] = "Text suchen";
+    t[414] = "CommandLine.Trace.Summary";
+    t[415] = "Zusammenfassung";
     t[418] = "Editor.GeneralData.ThresholdValues.warningYellow.InvalidValue.TimeNeeded";
     t[419] = "Der angegebene Wert f\u00fcr den gelben Schwellenwert ist ung\u00fcltig. Es muss ein Zeitwert angegeben werden.";
     t[420] = "CommandLine.Error.File.TableDoesNotExist";
@@ -242,12 +250,16 @@ public class Messages_de extends java.util.ResourceBundle {
     t[581] = "Textdateien";
     t[592] = "XML.Statistic.Agents.Costs.Wages.Error";
     t[593] = "Die Arbeitslohn-Kosten %s sind ung\u00fcltig.";
+    t[596] = "XML.Model.DaysOffset.Error";
+    t[597] = "Der Versatz der Tagesnummern muss eine nichtnegative Ganzzahl sein.";
     t[604] = "Statistic.Units.MilliSeconds";
     t[605] = "ms";
     t[616] = "MainMenu.Data.LoadAgents.Mnemonic";
     t[617] = "A";
     t[618] = "CommandLine.Help.Help.Long";
     t[619] = "Dieser Befehl erwartet einen oder keine weiteren Parameter.\nWird ein Befehl als zus\u00e4tzlicher Parameter angegeben, so wird die Hilfe zu diesem Befehl angezeigt.\nAnsonsten wird die Hilfe zu allen Befehlen angezeigt.";
+    t[622] = "CommandLine.Optimizer.WarmStart";
+    t[623] = "Optimierung ausgehend von den Erlang-C-Startwerten";
     t[626] = "Importer.Error.NeedNonNegativeNumbers";
     t[627] = "Die Werte der Verteilung m\u00fcssen nichtnegative Zahlen sein. Wert %d erf\u00fcllt dies nicht.";
     t[628] = "Editor.AgentsGroup.Shift.ShowPlan.Preview";
@@ -274,6 +286,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[679] = "Anzahl an Agenten-Halbstundenintervallen ist ung\u00fcltig";
     t[680] = "CommandLine.Error.WrongNumber.ButNumber";
     t[681] = "Es wurden jedoch %d weitere Parameter \u00fcbergeben.";
+    t[684] = "Editor.GeneralData.GlobalParameters.AntitheticVariates.Info";
+    t[685] = "Der zweite Tag jedes Tagespaares verwendet die Zufallszahlen des ersten Tages in der Form 1-u. Die Konfidenzintervalle werden auf Basis der Mittelwerte pro Tagespaar berechnet und sind dadurch meist schmaler.";
     t[694] = "Compare.DoubleFile.Info";
     t[695] = "F\u00fcr das %s. und das %s. zu vergleichende Modell wurde dieselbe Statistikdatei\n%s\nangegeben.";
     t[704] = "MainMenu.Simulation.RunAndSaveSetup.Mnemonic";
@@ -302,6 +316,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[765] = "Zeigt eine Hilfeseite zu Verwendung der Filterfunktionen an.";
     t[768] = "Optimizer.LoadSetup.ErrorTitle";
     t[769] = "Fehler beim Laden der Optimierer-Konfiguration";
+    t[770] = "Editor.GeneralData.GlobalParameters.SequentialStopping.Info";
+    t[771] = "Maximale halbe Breite der Konfidenzintervalle, Service-Level und Abbruchrate als Anteil; die Anzahl an Tagen ist die Obergrenze";
     t[774] = "CommandLine.Connected.Error.InputStatisticFile.DoesNotExist";
     t[775] = "Die angegeben Statistik-Eingabe-Datei existiert nicht.";
     t[776] = "NewModelWizard.Error.ForwardingProbability.Title";
@@ -314,6 +330,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[789] = "StatistikNutzer;Nutzer";
     t[794] = "Optimizer.AgentGroups.SelectedGroups";
     t[795] = "Von folgenden Agentengruppen";
+    t[802] = "Editor.Caller.FreshCalls.Sorted";
+    t[803] = "Sortiert erzeugen";
     t[810] = "SimStatistic.Productivity.DoubleGrossAgents";
     t[811] = "Brutto-Agentenanzahl unter Ber\u00fccksichtigung des Krankheitsaufschlags";
     t[814] = "Model.Check.SkillLevel.InvalidHoldingTimeAddOnExpression";
@@ -338,6 +356,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[855] = "Es ist ein Fehler beim Schlie\u00dfen des Datenstroms aufgetreten.";
     t[858] = "Compare.ReplaceKeptModel.NoInfo";
     t[859] = "Das bisher festgehaltene Modell wird weiterhin behalten. Es werden keine Ver\u00e4nderungen vorgenommen.";
+    t[862] = "Editor.GeneralData.GlobalParameters.FixedSeed.InvalidTitle";
+    t[863] = "Startwert f\u00fcr den Zufallszahlengenerator ist ung\u00fcltig";
     t[864] = "Optimizer.ControlVariable.Restrictions.Tooltip";
     t[865] = "Stellt ein, ob die Anzahl an Agenten pro Halbstundenintervall Einschr\u00e4nkungen unterliegen soll.";
     t[866] = "SimStatistic.OptimizeSetup.Change.Title";
@@ -436,6 +456,10 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1075] = "Erreichbarkeit";
     t[1082] = "SimStatistic.CanceledCallers";
     t[1083] = "Endg\u00fcltig abbrechende Kunden";
+    t[1086] = "XML.Model.StoppingRule.ConfidenceLevel";
+    t[1087] = "Konfidenzniveau";
+    t[1100] = "Editor.GeneralData.GlobalParameters.FixedSeed.Info";
+    t[1101] = "gleiche Ergebnisse unabh\u00e4ngig von der Anzahl an Threads";
     t[1104] = "XML.Model.ClientType.ClientsScore.Forwarding";
     t[1105] = "Weiterleitung";
     t[1108] = "Statistic.Filter.ErrorInLineNumber";
@@ -474,6 +498,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1179] = "Keine Eintr\u00e4ge ausw\u00e4hlen";
     t[1182] = "Statistic.FastAccess.SelectXMLTag.InsertMethod.AtCursorPosition";
     t[1183] = "An der Cursor-Position";
+    t[1188] = "XML.Model.StoppingRule";
+    t[1189] = "ModellAbbruchkriterium";
     t[1190] = "SimStatistic.OptimizeSetup.Property.ServiceLevel";
     t[1191] = "Maximierung des Service-Level";
     t[1194] = "SimStatistic.SystemData.MultiThreadInfo";
@@ -516,6 +542,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1303] = "Mit der Agentenanzahl wird die Verteilung der Erstanrufer nach modelliert.";
     t[1308] = "XML.Model.Warnings.Record.Status.Red";
     t[1309] = "Rot";
+    t[1314] = "XML.Statistic.Confidence.AntitheticPairs.Error";
+    t[1315] = "Die Anzahl an antithetischen Tagespaaren %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Ganzzahl sein.";
     t[1320] = "FileType.Save.Text";
     t[1321] = "Text speichern";
     t[1324] = "Optimizer.Resume";
@@ -802,8 +830,12 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2003] = "Basisverzeichnis";
     t[2004] = "XML.Statistic.Agents.Summary.CallsPerInterval";
     t[2005] = "AnrufeProIntervall";
+    t[2012] = "XML.Statistic.Confidence.ErrorPairSum";
+    t[2013] = "Die Summe der Tagespaar-Mittelwerte f\u00fcr die Konfidenzintervall-Berechnung %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Zahl sein.";
     t[2016] = "CommandLine.Dialog.Command";
     t[2017] = "Gew\u00e4hlter Befehl";
+    t[2018] = "XML.Model.DaysOffset";
+    t[2019] = "ModellTagesnummerVersatz";
     t[2020] = "Server.StatisticFolder.Button.Info";
     t[2021] = "W\u00e4hlt das Verzeichnis dessen Statistikdateien \u00fcber den Webserver angeboten werden sollen.";
     t[2022] = "FitDalog.PostProcessingTimeDistribution";
@@ -840,6 +872,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2087] = "Vor der Optimierung";
     t[2096] = "Optimizer.OptimizeProperty.Property.OnCallBasis";
     t[2097] = "auf Anrufbasis";
+    t[2098] = "Editor.GeneralData.GlobalParameters.SequentialStopping.NoTarget";
+    t[2099] = "Es muss f\u00fcr mindestens eine Kenngr\u00f6\u00dfe eine halbe Konfidenzintervallbreite gr\u00f6\u00dfer als 0 angegeben werden.";
     t[2100] = "Optimizer.StopOptimization";
     t[2101] = "Optimierung abbrechen";
     t[2102] = "CommandLine.Optimizer.InitializationError";
@@ -1008,6 +1042,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2525] = "Achtung: Die von Ihnen verwendete Java-Version ist veraltet und enth\u00e4lt m\u00f6glicherweise Sicherheitsl\u00fccken. Update:";
     t[2528] = "XML.Model.AgentsGroup.WorkingTimeEnd.Error";
     t[2529] = "Das angegebene Arbeitszeitende %s ist ung\u00fcltig.";
+    t[2540] = "CommandLine.Optimizer.ColdStart";
+    t[2541] = "Optimierung ausgehend von den Agentenanzahlen des Modells";
     t[2542] = "CommandLine.Interactive.Description.Long";
     t[2543] = "Dieser Befehl erwartet keine weiteren Parameter.";
     t[2544] = "LoadCalculator.TUCOnlineCalculator";
@@ -1258,6 +1294,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3175] = "Wartezeittoleranz";
     t[3182] = "CommandLine.Preplanning.Mode.InvalidMode";
     t[3183] = "Die gew\u00e4hlte Kenngr\u00f6\u00dfe, f\u00fcr die ein bestimmter Zielwert erreicht werden soll, ist ung\u00fcltig.";
+    t[3184] = "XML.Statistic.GeneralAttributes.PairSum";
+    t[3185] = "SummePaare";
     t[3190] = "XML.Connected.Error";
     t[3191] = "Das Basiselement hei\u00dft nicht \"%s\", d.h. es handelt sich nicht um eine Konfigurationsdatei f\u00fcr eine verkn\u00fcpfte Simulation.";
     t[3196] = "Editor.Caller.FreshCalls.Number";
@@ -1266,6 +1304,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3199] = "Dieser Wert gibt die maximal gew\u00fcnschte Auslastung an, nicht die wie viele Agenten eingesetzt werden sollen.";
     t[3206] = "Optimizer.OptimizeProperty.TargetMaxForLabel.Accessibility.Info";
     t[3207] = "Die Agentenanzahl wird <b>verringert</b> bis h\u00f6chstens diese Erreichbarkeit vorliegt.";
+    t[3214] = "XML.Model.ClientType.FreshCalls.Sorted";
+    t[3215] = "SortierteErzeugung";
     t[3216] = "Editor.Caller.Error.NoSkillForwarding.Title";
     t[3217] = "Keine Skill-Level-abh\u00e4ngigen Weiterleitungen m\u00f6glich";
     t[3218] = "InfoDialog.ShowVersionHistory.Tooltip";
@@ -1304,10 +1344,14 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3309] = "Bei Kundentyp \"%s\" ist die Weiterleitungswahrscheinlichkeit ung\u00fcltig.";
     t[3322] = "Model.GenerateDescription.Agents.NoAgents";
     t[3323] = "Es wurden keine Agenten definiert.";
+    t[3326] = "CommandLine.Trace.Description.Long";
+    t[3327] = "Dieser Befehl erwartet mindestens zwei weitere Parameter:\n1. Name der Ausgabedatei (das Format wird \u00fcber die Dateiendung bestimmt: txt, csv, html oder rtf)\n2. Name der Aufzeichnungsdatei (weitere Aufzeichnungsdateien, z.B. eine pro Simulationsthread, k\u00f6nnen angeh\u00e4ngt werden)\nAlternativ kann eine Zusammenfassung der Anzahl an Ereignissen pro Typ und pro Intervall erstellt werden:\n1. \"Zusammenfassung\"\n2. L\u00e4nge eines Intervalls in Sekunden\n3. Name der Ausgabedatei\n4. Name der Aufzeichnungsdatei (weitere Aufzeichnungsdateien k\u00f6nnen angeh\u00e4ngt werden)\nDie Aufzeichnungsdateien m\u00fcssen existieren. Die Ausgabedatei darf nicht existieren.";
     t[3338] = "XML.OptimizerSetup.GroupRestriction.Min.InvalidError";
     t[3339] = "Das \"Minimum\"-Attribut des \"Einschraenkung-Gruppe\"-Element %d \"%s\" ist ung\u00fcltig.";
     t[3340] = "XML.Model.Name";
     t[3341] = "ModellName;Name";
+    t[3346] = "XML.Model.CommonRandomNumbers";
+    t[3347] = "ModellSynchronisierteZufallszahlen";
     t[3350] = "Server.ThreadDone";
     t[3351] = "Beendet, Simulation abgeschlossen.";
     t[3358] = "Batch.Parameter.ErrorNoOutputFolder";
@@ -1324,6 +1368,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3377] = "Verteilungsdiagramm";
     t[3382] = "FitDialog.Title";
     t[3383] = "Verteilung anpassen";
+    t[3388] = "Optimizer.LoadError.WarmStartTime";
+    t[3389] = "Die angegebene Rechenzeit f\u00fcr die Erlang-C-Startwerte %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Ganzzahl sein.";
     t[3400] = "Editor.Callcenter.CopyAgentsGroup";
     t[3401] = "Agentengruppe kopieren";
     t[3402] = "SimStatistic.AgentsOnModelBasis.AgentsInSimulation";
@@ -1584,6 +1630,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3959] = "Inhalt aller Seiten \u00fcbernehmen";
     t[3970] = "Connected.Progress";
     t[3971] = "Simulation von Tag %d von %d verketteten Tagen.";
+    t[3972] = "Editor.GeneralData.GlobalParameters.CommonRandomNumbers.Info";
+    t[3973] = "Ank\u00fcnfte, Wartezeittoleranzen, Bedienzeiten und Folgeentscheidungen werden f\u00fcr jede Kundengruppe aus eigenen Zufallszahlenstr\u00f6men gezogen. Modellvarianten mit demselben Startwert lassen sich so mit geringerer Streuung vergleichen.";
     t[3976] = "Loader.Error.InputFileNoData.Title";
     t[3977] = "Eingabedatei enth\u00e4lt keine Datens\u00e4tze";
     t[3978] = "XML.Statistic.Agents.Summary.CallsPerInterval.Error";
@@ -1771,7 +1819,7 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4346] = "SimStatistic.Call.Total";
     t[4347] = "Anrufe gesamt";
     t[4348] = "CommandLine.RevenueOptimizer.Description.Long";
-    t[4349] = "Dieser Befehl erwartet genau zwei Parameter:\n1. Eingabe-Modell-Datei\n2. Ausgabe-Modell-Datei";
+    t[4349] = "Dieser Befehl erwartet zwei oder drei Parameter:\n1. Eingabe-Modell-Datei\n2. Ausgabe-Modell-Datei\n3. (optional) \"GemeinsameZufallszahlen\", um alle Modellvarianten mit denselben synchronisierten Zufallszahlenstr\u00f6men zu simulieren";
     t[4350] = "Rearranger.MoveCalls.GroupInfo";
     t[4351] = "Bitte w\u00e4hlen Sie die Kundengruppen, deren Erstanruferverteilungen angepasst werden sollen:";
     t[4352] = "Editor.AgentsGroup.Apply.Info";
@@ -2168,6 +2216,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5183] = "Agententyp-abh\u00e4ngige Weiterleitungsregeln sind aktiv";
     t[5184] = "SimStatistic.Forwarding.ChangeRate";
     t[5185] = "Rate f\u00fcr Wechsel zu Kundentyp \"%s\" bei einer Weiterleitung";
+    t[5186] = "CommandLine.Optimizer.ParallelCandidatesError";
+    t[5187] = "Die Anzahl an parallel zu simulierenden Kandidaten %s ist ung\u00fcltig. Der Wert muss eine positive Ganzzahl sein.";
     t[5192] = "SettingsDialog.Update.Failed";
     t[5193] = "Der Download von Version %s ist fehlgeschlagen.";
     t[5194] = "XML.Statistic.Agents.Summary.TechnicalFreeTimePerInterval";
@@ -2214,6 +2264,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5283] = "KundenServiceLevelAlle";
     t[5284] = "CommandLine.Language.Name";
     t[5285] = "Sprache";
+    t[5288] = "SimStatistic.ConfidenceIntervals.AntitheticPairs";
+    t[5289] = "Die Tage wurden paarweise mit antithetischen Zufallszahlen simuliert. Die Konfidenzintervalle wurden auf Basis der Mittelwerte von %d Tagespaaren berechnet.";
     t[5296] = "CommandLine.GeneratorSkillLevel.Name";
     t[5297] = "GeneratorSkills";
     t[5298] = "Model.Check.ClientType.ForwardCheck.NoChangeRates";
@@ -2334,6 +2386,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5507] = "Kundentyp\u00e4nderungen";
     t[5524] = "Loader.Info.Technion.Model.Description";
     t[5525] = "Die Daten werden verarbeitet und es wird ein Callcenter-Modell basierend auf diesen Daten erstellt.";
+    t[5526] = "Editor.GeneralData.GlobalParameters.SequentialStopping";
+    t[5527] = "Simulation beenden, sobald die Konfidenzintervalle schmal genug sind";
     t[5530] = "Optimizer.Results.NoData.Title";
     t[5531] = "Noch keine Daten";
     t[5538] = "CommandLine.Batch.Result.SuccessSingle";
@@ -2854,6 +2908,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[6781] = "Wartezeitabh\u00e4ngige Bedienzeitverl\u00e4ngerung";
     t[6784] = "Editor.Preplanning.Title";
     t[6785] = "Erlang-C basierte Agenten-Vorplanung";
+    t[6788] = "RevenueOptimizer.CommonRandomNumbers.Info";
+    t[6789] = "Alle Modellvarianten werden mit denselben synchronisierten Zufallszahlenstr\u00f6men simuliert, so dass Unterschiede im Ertrag auf die ver\u00e4nderten Agentenanzahlen und nicht auf zuf\u00e4llige Schwankungen zur\u00fcckzuf\u00fchren sind.";
     t[6790] = "XML.Statistic.Costs.WaitingTimes";
     t[6791] = "Wartezeiten";
     t[6794] = "Editor.Productivity.DiseaseRelatedSurcharge";
@@ -2862,6 +2918,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[6801] = "Zeigt das Modell und die Simulationsergebnisse eines einzlnen Tages der verkettenten Simulation an";
     t[6804] = "Simulation.Log.Service1Start.ServiceTime";
     t[6805] = "Bedienzeit";
+    t[6808] = "CommandLine.Trace.Name";
+    t[6809] = "Aufzeichnung";
     t[6812] = "Server.FilterFolder";
     t[6813] = "Filter-Skripte-Verzeichnis";
     t[6816] = "XML.Statistic.Clients.ServiceLevel.Calls.ErrorSum";
@@ -3028,6 +3086,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[7205] = "Standard-Skill";
     t[7208] = "Server.Error.ServerPartInvalid";
     t[7209] = "Der angegebene Anteil %s f\u00fcr den %s. Netzwerkserver ist ung\u00fcltig.\nDer Wert muss eine nichtnegative Zahl zwischen 0 und 1 (optional ein Prozentwert) sein.";
+    t[7212] = "XML.Model.StoppingRule.Error";
+    t[7213] = "Das Konfidenzniveau des Abbruchkriteriums muss echt zwischen 0 und 1 liegen und die Zielgenauigkeiten m\u00fcssen nichtnegative Zahlen sein.";
     t[7214] = "CommandLine.Optimizer.Name";
     t[7215] = "Optimierung";
     t[7216] = "CommandLine.Error.WrongNumber.If";
@@ -3108,6 +3168,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[7381] = "Inhalt";
     t[7382] = "LoadCalculator.Units.Hours";
     t[7383] = "Stunden";
+    t[7384] = "Editor.Caller.FreshCalls.Sorted.Tooltip";
+    t[7385] = "Erzeugt die Ankunftszeitpunkte \u00fcber multinomialverteilte Anzahlen pro Intervall bereits sortiert (statistisch gleichwertig, aber schneller bei sehr vielen Anrufern).";
     t[7390] = "LoadCalculator.Section.ServiceProcess";
     t[7391] = "Bedienprozess";
     t[7394] = "Connected.EditCarryOver.FixedCarryOver.Part";
@@ -3138,6 +3200,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[7457] = "Callcenter";
     t[7462] = "Optimizer.ControlVariable.Restrictions.Dialog.SetMin.ErrorTitle";
     t[7463] = "Ung\u00fcltiger Wert";
+    t[7466] = "CommandLine.Optimizer.WarmStartTime";
+    t[7467] = "Rechenzeit f\u00fcr die Erlang-C-Startwerte";
     t[7468] = "DistributionFitter.PValueChiSqr";
     t[7469] = "Chi\u00b2-Anpassungstest p-Wert";
     t[7472] = "MainMenu.Simulation.MoreOptimization";
@@ -3306,6 +3370,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[7863] = "Updates";
     t[7864] = "Example.Erlang.Callcenter";
     t[7865] = "Callcenter";
+    t[7874] = "Editor.GeneralData.GlobalParameters.SequentialStopping.CancelRate";
+    t[7875] = "Abbruchrate";
     t[7876] = "Statistic.Type.Graphics";
     t[7877] = "Grafik";
     t[7880] = "XML.Statistic.Confidence.ServiceLevel.CallsAll.ErrorSquaresSum";
@@ -3396,6 +3462,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[8123] = "Passwort f\u00fcr Server (optional)";
     t[8124] = "SimStatistic.ScoreValues.CallcenterAgentFreeTimeSinceLastCall";
     t[8125] = "Faktor f\u00fcr die Agentenscore zur Ber\u00fccksichtigung der freien Zeit seit dem letzten Anruf";
+    t[8126] = "SettingsDialog.SimulationCache";
+    t[8127] = "Ergebnisse von Simulationen mit festem Startwert bei identischen Modellen wiederverwenden";
     t[8128] = "Table.LoadErrorCellNotInTable";
     t[8129] = "Die Zelle %s liegt au\u00dferhalb der Tabelle. Die Tabelle geht nur bis %s.";
     t[8130] = "Importer.Error.ErrorLoadingTable.Info";
@@ -3496,6 +3564,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[8335] = "Speichert die Statistikergebnisse in einer Datei";
     t[8340] = "Loader.SimpleModel.NoAgentsData";
     t[8341] = "Es wurden keine Agentendaten angegeben.";
+    t[8342] = "XML.Statistic.Confidence.AntitheticPairs";
+    t[8343] = "AntithetischeTagespaare";
     t[8346] = "SimStatistic.SystemData.Version";
     t[8347] = "Verwendete Version des Simulators";
     t[8348] = "Connected.Day1Statistic.Select.Info";
@@ -3726,8 +3796,12 @@ public class Messages_de extends java.util.ResourceBundle {
     t[8901] = "%d weitere Schwellenwerte wurden eingehalten.";
     t[8912] = "SimStatistic.ConfidenceIntervals.FilterTitle";
     t[8913] = "Konfidenzintervalle filtern";
+    t[8922] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ServiceLevel";
+    t[8923] = "Service-Level";
     t[8924] = "Help.Close.Info";
     t[8925] = "Schlie\u00dft dieses Hilfefenster.";
+    t[8926] = "Editor.GeneralData.GlobalParameters.AntitheticVariates";
+    t[8927] = "Tage paarweise mit antithetischen Zufallszahlen simulieren";
     t[8934] = "XML.Model.Warnings.Record.Type.ServiceLevelOnSuccessfulCalls";
     t[8935] = "Service-Level auf Anrufbasis, bezogen auf erfolgreiche Anrufe";
     t[8936] = "LoadCalculator.Tab.ErlangB.Link.Info";
@@ -3772,6 +3846,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[9057] = "Grafiken";
     t[9058] = "SimStatistic.ServiceLevel.ForCallerType";
     t[9059] = "Service-Level f\u00fcr Kundentyp %s";
+    t[9060] = "CommandLine.RevenueOptimizer.CommonRandomNumbers";
+    t[9061] = "GemeinsameZufallszahlen";
     t[9064] = "SimStatistic.ScoreValues.ForwardedCall";
     t[9065] = "Scoreerh\u00f6hung bei Weiterleitungen";
     t[9066] = "Editor.Callcenter.Apply.Error.Info";
@@ -4048,10 +4124,14 @@ public class Messages_de extends java.util.ResourceBundle {
     t[9655] = "Es muss eine positive Anzahl an zu simulierenden Tagen angegeben werden. (Momentan sind %d eingestellt.)";
     t[9656] = "SimStatistic.Recommendations.LowWorkload";
     t[9657] = "Die Auslastung der Agenten ist mit %s sehr niedrig. Sie sollten pr\u00fcfen, ob Sie wirklich so viele Agenten wie momentan geplant ben\u00f6tigen.";
+    t[9660] = "XML.OptimizerSetup.CommonRandomNumbers";
+    t[9661] = "SynchronisierteZufallszahlen";
     t[9662] = "Distribution.Unknown";
     t[9663] = "unbekannte Verteilung";
     t[9664] = "SimStatistic.CostStructure.AgentMinute";
     t[9665] = "Kosten pro Gespr\u00e4chsminute mit einem Kunden des Typs \"%s\"";
+    t[9668] = "XML.Model.AntitheticVariates";
+    t[9669] = "ModellAntithetischeZufallszahlen";
     t[9680] = "SettingsDialog.Tabs.Statistics.OpenExcel";
     t[9681] = "Tabellen mit Excel \u00f6ffnen";
     t[9684] = "XML.Model.BaseElement";
@@ -4110,6 +4190,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[9813] = "Ausf\u00fchrung des Befehls \"%s\"";
     t[9820] = "Compare.ReplaceKeptModel.YesInfo";
     t[9821] = "Das bisher festgehaltene Modell wird verworfen und das aktuelle Modell wird f\u00fcr sp\u00e4tere Vergleiche festgehalten.";
+    t[9828] = "XML.OptimizerResults.WarmStartTime";
+    t[9829] = "StartwerteRechenzeit";
     t[9832] = "SettingsDialog.LoadModelOnProgramStart";
     t[9833] = "Modell beim Programmstart laden";
     t[9834] = "Statistic.Viewer.Toolbar.OpenText.Hint";
@@ -4266,6 +4348,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[10251] = "Dies ist ein einfaches Beispielmodell. Es besteht aus:\n- Drei Anrufergruppen (insgesamt 1.900 Erstanrufer pro Tag)\n  - Normale Kunden (Thema A)\n  - Normale Kunden (Thema B)\n  - Priorisierte Kunden (mit h\u00f6herer Basisscore und h\u00f6herer Score pro Wartesekunde)\n- Einem Callcenter mit drei Agentengruppen\n  - Single-Skill f\u00fcr Thema A (+Priorisierte Kunden)\n  - Single-Skill f\u00fcr Thema B (+Priorisierte Kunden)\n  - Multi-Skill f\u00fcr alle Themen (A+B+Priorisierte Kunden)\n- Mit der Agentenanzahl wird die Verteilung der Erstanrufer nach modelliert.\n- Weiterleitungen und Anrufwiederholungen nach Warteabbr\u00fcchen sind im Modell enthalten.";
     t[10252] = "LoadCalculator.Tab.WorkLoad";
     t[10253] = "Auslastung";
+    t[10266] = "XML.OptimizerSetup.ErlangCWarmStart";
+    t[10267] = "ErlangCStartwerte";
     t[10272] = "Editor.Productivity.DiseaseRelatedSurcharge.Off";
     t[10273] = "Kein Planungsaufschlag auf die Agentenanzahl zur Kompensation von Krankheit.";
     t[10274] = "Connected.LogRun";
@@ -4314,6 +4398,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[10369] = "Kein E-Mail-Programm festgelegt";
     t[10376] = "Editor.Caller.FreshCalls.Tools.LoadArrivalsOn60MinutesBasis";
     t[10377] = "Ankunftsverteilung aller Kunden (auf Stundenbasis) global laden";
+    t[10380] = "XML.Model.StoppingRule.ServiceLevel";
+    t[10381] = "ServiceLevel";
     t[10390] = "Dialog.Button.Back";
     t[10391] = "Zur\u00fcck";
     t[10392] = "SimStatistic.RetryChangeRate.Blocked";
@@ -4530,6 +4616,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[10937] = "Beim Laden des Modells aus der Datei\n%s\nist der folgende Fehler aufgetreten:";
     t[10938] = "SimStatistic.WorkLoadOverTheDay";
     t[10939] = "Auslastung \u00fcber den Tag";
+    t[10942] = "Editor.GeneralData.GlobalParameters.FixedSeed";
+    t[10943] = "Festen Startwert f\u00fcr den Zufallszahlengenerator verwenden";
     t[10950] = "Distribution.Pareto";
     t[10951] = "Pareto-Verteilung";
     t[10956] = "Distribution.Logistic";
@@ -4594,12 +4682,16 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11077] = "Es werden nur \u00c4nderungen an den folgenden Agentengruppen vorgenommen:";
     t[11080] = "OptimizeResults.Button.RunResults.Info";
     t[11081] = "Zeigt die Ergebnisse eines einzelnen Simulationslaufes innerhalb des Optimierungsprozesses an.";
+    t[11082] = "XML.Statistic.GeneralAttributes.PairSquaresSum";
+    t[11083] = "QuadrateSummePaare";
     t[11088] = "MainMenu.Help.Homepage.Mnemonic";
     t[11089] = "H";
     t[11090] = "CommandLine.Filter.Done.CouldNotSave";
     t[11091] = "Die Filterergebnisse konnten nicht in die Datei %s geschrieben werden.";
     t[11092] = "SetupFailure.Title";
     t[11093] = "Einstellungen speichern fehlgeschlagen";
+    t[11094] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel.InvalidInfo";
+    t[11095] = "Das Konfidenzniveau muss echt zwischen 0 und 1 liegen. Angegeben wurde \"%s\".";
     t[11098] = "SimStatistic.HoldingTimeAddOnAddOn.Custom";
     t[11099] = "Abweichende wartezeitabh\u00e4ngige Bedienzeitverl\u00e4ngerung im Intervall";
     t[11102] = "Optimizer.ControlVariable.Restrictions.Dialog.SetMax.ErrorTitle";
@@ -4690,6 +4782,10 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11293] = "Statistik speichern unter...";
     t[11296] = "Generator.TableFile";
     t[11297] = "Tabellendatei";
+    t[11298] = "Optimizer.ControlVariable.CommonRandomNumbers.Info";
+    t[11299] = "Verringert die Streuung beim Vergleich der Ergebnisse aufeinanderfolgender Optimierungsschritte.";
+    t[11300] = "CommandLine.Optimizer.RunTime";
+    t[11301] = "Laufzeit";
     t[11302] = "LoadCalculator.AverageNumberOfClientsInTheSystem";
     t[11303] = "Mittlere Anzahl an Kunden im System";
     t[11304] = "Simulation.Log.Call.CarriedOver";
@@ -4718,6 +4814,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11375] = "WiederholungenWahrscheinlichkeitNachBlockierungErsterVersuch;WahrscheinlichkeitNachBlockierungErsterVersuch";
     t[11376] = "Editor.AgentsGroup.Error.RateForClientType.Title";
     t[11377] = "Rate zur Gewichtung der Kundentypen ist ung\u00fcltig";
+    t[11386] = "CommandLine.Trace.ErrorLoading";
+    t[11387] = "Die Aufzeichnungsdateien konnten nicht geladen werden.";
     t[11388] = "MainMenu.File.NewModel.Tab.Templates";
     t[11389] = "Vorlagen";
     t[11390] = "Statistic.FastAccess.SelectXMLTag.ElementContent";
@@ -4790,6 +4888,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11581] = "Beim Start der verketteten Simulation von Tag %d ist folgender Fehler aufgetreten";
     t[11582] = "XML.Model.Warnings.Record.Type.ResidenceTimeCalls";
     t[11583] = "Verweilzeit auf Anrufbasis";
+    t[11594] = "Optimizer.ControlVariable.ErlangCWarmStart.Info";
+    t[11595] = "Die zu ver\u00e4ndernden Agentengruppen starten mit den Agentenanzahlen pro Intervall, die eine Erlang-C-Vorplanung f\u00fcr die Zielgr\u00f6\u00dfe liefert. Die Simulationsl\u00e4ufe m\u00fcssen diese Werte dann nur noch verfeinern.";
     t[11596] = "XML.Model.AgentsGroup.ByClients.Rate";
     t[11597] = "Rate";
     t[11604] = "XML.Connected.Day";
@@ -4876,6 +4976,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11807] = "Weiterleitungen (bei Bedienung durch einen Agenten des Skill-Levels \"%s\")";
     t[11808] = "XML.Model.Warnings.Record.Value.Error.NoValue";
     t[11809] = "Es wurde kein Wert angegeben.";
+    t[11810] = "Editor.GeneralData.GlobalParameters.SequentialStopping.HalfWidth.InvalidInfo";
+    t[11811] = "Die halbe Breite eines Konfidenzintervalls muss eine nichtnegative Zahl sein. Angegeben wurde \"%s\".";
     t[11812] = "CommandLine.Error.File.OutputAlreadyExist";
     t[11813] = "Die Ausgabedatei %s existiert bereits.";
     t[11818] = "XML.Statistic.Clients.WaitingTimeDistributionLong.Calls.Error";
@@ -4892,6 +4994,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[11845] = "Der Wert in dem Element \"%s\" muss eine nicht-negative Ganzzahl sein, ist aber \"%s\".";
     t[11850] = "XML.Statistic.Clients.CancelTime.Clients";
     t[11851] = "StatistikKundenAbbruchzeit;KundenAbbruchzeit";
+    t[11852] = "CommandLine.Trace.InvalidInterval";
+    t[11853] = "Die Intervalll\u00e4nge %s ist keine g\u00fcltige positive Zahl.";
     t[11854] = "XML.ErrorCreatingZipStream";
     t[11855] = "Es ist ein Fehler beim Anlegen einer Datei innerhalb des Zip-Datenstroms aufgetreten.";
     t[11862] = "XML.Statistic.Clients.Summary.Range";
@@ -5432,6 +5536,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[13247] = "Webseite im Standard-Browser \u00f6ffnen.";
     t[13250] = "Statistic.Viewer.Chart.InMinutes";
     t[13251] = "in Minuten";
+    t[13256] = "XML.Statistic.Confidence.ErrorPairSquaresSum";
+    t[13257] = "Die Summe der quadrierten Tagespaar-Mittelwerte f\u00fcr die Konfidenzintervall-Berechnung %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Zahl sein.";
     t[13258] = "XML.Statistic.Agents.Summary.FreeTime.Error";
     t[13259] = "Die Gesamtleerlaufzeit %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Ganzzahl sein.";
     t[13262] = "Batch.Simulation.Error.SaveStatistic";
@@ -5468,6 +5574,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[13333] = "Es ist ein Fehler beim Entschl\u00fcsseln der Datei\n%s\naufgetreten.";
     t[13350] = "Editor.ToolsPopup.Caller48";
     t[13351] = "Ankunftsverteilung (auf Halbstundenbasis) mehrerer Kundengruppen global laden";
+    t[13352] = "RevenueOptimizer.CommonRandomNumbers";
+    t[13353] = "Gemeinsame Zufallszahlen f\u00fcr alle Modellvarianten verwenden";
     t[13356] = "FitDalog.UseDistribution.InfoSingle";
     t[13357] = "Die Daten wurden an insgesamt einer Stelle in das Modell \u00fcbernommen.";
     t[13360] = "XML.Statistic.Agents.Summary.Calls";
@@ -5502,6 +5610,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[13425] = "Die Eingaben sind ung\u00fcltig.";
     t[13432] = "SimStatistic.AgentWorkingTimes";
     t[13433] = "Agenten-Arbeitszeiten";
+    t[13434] = "CommandLine.RevenueOptimizer.InvalidParameter";
+    t[13435] = "Der angegebene Parameter %s ist ung\u00fcltig.\nAls dritter Parameter ist nur \"GemeinsameZufallszahlen\" zul\u00e4ssig.";
     t[13436] = "Editor.SkillLevel.Delete.No.Info";
     t[13437] = "Der Skill-Level wird nicht gel\u00f6scht und ist weiterhin verf\u00fcgbar.";
     t[13452] = "Editor.CallerGroups.Show.Info";
@@ -5522,6 +5632,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[13489] = "Erreichbarkeit(Kundenbasis)";
     t[13490] = "Connected.EditCarryOver.NoCarryOver";
     t[13491] = "Kein \u00dcbertrag der Warteabbrecher";
+    t[13500] = "XML.Model.FixedSeed.Error";
+    t[13501] = "Der Startwert f\u00fcr den Zufallszahlengenerator muss eine Ganzzahl sein.";
     t[13510] = "Statistic.Viewer.Report.SaveHTMLImages.Files";
     t[13511] = "Als verkn\u00fcpfte Grafikdateien (mehrere Grafikdateien neben der html-Ausgabedatei)";
     t[13514] = "Optimizer.Error.Restrictions.FixedNumberOfAgents";
@@ -5626,6 +5738,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[13749] = "Speichern";
     t[13752] = "XML.Statistic.Clients.ClientsCallsCount.CanceledPerInterval.ErrorClients";
     t[13753] = "Die Anzahl an Kunden, die das Warten abgebrochen haben, pro Intervall ist ung\u00fcltig.";
+    t[13756] = "Editor.GeneralData.GlobalParameters.CommonRandomNumbers";
+    t[13757] = "Synchronisierte Zufallszahlenstr\u00f6me pro Kundengruppe verwenden";
     t[13758] = "SimStatistic.Productivity.ActiveAgents";
     t[13759] = "Aktive Agenten pro Halbstundenintervall";
     t[13762] = "Connected.SelectModel.State.NoModel";
@@ -5764,6 +5878,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[14069] = "Die Summe der Wartezeiten der Kunden %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Ganzzahl sein.";
     t[14076] = "Editor.GeneralData.ThresholdValues.ModeGroups.Average";
     t[14077] = "Im Durchschnitt \u00fcber alle Gruppen";
+    t[14082] = "Optimizer.ControlVariable.CommonRandomNumbers";
+    t[14083] = "Alle Modellvarianten mit synchronisierten Zufallszahlenstr\u00f6men simulieren";
     t[14086] = "XML.Model.SkillLevel.Interval";
     t[14087] = "Intervall";
     t[14088] = "Calibrate.Simulation.Abort";
@@ -5804,6 +5920,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[14165] = "Endzelle";
     t[14168] = "MainMenu.Data.LoadAgentsAddition.Mnemonic";
     t[14169] = "K";
+    t[14172] = "CommandLine.Benchmark.ConfidenceWaitingTime";
+    t[14173] = "Halbe Breite des 95%-Konfidenzintervalls der mittleren Wartezeit (in Sekunden)";
     t[14176] = "Editor.SkillLevel.Error.NameInUse.Info";
     t[14177] = "Der gew\u00e4hlte Name \"%s\" ist bereits f\u00fcr ein anderes Skill-Level vergeben.";
     t[14180] = "MainMenu.File.SaveModelAs.Short";
@@ -5908,6 +6026,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[14385] = "Wartezeitenverteilung";
     t[14396] = "Optimization.Error.GeneralTitle";
     t[14397] = "Fehler w\u00e4hrend der Optimierung";
+    t[14400] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel";
+    t[14401] = "Konfidenzniveau";
     t[14402] = "XML.OptimizerSetup.InitialInventory.ClientType";
     t[14403] = "Optimierung-InitialerBestandKundentyp";
     t[14410] = "XML.Statistic.Clients.Summary";
@@ -6116,6 +6236,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[14933] = "T";
     t[14934] = "XML.Statistic.Clients.ClientsCallsCount.Success";
     t[14935] = "Erfolg";
+    t[14938] = "Editor.GeneralData.GlobalParameters.FixedSeed.InvalidInfo";
+    t[14939] = "Der angegebene Startwert %s ist ung\u00fcltig.\nDer Wert muss eine Ganzzahl sein.";
     t[14942] = "SimStatistic.Canceled.Client";
     t[14943] = "Abgebrochene Kunden (endg\u00fcltig)";
     t[14944] = "MainMenu.Tools.VarianceAnalysis.Mnemonic";
@@ -6136,6 +6258,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[14989] = "Ben\u00f6tigte Rechenzeit pro Simulationstag";
     t[14994] = "Statistic.GeneralPage.NoDataHTML.LoadStatistic";
     t[14995] = "Statistikdaten von fr\u00fcherem Simulationslauf laden";
+    t[15002] = "SimStatistic.OptimizeSetup.RunTime.WarmStart";
+    t[15003] = "f\u00fcr die Berechnung der Startwerte \u00fcber das Erlang-C-Modell";
     t[15006] = "CommandLine.Language.Description.Long";
     t[15007] = "Dieser Befehl erwartet als Parameter die gew\u00fcnschte Programmsprache: \"Deutsch\" oder \"Englisch\".";
     t[15012] = "LoadCalculator.Units.Time";
@@ -6168,6 +6292,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[15081] = "Beim n\u00e4chsten Programmstart wird Version %s installiert.";
     t[15088] = "Batch.Parameter.ChangeType.Mean";
     t[15089] = "Erwartungswert einer Verteilung";
+    t[15094] = "Simulation.ResultCache.Hit";
+    t[15095] = "Die Ergebnisse wurden aus dem Simulationsergebnis-Zwischenspeicher \u00fcbernommen. Es wurde keine Simulation durchgef\u00fchrt, daher liegen keine Laufzeitdaten vor.";
     t[15102] = "Editor.CallcenterAndAgents.Copy.Info";
     t[15103] = "Kopiert das gew\u00e4hlte Callcenter und f\u00fcgt die Kopie der Liste aller Callcenter hinzu";
     t[15108] = "Server.Error.JavaNeeded";
@@ -6312,6 +6438,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[15455] = "Ausgangswert";
     t[15456] = "Simulation.Log.Ready.ShiftStart";
     t[15457] = "Agent meldet sich zum Dienst (Schichtbeginn)";
+    t[15458] = "CommandLine.Trace.Description.Short";
+    t[15459] = "Wandelt bin\u00e4re Ereignisaufzeichnungen (*.trace) in eine Logdatei oder eine Zusammenfassung um.";
     t[15460] = "SettingsDialog.ShowWelcomePage";
     t[15461] = "Willkommensseite beim Programmstart anzeigen";
     t[15470] = "Editor.GeneralData";
@@ -6350,6 +6478,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[15535] = "Zus\u00e4tzlicher manueller \u00dcbertrag in den Tag hinein";
     t[15540] = "Server.WebMenu.ViewerList.Empty";
     t[15541] = "Es existieren keine Statistik-Dateien, die angezeigt werden k\u00f6nnten.";
+    t[15548] = "Optimizer.ControlVariable.ErlangCWarmStart";
+    t[15549] = "Startwerte f\u00fcr die Agentenanzahlen \u00fcber das erweiterte Erlang-C-Modell bestimmen";
     t[15550] = "XML.Statistic.Info.SimulatedDays.Error";
     t[15551] = "Die angegebene Anzahl an simulierten Tagen %s ist ung\u00fcltig. Der Wert muss eine nichtnegative Ganzzahl sein.";
     t[15552] = "Window.ConnectedResults.Error.Info";
@@ -6432,6 +6562,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[15769] = "Die angegebene konstante Effizienz ist ung\u00fcltig.";
     t[15770] = "SimStatistic.Category.NumberOfCallersOverTheDay.PerCallerType";
     t[15771] = "Anruferzahlen \u00fcber den Tag - pro Kundentyp";
+    t[15772] = "CommandLine.Benchmark.ConfidenceServiceLevel";
+    t[15773] = "Halbe Breite des 95%-Konfidenzintervalls des Service-Levels";
     t[15782] = "JDistributionEditor.Copy.Graphics";
     t[15783] = "Grafik";
     t[15790] = "Simulation.Log.Quit";
@@ -6725,7 +6857,7 @@ public class Messages_de extends java.util.ResourceBundle {
     t[16588] = "Importer.SelectTable.Label";
     t[16589] = "Tabelle, aus der die Daten importiert werden sollen";
     t[16594] = "CommandLine.Benchmark.Description.Long";
-    t[16595] = "Dieser Befehl erwartet einen oder keine weiteren Parameter.\nWird ein Parameter \u00fcbergeben, so gibt dieser entweder die maximale Thread-Anzahl an,\ndie verwendet werden sollen, oder was f\u00fcr ein Modell verwendet werden soll.\nAls Modell kann \"klein\" (Vorgabewert), \"gross\" oder ein xml-Modell-Dateiname\nangegeben werden.";
+    t[16595] = "Dieser Befehl erwartet bis zu zwei weitere Parameter.\nWird ein Parameter \u00fcbergeben, so gibt dieser entweder die maximale Thread-Anzahl an,\ndie verwendet werden sollen, oder was f\u00fcr ein Modell verwendet werden soll.\nAls Modell kann \"klein\" (Vorgabewert), \"gross\" oder ein xml-Modell-Dateiname\nangegeben werden. Mit dem zus\u00e4tzlichen Parameter \"antithetisch\" wird jeder Lauf\nzus\u00e4tzlich mit antithetischen Tagespaaren wiederholt und die Breiten der\nKonfidenzintervalle werden verglichen.";
     t[16600] = "Optimizer.AgentGroups.AverageOverAll";
     t[16601] = "Im Mittel \u00fcber alle Agentengruppen";
     t[16604] = "XML.Statistic.GeneralAttributes.CountPerInterval";
@@ -6818,6 +6950,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[16835] = "Callcenter-Modell anzeigen.";
     t[16836] = "MainMenu.File.Setup.Short";
     t[16837] = "Einstellungen";
+    t[16838] = "XML.Model.StoppingRule.CancelRate";
+    t[16839] = "Abbruchrate";
     t[16840] = "Optimizer.ControlVariable.ChangeAgentGroups";
     t[16841] = "Agentenzahl in folgenden Gruppen erh\u00f6hen";
     t[16854] = "LoadCalculator.Title";
@@ -6884,6 +7018,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[16957] = "Exportiert einen Teil oder die gesamten Modell-Informationen.";
     t[16958] = "MainMenu.Data.LoadAgentsEfficiency.Mnemonic";
     t[16959] = "P";
+    t[16960] = "CommandLine.Benchmark.AntitheticRun";
+    t[16961] = "Simulation mit antithetischen Tagespaaren";
     t[16966] = "Model.GenerateDescription.SkillLevel.Single";
     t[16967] = "Skill-Level";
     t[16968] = "ConnectedResults.Title";
@@ -7000,6 +7136,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17217] = "Der angegeben Wert f\u00fcr die Abbruchwahrscheinlichkeit zur Sch\u00e4tzung der Wartezeittoleranz %s ist ung\u00fcltig.\nDer Wert muss eine nichtnegative Zahl (optional ein Prozentwert) sein.";
     t[17218] = "XML.Statistic.Clients.WaitingTimeDistribution.Clients.Error";
     t[17219] = "Die Wartezeitverteilung der Kunden ist ung\u00fcltig.";
+    t[17222] = "CommandLine.Optimizer.RunCount";
+    t[17223] = "Simulationsl\u00e4ufe";
     t[17224] = "XML.Statistic.Agents.Costs.Wages";
     t[17225] = "Arbeitslohn";
     t[17226] = "MainMenu.Simulation.HeuristicRevenueOptimizer";
@@ -7016,6 +7154,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17241] = "Optimierung auf einen Zielbereich";
     t[17244] = "XML.Model.ClientType.Recall.Probability.Error";
     t[17245] = "Die angegebene Wiederanrufwahrscheinlichkeit %s ist ung\u00fcltig.";
+    t[17246] = "XML.Model.StoppingRule.WaitingTime";
+    t[17247] = "Wartezeit";
     t[17250] = "Importer.AgentsProductivity.Title";
     t[17251] = "Agentenproduktivit\u00e4t";
     t[17258] = "XML.Model.Warnings.Record.WarningRed.Error.NoValue";
@@ -7048,6 +7188,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17313] = "ModellBevorzugteSchichtlaenge;BevorzugteSchichtlaenge";
     t[17314] = "SimStatistic.ServiceLevelPerCallerType";
     t[17315] = "Service-Level pro Kundentyp";
+    t[17318] = "Editor.GeneralData.GlobalParameters.SequentialStopping.WaitingTime";
+    t[17319] = "Wartezeit (Sek.)";
     t[17324] = "Editor.Caller.Error.ScoreForward.Title";
     t[17325] = "Score bei Weiterleitung ist ung\u00fcltig";
     t[17334] = "MainMenu.File.SaveModel.Tooltip";
@@ -7089,7 +7231,7 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17432] = "Editor.Callcenter.List.AgentsActive";
     t[17433] = "aktive";
     t[17436] = "CommandLine.Optimizer.Description.Long";
-    t[17437] = "Dieser Befehl erwartet genau drei weitere Parameter:\n1. Eingabe-Modell-Datei\n2. Optimiererkonfigurations-Datei\n2. Optimierer-Ausgabe-Statstik-Datei\nEingabedatei und Optimiererkonfiguration m\u00fcssen existieren,\ndie Ausgabedatei darf nicht existieren.";
+    t[17437] = "Dieser Befehl erwartet drei bis f\u00fcnf weitere Parameter:\n1. Eingabe-Modell-Datei\n2. Optimiererkonfigurations-Datei\n2. Optimierer-Ausgabe-Statstik-Datei\n4./5. (optional) Maximale Anzahl an Kandidaten, die pro Optimierungsschritt\n   parallel simuliert werden (Vorgabe: 1) und/oder \"StartwerteVergleichen\",\n   um die Optimierung ohne und mit Erlang-C-Startwerten durchzuf\u00fchren und\n   die Anzahl an Simulationsl\u00e4ufen und die Laufzeiten zu vergleichen\nEingabedatei und Optimiererkonfiguration m\u00fcssen existieren,\ndie Ausgabedatei darf nicht existieren.";
     t[17438] = "XML.Model.ClientType.BlocksLine";
     t[17439] = "BelegtLeitung";
     t[17444] = "SimStatistic.ForwardedCallsPart";
@@ -7170,6 +7312,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17645] = "Die Agentenanzahl wird <b>erh\u00f6ht</b> bis die Wartezeit h\u00f6chstens noch so lange ist.";
     t[17646] = "Editor.CallerGroups.Add.Info";
     t[17647] = "F\u00fcgt eine weitere Anrufergruppe zu der Liste hinzu";
+    t[17652] = "CommandLine.Benchmark.Antithetic";
+    t[17653] = "antithetisch";
     t[17658] = "MainMenu.Tools.FitDistribution.Short";
     t[17659] = "Verteilung anpassen";
     t[17662] = "Editor.GeneralData.GlobalParameters.MinimumShiftLength";
@@ -7272,6 +7416,10 @@ public class Messages_de extends java.util.ResourceBundle {
     t[17901] = "Standardabweichungen";
     t[17908] = "MainMenu.Tools.KeepModel.Tooltip";
     t[17909] = "Aktuelles Modell f\u00fcr sp\u00e4teren Vergleich festhalten";
+    t[17910] = "XML.Model.FixedSeed";
+    t[17911] = "ModellFesterStartwert";
+    t[17918] = "Editor.GeneralData.GlobalParameters.SequentialStopping.InvalidTitle";
+    t[17919] = "Ung\u00fcltiges Abbruchkriterium";
     t[17926] = "Statistic.Viewer.SpecialText.SubCategory";
     t[17927] = "<p>Bitte w\u00e4hlen Sie in der Baumstruktur eine <b>Unterkategorie</b> aus, um die entsprechenden Informationen angezeigt zu bekommen.</p>";
     t[17932] = "Statistic.Units.InMinutes";
@@ -20,6 +20,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[15] = "Shift schedule per call center";
     t[18] = "Editor.GeneralData.GlobalParameters.ServiceLevel.InvalidTitle";
     t[19] = "The specified value for the service level %s is invalid.";
+    t[30] = "CommandLine.Optimizer.CompareWarmStart";
+    t[31] = "CompareWarmStart";
     t[32] = "Optimizer.Error.TargetServiceLevel.Info";
     t[33] = "The specified target service level %s is invalid.\nThe value has to be a non-negative number (a percentage value optional).";
     t[36] = "MainMenu.File.NewModel";
@@ -62,6 +64,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[125] = "At least six additional parameters:\n1. Name of the call center to be changed\n2. Input model file\n3. Input table file\n4. Output table file\nThe input files have to be existent, the output has to be non existent.\nAfter the first four parameters there can be multiple parameter couples of the form:\n- First table cell (in the Form A1) where the data which are to be loaded are stored\n- Agents group number for which the disease-related surcharge is to be loaded";
     t[128] = "XML.OptimizerSetup.Value";
     t[129] = "Optimizer-Value";
+    t[132] = "CommandLine.Trace.ErrorSaving";
+    t[133] = "The output file %s could not be written.";
     t[134] = "SimStatistic.AverageWaitingAndCancelTimes";
     t[135] = "Average waiting and cancel times";
     t[136] = "SimStatistic.ClientType.Short";
@@ -96,6 +100,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[217] = "Successful calls";
     t[218] = "FileType.LaTeX";
     t[219] = "LaTeX files";
+    t[232] = "CommandLine.Trace.Records";
+    t[233] = "Number of records";
     t[234] = "MainMenu.Simulation.Optimizer.Tooltip";
     t[235] = "Starts the optimizer";
     t[242] = "MainMenu.Simulation.OptimizerResults";
@@ -166,6 +172,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[403] = "Ok";
     t[404] = "Statistic.Viewer.Toolbar.Search.DialogTitle";
     t[405] = "Search text";
+    t[414] = "CommandLine.Trace.Summary";
+    t[415] = "Summary";
     t[418] = "Editor.GeneralData.ThresholdValues.warningYellow.InvalidValue.TimeNeeded";
     t[419] = "The entered value for the yellow threshold value is invalid. A time value is expected.";
     t[420] = "CommandLine.Error.File.TableDoesNotExist";
@@ -242,12 +250,16 @@ public class Messages_en extends java.util.ResourceBundle {
     t[581] = "Text files";
     t[592] = "XML.Statistic.Agents.Costs.Wages.Error";
     t[593] = "The wages %s are invalid.";
+    t[596] = "XML.Model.DaysOffset.Error";
+    t[597] = "The day number offset has to be a non-negative integer number.";
     t[604] = "Statistic.Units.MilliSeconds";
     t[605] = "ms";
     t[616] = "MainMenu.Data.LoadAgents.Mnemonic";
     t[617] = "A";
     t[618] = "CommandLine.Help.Help.Long";
     t[619] = "This command expects one or no additional parameters.\nIf a command is enters as additional parameter, the help information for this command is displayed.\nOtherwise a list with all available commands is displayed.";
+    t[622] = "CommandLine.Optimizer.WarmStart";
+    t[623] = "Optimization starting from the Erlang-C start values";
     t[626] = "Importer.Error.NeedNonNegativeNumbers";
     t[627] = "The values of the distribution has to be on-negative numbers. Value %d does not fulfill this.";
     t[628] = "Editor.AgentsGroup.Shift.ShowPlan.Preview";
@@ -274,6 +286,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[679] = "Number of agent half-hour intervals is invalid";
     t[680] = "CommandLine.Error.WrongNumber.ButNumber";
     t[681] = "But %d additional parameters were given.";
+    t[684] = "Editor.GeneralData.GlobalParameters.AntitheticVariates.Info";
+    t[685] = "The second day of each pair of days uses the random numbers of the first day in the form 1-u. The confidence intervals are calculated from the means per pair of days and are therefore usually narrower.";
     t[694] = "Compare.DoubleFile.Info";
     t[695] = "For model %s and model %s the same statistic file\n%s\nwas selected.";
     t[704] = "MainMenu.Simulation.RunAndSaveSetup.Mnemonic";
@@ -302,6 +316,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[765] = "Shows a help page with information about the usage of the filter function.";
     t[768] = "Optimizer.LoadSetup.ErrorTitle";
     t[769] = "Error loading the optimizer configuraton";
+    t[770] = "Editor.GeneralData.GlobalParameters.SequentialStopping.Info";
+    t[771] = "Maximum half width of the confidence intervals, service level and cancelation rate as fraction; the number of days is the upper limit";
     t[774] = "CommandLine.Connected.Error.InputStatisticFile.DoesNotExist";
     t[775] = "The specified input statistic file does not exist.";
     t[776] = "NewModelWizard.Error.ForwardingProbability.Title";
@@ -314,6 +330,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[789] = "StatisticUser";
     t[794] = "Optimizer.AgentGroups.SelectedGroups";
     t[795] = "For the selected agents groups";
+    t[802] = "Editor.Caller.FreshCalls.Sorted";
+    t[803] = "Generate sorted";
     t[810] = "SimStatistic.Productivity.DoubleGrossAgents";
     t[811] = "Gross number of agents considering the disease surcharge";
     t[814] = "Model.Check.SkillLevel.InvalidHoldingTimeAddOnExpression";
@@ -338,6 +356,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[855] = "An error occurred while closing the stream.";
     t[858] = "Compare.ReplaceKeptModel.NoInfo";
     t[859] = "The already kept model with stay kept. Nothing will be changed.";
+    t[862] = "Editor.GeneralData.GlobalParameters.FixedSeed.InvalidTitle";
+    t[863] = "Seed for the random number generator is invalid";
     t[864] = "Optimizer.ControlVariable.Restrictions.Tooltip";
     t[865] = "Sets up if there are restrictions due to the number of agents per half-hour interval.";
     t[866] = "SimStatistic.OptimizeSetup.Change.Title";
@@ -436,6 +456,10 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1075] = "Accessibility";
     t[1082] = "SimStatistic.CanceledCallers";
     t[1083] = "Finally canceled caller";
+    t[1086] = "XML.Model.StoppingRule.ConfidenceLevel";
+    t[1087] = "ConfidenceLevel";
+    t[1100] = "Editor.GeneralData.GlobalParameters.FixedSeed.Info";
+    t[1101] = "same results independent of the number of threads";
     t[1104] = "XML.Model.ClientType.ClientsScore.Forwarding";
     t[1105] = "Forwarding";
     t[1108] = "Statistic.Filter.ErrorInLineNumber";
@@ -474,6 +498,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1179] = "Unselect all entries";
     t[1182] = "Statistic.FastAccess.SelectXMLTag.InsertMethod.AtCursorPosition";
     t[1183] = "At cursor position";
+    t[1188] = "XML.Model.StoppingRule";
+    t[1189] = "ModelStoppingRule";
     t[1190] = "SimStatistic.OptimizeSetup.Property.ServiceLevel";
     t[1191] = "Maximizing the service level";
     t[1194] = "SimStatistic.SystemData.MultiThreadInfo";
@@ -516,6 +542,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1303] = "The agents distribution is modeling the distribution of fresh calls over the day.";
     t[1308] = "XML.Model.Warnings.Record.Status.Red";
     t[1309] = "Red";
+    t[1314] = "XML.Statistic.Confidence.AntitheticPairs.Error";
+    t[1315] = "The number of antithetic pairs of days %s is invalid. The value has to be a non-negative integer number.";
     t[1320] = "FileType.Save.Text";
     t[1321] = "Save text";
     t[1324] = "Optimizer.Resume";
@@ -802,8 +830,12 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2003] = "BaseFolder";
     t[2004] = "XML.Statistic.Agents.Summary.CallsPerInterval";
     t[2005] = "CallsPerInterval";
+    t[2012] = "XML.Statistic.Confidence.ErrorPairSum";
+    t[2013] = "The sum of the pair means for the confidence interval calculation %s is invalid. The value has to be a non-negative number.";
     t[2016] = "CommandLine.Dialog.Command";
     t[2017] = "Selected command";
+    t[2018] = "XML.Model.DaysOffset";
+    t[2019] = "ModelDayNumberOffset";
     t[2020] = "Server.StatisticFolder.Button.Info";
     t[2021] = "Selects the folder from which the statistic files are to be offered via the web server";
     t[2022] = "FitDalog.PostProcessingTimeDistribution";
@@ -840,6 +872,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2087] = "Before optimization";
     t[2096] = "Optimizer.OptimizeProperty.Property.OnCallBasis";
     t[2097] = "on call basis";
+    t[2098] = "Editor.GeneralData.GlobalParameters.SequentialStopping.NoTarget";
+    t[2099] = "A half width larger than 0 has to be specified for at least one performance indicator.";
     t[2100] = "Optimizer.StopOptimization";
     t[2101] = "Abort optimization";
     t[2102] = "CommandLine.Optimizer.InitializationError";
@@ -1008,6 +1042,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2525] = "Warning: The Java version you ware using is outdated and may be contains security vulnerabilities. Update:";
     t[2528] = "XML.Model.AgentsGroup.WorkingTimeEnd.Error";
     t[2529] = "The specified working time end %s is invalid.";
+    t[2540] = "CommandLine.Optimizer.ColdStart";
+    t[2541] = "Optimization starting from the agent counts of the model";
     t[2542] = "CommandLine.Interactive.Description.Long";
     t[2543] = "This command expects no additional parameters.";
     t[2544] = "LoadCalculator.TUCOnlineCalculator";
@@ -1258,6 +1294,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3175] = "Waiting time tolerance";
     t[3182] = "CommandLine.Preplanning.Mode.InvalidMode";
     t[3183] = "The selected parameter name for which a target value is to be reached is invalid.";
+    t[3184] = "XML.Statistic.GeneralAttributes.PairSum";
+    t[3185] = "PairSum";
     t[3190] = "XML.Connected.Error";
     t[3191] = "The root node is not \"%s\".";
     t[3196] = "Editor.Caller.FreshCalls.Number";
@@ -1266,6 +1304,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3199] = "This value specifies the maximum desired work load, not how many agents should be used.";
     t[3206] = "Optimizer.OptimizeProperty.TargetMaxForLabel.Accessibility.Info";
     t[3207] = "The number of agents will be <b>decreased</b> until at most this accessibility is present.";
+    t[3214] = "XML.Model.ClientType.FreshCalls.Sorted";
+    t[3215] = "SortedGeneration";
     t[3216] = "Editor.Caller.Error.NoSkillForwarding.Title";
     t[3217] = "No skill level depending forwarding rules";
     t[3218] = "InfoDialog.ShowVersionHistory.Tooltip";
@@ -1304,10 +1344,14 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3309] = "The forwarding probability is invalid for client type \"%s\".";
     t[3322] = "Model.GenerateDescription.Agents.NoAgents";
     t[3323] = "The are no agents groups.";
+    t[3326] = "CommandLine.Trace.Description.Long";
+    t[3327] = "The command expects at least two additional parameters:\n1. Name of the output file (the format is chosen by the file extension: txt, csv, html or rtf)\n2. Name of the trace file (further trace files, e.g. one per simulation thread, can be added)\nAlternatively a summary of the number of events per type and per interval can be created:\n1. \"Summary\"\n2. Length of an interval in seconds\n3. Name of the output file\n4. Name of the trace file (further trace files can be added)\nThe trace files must exist. The output file must not exist.";
     t[3338] = "XML.OptimizerSetup.GroupRestriction.Min.InvalidError";
     t[3339] = "The \"Minimum\" attribute of the \"Restriction-Group\" element %d \"%s\" is invalid.";
     t[3340] = "XML.Model.Name";
     t[3341] = "ModelName";
+    t[3346] = "XML.Model.CommonRandomNumbers";
+    t[3347] = "ModelCommonRandomNumbers";
     t[3350] = "Server.ThreadDone";
     t[3351] = "Done, simulation finished.";
     t[3358] = "Batch.Parameter.ErrorNoOutputFolder";
@@ -1324,6 +1368,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3377] = "Distribution diagram";
     t[3382] = "FitDialog.Title";
     t[3383] = "Fit distribution";
+    t[3388] = "Optimizer.LoadError.WarmStartTime";
+    t[3389] = "The specified calculation time for the Erlang-C start values %s is invalid. The value has to be a non-negative integer number.";
     t[3400] = "Editor.Callcenter.CopyAgentsGroup";
     t[3401] = "Copy agents group";
     t[3402] = "SimStatistic.AgentsOnModelBasis.AgentsInSimulation";
@@ -1584,6 +1630,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3959] = "Apply the content of all pages";
     t[3970] = "Connected.Progress";
     t[3971] = "Simulation of day %d of %d connected days.";
+    t[3972] = "Editor.GeneralData.GlobalParameters.CommonRandomNumbers.Info";
+    t[3973] = "Arrivals, waiting time tolerances, service times and follow-up decisions are drawn from separate random number streams per client type. Model variants using the same seed can be compared with less variance.";
     t[3976] = "Loader.Error.InputFileNoData.Title";
     t[3977] = "Input file does not contain data sets";
     t[3978] = "XML.Statistic.Agents.Summary.CallsPerInterval.Error";
@@ -1771,7 +1819,7 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4346] = "SimStatistic.Call.Total";
     t[4347] = "Calls total";
     t[4348] = "CommandLine.RevenueOptimizer.Description.Long";
-    t[4349] = "This command expects two parameters:\n1. Input model file\n2. Output model file";
+    t[4349] = "This command expects two or three parameters:\n1. Input model file\n2. Output model file\n3. (optional) \"CommonRandomNumbers\" to simulate all model variants using the same synchronized random number streams";
     t[4350] = "Rearranger.MoveCalls.GroupInfo";
     t[4351] = "Please select the client groups whos fresh calls distributions are to be changed:";
     t[4352] = "Editor.AgentsGroup.Apply.Info";
@@ -2168,6 +2216,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5183] = "Agent type specifiy forwarding rules are in use";
     t[5184] = "SimStatistic.Forwarding.ChangeRate";
     t[5185] = "Client type change rate to type \"%s\" on forwarding";
+    t[5186] = "CommandLine.Optimizer.ParallelCandidatesError";
+    t[5187] = "The number of candidates to be simulated in parallel %s is invalid. The value has to be a positive integer number.";
     t[5192] = "SettingsDialog.Update.Failed";
     t[5193] = "Downloading version %s failed.";
     t[5194] = "XML.Statistic.Agents.Summary.TechnicalFreeTimePerInterval";
@@ -2214,6 +2264,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5283] = "ClientsServiceLevelAll";
     t[5284] = "CommandLine.Language.Name";
     t[5285] = "Language";
+    t[5288] = "SimStatistic.ConfidenceIntervals.AntitheticPairs";
+    t[5289] = "The days were simulated in pairs using antithetic random numbers. The confidence intervals were calculated from the means of %d pairs of days.";
     t[5296] = "CommandLine.GeneratorSkillLevel.Name";
     t[5297] = "GeneratorSkillLevel";
     t[5298] = "Model.Check.ClientType.ForwardCheck.NoChangeRates";
@@ -2334,6 +2386,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5507] = "Client type changes";
     t[5524] = "Loader.Info.Technion.Model.Description";
     t[5525] = "The data will be processed and a complete call center model will be generated on basis of these data.";
+    t[5526] = "Editor.GeneralData.GlobalParameters.SequentialStopping";
+    t[5527] = "Stop simulation as soon as the confidence intervals are narrow enough";
     t[5530] = "Optimizer.Results.NoData.Title";
     t[5531] = "No data yet";
     t[5538] = "CommandLine.Batch.Result.SuccessSingle";
@@ -2854,6 +2908,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[6781] = "Waiting time depending holding time addition";
     t[6784] = "Editor.Preplanning.Title";
     t[6785] = "Erlang C based agents preplanning";
+    t[6788] = "RevenueOptimizer.CommonRandomNumbers.Info";
+    t[6789] = "All model variants are simulated using the same synchronized random number streams, so differences in revenue are caused by the changed numbers of agents and not by random fluctuations.";
     t[6790] = "XML.Statistic.Costs.WaitingTimes";
     t[6791] = "WaitingTimes";
     t[6794] = "Editor.Productivity.DiseaseRelatedSurcharge";
@@ -2862,6 +2918,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[6801] = "Shows the model and the simulation results of a single day from the connected simulation";
     t[6804] = "Simulation.Log.Service1Start.ServiceTime";
     t[6805] = "Service time";
+    t[6808] = "CommandLine.Trace.Name";
+    t[6809] = "Trace";
     t[6812] = "Server.FilterFolder";
     t[6813] = "Filter scripts folder";
     t[6816] = "XML.Statistic.Clients.ServiceLevel.Calls.ErrorSum";
@@ -3028,6 +3086,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[7205] = "Default skill";
     t[7208] = "Server.Error.ServerPartInvalid";
     t[7209] = "The specified part %s for network server %s is invalid.\nThe value has to be a non-negative number between 0 and 1 (a percentage value optional).";
+    t[7212] = "XML.Model.StoppingRule.Error";
+    t[7213] = "The confidence level of the stopping rule has to be strictly between 0 and 1 and the target precisions have to be non-negative numbers.";
     t[7214] = "CommandLine.Optimizer.Name";
     t[7215] = "Optimizer";
     t[7216] = "CommandLine.Error.WrongNumber.If";
@@ -3108,6 +3168,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[7381] = "Content";
     t[7382] = "LoadCalculator.Units.Hours";
     t[7383] = "Hours";
+    t[7384] = "Editor.Caller.FreshCalls.Sorted.Tooltip";
+    t[7385] = "Generates the arrival times already sorted via multinomially distributed counts per interval (statistically equivalent, but faster for very large numbers of calls).";
     t[7390] = "LoadCalculator.Section.ServiceProcess";
     t[7391] = "Service process";
     t[7394] = "Connected.EditCarryOver.FixedCarryOver.Part";
@@ -3138,6 +3200,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[7457] = "Call center";
     t[7462] = "Optimizer.ControlVariable.Restrictions.Dialog.SetMin.ErrorTitle";
     t[7463] = "Invalid value";
+    t[7466] = "CommandLine.Optimizer.WarmStartTime";
+    t[7467] = "Calculation time for the Erlang-C start values";
     t[7468] = "DistributionFitter.PValueChiSqr";
     t[7469] = "P-Value of chi\u00b2 test";
     t[7472] = "MainMenu.Simulation.MoreOptimization";
@@ -3306,6 +3370,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[7863] = "Updates";
     t[7864] = "Example.Erlang.Callcenter";
     t[7865] = "Call center";
+    t[7874] = "Editor.GeneralData.GlobalParameters.SequentialStopping.CancelRate";
+    t[7875] = "Cancelation rate";
     t[7876] = "Statistic.Type.Graphics";
     t[7877] = "Graphics";
     t[7880] = "XML.Statistic.Confidence.ServiceLevel.CallsAll.ErrorSquaresSum";
@@ -3396,6 +3462,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[8123] = "Password for the server";
     t[8124] = "SimStatistic.ScoreValues.CallcenterAgentFreeTimeSinceLastCall";
     t[8125] = "Factor to respect the free time since last call for the agent score";
+    t[8126] = "SettingsDialog.SimulationCache";
+    t[8127] = "Reuse results of simulations with fixed seed for identical models";
     t[8128] = "Table.LoadErrorCellNotInTable";
     t[8129] = "The cell %s is not inside the table. The table ends at %s.";
     t[8130] = "Importer.Error.ErrorLoadingTable.Info";
@@ -3496,6 +3564,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[8335] = "Stores the statistic results to a file";
     t[8340] = "Loader.SimpleModel.NoAgentsData";
     t[8341] = "No agents data were entered.";
+    t[8342] = "XML.Statistic.Confidence.AntitheticPairs";
+    t[8343] = "AntitheticPairs";
     t[8346] = "SimStatistic.SystemData.Version";
     t[8347] = "Used simulator version";
     t[8348] = "Connected.Day1Statistic.Select.Info";
@@ -3726,8 +3796,12 @@ public class Messages_en extends java.util.ResourceBundle {
     t[8901] = "%d further threshold values are kept.";
     t[8912] = "SimStatistic.ConfidenceIntervals.FilterTitle";
     t[8913] = "Filter confidence intervals";
+    t[8922] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ServiceLevel";
+    t[8923] = "Service level";
     t[8924] = "Help.Close.Info";
     t[8925] = "Closes the help window.";
+    t[8926] = "Editor.GeneralData.GlobalParameters.AntitheticVariates";
+    t[8927] = "Simulate days in pairs using antithetic random numbers";
     t[8934] = "XML.Model.Warnings.Record.Type.ServiceLevelOnSuccessfulCalls";
     t[8935] = "Service level in call basis, based on successful calls";
     t[8936] = "LoadCalculator.Tab.ErlangB.Link.Info";
@@ -3772,6 +3846,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[9057] = "Graphics";
     t[9058] = "SimStatistic.ServiceLevel.ForCallerType";
     t[9059] = "Service level for caller type %s";
+    t[9060] = "CommandLine.RevenueOptimizer.CommonRandomNumbers";
+    t[9061] = "CommonRandomNumbers";
     t[9064] = "SimStatistic.ScoreValues.ForwardedCall";
     t[9065] = "Score increase on forwarded calls";
     t[9066] = "Editor.Callcenter.Apply.Error.Info";
@@ -4048,10 +4124,14 @@ public class Messages_en extends java.util.ResourceBundle {
     t[9655] = "The number of days to be simulated has to be a positive number. (At the moment %d is specified.)";
     t[9656] = "SimStatistic.Recommendations.LowWorkload";
     t[9657] = "The workload of the agents is with %s very low. You should check if you really needed the number of agents currently scheduled.";
+    t[9660] = "XML.OptimizerSetup.CommonRandomNumbers";
+    t[9661] = "CommonRandomNumbers";
     t[9662] = "Distribution.Unknown";
     t[9663] = "unknown distribution";
     t[9664] = "SimStatistic.CostStructure.AgentMinute";
     t[9665] = "Cost for a conversation minute with a client of type \"%s\"";
+    t[9668] = "XML.Model.AntitheticVariates";
+    t[9669] = "ModelAntitheticVariates";
     t[9680] = "SettingsDialog.Tabs.Statistics.OpenExcel";
     t[9681] = "Open tables using Excel";
     t[9684] = "XML.Model.BaseElement";
@@ -4110,6 +4190,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[9813] = "While executing \"%s\"";
     t[9820] = "Compare.ReplaceKeptModel.YesInfo";
     t[9821] = "The kept model will be discarded and replaced by the current model.";
+    t[9828] = "XML.OptimizerResults.WarmStartTime";
+    t[9829] = "WarmStartTime";
     t[9832] = "SettingsDialog.LoadModelOnProgramStart";
     t[9833] = "Load model on program start";
     t[9834] = "Statistic.Viewer.Toolbar.OpenText.Hint";
@@ -4266,6 +4348,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[10251] = "This is a simple example model. It consists of:\n- Three caller groups (1,900 fresh calls per day)\n\u00a0\u00a0- Clients (topic A)\n\u00a0\u00a0- Clients (topic B)\n\u00a0 - Prioritized clients (with higher base score and higher score per waiting second)\n- A call center with three groups of agents\n\u00a0\u00a0- Single skill for topic A (+ prioritized clients)\n\u00a0\u00a0- Single skill for topic B (+ prioritized clients)\n\u00a0\u00a0- Multi skill for all topics (A + B + prioritized clients)\n- The number of agents per interval is modeled fitting the number of fresh calls per interval.\n- The model contains forwarded calls and clients retrying after canceling due to a too long waiting time.";
     t[10252] = "LoadCalculator.Tab.WorkLoad";
     t[10253] = "Work load";
+    t[10266] = "XML.OptimizerSetup.ErlangCWarmStart";
+    t[10267] = "ErlangCWarmStart";
     t[10272] = "Editor.Productivity.DiseaseRelatedSurcharge.Off";
     t[10273] = "No planning impact on the number of agents to compensate for disease.";
     t[10274] = "Connected.LogRun";
@@ -4314,6 +4398,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[10369] = "No e-mail client defined";
     t[10376] = "Editor.Caller.FreshCalls.Tools.LoadArrivalsOn60MinutesBasis";
     t[10377] = "Load arrival distribution for all clients global on hour basis) ";
+    t[10380] = "XML.Model.StoppingRule.ServiceLevel";
+    t[10381] = "ServiceLevel";
     t[10390] = "Dialog.Button.Back";
     t[10391] = "Back";
     t[10392] = "SimStatistic.RetryChangeRate.Blocked";
@@ -4530,6 +4616,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[10937] = "While loading a connected model from the file\n%s\nthe following error occured:";
     t[10938] = "SimStatistic.WorkLoadOverTheDay";
     t[10939] = "Work load over the day";
+    t[10942] = "Editor.GeneralData.GlobalParameters.FixedSeed";
+    t[10943] = "Use fixed seed for the random number generator";
     t[10950] = "Distribution.Pareto";
     t[10951] = "Pareto distribution";
     t[10956] = "Distribution.Logistic";
@@ -4594,12 +4682,16 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11077] = "Only the following agents groups will be changed:";
     t[11080] = "OptimizeResults.Button.RunResults.Info";
     t[11081] = "Shows the simulation results of a single run from the optimization process.";
+    t[11082] = "XML.Statistic.GeneralAttributes.PairSquaresSum";
+    t[11083] = "PairSquaresSum";
     t[11088] = "MainMenu.Help.Homepage.Mnemonic";
     t[11089] = "H";
     t[11090] = "CommandLine.Filter.Done.CouldNotSave";
     t[11091] = "The filter results could not be saved to the file %s.";
     t[11092] = "SetupFailure.Title";
     t[11093] = "Saving settings failed";
+    t[11094] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel.InvalidInfo";
+    t[11095] = "The confidence level has to be strictly between 0 and 1. Specified value was \"%s\".";
     t[11098] = "SimStatistic.HoldingTimeAddOnAddOn.Custom";
     t[11099] = "Custom holding time addon value in interval";
     t[11102] = "Optimizer.ControlVariable.Restrictions.Dialog.SetMax.ErrorTitle";
@@ -4690,6 +4782,10 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11293] = "Save statistics as...";
     t[11296] = "Generator.TableFile";
     t[11297] = "Table file";
+    t[11298] = "Optimizer.ControlVariable.CommonRandomNumbers.Info";
+    t[11299] = "Reduces the variance when comparing the results of consecutive optimization steps.";
+    t[11300] = "CommandLine.Optimizer.RunTime";
+    t[11301] = "Run time";
     t[11302] = "LoadCalculator.AverageNumberOfClientsInTheSystem";
     t[11303] = "Average number of clients in the system";
     t[11304] = "Simulation.Log.Call.CarriedOver";
@@ -4718,6 +4814,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11375] = "RetryProbabilityAfterBeingBlockedFirstRetry";
     t[11376] = "Editor.AgentsGroup.Error.RateForClientType.Title";
     t[11377] = "Rate for weighting the client types is invalid";
+    t[11386] = "CommandLine.Trace.ErrorLoading";
+    t[11387] = "The trace files could not be loaded.";
     t[11388] = "MainMenu.File.NewModel.Tab.Templates";
     t[11389] = "Templates";
     t[11390] = "Statistic.FastAccess.SelectXMLTag.ElementContent";
@@ -4790,6 +4888,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11581] = "The following error occured while staring day %d of the connected simulation";
     t[11582] = "XML.Model.Warnings.Record.Type.ResidenceTimeCalls";
     t[11583] = "Residence time on call basis";
+    t[11594] = "Optimizer.ControlVariable.ErlangCWarmStart.Info";
+    t[11595] = "The agent groups to be changed start with the number of agents per interval calculated by an Erlang-C based preplanning for the optimization target. The simulation runs then only have to refine these values.";
     t[11596] = "XML.Model.AgentsGroup.ByClients.Rate";
     t[11597] = "Rate";
     t[11604] = "XML.Connected.Day";
@@ -4876,6 +4976,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11807] = "Forwardings (on service by an agent of skill level \"%s\")";
     t[11808] = "XML.Model.Warnings.Record.Value.Error.NoValue";
     t[11809] = "No value was specified.";
+    t[11810] = "Editor.GeneralData.GlobalParameters.SequentialStopping.HalfWidth.InvalidInfo";
+    t[11811] = "The half width of a confidence interval has to be a non-negative number. Specified value was \"%s\".";
     t[11812] = "CommandLine.Error.File.OutputAlreadyExist";
     t[11813] = "The output file %s already exists.";
     t[11818] = "XML.Statistic.Clients.WaitingTimeDistributionLong.Calls.Error";
@@ -4892,6 +4994,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[11845] = "The value in the \"%s\" element has to be a non-negative integer value but is \"%s\".";
     t[11850] = "XML.Statistic.Clients.CancelTime.Clients";
     t[11851] = "StatisticClientsCancelTime";
+    t[11852] = "CommandLine.Trace.InvalidInterval";
+    t[11853] = "The interval length %s is no valid positive number.";
     t[11854] = "XML.ErrorCreatingZipStream";
     t[11855] = "An error occured while creating a file within the zip stream.";
     t[11862] = "XML.Statistic.Clients.Summary.Range";
@@ -5432,6 +5536,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[13247] = "Open web page in default browser.";
     t[13250] = "Statistic.Viewer.Chart.InMinutes";
     t[13251] = "in minutes";
+    t[13256] = "XML.Statistic.Confidence.ErrorPairSquaresSum";
+    t[13257] = "The sum of the squared pair means for the confidence interval calculation %s is invalid. The value has to be a non-negative number.";
     t[13258] = "XML.Statistic.Agents.Summary.FreeTime.Error";
     t[13259] = "The total free time %s is invalid. The value has to be a non-negative integer value.";
     t[13262] = "Batch.Simulation.Error.SaveStatistic";
@@ -5468,6 +5574,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[13333] = "An error occurred while decrypting file %s.";
     t[13350] = "Editor.ToolsPopup.Caller48";
     t[13351] = "Load arrival distribution (on half-hour basis) for multiple caller groups";
+    t[13352] = "RevenueOptimizer.CommonRandomNumbers";
+    t[13353] = "Use common random numbers for all model variants";
     t[13356] = "FitDalog.UseDistribution.InfoSingle";
     t[13357] = "The data was taken in the model for one property.";
     t[13360] = "XML.Statistic.Agents.Summary.Calls";
@@ -5502,6 +5610,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[13425] = "Invalid input.";
     t[13432] = "SimStatistic.AgentWorkingTimes";
     t[13433] = "Agent working times";
+    t[13434] = "CommandLine.RevenueOptimizer.InvalidParameter";
+    t[13435] = "The given parameter %s is invalid.\nOnly \"CommonRandomNumbers\" is allowed as third parameter.";
     t[13436] = "Editor.SkillLevel.Delete.No.Info";
     t[13437] = "The skill level will not be deleted and will still be available.";
     t[13452] = "Editor.CallerGroups.Show.Info";
@@ -5522,6 +5632,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[13489] = "Accessibility(ClientBasis)";
     t[13490] = "Connected.EditCarryOver.NoCarryOver";
     t[13491] = "No transfer of the canceled callers";
+    t[13500] = "XML.Model.FixedSeed.Error";
+    t[13501] = "The seed for the random number generator has to be an integer number.";
     t[13510] = "Statistic.Viewer.Report.SaveHTMLImages.Files";
     t[13511] = "As linked image files (multiple image files next to the html output file)";
     t[13514] = "Optimizer.Error.Restrictions.FixedNumberOfAgents";
@@ -5626,6 +5738,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[13749] = "Save";
     t[13752] = "XML.Statistic.Clients.ClientsCallsCount.CanceledPerInterval.ErrorClients";
     t[13753] = "The number of clients who canceled waiting per interval is invalid.";
+    t[13756] = "Editor.GeneralData.GlobalParameters.CommonRandomNumbers";
+    t[13757] = "Use common random number streams per client type";
     t[13758] = "SimStatistic.Productivity.ActiveAgents";
     t[13759] = "Active agents per half-hour interval";
     t[13762] = "Connected.SelectModel.State.NoModel";
@@ -5764,6 +5878,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[14069] = "The sum of the waiting times of the clients %s is invalid. The value has to be a non-negative integer number.";
     t[14076] = "Editor.GeneralData.ThresholdValues.ModeGroups.Average";
     t[14077] = "All in average";
+    t[14082] = "Optimizer.ControlVariable.CommonRandomNumbers";
+    t[14083] = "Simulate all model variants using common random number streams";
     t[14086] = "XML.Model.SkillLevel.Interval";
     t[14087] = "Interval";
     t[14088] = "Calibrate.Simulation.Abort";
@@ -5804,6 +5920,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[14165] = "End cell";
     t[14168] = "MainMenu.Data.LoadAgentsAddition.Mnemonic";
     t[14169] = "D";
+    t[14172] = "CommandLine.Benchmark.ConfidenceWaitingTime";
+    t[14173] = "Half width of the 95% confidence interval of the average waiting time (in seconds)";
     t[14176] = "Editor.SkillLevel.Error.NameInUse.Info";
     t[14177] = "The specified name \"%s\" is already in use for another skill level.";
     t[14180] = "MainMenu.File.SaveModelAs.Short";
@@ -5908,6 +6026,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[14385] = "Waiting times distribution";
     t[14396] = "Optimization.Error.GeneralTitle";
     t[14397] = "Error during the optimization process";
+    t[14400] = "Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel";
+    t[14401] = "Confidence level";
     t[14402] = "XML.OptimizerSetup.InitialInventory.ClientType";
     t[14403] = "Optimization-InitialInventoryClientType";
     t[14410] = "XML.Statistic.Clients.Summary";
@@ -6116,6 +6236,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[14933] = "T";
     t[14934] = "XML.Statistic.Clients.ClientsCallsCount.Success";
     t[14935] = "Success";
+    t[14938] = "Editor.GeneralData.GlobalParameters.FixedSeed.InvalidInfo";
+    t[14939] = "The specified seed %s is invalid.\nThe value has to be an integer number.";
     t[14942] = "SimStatistic.Canceled.Client";
     t[14943] = "Canceled calls (finally canceled clients)";
     t[14944] = "MainMenu.Tools.VarianceAnalysis.Mnemonic";
@@ -6136,6 +6258,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[14989] = "Used calculation time per simulated day";
     t[14994] = "Statistic.GeneralPage.NoDataHTML.LoadStatistic";
     t[14995] = "Load statistic data from a previous simulation run";
+    t[15002] = "SimStatistic.OptimizeSetup.RunTime.WarmStart";
+    t[15003] = "for calculating the start values using the Erlang-C model";
     t[15006] = "CommandLine.Language.Description.Long";
     t[15007] = "This command expects as parameter the desired program language: \"English\" or \"German\".";
     t[15012] = "LoadCalculator.Units.Time";
@@ -6168,6 +6292,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[15081] = "On next program start version %s will be installed.";
     t[15088] = "Batch.Parameter.ChangeType.Mean";
     t[15089] = "Mean of a distribution";
+    t[15094] = "Simulation.ResultCache.Hit";
+    t[15095] = "The results were taken from the simulation results cache. No simulation was performed, so no run time data is available.";
     t[15102] = "Editor.CallcenterAndAgents.Copy.Info";
     t[15103] = "Copies the selected call center and adds the copy to the list of all call centers";
     t[15108] = "Server.Error.JavaNeeded";
@@ -6312,6 +6438,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[15455] = "Start value";
     t[15456] = "Simulation.Log.Ready.ShiftStart";
     t[15457] = "Agents starts his shift and is ready for work now";
+    t[15458] = "CommandLine.Trace.Description.Short";
+    t[15459] = "Converts binary event traces (*.trace) into a log file or a summary.";
     t[15460] = "SettingsDialog.ShowWelcomePage";
     t[15461] = "Show welcome page on program start";
     t[15470] = "Editor.GeneralData";
@@ -6350,6 +6478,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[15535] = "Additional manual carry over";
     t[15540] = "Server.WebMenu.ViewerList.Empty";
     t[15541] = "There are no statistic files available for being displayed.";
+    t[15548] = "Optimizer.ControlVariable.ErlangCWarmStart";
+    t[15549] = "Determine start values for the number of agents using the extended Erlang-C model";
     t[15550] = "XML.Statistic.Info.SimulatedDays.Error";
     t[15551] = "The number of simulated days %s is invalid. The value has to be a non-negative interger number.";
     t[15552] = "Window.ConnectedResults.Error.Info";
@@ -6432,6 +6562,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[15769] = "The specified constant efficiency is invalid.";
     t[15770] = "SimStatistic.Category.NumberOfCallersOverTheDay.PerCallerType";
     t[15771] = "Number of callers over the day - per caller type";
+    t[15772] = "CommandLine.Benchmark.ConfidenceServiceLevel";
+    t[15773] = "Half width of the 95% confidence interval of the service level";
     t[15782] = "JDistributionEditor.Copy.Graphics";
     t[15783] = "Graphics";
     t[15790] = "Simulation.Log.Quit";
@@ -6725,7 +6857,7 @@ public class Messages_en extends java.util.ResourceBundle {
     t[16588] = "Importer.SelectTable.Label";
     t[16589] = "Table from which the data are to be imported";
     t[16594] = "CommandLine.Benchmark.Description.Long";
-    t[16595] = "The command expected zero or one additional parameters.\nIf a parameter is passed, this is either the maximum number of threads\nto be used, or what should be used as model.\nThe model can be \"small\" (default), \"large\" or a xml model file name.";
+    t[16595] = "The command expected up to two additional parameters.\nIf a parameter is passed, this is either the maximum number of threads\nto be used, or what should be used as model.\nThe model can be \"small\" (default), \"large\" or a xml model file name.\nUsing the additional parameter \"antithetic\" each run is repeated with\nantithetic pairs of days and the widths of the confidence intervals are compared.";
     t[16600] = "Optimizer.AgentGroups.AverageOverAll";
     t[16601] = "Average over all agents groups";
     t[16604] = "XML.Statistic.GeneralAttributes.CountPerInterval";
@@ -6818,6 +6950,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[16835] = "Show call center model.";
     t[16836] = "MainMenu.File.Setup.Short";
     t[16837] = "Preferences";
+    t[16838] = "XML.Model.StoppingRule.CancelRate";
+    t[16839] = "CancelationRate";
     t[16840] = "Optimizer.ControlVariable.ChangeAgentGroups";
     t[16841] = "Change number of agents in these agents groups";
     t[16854] = "LoadCalculator.Title";
@@ -6884,6 +7018,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[16957] = "Exports the whole model information or a part of it.";
     t[16958] = "MainMenu.Data.LoadAgentsEfficiency.Mnemonic";
     t[16959] = "E";
+    t[16960] = "CommandLine.Benchmark.AntitheticRun";
+    t[16961] = "Simulation with antithetic pairs of days";
     t[16966] = "Model.GenerateDescription.SkillLevel.Single";
     t[16967] = "skill level";
     t[16968] = "ConnectedResults.Title";
@@ -7000,6 +7136,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17217] = "The specified value for the cancel probability for the waiting time tolerance estimation %s is invalid.";
     t[17218] = "XML.Statistic.Clients.WaitingTimeDistribution.Clients.Error";
     t[17219] = "The waiting time distribution of the clients is invalid.";
+    t[17222] = "CommandLine.Optimizer.RunCount";
+    t[17223] = "Simulation runs";
     t[17224] = "XML.Statistic.Agents.Costs.Wages";
     t[17225] = "Wages";
     t[17226] = "MainMenu.Simulation.HeuristicRevenueOptimizer";
@@ -7016,6 +7154,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17241] = "Optimization on a target range";
     t[17244] = "XML.Model.ClientType.Recall.Probability.Error";
     t[17245] = "The specified recall probability %s is invalid.";
+    t[17246] = "XML.Model.StoppingRule.WaitingTime";
+    t[17247] = "WaitingTime";
     t[17250] = "Importer.AgentsProductivity.Title";
     t[17251] = "Agents productivity";
     t[17258] = "XML.Model.Warnings.Record.WarningRed.Error.NoValue";
@@ -7048,6 +7188,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17313] = "ModelPreferredShiftLength";
     t[17314] = "SimStatistic.ServiceLevelPerCallerType";
     t[17315] = "Service level per caller type";
+    t[17318] = "Editor.GeneralData.GlobalParameters.SequentialStopping.WaitingTime";
+    t[17319] = "Waiting time (sec.)";
     t[17324] = "Editor.Caller.Error.ScoreForward.Title";
     t[17325] = "Score on forwarding is invalid";
     t[17334] = "MainMenu.File.SaveModel.Tooltip";
@@ -7089,7 +7231,7 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17432] = "Editor.Callcenter.List.AgentsActive";
     t[17433] = "aktive";
     t[17436] = "CommandLine.Optimizer.Description.Long";
-    t[17437] = "This command expects exactly three additional parameters:\n1. Input model file\n2. Optimizer configuration file\n3. Optimizer statistic output file\nThe input files have to be existent, the output has to be non existent.";
+    t[17437] = "This command expects three to five additional parameters:\n1. Input model file\n2. Optimizer configuration file\n3. Optimizer statistic output file\n4./5. (optional) Maximum number of candidates to be simulated in parallel\n   per optimization step (default: 1) and/or \"CompareWarmStart\" to run the\n   optimization without and with Erlang-C start values and to compare the\n   number of simulation runs and the run times\nThe input files have to be existent, the output has to be non existent.";
     t[17438] = "XML.Model.ClientType.BlocksLine";
     t[17439] = "BlocksLine";
     t[17444] = "SimStatistic.ForwardedCallsPart";
@@ -7170,6 +7312,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17645] = "The number of agents will be <b>increased</b> until at most this waiting time is present.";
     t[17646] = "Editor.CallerGroups.Add.Info";
     t[17647] = "Adds a new client type to the list";
+    t[17652] = "CommandLine.Benchmark.Antithetic";
+    t[17653] = "antithetic";
     t[17658] = "MainMenu.Tools.FitDistribution.Short";
     t[17659] = "Fit distribution";
     t[17662] = "Editor.GeneralData.GlobalParameters.MinimumShiftLength";
@@ -7272,6 +7416,10 @@ public class Messages_en extends java.util.ResourceBundle {
     t[17901] = "Standard deviations";
     t[17908] = "MainMenu.Tools.KeepModel.Tooltip";
     t[17909] = "Keep current model for comparison";
+    t[17910] = "XML.Model.FixedSeed";
+    t[17911] = "ModelFixedSeed";
+    t[17918] = "Editor.GeneralData.GlobalParameters.SequentialStopping.InvalidTitle";
+    t[17919] = "Invalid stopping rule";
     t[17926] = "Statistic.Viewer.SpecialText.SubCategory";
     t[17927] = "<p>Please select a <b>sub category</b> in the tree structure so display the corresponding information.</p>";
     t[17932] = "Statistic.Units.InMinutes";
@@ -92,17 +92,22 @@ public class MultiComplexCallcenterSimulator implements CallcenterSimulatorInter
 	@Override
 	public Statistics collectStatistic() {
 		if (statistics==null) {
-			statistics=simulators[0].collectStatistic();
-			if (statistics==null) return null;
-			int threadCount=statistics.simulationData.runThreads;
-			for (int i=1;i<simulators.length;i++) {
-				Statistics stat=simulators[i].collectStatistic();
-				if (stat==null) return null;
-				statistics.addData(stat);
-				statistics.simulationData.runOS+=" / "+stat.simulationData.runOS;
-				statistics.simulationData.runUser+=" / "+stat.simulationData.runUser;
-				threadCount+=stat.simulationData.runThreads;
+			final Statistics[] results=new Statistics[simulators.length];
+			for (int i=0;i<simulators.length;i++) {
+				results[i]=simulators[i].collectStatistic();
+				if (results[i]==null) return null;
 			}
+			int threadCount=results[0].simulationData.runThreads;
+			final StringBuilder runOS=new StringBuilder(results[0].simulationData.runOS);
+			final StringBuilder runUser=new StringBuilder(results[0].simulationData.runUser);
+			for (int i=1;i<results.length;i++) {
+				runOS.append(" / "+results[i].simulationData.runOS);
+				runUser.append(" / "+results[i].simulationData.runUser);
+				threadCount+=results[i].simulationData.runThreads;
+			}
+			statistics=Statistics.addDataParallel(results);
+			statistics.simulationData.runOS=runOS.toString();
+			statistics.simulationData.runUser=runUser.toString();
 			statistics.simulationData.runThreads=threadCount;
 			statistics.calcWarnings();
 			if (simulators.length>1) {
@@ -89,9 +89,13 @@ public class RemoteAndLocalComplexCallcenterSimulator extends MultiComplexCallce
 		for (int i=0;i<serverParts.length;i++) {
 			int days=(int)Math.round(Math.floor((editModel.days)*serverParts[i]));
 			model[i]=editModel.clone(); model[i].days=days;
+			model[i].daysOffset=editModel.daysOffset+editModel.days-remaining; /* Jeder Rechner erhlt einen eigenen Bereich von Tagesnummern */
 			remaining-=days;
 		}
 		model[serverParts.length]=editModel.clone(); model[serverParts.length].days=remaining;
+		model[serverParts.length].daysOffset=editModel.daysOffset+editModel.days-remaining;
+		/* Die Teilmodelle werden immer vollstndig simuliert, da das sequentielle Abbruchkriterium nur innerhalb eines Simulators ausgewertet werden kann */
+		for (CallcenterModel part: model) part.clearSequentialStopping();
 
 		/* Simulator-Objekte anlegen */
 		List<CallcenterSimulatorInterface> simulators=new ArrayList<CallcenterSimulatorInterface>();
@@ -22,8 +22,11 @@ import java.util.List;
 
 import language.Language;
 import mathtools.NumberTools;
+import simulator.CachedSimulator;
 import simulator.CallcenterSimulatorInterface;
+import simulator.SimulationResultCache;
 import simulator.Simulator;
+import simulator.Statistics;
 import tools.SetupData;
 import ui.model.CallcenterModel;
 import ui.model.CallcenterRunModel;
@@ -37,6 +40,8 @@ public final class StartAnySimulator {
 	private final CallcenterModel editModel;
 	/** Optionale Logdatei (kann <code>null</code> sein) */
 	private final File logFile;
+	/** Drfen Ergebnisse aus dem {@link SimulationResultCache} verwendet bzw. dort abgelegt werden? */
+	private final boolean useCache;
 
 	/** Anteile die auf die Server verteilt werden sollen */
 	private double[] networkParts=null;
@@ -48,15 +53,28 @@ public final class StartAnySimulator {
 	private String[] networkPasswords=null;
 	/** Zu dem Editor-Modell erstelltes zugehriges Laufzeitmodell */
 	private CallcenterRunModel runModel;
+	/** Entspricht das Laufzeitmodell dem Editor-Modell, so dass Ergebnisse ber den {@link SimulationResultCache} ausgetauscht werden drfen? */
+	private boolean cacheable;
 
 	/**
 	 * Konstruktor der Klasse
 	 * @param editModel	Zu prfendes und zu simulierendes Modell
 	 * @param logFile	Optionale Logdatei (kann <code>null</code> sein)
+	 * @param useCache	Drfen Ergebnisse aus dem {@link SimulationResultCache} verwendet bzw. dort abgelegt werden? (<code>false</code> z.B. fr Laufzeitmessungen, bei denen tatschlich simuliert werden muss)
 	 */
-	public StartAnySimulator(final CallcenterModel editModel, final File logFile) {
+	public StartAnySimulator(final CallcenterModel editModel, final File logFile, final boolean useCache) {
 		this.editModel=editModel;
 		this.logFile=logFile;
+		this.useCache=useCache;
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param editModel	Zu prfendes und zu simulierendes Modell
+	 * @param logFile	Optionale Logdatei (kann <code>null</code> sein)
+	 */
+	public StartAnySimulator(final CallcenterModel editModel, final File logFile) {
+		this(editModel,logFile,true);
 	}
 
 	/**
@@ -139,8 +157,14 @@ public final class StartAnySimulator {
 			runModel=new CallcenterRunModel(editModel);
 			s=runModel.checkAndInit(false,false,SetupData.getSetup().strictCheck);
 			if (s!=null) return s;
+			cacheable=true;
 		} else {
 			runModel=checkedRunModel;
+			cacheable=(checkedRunModel.editModel==editModel);
+			if (!cacheable && useCache && setup.simulationCache && logFile==null) {
+				final String hash=editModel.getContentHash(false);
+				cacheable=(hash!=null && hash.equals(checkedRunModel.editModel.getContentHash(false)));
+			}
 		}
 
 		return null;
@@ -152,6 +176,16 @@ public final class StartAnySimulator {
 	 * @see CallcenterSimulatorInterface
 	 */
 	public CallcenterSimulatorInterface run() {
+		return run(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Startet die Simulation
+	 * @param maxThreads	Maximale Anzahl an lokalen Rechenthreads (wird zustzlich durch die Einstellungen und die Anzahl an Kernen begrenzt; gilt nicht fr die Netzwerksimulation)
+	 * @return	Interface ber das auf den lokalen Simulator oder den Wrapper fr die Netzwerksimulation zugegriffen werden kann
+	 * @see CallcenterSimulatorInterface
+	 */
+	public CallcenterSimulatorInterface run(final int maxThreads) {
 		final SetupData setup=SetupData.getSetup();
 
 		CallcenterSimulatorInterface simulator;
@@ -164,14 +198,24 @@ public final class StartAnySimulator {
 			}
 			simulator=new RemoteAndLocalComplexCallcenterSimulator(editModel,setup.getRealMaxThreadNumber(),networkParts,networkServers,networkPorts,networkPasswords);
 		} else {
-			int threadCount=Math.min(setup.getRealMaxThreadNumber(),Runtime.getRuntime().availableProcessors());
+			int threadCount=Math.max(1,Math.min(maxThreads,Math.min(setup.getRealMaxThreadNumber(),Runtime.getRuntime().availableProcessors())));
 			if (setup.increaseNumberOfDays) {
 				int days=runModel.editModel.days;
 				while (days%threadCount!=0) days++;
 				runModel.editModel.days=days;
 				runModel.setDays(days);
 			}
+			final String cacheKey=(cacheable && useCache && logFile==null && setup.simulationCache)?SimulationResultCache.getKey(runModel.editModel):null;
+			final Statistics cached=SimulationResultCache.getCache().get(cacheKey);
+			if (cached!=null && cached.editModel!=null) {
+				/* Die Ergebnisse gelten auch fr Modelle, die sich nur in Name, Beschreibung und Datum unterscheiden. */
+				cached.editModel.name=runModel.editModel.name;
+				cached.editModel.description=runModel.editModel.description;
+				cached.editModel.date=runModel.editModel.date;
+				return new CachedSimulator(cached);
+			}
 			simulator=new Simulator(threadCount,runModel,logFile);
+			if (cacheKey!=null) simulator=new CachedSimulator(simulator,cacheKey);
 		}
 
 		return simulator;
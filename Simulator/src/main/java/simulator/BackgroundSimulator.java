@@ -45,6 +45,8 @@ public final class BackgroundSimulator {
 
 	/** Hinterlegtes Editor-Modell, welches mit neu bergebenen Modellen verglichen wird */
 	private CallcenterModel editModel;
+	/** Prfsumme ber den Inhalt von {@link #editModel} (wird vor dem Start der Simulation berechnet, da diese die Anzahl an Tagen verndern kann) */
+	private String editModelHash;
 	/** Laufzeit-Modell fr die Hintergrundsimulation */
 	private CallcenterRunModel runModel;
 	/** Simulator-Objekt fr die Hintergrundsimulation */
@@ -115,10 +117,21 @@ public final class BackgroundSimulator {
 			return (this.editModel==null);
 		} else {
 			if (this.editModel==null) return false;
-			return this.editModel.equalsCallcenterModel(editModel);
+			return isCurrentModel(editModel);
 		}
 	}
 
+	/**
+	 * Vergleicht das bergebene Modell ber die Prfsumme des Modellinhalts mit {@link #editModel}.
+	 * @param editModel	Zu vergleichendes Modell (darf nicht <code>null</code> sein)
+	 * @return	Liefert <code>true</code>, wenn die beiden Modelle inhaltlich identisch sind
+	 * @see CallcenterModel#getContentHash(boolean)
+	 */
+	private boolean isCurrentModel(final CallcenterModel editModel) {
+		if (editModelHash==null) return this.editModel.equalsCallcenterModel(editModel);
+		return editModelHash.equals(editModel.getContentHash(true));
+	}
+
 	/**
 	 * Liefert ber {@link #errorInfo} eine Fehlermeldung aus.
 	 * @param s	Auszugebende Fehlermeldung (<code>null</code> fr "kein Fehler")
@@ -139,13 +152,14 @@ public final class BackgroundSimulator {
 			int callers=0;
 
 			if (editModel!=null) {
-				if (this.editModel!=null && this.editModel.equalsCallcenterModel(editModel)) return;
+				if (this.editModel!=null && isCurrentModel(editModel)) return;
 				for (int i=0;i<editModel.caller.size();i++) if (editModel.caller.get(i).active) callers+=editModel.caller.get(i).freshCallsCountMean;
 			}
 
 			stop(false);
 
 			this.editModel=editModel; /* clone wird nicht bentigt, da das Modell bereits vor dem Aufruf von setModel gecloned wurde. */
+			editModelHash=(editModel==null)?null:editModel.getContentHash(true);
 			if (noStart || editModel==null) {runModel=null; return;}
 			runModel=new CallcenterRunModel(this.editModel);
 			String error=runModel.checkAndInit(false,false,SetupData.getSetup().strictCheck);
@@ -197,7 +211,7 @@ public final class BackgroundSimulator {
 	public CallcenterSimulatorInterface getSimulatorForModel(final CallcenterModel editModel) {
 		simMutex.lock();
 		try {
-			if (this.editModel==null || !this.editModel.equalsCallcenterModel(editModel)) {
+			if (this.editModel==null || editModel==null || !isCurrentModel(editModel)) {
 				stop(false);
 				noStart=true; modelGetter.run(); noStart=false;
 				return null;
@@ -228,7 +242,7 @@ public final class BackgroundSimulator {
 	public CallcenterRunModel getRunModelforModel(final CallcenterModel editModel) {
 		simMutex.lock();
 		try {
-			if (editModel==null || this.editModel==null || !this.editModel.equalsCallcenterModel(editModel) || runModel==null) return null;
+			if (editModel==null || this.editModel==null || !isCurrentModel(editModel) || runModel==null) return null;
 			return runModel;
 		} finally {
 			simMutex.unlock();
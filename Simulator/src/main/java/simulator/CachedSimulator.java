@@ -0,0 +1,164 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import language.Language;
+import statistics.StatisticsSimulationBaseData;
+
+/**
+ * Verbindet einen Simulator mit dem {@link SimulationResultCache}.<br>
+ * Entweder werden bereits vorhandene Ergebnisse sofort ausgeliefert (ohne dass
+ * eine Simulation stattfindet) oder die Ergebnisse eines regulr laufenden
+ * Simulators werden nach dessen erfolgreichem Abschluss im Zwischenspeicher abgelegt.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SimulationResultCache
+ * @see CallcenterSimulatorInterface
+ */
+public final class CachedSimulator implements CallcenterSimulatorInterface {
+	/** Eigentlicher Simulator (ist <code>null</code>, wenn zwischengespeicherte Ergebnisse ausgeliefert werden) */
+	private final CallcenterSimulatorInterface simulator;
+	/** Schlssel, unter dem die Ergebnisse abgelegt werden sollen */
+	private final String key;
+	/** Zwischengespeicherte bzw. bereits abgelegte Ergebnisse */
+	private Statistics statistics;
+	/** Wurde die Simulation abgebrochen? */
+	private boolean canceled;
+	/** Wurde die Simulation erfolgreich abgeschlossen? */
+	private boolean runOk;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Liefert bereits vorhandene Ergebnisse aus.<br>
+	 * Die Laufzeitdaten der ursprnglichen Simulation werden dabei zurckgesetzt und
+	 * die Ergebnisse werden per Warnung als zwischengespeichert gekennzeichnet.
+	 * @param statistics	Zwischengespeicherte Ergebnisse
+	 */
+	public CachedSimulator(final Statistics statistics) {
+		simulator=null;
+		key=null;
+		this.statistics=statistics;
+		canceled=false;
+		runOk=true;
+		markAsCached(statistics.simulationData);
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Legt die Ergebnisse des angegebenen Simulators nach dessen Abschluss im Zwischenspeicher ab.
+	 * @param simulator	Eigentlicher Simulator
+	 * @param key	Schlssel, unter dem die Ergebnisse abgelegt werden sollen
+	 */
+	public CachedSimulator(final CallcenterSimulatorInterface simulator, final String key) {
+		this.simulator=simulator;
+		this.key=key;
+		statistics=null;
+		canceled=false;
+		runOk=false;
+	}
+
+	/**
+	 * Setzt die Laufzeitdaten von zwischengespeicherten Ergebnissen auf die Werte des aktuellen
+	 * (nicht stattgefundenen) Simulationslaufs und vermerkt die Herkunft der Ergebnisse.
+	 * @param simulationData	Laufzeitdaten der zwischengespeicherten Ergebnisse
+	 */
+	private static void markAsCached(final StatisticsSimulationBaseData simulationData) {
+		simulationData.runDate=new SimpleDateFormat().format(Calendar.getInstance().getTime());
+		simulationData.runTime=0;
+		simulationData.runThreads=1;
+		simulationData.threadRunTimes=new int[]{0};
+		simulationData.threadDynamicBalance=0.0;
+		simulationData.numaAwareMode=false;
+		simulationData.runOS=System.getProperty("os.name")+" ("+System.getProperty("os.arch")+"), "+System.getProperty("java.vm.name")+" ("+System.getProperty("java.version")+")";
+		simulationData.runUser=System.getProperty("user.name");
+		simulationData.addWarning(Language.tr("Simulation.ResultCache.Hit"));
+	}
+
+	@Override
+	public void start(final boolean lowPriority) {
+		if (simulator!=null) simulator.start(lowPriority);
+	}
+
+	@Override
+	public void cancel() {
+		canceled=true;
+		if (simulator!=null) simulator.cancel();
+	}
+
+	@Override
+	public boolean isRunning() {
+		if (simulator==null) return false;
+		return simulator.isRunning();
+	}
+
+	@Override
+	public String finalizeRun() {
+		if (simulator==null) return null;
+		final String error=simulator.finalizeRun();
+		runOk=(error==null);
+		return error;
+	}
+
+	@Override
+	public Statistics collectStatistic() {
+		if (simulator==null || statistics!=null) return statistics;
+		final Statistics result=simulator.collectStatistic();
+		if (result!=null && runOk && !canceled) {
+			SimulationResultCache.getCache().put(key,result);
+			statistics=result;
+		}
+		return result;
+	}
+
+	@Override
+	public long getEventCount() {
+		if (simulator==null) return statistics.simulationData.runEvents;
+		return simulator.getEventCount();
+	}
+
+	@Override
+	public int getEventsPerSecond() {
+		if (simulator==null) return 0;
+		return simulator.getEventsPerSecond();
+	}
+
+	@Override
+	public long getSimDayCount() {
+		if (simulator==null) return statistics.simulationData.runRepeatCount;
+		return simulator.getSimDayCount();
+	}
+
+	@Override
+	public long getSimDaysCount() {
+		if (simulator==null) return statistics.simulationData.runRepeatCount;
+		return simulator.getSimDaysCount();
+	}
+
+	@Override
+	public void setPriority(final boolean low) {
+		if (simulator!=null) simulator.setPriority(low);
+	}
+
+	@Override
+	public File getLogFile() {
+		if (simulator==null) return null;
+		return simulator.getLogFile();
+	}
+}
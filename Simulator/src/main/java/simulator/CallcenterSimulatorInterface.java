@@ -28,6 +28,7 @@ import net.calc.StartAnySimulator;
  * verwendet, wissen muss, welche Simulator-Klasse sich genau
  * dahinter verbirgt.
  * @author Alexander Herzog
+ * @see CachedSimulator
  * @see MultiComplexCallcenterSimulator
  * @see RemoteAndLocalComplexCallcenterSimulator
  * @see RemoteComplexCallcenterSimulator
@@ -85,7 +86,8 @@ public interface CallcenterSimulatorInterface {
 	long getSimDayCount();
 
 	/**
-	 * Gbit die Gesamtzahl der zu simulierenden Tage zurck.
+	 * Gbit die Gesamtzahl der zu simulierenden Tage zurck.<br>
+	 * Wurde die Simulation ber eine sequentielle Abbruchregel vorzeitig beendet, so wird die Anzahl der tatschlich simulierten Tage geliefert.
 	 * @return Gesamtzahl der zu simulierenden Tage.
 	 */
 	long getSimDaysCount();
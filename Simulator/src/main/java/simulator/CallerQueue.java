@@ -0,0 +1,298 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simulator.RunData.AgentRecord;
+import simulator.RunData.CallerRecord;
+import ui.model.CallcenterRunModel;
+import ui.model.CallcenterRunModelCaller;
+
+/**
+ * Verwaltet die (intern) wartenden Kunden.<br><br>
+ * Pro Kundentyp gibt es zwei doppelt verkettete Listen (fr weitergeleitete und fr nicht weitergeleitete Kunden),
+ * deren Verkettung direkt in den Kundendatenstzen gespeichert wird. Einfgen und Entfernen erfolgen so in O(1).<br>
+ * Innerhalb einer Liste hngt der Score eines Kunden nur noch von seiner bisherigen Wartezeit ab. Hngt der Score
+ * von der Wartezeit ab, so wird die Liste nach dem Wartezeitbeginn sortiert gehalten, andernfalls in der Reihenfolge,
+ * in der die Kunden eingetroffen sind. Der beste Kunde eines Typs steht damit stets an einem der Enden einer der
+ * beiden Listen. Die Auswahl entspricht exakt der einer linearen Suche ber alle wartenden Kunden in der Reihenfolge
+ * ihres Eintreffens (bei gleichem Score gewinnt der Kunde, der zuerst eingetroffen ist).
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see RunData#queue
+ * @see RunData#findCallerForAgent(long, AgentRecord, simcore.SimData, boolean)
+ */
+public final class CallerQueue {
+	/**
+	 * Score hngt nicht von der Wartezeit ab
+	 */
+	private static final byte SCORE_CONSTANT=0;
+
+	/**
+	 * Score steigt mit der Wartezeit (der am lngsten wartende Kunde ist der beste)
+	 */
+	private static final byte SCORE_OLDEST_FIRST=1;
+
+	/**
+	 * Score sinkt mit der Wartezeit (der zuletzt eingetroffene Kunde ist der beste)
+	 */
+	private static final byte SCORE_NEWEST_FIRST=-1;
+
+	/**
+	 * Doppelt verkettete Liste von Kundendatenstzen
+	 */
+	private static final class Line {
+		/** Erstes Element der Liste */
+		private CallerRecord head;
+		/** Letztes Element der Liste */
+		private CallerRecord tail;
+	}
+
+	/**
+	 * Kundentypen
+	 */
+	private final CallcenterRunModelCaller[] callerTypes;
+
+	/**
+	 * Abhngigkeit des Scores von der Wartezeit pro Kundentyp
+	 * @see #SCORE_CONSTANT
+	 * @see #SCORE_OLDEST_FIRST
+	 * @see #SCORE_NEWEST_FIRST
+	 */
+	private final byte[] scoreMode;
+
+	/**
+	 * Wartende nicht weitergeleitete Kunden pro Kundentyp
+	 */
+	private final Line[] freshCalls;
+
+	/**
+	 * Wartende weitergeleitete Kunden pro Kundentyp
+	 */
+	private final Line[] continuedCalls;
+
+	/**
+	 * Anzahl an wartenden Kunden pro Kundentyp
+	 */
+	private final int[] size;
+
+	/**
+	 * Laufende Nummer, die der nchste Kunde in der Warteschlange erhlt
+	 * @see CallerRecord#queueOrder
+	 */
+	private long nextOrder;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Laufzeitmodell
+	 */
+	public CallerQueue(final CallcenterRunModel model) {
+		callerTypes=model.caller;
+
+		final int count=callerTypes.length;
+		scoreMode=new byte[count];
+		freshCalls=new Line[count];
+		continuedCalls=new Line[count];
+		size=new int[count];
+		for (int i=0;i<count;i++) {
+			final double scoreMilliSecond=callerTypes[i].scoreMilliSecond;
+			if (Math.abs(scoreMilliSecond)<0.0000001) scoreMode[i]=SCORE_CONSTANT; else scoreMode[i]=(scoreMilliSecond>0)?SCORE_OLDEST_FIRST:SCORE_NEWEST_FIRST;
+			freshCalls[i]=new Line();
+			continuedCalls[i]=new Line();
+		}
+	}
+
+	/**
+	 * Fgt einen Kunden in die Warteschlange ein.
+	 * @param caller	Kundendatensatz
+	 */
+	public void add(final CallerRecord caller) {
+		if (caller.inQueue) return;
+		final int index=caller.callerType.index;
+		caller.inQueue=true;
+		caller.queueContinued=caller.callContinued;
+		caller.queueOrder=nextOrder++;
+		size[index]++;
+
+		final Line line=caller.queueContinued?continuedCalls[index]:freshCalls[index];
+
+		/* Einfgeposition bestimmen (bei wartezeitabhngigem Score nach Wartezeitbeginn sortiert; in der Regel das Ende der Liste) */
+		CallerRecord prev=line.tail;
+		if (scoreMode[index]!=SCORE_CONSTANT) while (prev!=null && prev.startWaitingTime>caller.startWaitingTime) prev=prev.queuePrev;
+
+		caller.queuePrev=prev;
+		if (prev==null) {
+			caller.queueNext=line.head;
+			line.head=caller;
+		} else {
+			caller.queueNext=prev.queueNext;
+			prev.queueNext=caller;
+		}
+		if (caller.queueNext==null) line.tail=caller; else caller.queueNext.queuePrev=caller;
+	}
+
+	/**
+	 * Entfernt einen Kunden aus der Warteschlange.
+	 * @param caller	Kundendatensatz
+	 * @return	Liefert <code>true</code>, wenn sich der Kunde in der Warteschlange befunden hat
+	 */
+	public boolean remove(final CallerRecord caller) {
+		if (!caller.inQueue) return false;
+		final int index=caller.callerType.index;
+		caller.inQueue=false;
+		size[index]--;
+
+		final Line line=caller.queueContinued?continuedCalls[index]:freshCalls[index];
+		if (caller.queuePrev==null) line.head=caller.queueNext; else caller.queuePrev.queueNext=caller.queueNext;
+		if (caller.queueNext==null) line.tail=caller.queuePrev; else caller.queueNext.queuePrev=caller.queuePrev;
+		caller.queuePrev=null;
+		caller.queueNext=null;
+		return true;
+	}
+
+	/**
+	 * Gibt an, ob sich Kunden eines bestimmten Typs in der Warteschlange befinden.
+	 * @param callerTypeIndex	Index des Kundentyps
+	 * @return	Liefert <code>true</code>, wenn keine Kunden dieses Typs warten
+	 */
+	public boolean isEmpty(final int callerTypeIndex) {
+		return size[callerTypeIndex]==0;
+	}
+
+	/**
+	 * Liefert die Anzahl an wartenden Kunden eines bestimmten Typs.
+	 * @param callerTypeIndex	Index des Kundentyps
+	 * @return	Anzahl an wartenden Kunden dieses Typs
+	 */
+	public int size(final int callerTypeIndex) {
+		return size[callerTypeIndex];
+	}
+
+	/**
+	 * Liefert eine Liste der wartenden Kunden eines Typs in der Reihenfolge ihres Eintreffens.<br>
+	 * Die Liste ist eine Kopie, d.h. die Kunden knnen beim Durchlaufen aus der Warteschlange entfernt werden.
+	 * @param callerTypeIndex	Index des Kundentyps
+	 * @return	Liste der wartenden Kunden
+	 */
+	public List<CallerRecord> getCallers(final int callerTypeIndex) {
+		final List<CallerRecord> list=new ArrayList<>(size[callerTypeIndex]);
+		for (CallerRecord caller=freshCalls[callerTypeIndex].head;caller!=null;caller=caller.queueNext) list.add(caller);
+		for (CallerRecord caller=continuedCalls[callerTypeIndex].head;caller!=null;caller=caller.queueNext) list.add(caller);
+		list.sort((c1,c2)->Long.compare(c1.queueOrder,c2.queueOrder));
+		return list;
+	}
+
+	/**
+	 * Berechnet den Score eines wartenden Kunden.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param caller	Kundendatensatz
+	 * @return	Score des Kunden
+	 */
+	private static double getScore(final long now, final CallerRecord caller) {
+		final CallcenterRunModelCaller callerType=caller.callerType;
+		double score=callerType.scoreBase;
+		if (caller.callContinued) score+=callerType.scoreContinued;
+		if (Math.abs(callerType.scoreMilliSecond)>=0.0000001) score+=callerType.scoreMilliSecond*(now-caller.startWaitingTime);
+		return score;
+	}
+
+	/**
+	 * Sucht in einer Liste den Kunden mit dem hchsten Score, der die Mindestwartezeit erfllt.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param line	Liste der wartenden Kunden
+	 * @param mode	Abhngigkeit des Scores von der Wartezeit
+	 * @param minWaitingTime	Mindestwartezeit in Millisekunden (0, wenn keine Mindestwartezeit gilt)
+	 * @return	Bester Kunde oder <code>null</code>, wenn kein Kunde die Mindestwartezeit erfllt
+	 */
+	private static CallerRecord getBestCaller(final long now, final Line line, final byte mode, final int minWaitingTime) {
+		CallerRecord caller;
+
+		switch (mode) {
+		case SCORE_CONSTANT:
+			/* Erster Kunde, der die Mindestwartezeit erfllt */
+			for (caller=line.head;caller!=null;caller=caller.queueNext) if (minWaitingTime<=now-caller.startWaitingTime) return caller;
+			return null;
+		case SCORE_OLDEST_FIRST:
+			/* Am lngsten wartender Kunde; erfllt dieser die Mindestwartezeit nicht, so tut dies kein Kunde */
+			caller=line.head;
+			if (caller==null || minWaitingTime>now-caller.startWaitingTime) return null;
+			break;
+		default:
+			/* Zuletzt eingetroffener Kunde, der die Mindestwartezeit erfllt */
+			for (caller=line.tail;caller!=null;caller=caller.queuePrev) if (minWaitingTime<=now-caller.startWaitingTime) break;
+			if (caller==null) return null;
+			break;
+		}
+
+		/* Bei gleichem Score gewinnt der Kunde, der zuerst eingetroffen ist */
+		final double score=getScore(now,caller);
+		CallerRecord best=caller;
+		if (mode==SCORE_OLDEST_FIRST) {
+			for (caller=caller.queueNext;caller!=null;caller=caller.queueNext) {
+				if (minWaitingTime>now-caller.startWaitingTime || getScore(now,caller)!=score) break;
+				if (caller.queueOrder<best.queueOrder) best=caller;
+			}
+		} else {
+			for (caller=caller.queuePrev;caller!=null;caller=caller.queuePrev) {
+				if (getScore(now,caller)!=score) break;
+				if (caller.queueOrder<best.queueOrder) best=caller;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Sucht den wartenden Kunden mit dem hchsten Score fr einen Agenten.<br>
+	 * Der Kunde wird dabei nicht aus der Warteschlange entfernt.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param agent	Agent, fr den ein Kunde gesucht werden soll
+	 * @return	Passender Kunde oder <code>null</code>, wenn kein passender Kunde gefunden wurde
+	 */
+	public CallerRecord findBestCaller(final long now, final AgentRecord agent) {
+		final boolean[] eligible=agent.routingEligible;
+		final int[] minWaitingTime=agent.callcenter.routingMinWaitingTime;
+
+		CallerRecord bestCaller=null;
+		double bestScore=Double.NEGATIVE_INFINITY;
+
+		for (int i=0;i<callerTypes.length;i++) {
+			if (size[i]==0) continue;
+
+			/* Kann der Agent den Kunden bedienen ?*/
+			if (!eligible[i]) continue;
+
+			/* Besten Kunden dieses Typs bestimmen */
+			CallerRecord caller=getBestCaller(now,freshCalls[i],scoreMode[i],minWaitingTime[i]);
+			final CallerRecord continued=getBestCaller(now,continuedCalls[i],scoreMode[i],minWaitingTime[i]);
+			if (caller==null) {
+				if (continued==null) continue;
+				caller=continued;
+			} else if (continued!=null) {
+				final double s1=getScore(now,caller);
+				final double s2=getScore(now,continued);
+				if (s2>s1 || (s2==s1 && continued.queueOrder<caller.queueOrder)) caller=continued;
+			}
+
+			/* Vergleich mit den Kunden der anderen Typen */
+			final double score=getScore(now,caller);
+			if (score>bestScore) {bestCaller=caller; bestScore=score;}
+		}
+
+		return bestCaller;
+	}
+}
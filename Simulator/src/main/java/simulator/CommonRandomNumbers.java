@@ -0,0 +1,214 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.tools.SeedableThreadLocalRandomGenerator;
+import mathtools.distribution.tools.SplittableRandomGenerator;
+import simulator.RunData.CallerRecord;
+import ui.model.CallcenterModel;
+import ui.model.CallcenterRunModel;
+import ui.model.CallcenterRunModelCaller;
+
+/**
+ * Synchronisierte Zufallszahlenstrme (Common Random Numbers) fr den Vergleich von Modellvarianten.<br><br>
+ * Fr jeden Tag erhlt jede Kundengruppe fr jeden Verwendungszweck (Anknfte, Wartezeittoleranz,
+ * Bedienung, Folgeentscheidungen) einen eigenen Zufallszahlenstrom. Der Startwert eines Stroms hngt nur
+ * vom festen Startwert des Modells, der Nummer des Tages, dem Namen der Kundengruppe und dem Verwendungszweck ab.
+ * Werden zwei Modellvarianten (z.B. mit unterschiedlichen Agentenanzahlen) mit denselben Strmen simuliert,
+ * so ziehen die Kunden einer Gruppe dieselben Ankunftszeiten, Wartezeittoleranzen usw., auch wenn sich der Ablauf
+ * der Simulation durch die Modellnderung an anderer Stelle verschiebt. Unterschiede in den Ergebnissen gehen
+ * damit im Wesentlichen auf die Modellnderung und nicht auf Zufallsschwankungen zurck.<br>
+ * Die Strme einer Kundengruppe fr Wartezeittoleranzen, Bedienung und Folgeentscheidungen werden nicht direkt
+ * in der Reihenfolge der Ereignisse verwendet (diese hngt von der Modellvariante ab), sondern liefern beim Anlegen
+ * eines Kunden die Startwerte fr dessen eigene Strme (siehe {@link #initCaller(CallerRecord)}). Jeder Kunde zieht
+ * so in allen Modellvarianten dieselben Zufallszahlen, unabhngig davon, wann seine Ereignisse ausgefhrt werden.<br>
+ * Jeder Simulationsthread verwendet ein eigenes Objekt dieser Klasse.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see CallcenterModel#useCommonRandomNumbers
+ * @see SimulationData#getRandomGenerator(CallcenterRunModelCaller, int)
+ */
+public final class CommonRandomNumbers {
+	/** Verwendungszweck: Anzahl und Ankunftszeitpunkte der Erstanrufer */
+	public static final int ARRIVALS=0;
+	/** Verwendungszweck: Wartezeittoleranzen */
+	public static final int PATIENCE=1;
+	/** Verwendungszweck: Bedien- und Nachbearbeitungszeiten */
+	public static final int SERVICE=2;
+	/** Verwendungszweck: Wiederholungen, Weiterleitungen und Wiederanrufe (Entscheidungen und Zeitabstnde) */
+	public static final int FOLLOW_UP=3;
+
+	/** Anzahl an Verwendungszwecken pro Kundengruppe */
+	private static final int PURPOSE_COUNT=4;
+
+	/** Fester Startwert des Modells */
+	private final long masterSeed;
+	/** Zufallszahlenstrme pro Kundengruppe (Index gem {@link CallcenterRunModelCaller#index}) und Verwendungszweck */
+	private final SplittableRandomGenerator[][] streams;
+	/** Von der Reihenfolge der Kundengruppen im Modell unabhngige Schlssel der Kundengruppen */
+	private final long[] groupKeys;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Laufzeit-Modell (es wird der feste Startwert des zugehrigen Editor-Modells verwendet)
+	 */
+	public CommonRandomNumbers(final CallcenterRunModel model) {
+		masterSeed=model.editModel.fixedSeed;
+		streams=new SplittableRandomGenerator[model.caller.length][PURPOSE_COUNT];
+		groupKeys=new long[model.caller.length];
+		for (int i=0;i<streams.length;i++) {
+			groupKeys[i]=getGroupKey(model.caller[i]);
+			for (int j=0;j<PURPOSE_COUNT;j++) streams[i][j]=new SplittableRandomGenerator(0);
+		}
+	}
+
+	/**
+	 * Liefert den Schlssel einer Kundengruppe, der in die Startwerte der Strme eingeht.<br>
+	 * Der Schlssel hngt nur vom Namen der Gruppe ab, so dass gleichnamige Gruppen in verschiedenen
+	 * Modellvarianten auch dann dieselben Strme erhalten, wenn sich die Reihenfolge der Gruppen unterscheidet.
+	 * @param group	Kundengruppe
+	 * @return	Schlssel der Kundengruppe
+	 */
+	private static long getGroupKey(final CallcenterRunModelCaller group) {
+		return group.name.hashCode()&0xFFFFFFFFL;
+	}
+
+	/**
+	 * Berechnet den Startwert eines Zufallszahlenstroms.
+	 * @param masterSeed	Fester Startwert des Modells
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @param groupKey	Schlssel der Kundengruppe
+	 * @param purpose	Verwendungszweck (z.B. {@link #ARRIVALS})
+	 * @return	Startwert des Zufallszahlenstroms
+	 */
+	private static long getStreamSeed(final long masterSeed, final long dayModel, final long groupKey, final int purpose) {
+		final long daySeed=SeedableThreadLocalRandomGenerator.getStreamSeed(masterSeed,dayModel);
+		return SeedableThreadLocalRandomGenerator.getStreamSeed(daySeed,groupKey*PURPOSE_COUNT+purpose);
+	}
+
+	/**
+	 * Startet alle Strme fr einen neuen Tag neu.
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 */
+	public void initDay(final long dayModel) {
+		initDay(dayModel,false);
+	}
+
+	/**
+	 * Startet alle Strme fr einen neuen Tag neu.
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells), dessen Strme verwendet werden sollen
+	 * @param antithetic	Sollen die Strme antithetisch verwendet werden (zweiter Tag eines Tagespaares)?
+	 */
+	public void initDay(final long dayModel, final boolean antithetic) {
+		for (int i=0;i<streams.length;i++) for (int j=0;j<PURPOSE_COUNT;j++) {
+			streams[i][j].setSeed(getStreamSeed(masterSeed,dayModel,groupKeys[i],j));
+			streams[i][j].setAntithetic(antithetic);
+		}
+	}
+
+	/**
+	 * Initialisiert die kundenindividuellen Strme eines neu angelegten Kunden.<br>
+	 * Die Startwerte werden aus den Strmen der Kundengruppe gezogen. Da die Kunden einer Gruppe in allen
+	 * Modellvarianten in derselben Reihenfolge (der Reihenfolge ihres Eintreffens) angelegt werden, erhlt
+	 * jeder Kunde in allen Varianten dieselben Strme.
+	 * @param record	Neuer Kunde (die Kundengruppe muss bereits eingetragen sein)
+	 * @see #get(CallerRecord, int)
+	 */
+	public void initCaller(final CallerRecord record) {
+		final SplittableRandomGenerator[] groupStreams=streams[record.callerType.index];
+		if (record.randomStreams==null) record.randomStreams=new SplittableRandomGenerator[PURPOSE_COUNT];
+		for (int j=PATIENCE;j<PURPOSE_COUNT;j++) initCallerStream(record,j,groupStreams[j]);
+	}
+
+	/**
+	 * Initialisiert die kundenindividuellen Strme eines Kunden, der durch einen anderen Kunden ausgelst wurde (Wiederanrufer).<br>
+	 * Die Startwerte werden aus dem Strom fr Folgeentscheidungen des auslsenden Kunden gezogen, so dass sie nicht
+	 * von der (modellabhngigen) Reihenfolge abhngen, in der solche Kunden angelegt werden.
+	 * @param record	Neuer Kunde
+	 * @param parent	Auslsender Kunde (dessen Strme mssen bereits initialisiert sein)
+	 */
+	public static void initCaller(final CallerRecord record, final CallerRecord parent) {
+		final SplittableRandomGenerator source=parent.randomStreams[FOLLOW_UP];
+		if (record.randomStreams==null) record.randomStreams=new SplittableRandomGenerator[PURPOSE_COUNT];
+		for (int j=PATIENCE;j<PURPOSE_COUNT;j++) initCallerStream(record,j,source);
+	}
+
+	/**
+	 * Initialisiert einen kundenindividuellen Strom.<br>
+	 * Ein antithetisch verwendeter Quellstrom wird fr den Startwert wieder in den ursprnglichen Wert
+	 * umgerechnet und stattdessen der Kundenstrom antithetisch verwendet, so dass auch die Kunden eines
+	 * antithetischen Tagespaares zueinander antithetische Zufallszahlen ziehen.
+	 * @param record	Kunde
+	 * @param purpose	Verwendungszweck
+	 * @param source	Strom, aus dem der Startwert gezogen wird
+	 */
+	private static void initCallerStream(final CallerRecord record, final int purpose, final SplittableRandomGenerator source) {
+		final boolean antithetic=source.isAntithetic();
+		final long l=source.nextLong();
+		SplittableRandomGenerator stream=record.randomStreams[purpose];
+		if (stream==null) record.randomStreams[purpose]=stream=new SplittableRandomGenerator(0);
+		stream.setSeed(antithetic?~l:l);
+		stream.setAntithetic(antithetic);
+	}
+
+	/**
+	 * Liefert den kundenindividuellen Zufallszahlenstrom fr einen Verwendungszweck.
+	 * @param record	Kunde (dessen Strme per {@link #initCaller(CallerRecord)} initialisiert wurden)
+	 * @param purpose	Verwendungszweck ({@link #PATIENCE}, {@link #SERVICE} oder {@link #FOLLOW_UP})
+	 * @return	Zufallszahlenstrom
+	 */
+	public static RandomGenerator get(final CallerRecord record, final int purpose) {
+		return record.randomStreams[purpose];
+	}
+
+	/**
+	 * Liefert den Zufallszahlenstrom fr eine Kundengruppe und einen Verwendungszweck.
+	 * @param group	Kundengruppe
+	 * @param purpose	Verwendungszweck (z.B. {@link #SERVICE})
+	 * @return	Zufallszahlenstrom
+	 */
+	public RandomGenerator get(final CallcenterRunModelCaller group, final int purpose) {
+		return streams[group.index][purpose];
+	}
+
+	/**
+	 * Legt einen eigenstndigen Strom fr die Anknfte einer Kundengruppe an einem Tag an.<br>
+	 * Der Strom liefert dieselben Zahlen wie der per {@link #initDay(long, boolean)} und {@link #get(CallcenterRunModelCaller, int)}
+	 * abrufbare Strom und kann daher in einem Hilfs-Task verwendet werden, ohne die Strme des Simulationsthreads zu verndern.
+	 * @param model	Laufzeit-Modell
+	 * @param group	Kundengruppe
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells), dessen Strom verwendet werden soll
+	 * @param antithetic	Soll der Strom antithetisch verwendet werden (zweiter Tag eines Tagespaares)?
+	 * @return	Neuer Zufallszahlenstrom fr die Anknfte
+	 * @see FreshCallsPrefetch
+	 */
+	public static RandomGenerator getArrivalsStream(final CallcenterRunModel model, final CallcenterRunModelCaller group, final long dayModel, final boolean antithetic) {
+		final SplittableRandomGenerator generator=new SplittableRandomGenerator(getStreamSeed(model.editModel.fixedSeed,dayModel,getGroupKey(group),ARRIVALS));
+		generator.setAntithetic(antithetic);
+		return generator;
+	}
+
+	/**
+	 * Gibt an, ob fr ein Modell synchronisierte Zufallszahlenstrme verwendet werden sollen.
+	 * @param model	Laufzeit-Modell
+	 * @return	Liefert <code>true</code>, wenn synchronisierte Strme aktiviert sind und ein fester Startwert vorliegt
+	 */
+	public static boolean isActive(final CallcenterRunModel model) {
+		return model.editModel.useCommonRandomNumbers && model.editModel.useFixedSeed;
+	}
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import simulator.RunData.AgentRecord;
+import simulator.RunData.CallerRecord;
+import ui.model.CallcenterRunModel;
+import ui.model.CallcenterRunModelCallcenter;
+import ui.model.CallcenterRunModelCaller;
+
+/**
+ * Verwaltet die momentan im Leerlauf befindlichen Agenten.<br><br>
+ * Fr jeden Kundentyp werden die Agenten, die Kunden dieses Typs bedienen knnen, in eigenen
+ * sortierten Mengen vorgehalten. Agenten aus Callcentern, deren Score nur vom Callcenter und vom
+ * Skill-Level abhngt, werden absteigend nach diesem Score sortiert, so dass der beste Agent direkt
+ * am Anfang steht. Agenten aus Callcentern, bei denen der Score zustzlich vom Leerlauf abhngt,
+ * werden in der Reihenfolge, in der sie frei geworden sind, vorgehalten und bei der Suche einzeln geprft.<br>
+ * Einfgen und Entfernen erfolgen so in O(log n). Die Auswahl entspricht dabei exakt der einer
+ * linearen Suche ber alle freien Agenten in der Reihenfolge, in der sie frei geworden sind
+ * (bei gleichem Score gewinnt der Agent, der zuerst frei geworden ist).
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see RunData#freeAgents
+ * @see RunData#findAgentForCaller(long, CallerRecord, simcore.SimData, boolean)
+ */
+public final class FreeAgentPool {
+	/**
+	 * Agenten mit statischem Score pro Kundentyp (absteigend nach Score sortiert)
+	 */
+	private final TreeSet<AgentRecord>[] staticScoreAgents;
+
+	/**
+	 * Agenten mit leerlaufabhngigem Score pro Kundentyp (in der Reihenfolge, in der sie frei geworden sind)
+	 */
+	private final TreeSet<AgentRecord>[] dynamicScoreAgents;
+
+	/**
+	 * Anzahl der freien Agenten
+	 */
+	private int size;
+
+	/**
+	 * Laufende Nummer, die der nchste freie Agent erhlt
+	 * @see AgentRecord#freeAgentsOrder
+	 */
+	private long nextOrder;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Laufzeitmodell
+	 */
+	@SuppressWarnings("unchecked")
+	public FreeAgentPool(final CallcenterRunModel model) {
+		int count=0;
+		for (CallcenterRunModelCaller caller: model.caller) count=Math.max(count,caller.index+1);
+
+		final Comparator<AgentRecord> byOrder=(a1,a2)->Long.compare(a1.freeAgentsOrder,a2.freeAgentsOrder);
+		staticScoreAgents=new TreeSet[count];
+		dynamicScoreAgents=new TreeSet[count];
+		for (int i=0;i<count;i++) {
+			final int callerTypeIndex=i;
+			staticScoreAgents[i]=new TreeSet<>((a1,a2)->{
+				final int cmp=Integer.compare(a2.routingScore[callerTypeIndex],a1.routingScore[callerTypeIndex]);
+				return (cmp!=0)?cmp:Long.compare(a1.freeAgentsOrder,a2.freeAgentsOrder);
+			});
+			dynamicScoreAgents[i]=new TreeSet<>(byOrder);
+		}
+	}
+
+	/**
+	 * Gibt an, ob der Score der Agenten eines Callcenters vom Leerlauf abhngt.
+	 * @param callcenter	Callcenter
+	 * @return	Liefert <code>true</code>, wenn der Score vom Leerlauf abhngt
+	 */
+	private static boolean isDynamicScore(final CallcenterRunModelCallcenter callcenter) {
+		return callcenter.agentScoreFreeTimePart!=0 || callcenter.agentScoreFreeTimeSinceLastCall!=0;
+	}
+
+	/**
+	 * Liefert die Mengen, in die ein Agent fr die verschiedenen Kundentypen eingetragen wird.
+	 * @param agent	Agent
+	 * @return	Mengen pro Kundentyp
+	 */
+	private TreeSet<AgentRecord>[] getSets(final AgentRecord agent) {
+		return isDynamicScore(agent.callcenter)?dynamicScoreAgents:staticScoreAgents;
+	}
+
+	/**
+	 * Fgt einen Agenten zu der Liste der freien Agenten hinzu.
+	 * @param agent	Agent, der frei geworden ist
+	 */
+	public void add(final AgentRecord agent) {
+		if (agent.inFreeAgents) return;
+		agent.inFreeAgents=true;
+		agent.freeAgentsOrder=nextOrder++;
+		size++;
+
+		final TreeSet<AgentRecord>[] sets=getSets(agent);
+		final boolean[] eligible=agent.routingEligible;
+		for (int i=0;i<sets.length;i++) if (eligible[i]) sets[i].add(agent);
+	}
+
+	/**
+	 * Entfernt einen Agenten aus der Liste der freien Agenten.
+	 * @param agent	Agent, der nicht mehr frei ist
+	 * @return	Liefert <code>true</code>, wenn sich der Agent in der Liste befunden hat
+	 */
+	public boolean remove(final AgentRecord agent) {
+		if (!agent.inFreeAgents) return false;
+		agent.inFreeAgents=false;
+		size--;
+
+		final TreeSet<AgentRecord>[] sets=getSets(agent);
+		final boolean[] eligible=agent.routingEligible;
+		for (int i=0;i<sets.length;i++) if (eligible[i]) sets[i].remove(agent);
+		return true;
+	}
+
+	/**
+	 * Leert die Liste der freien Agenten (z.B. zum Ende eines Simulationstages).
+	 */
+	public void clear() {
+		for (TreeSet<AgentRecord> set: staticScoreAgents) {
+			for (AgentRecord agent: set) agent.inFreeAgents=false;
+			set.clear();
+		}
+		for (TreeSet<AgentRecord> set: dynamicScoreAgents) {
+			for (AgentRecord agent: set) agent.inFreeAgents=false;
+			set.clear();
+		}
+		size=0;
+	}
+
+	/**
+	 * Gibt an, ob momentan keine Agenten frei sind.
+	 * @return	Liefert <code>true</code>, wenn kein Agent frei ist
+	 */
+	public boolean isEmpty() {
+		return size==0;
+	}
+
+	/**
+	 * Liefert die Anzahl an freien Agenten.
+	 * @return	Anzahl an freien Agenten
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Prft, ob die Mindestwartezeit eines Kunden in Bezug auf ein Callcenter erfllt ist.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param callerRecord	Kundendatensatz
+	 * @param callcenter	Callcenter
+	 * @return	Liefert <code>true</code>, wenn der Kunde von Agenten des Callcenters bedient werden darf
+	 */
+	private static boolean minWaitingTimeDone(final long now, final CallerRecord callerRecord, final CallcenterRunModelCallcenter callcenter) {
+		return callcenter.routingMinWaitingTime[callerRecord.callerType.index]<=now-callerRecord.startWaitingTime;
+	}
+
+	/**
+	 * Sucht den freien Agenten mit dem hchsten Score fr einen Kunden.<br>
+	 * Der Agent wird dabei nicht aus der Liste entfernt.
+	 * @param now	Aktuelle Simulationszeit
+	 * @param callerRecord	Kundendatensatz fr den ein Agent gefunden werden soll
+	 * @return	Passender Agent oder <code>null</code>, wenn kein passender Agent gefunden wurde
+	 */
+	public AgentRecord findBestAgent(final long now, final CallerRecord callerRecord) {
+		final int callerTypeIndex=callerRecord.callerType.index;
+
+		AgentRecord bestAgent=null;
+		double bestScore=-1;
+
+		/* Agenten mit statischem Score: der erste Agent, der die Mindestwartezeit erfllt, ist der beste */
+		for (AgentRecord agent: staticScoreAgents[callerTypeIndex]) {
+			if (!minWaitingTimeDone(now,callerRecord,agent.callcenter)) continue;
+			final double score=agent.routingScore[callerTypeIndex];
+			if (score>bestScore) {bestAgent=agent; bestScore=score;}
+			break;
+		}
+
+		/* Agenten mit leerlaufabhngigem Score */
+		for (AgentRecord agent: dynamicScoreAgents[callerTypeIndex]) {
+			final CallcenterRunModelCallcenter callcenter=agent.callcenter;
+			if (!minWaitingTimeDone(now,callerRecord,callcenter)) continue;
+
+			double score=agent.routingScore[callerTypeIndex];
+			double d=callcenter.agentScoreFreeTimePart; if (d!=0) score+=d*agent.getFreeTimePart(); /* Score fr Leerlaufanteil */
+			d=callcenter.agentScoreFreeTimeSinceLastCall; if (d!=0) score+=d*agent.getFreeTimeSinceLastCall(now); /* Score fr Leerlauf seit letztem Anruf */
+
+			if (score>bestScore || (score==bestScore && bestAgent!=null && agent.freeAgentsOrder<bestAgent.freeAgentsOrder)) {bestAgent=agent; bestScore=score;}
+		}
+
+		return bestAgent;
+	}
+}
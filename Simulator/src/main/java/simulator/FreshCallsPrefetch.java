@@ -0,0 +1,192 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.util.FastMath;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import ui.model.CallcenterRunModel;
+import ui.model.CallcenterRunModelCaller;
+
+/**
+ * Erzeugt die Ankunftszeitpunkte der Erstanrufer eines Simulationstages in einem Hilfs-Task,
+ * whrend der Simulationsthread noch den vorherigen Tag simuliert.<br><br>
+ * Die Zufallszahlen werden dabei in exakt derselben Reihenfolge gezogen wie bei der direkten
+ * Erzeugung in {@link SimulationData}. Wird mit festem Startwert simuliert, so wird der Zufallszahlenstrom
+ * des Tages im Hilfs-Task eingestellt und nach der Erzeugung an den Simulationsthread bergeben, der ihn
+ * fr den Rest des Tages fortsetzt. Die Ergebnisse sind daher identisch zu einer Simulation ohne Vorausberechnung.
+ * Dasselbe gilt fr die (ggf. antithetisch verwendeten) Zufallszahlenstrme bei der Simulation von Tagespaaren.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SimulationData#setPrefetchFreshCalls(boolean)
+ */
+final class FreshCallsPrefetch {
+	/** Nummer des Tages (inkl. Tages-Offset des Modells), fr den die Ankunftszeitpunkte erzeugt werden */
+	public final long dayModel;
+
+	/** Hilfs-Task, der die Ankunftszeitpunkte erzeugt */
+	private final ForkJoinTask<long[][]> task;
+
+	/** Zufallszahlenstrom des Tages nach der Erzeugung (nur bei festem Startwert, sonst <code>null</code>) */
+	private SplittableRandom stream;
+
+	/** Soll im Hilfs-Task ein reproduzierbarer Zufallszahlenstrom eingestellt werden? */
+	private final boolean seeded;
+	/** Startwert fr den Zufallszahlenstrom des Tages */
+	private final long seed;
+	/** Nummer des Zufallszahlenstroms des Tages */
+	private final long streamNr;
+	/** Wird der Zufallszahlenstrom antithetisch verwendet? */
+	private final boolean antithetic;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Startet die Erzeugung der Ankunftszeitpunkte.
+	 * @param model	Laufzeit-Modell
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 */
+	public FreshCallsPrefetch(final CallcenterRunModel model, final long dayModel) {
+		this(model,dayModel,model.editModel.useFixedSeed,model.editModel.fixedSeed,dayModel,false);
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Startet die Erzeugung der Ankunftszeitpunkte unter Verwendung eines explizit angegebenen Zufallszahlenstroms.
+	 * @param model	Laufzeit-Modell
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @param seeded	Soll im Hilfs-Task ein reproduzierbarer Zufallszahlenstrom eingestellt werden?
+	 * @param seed	Startwert fr den Zufallszahlenstrom des Tages
+	 * @param streamNr	Nummer des Zufallszahlenstroms des Tages
+	 * @param antithetic	Wird der Zufallszahlenstrom antithetisch verwendet?
+	 */
+	public FreshCallsPrefetch(final CallcenterRunModel model, final long dayModel, final boolean seeded, final long seed, final long streamNr, final boolean antithetic) {
+		this.dayModel=dayModel;
+		this.seeded=seeded;
+		this.seed=seed;
+		this.streamNr=streamNr;
+		this.antithetic=antithetic;
+		task=ForkJoinPool.commonPool().submit(()->generate(model));
+	}
+
+	/**
+	 * Erzeugt die Ankunftszeitpunkte aller Anrufergruppen (wird im Hilfs-Task ausgefhrt).
+	 * @param model	Laufzeit-Modell
+	 * @return	Ankunftszeitpunkte (in Millisekunden) pro Anrufergruppe
+	 */
+	private long[][] generate(final CallcenterRunModel model) {
+		if (seeded) DistributionRandomNumber.setThreadStream(seed,streamNr,antithetic);
+		try {
+			final boolean commonRandomNumbers=CommonRandomNumbers.isActive(model);
+			final long[][] times=new long[model.caller.length][];
+			for (int i=0;i<times.length;i++) {
+				final CallcenterRunModelCaller group=model.caller[i];
+				final RandomGenerator generator=commonRandomNumbers?CommonRandomNumbers.getArrivalsStream(model,group,streamNr,antithetic):DistributionRandomNumber.generator;
+				times[i]=getFreshCallTimes(group,dayModel,generator);
+			}
+			return times;
+		} finally {
+			if (seeded) stream=DistributionRandomNumber.detachThreadStream();
+		}
+	}
+
+	/**
+	 * Wartet auf den Abschluss der Erzeugung und liefert die Ankunftszeitpunkte.<br>
+	 * Wurde mit festem Startwert simuliert, so wird der Zufallszahlenstrom des Tages anschlieend im aufrufenden Thread fortgesetzt.
+	 * @return	Ankunftszeitpunkte (in Millisekunden) pro Anrufergruppe oder <code>null</code>, wenn die Erzeugung fehlgeschlagen ist
+	 */
+	public long[][] get() {
+		final long[][] times;
+		try {
+			times=task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			return null;
+		}
+		if (stream!=null) DistributionRandomNumber.attachThreadStream(stream,antithetic);
+		return times;
+	}
+
+	/**
+	 * Bricht die Erzeugung ab, wenn die Ankunftszeitpunkte nicht mehr bentigt werden.
+	 */
+	public void cancel() {
+		task.cancel(false);
+	}
+
+	/**
+	 * Bestimmt die Anzahl an Erstanrufern einer Anrufergruppe an einem Tag.
+	 * @param group	Anrufergruppe
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @return	Anzahl an Erstanrufern
+	 */
+	public static int getFreshCallsCount(final CallcenterRunModelCaller group, final long dayModel) {
+		return getFreshCallsCount(group,dayModel,DistributionRandomNumber.generator);
+	}
+
+	/**
+	 * Bestimmt die Anzahl an Erstanrufern einer Anrufergruppe an einem Tag unter Verwendung eines bestimmten Zufallszahlenstroms.
+	 * @param group	Anrufergruppe
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @param generator	Zu verwendender Zufallszahlenstrom
+	 * @return	Anzahl an Erstanrufern
+	 */
+	public static int getFreshCallsCount(final CallcenterRunModelCaller group, final long dayModel, final RandomGenerator generator) {
+		int freshCallsCount=group.freshCallsCountMean;
+		if (group.freshCallsCountSD>0) {
+			freshCallsCount=(int) Math.max(0,Math.round(freshCallsCount+generator.nextGaussian()*group.freshCallsCountSD));
+		}
+		if (group.freshCallsCountAddByDay!=null && group.freshCallsCountAddByDay.length>dayModel) freshCallsCount+=group.freshCallsCountAddByDay[(int)dayModel];
+		return freshCallsCount;
+	}
+
+	/**
+	 * Erzeugt die Ankunftszeitpunkte der Erstanrufer einer Anrufergruppe an einem Tag.
+	 * @param group	Anrufergruppe
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @return	Ankunftszeitpunkte (in Millisekunden, in der Reihenfolge der Erzeugung bzw. bei {@link CallcenterRunModelCaller#freshCallsSorted} aufsteigend sortiert)
+	 */
+	public static long[] getFreshCallTimes(final CallcenterRunModelCaller group, final long dayModel) {
+		return getFreshCallTimes(group,dayModel,DistributionRandomNumber.generator);
+	}
+
+	/**
+	 * Erzeugt die Ankunftszeitpunkte der Erstanrufer einer Anrufergruppe an einem Tag unter Verwendung eines bestimmten Zufallszahlenstroms.
+	 * @param group	Anrufergruppe
+	 * @param dayModel	Nummer des Tages (inkl. Tages-Offset des Modells)
+	 * @param generator	Zu verwendender Zufallszahlenstrom
+	 * @return	Ankunftszeitpunkte (in Millisekunden, in der Reihenfolge der Erzeugung bzw. bei {@link CallcenterRunModelCaller#freshCallsSorted} aufsteigend sortiert)
+	 */
+	public static long[] getFreshCallTimes(final CallcenterRunModelCaller group, final long dayModel, final RandomGenerator generator) {
+		final long[] times=new long[getFreshCallsCount(group,dayModel,generator)];
+		final DataDistributionImpl freshCallsDist=group.freshCalls;
+		if (group.freshCallsSorted) {
+			final double[] sorted=freshCallsDist.randomSorted(generator,times.length);
+			for (int j=0;j<times.length;j++) times[j]=FastMath.round(1000*sorted[j]);
+		} else {
+			for (int j=0;j<times.length;j++) times[j]=FastMath.round(1000*freshCallsDist.random(generator));
+		}
+		return times;
+	}
+}
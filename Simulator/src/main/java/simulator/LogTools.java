@@ -17,6 +17,7 @@ package simulator;
 
 import language.Language;
 import simcore.SimData;
+import simcore.logging.TraceRecorder;
 import simulator.RunData.AgentRecord;
 import simulator.RunData.CallerRecord;
 
@@ -67,10 +68,37 @@ public class LogTools {
 	 * @param info	Zustzlicher Infotext (kann <code>null</code> sein)
 	 */
 	public static final void log(final SimData data, final String name, final CallerRecord caller, final AgentRecord agent, final String info) {
+		log(data,name,caller,agent,info,null,0,null,0);
+	}
+
+	/**
+	 * Erfasst eine Logging-Meldung mit bis zu zwei Zeitangaben.<br>
+	 * Es muss zuvor per {@link SimData#loggingActive} geprft werden,
+	 * ob das Logging berhaupt aktiv sein soll.
+	 * @param data	Simulationsdatenobjekt
+	 * @param name	Titel der Meldung
+	 * @param caller	Kundendatenobjekt (kann <code>null</code> sein)
+	 * @param agent	Agentendatenobjekt (kann <code>null</code> sein)
+	 * @param info	Zustzlicher fester Infotext (kann <code>null</code> sein)
+	 * @param label1	Bezeichnung der ersten Zeitangabe (<code>null</code> fr "keine Zeitangabe")
+	 * @param value1	Erste Zeitangabe in Millisekunden
+	 * @param label2	Bezeichnung der zweiten Zeitangabe (<code>null</code> fr "keine Zeitangabe")
+	 * @param value2	Zweite Zeitangabe in Millisekunden
+	 */
+	public static final void log(final SimData data, final String name, final CallerRecord caller, final AgentRecord agent, final String info, final String label1, final long value1, final String label2, final long value2) {
+		if (data.logging instanceof TraceRecorder) {
+			/* Binre Aufzeichnung: Kunde und Agent nur ber ihre IDs erfassen, Zeitangaben als Zahlen speichern, keine Texte zusammensetzen */
+			final TraceRecorder recorder=(TraceRecorder)data.logging;
+			recorder.record(data.currentTime,recorder.getType(name,null),(caller==null)?-1:caller.hashCode(),(agent==null)?-1:agent.hashCode(),recorder.getString(info),-1,recorder.getString(label1),value1,recorder.getString(label2),value2);
+			return;
+		}
+
 		String lines="";
 		if (caller!=null) lines+=callerData(caller);
 		if (agent!=null) lines+=agentData(agent);
 		if (info!=null && !info.isEmpty()) lines+=info;
+		if (label1!=null) lines+=label1+": "+SimData.formatSimTime(value1)+"\n";
+		if (label2!=null) lines+=label2+": "+SimData.formatSimTime(value2)+"\n";
 		data.logEventExecution(name,-1,lines);
 	}
 }
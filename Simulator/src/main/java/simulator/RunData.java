@@ -17,9 +17,9 @@ package simulator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.tools.SplittableRandomGenerator;
 import simcore.Event;
 import simcore.SimData;
 import simulator.events.CallCancelEvent;
@@ -83,15 +83,10 @@ public final class RunData {
 	 */
 	private int callerRecordTempCacheCount=0;
 
-	/**
-	 * Liste der Kundentypen
-	 */
-	private final CallcenterRunModelCaller[] queueCallerTypes;
-
 	/**
 	 * Warteschlangen nach Kundentypen
 	 */
-	public final ArrayList<CallerRecord>[] queueByType;
+	public final CallerQueue queue;
 
 	/**
 	 * Auerhalb (=bertrag vom Vortag) wartende Kunden nach Kundentypen
@@ -114,18 +109,13 @@ public final class RunData {
 	/**
 	 * Liste der momentan im Leerlauf befindlichen Agenten
 	 */
-	public final List<AgentRecord> freeAgents;
+	public final FreeAgentPool freeAgents;
 
 	/**
 	 * Anzahl der momentan arbeitenden Agenten
 	 */
 	public int workingAgentsCount;
 
-	/**
-	 * Cache. Wird in CallEvent.processCall verwendet.
-	 */
-	public final double[] workingAgentsCountArray=new double[1];
-
 	/**
 	 * Konstruktor der Klasse
 	 * @param model	Laufzeitmodell zu dem in diesem Objekt zustzliche Daten gespeichert werden sollen
@@ -139,15 +129,12 @@ public final class RunData {
 		callerRecordCache=new CallerRecord[Math.max(1024,Math.min(8192,initCacheSize))];
 		callerRecordTempCache=new CallerRecord[Math.max(1024,Math.min(8192,initCacheSize))];
 
-		queueCallerTypes=model.caller;
-
-		queueByType=new ArrayList[model.caller.length];
-		for (int i=0;i<model.caller.length;i++) queueByType[i]=new ArrayList<CallerRecord>();
+		queue=new CallerQueue(model);
 
 		externalQueueByType=new ArrayList[model.caller.length];
 		for (int i=0;i<model.caller.length;i++) externalQueueByType[i]=new ArrayList<CallerRecord>();
 
-		freeAgents=new ArrayList<AgentRecord>(); /* SplitList bringt leider nichts */
+		freeAgents=new FreeAgentPool(model);
 	}
 
 	/**
@@ -221,7 +208,7 @@ public final class RunData {
 	 */
 	public void addCallerToQueue(final CallerRecord callerRecord, final long time, final Statistics statistic) {
 		final CallcenterRunModelCaller callerType=callerRecord.callerType;
-		queueByType[callerType.index].add(callerRecord);
+		queue.add(callerRecord);
 		if (callerType.blocksLine) phoneCallQueueLength++;
 		queueLength++;
 		queueLengthChanged(time,statistic);
@@ -235,7 +222,7 @@ public final class RunData {
 	 */
 	public void removeCallerFromQueue(final CallerRecord callerRecord, final long time, final Statistics statistic) {
 		final CallcenterRunModelCaller callerType=callerRecord.callerType;
-		if (queueByType[callerType.index].remove(callerRecord)) {
+		if (queue.remove(callerRecord)) {
 			if (callerType.blocksLine) phoneCallQueueLength--;
 			queueLength--;
 			queueLengthChanged(time,statistic);
@@ -264,22 +251,15 @@ public final class RunData {
 	 * @param caller	Kundendatensatz
 	 * @param agent	Agentendatensatz
 	 * @param removeAgentFromFreeAgentsList	Soll der Agent aus der Liste der freien Agenten entfernt werden?
-	 * @param freeAgentIndex	Index des Agenten in {@link #freeAgents}; wird ein Wert &lt;0 angegeben, so wird der Agent in der Liste gesucht
 	 * @param data	Simulationsdatenobjekt
 	 * @param callerIsInQueue	Befindet sich der Anrufer in der Warteschlange?
 	 */
-	private void matchCallerAgent(final long now, final CallerRecord caller, final AgentRecord agent, final boolean removeAgentFromFreeAgentsList, final int freeAgentIndex, final SimData data, final boolean callerIsInQueue) {
+	private void matchCallerAgent(final long now, final CallerRecord caller, final AgentRecord agent, final boolean removeAgentFromFreeAgentsList, final SimData data, final boolean callerIsInQueue) {
 		/* Agent ist nicht mehr frei */
-		if (removeAgentFromFreeAgentsList) {
-			if (freeAgentIndex>=0) {
-				freeAgents.remove(freeAgentIndex);
-			} else {
-				freeAgents.remove(agent);
-			}
-		}
+		if (removeAgentFromFreeAgentsList) freeAgents.remove(agent);
 
 		/* Anrufer aus Warteschlange entfernen */
-		assert(callerIsInQueue==(queueByType[caller.callerType.index].indexOf(caller)>=0));
+		assert(callerIsInQueue==caller.inQueue);
 		if (callerIsInQueue) {
 			removeCallerFromQueue(caller,now,((SimulationData)data).statisticSimData);
 		}
@@ -289,7 +269,7 @@ public final class RunData {
 		agent.status=AGENT_TECHNISCHER_LEERLAUF;
 
 		/* Gesprchsbeginn-Ereignis anlegen */
-		Service1StartEvent startEvent=((Service1StartEvent)data.getEvent(Service1StartEvent.class));
+		Service1StartEvent startEvent=((Service1StartEvent)data.getEvent(Service1StartEvent.TYPE_ID));
 		startEvent.init(now+agent.callcenter.technicalFreeTime*1000);
 		startEvent.caller=caller;
 		startEvent.agent=agent;
@@ -320,43 +300,12 @@ public final class RunData {
 	public AgentRecord findAgentForCaller(final long now, final CallerRecord callerRecord, final SimData data, final boolean callerIsInQueue) {
 		if (freeAgents.isEmpty()) return null;
 
-		AgentRecord bestAgent=null;
-		double bestScore=-1;
-		int bestIndex=-1;
-
-		final CallcenterRunModelCaller callerType=callerRecord.callerType;
-		final int callerTypeIndex=callerType.index;
-
-		final int freeAgentsSize=freeAgents.size();
-		for (int i=0;i<freeAgentsSize;i++) {
-			final AgentRecord agent=freeAgents.get(i);
-
-			/* Kann der Agent den Kunden bedienen ?*/
-			final int skillLevelNr=agent.skillLevel.callerTypeByIndex[callerTypeIndex];
-			if (skillLevelNr<0) continue;
-
-			final CallcenterRunModelCallcenter callcenter=agent.callcenter;
-
-			/* Mindestwartezeit erfllt ? */
-			if (minWaitingTimeActive) {
-				final int j=callcenter.callerMinWaitingTimeClass.indexOf(callerType);
-				if (j>=0) {
-					if (callcenter.callerMinWaitingTimeMilliSecond.get(j)>now-callerRecord.startWaitingTime) continue;
-				}
-			}
-
-			/* Agenten-Score berechnen */
-			double score=callcenter.score+agent.skillLevel.callerTypeScore[skillLevelNr]; /* Callcenter Basisscore + Score des Skilllevels fr diesen Kundentyp */
-			double d=callcenter.agentScoreFreeTimePart; if (d!=0) score+=d*agent.getFreeTimePart(); /* Score fr Leerlaufanteil */
-			d=callcenter.agentScoreFreeTimeSinceLastCall; if (d!=0) score+=d*agent.getFreeTimeSinceLastCall(now); /* Score fr Leerlauf seit letztem Anruf */
-
-			if (score>bestScore) {bestAgent=agent; bestScore=score; bestIndex=i;}
-		}
+		final AgentRecord bestAgent=freeAgents.findBestAgent(now,callerRecord);
 
 		/* Kein Agent gefunden ? */
 		if (bestAgent==null) return null;
 
-		matchCallerAgent(now,callerRecord,bestAgent,true,bestIndex,data,callerIsInQueue);
+		matchCallerAgent(now,callerRecord,bestAgent,true,data,callerIsInQueue);
 		return bestAgent;
 	}
 
@@ -369,50 +318,12 @@ public final class RunData {
 	 * @return	Passender Kunden-Datensatz oder <code>null</code>, wenn kein passender Kunde gefunde wurde
 	 */
 	public CallerRecord findCallerForAgent(final long now, final AgentRecord agentRecord, final SimData data, final boolean removeAgentFromFreeAgentsList) {
-		CallerRecord bestCaller=null;
-		double bestScore=Double.NEGATIVE_INFINITY;
-
-		final short[] skills=agentRecord.skillLevel.callerTypeByIndex;
-
-		List<CallerRecord> list;
-		int listSize;
-		CallerRecord caller;
-		CallcenterRunModelCaller callerType;
-		int k;
-		double score;
-		for (int i=0;i<queueByType.length;i++) {
-			list=queueByType[i];
-			if (list.isEmpty()) continue;
-
-			/* Kann der Agent den Kunden bedienen ?*/
-			if (skills[queueCallerTypes[i].index]<0) continue;
-
-			listSize=list.size();
-			for (int j=0;j<listSize;j++) {
-				caller=list.get(j);
-				callerType=caller.callerType;
-
-				/* Mindestwartezeit erfllt ? */
-				if (minWaitingTimeActive) {
-					k=agentRecord.callcenter.callerMinWaitingTimeClass.indexOf(callerType);
-					if (k>=0) {
-						if (agentRecord.callcenter.callerMinWaitingTimeMilliSecond.get(k)>now-caller.startWaitingTime) continue;
-					}
-				}
-
-				/* Caller-Score berechnen */
-				score=callerType.scoreBase;
-				if (caller.callContinued) score+=callerType.scoreContinued;
-				if (Math.abs(callerType.scoreMilliSecond)>=0.0000001) score+=callerType.scoreMilliSecond*(now-caller.startWaitingTime);
-
-				if (score>bestScore) {bestCaller=caller; bestScore=score;}
-			}
-		}
+		final CallerRecord bestCaller=queue.findBestCaller(now,agentRecord);
 
 		/* Kein Kunde gefunden ? */
 		if (bestCaller==null) return null;
 
-		matchCallerAgent(now,bestCaller,agentRecord,removeAgentFromFreeAgentsList,-1,data,true);
+		matchCallerAgent(now,bestCaller,agentRecord,removeAgentFromFreeAgentsList,data,true);
 		return bestCaller;
 	}
 
@@ -525,7 +436,7 @@ public final class RunData {
 	/**
 	 * Laufzeitdaten eines Kunden
 	 * @author Alexander Herzog
-	 * @see RunData#queueByType
+	 * @see RunData#queue
 	 * @see RunData#externalQueueByType
 	 */
 	public final class CallerRecord {
@@ -556,6 +467,17 @@ public final class RunData {
 
 		/** Wartezeitbertrag vom Vortag */
 		public long initialStartWaitingTime;
+
+		/** Befindet sich der Kunde momentan in der Warteschlange? */
+		boolean inQueue;
+		/** Wurde der Kunde als weitergeleiteter Kunde in die Warteschlange aufgenommen? */
+		boolean queueContinued;
+		/** Laufende Nummer in der Reihenfolge des Eintreffens in der Warteschlange */
+		long queueOrder;
+		/** Vorheriger Kunde in der Warteschlange */
+		CallerRecord queuePrev;
+		/** Nchster Kunde in der Warteschlange */
+		CallerRecord queueNext;
 		/** Rest-Wartezeittoleranzbertrag vom Vortag */
 		public long initialRestWaitingTolerance;
 
@@ -564,6 +486,12 @@ public final class RunData {
 		/** Verweilzeitbertrag von vorherigen Gesprchen (vor einer Weiterleitung) **/
 		public int callerStayingTime;
 
+		/**
+		 * Kundenindividuelle Zufallszahlenstrme pro Verwendungszweck (werden bei synchronisierten Zufallszahlen beim Anlegen des Kunden initialisiert, sonst <code>null</code>)
+		 * @see CommonRandomNumbers#initCaller(CallerRecord)
+		 */
+		public SplittableRandomGenerator[] randomStreams;
+
 		/**
 		 * Reinitialisiert den Kundendatensatz.<br>
 		 * (Die Objekte werden nicht immer wieder angelegt und
@@ -652,6 +580,15 @@ public final class RunData {
 		public Statistics.AgentenDaten statisticProCallcenter;
 		/** Skill-Level-spezifisches Agentenstatistikobjekt */
 		public Statistics.AgentenDaten statisticProSkilllevel;
+		/** Kann der Agent Kunden des jeweiligen Typs bedienen? (Zeile aus {@link CallcenterRunModelCallcenter#routingEligible}) */
+		public boolean[] routingEligible;
+		/** Vom Leerlauf unabhngiger Score des Agenten pro Kundentyp (Zeile aus {@link CallcenterRunModelCallcenter#routingScore}) */
+		public int[] routingScore;
+
+		/** Befindet sich der Agent momentan in der Liste der freien Agenten? */
+		boolean inFreeAgents;
+		/** Laufende Nummer, in welcher Reihenfolge die Agenten frei geworden sind (siehe {@link FreeAgentPool}) */
+		long freeAgentsOrder;
 
 		/** Gesamter entstandener Leerlauf (an einem Tag) */
 		private int leerlaufGesamt; /* Daten pro Tag, daher sollte ein Int reichen */
@@ -919,7 +856,7 @@ public final class RunData {
 		 * Liefert den Leerlaufanteil des Agenten.
 		 * @return	Leerlaufanteil des Agenten
 		 */
-		private final double getFreeTimePart() {
+		final double getFreeTimePart() {
 			final long free=leerlaufGesamt+technischerLeerlaufGesamt;
 			if (free==0) return 0.0;
 			final long work=arbeitGesamt+postProcessingGesamt;
@@ -932,7 +869,7 @@ public final class RunData {
 		 * @param now	Aktueller Zeitpunkt
 		 * @return	Leerlaufzeit seit dem letzten Anruf.
 		 */
-		private final long getFreeTimeSinceLastCall(final long now) {
+		final long getFreeTimeSinceLastCall(final long now) {
 			if (status!=AGENT_LEERLAUF) return 0; else return now-lastStatusChange;
 		}
 	}
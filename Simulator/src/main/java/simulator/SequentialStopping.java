@@ -0,0 +1,129 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import simcore.SimDayDispatcher;
+import statistics.StatisticsDataPerformanceIndicator;
+import ui.model.CallcenterModel;
+
+/**
+ * Sequentielles Abbruchkriterium fr die Simulation.<br><br>
+ * Die Simulationsthreads melden nach jedem Tag ber {@link #addDay(long, Statistics.KundenDaten)} die Tageswerte
+ * von Service-Level, mittlerer Wartezeit und Abbruchrate. Diese werden in der Reihenfolge der globalen
+ * Tagesnummern zu Batches zusammengefasst. Sobald fr alle Kenngren, fr die im Modell eine Zielgenauigkeit
+ * vorgegeben ist, die halbe Breite des Batch-Means-Konfidenzintervalls hchstens so gro wie der Zielwert ist,
+ * werden ber den {@link SimDayDispatcher} keine weiteren Tage mehr vergeben. Die im Modell eingestellte
+ * Anzahl an Tagen dient dabei als Obergrenze.<br>
+ * Da nur die lckenlose Folge der Tage ab Tag 0 ausgewertet wird, hngt der Zeitpunkt der Entscheidung
+ * nicht davon ab, in welcher Reihenfolge die Threads ihre Tage abschlieen.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see CallcenterModel#useSequentialStopping()
+ */
+public final class SequentialStopping {
+	/** Anzahl an Tagen pro Batch */
+	public static final int BATCH_SIZE=2;
+
+	/** Mindestanzahl an Batches, bevor das Abbruchkriterium geprft wird */
+	public static final int MIN_BATCH_COUNT=10;
+
+	/** Index der Kenngre Service-Level (bezogen auf die erfolgreichen Anrufe) */
+	private static final int INDEX_SERVICE_LEVEL=0;
+	/** Index der Kenngre mittlere Wartezeit der erfolgreichen Anrufe */
+	private static final int INDEX_WAITING_TIME=1;
+	/** Index der Kenngre Abbruchrate der Anrufe */
+	private static final int INDEX_CANCEL_RATE=2;
+
+	/** Objekt zur Vergabe der Tage, ber das die Simulation beendet wird */
+	private final SimDayDispatcher dispatcher;
+	/** Irrtumswahrscheinlichkeit fr die Konfidenzintervalle (1 minus Konfidenzniveau) */
+	private final double alpha;
+	/** Angestrebte halbe Breiten der Konfidenzintervalle pro Kenngre (Werte &le;0 fr nicht zu bercksichtigende Kenngren) */
+	private final double[] halfWidth;
+	/** Statistikobjekte zur Erfassung der Tageswerte pro Kenngre */
+	private final StatisticsDataPerformanceIndicator[] indicators;
+	/** Bereits gemeldete Tage, die noch nicht ausgewertet werden konnten, weil ein Tag mit kleinerer Nummer noch fehlt */
+	private final Map<Long,double[]> pending;
+	/** Nummer des nchsten auszuwertenden Tages (entspricht der Anzahl an ausgewerteten Tagen) */
+	private long nextDay;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Modell, dem die Zielgenauigkeiten entnommen werden
+	 * @param dispatcher	Objekt zur Vergabe der Tage, ber das die Simulation beendet wird
+	 */
+	public SequentialStopping(final CallcenterModel model, final SimDayDispatcher dispatcher) {
+		this.dispatcher=dispatcher;
+		alpha=1-model.stopConfidenceLevel;
+		halfWidth=new double[3];
+		halfWidth[INDEX_SERVICE_LEVEL]=model.stopServiceLevelHalfWidth;
+		halfWidth[INDEX_WAITING_TIME]=model.stopWaitingTimeHalfWidth;
+		halfWidth[INDEX_CANCEL_RATE]=model.stopCancelRateHalfWidth;
+		indicators=new StatisticsDataPerformanceIndicator[halfWidth.length];
+		for (int i=0;i<indicators.length;i++) indicators[i]=new StatisticsDataPerformanceIndicator(new String[]{"StoppingRule"},0,0,-1,BATCH_SIZE);
+		pending=new HashMap<>();
+		nextDay=0;
+	}
+
+	/**
+	 * Erfasst die Ergebnisse eines abgeschlossenen Tages und beendet ggf. die Vergabe weiterer Tage.
+	 * @param dayGlobal	Globale Nummer des Tages (0-basierend)
+	 * @param data	Kundendaten, fr die {@link Statistics.KundenDaten#updateInterDayData()} fr diesen Tag bereits aufgerufen wurde
+	 */
+	public synchronized void addDay(final long dayGlobal, final Statistics.KundenDaten data) {
+		if (dispatcher.isStopped()) return;
+
+		final double[] values=new double[halfWidth.length];
+		values[INDEX_SERVICE_LEVEL]=data.completedDayServiceLevelCallsSuccess;
+		values[INDEX_WAITING_TIME]=data.completedDayWartezeit;
+		values[INDEX_CANCEL_RATE]=1-data.completedDaySuccessCalls;
+		pending.put(dayGlobal,values);
+
+		double[] next;
+		while ((next=pending.remove(nextDay))!=null) {
+			for (int i=0;i<indicators.length;i++) indicators[i].add(next[i]);
+			nextDay++;
+			if (nextDay%BATCH_SIZE==0 && isPrecisionReached()) {
+				pending.clear();
+				dispatcher.stop();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Prft, ob die angestrebten Genauigkeiten fr alle zu bercksichtigenden Kenngren erreicht sind.
+	 * @return	Liefert <code>true</code>, wenn die Simulation beendet werden kann
+	 */
+	private boolean isPrecisionReached() {
+		for (int i=0;i<indicators.length;i++) if (halfWidth[i]>0) {
+			if (indicators[i].getBatchCount()<MIN_BATCH_COUNT) return false;
+			if (indicators[i].getBatchMeanConfidenceHalfWideWithoutFinalize(alpha)>halfWidth[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Liefert die Anzahl der bisher in lckenloser Folge ausgewerteten Tage.
+	 * @return	Anzahl der ausgewerteten Tage
+	 */
+	public synchronized long getEvaluatedDays() {
+		return nextDay;
+	}
+}
@@ -16,13 +16,19 @@
 package simulator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
 import mathtools.distribution.DataDistributionImpl;
 import mathtools.distribution.tools.DistributionRandomNumber;
+import simcore.Event;
 import simcore.SimData;
+import simcore.SimDayDispatcher;
 import simcore.eventcache.EventCache;
 import simcore.eventmanager.EventManager;
 import simulator.RunData.AgentRecord;
@@ -79,20 +85,225 @@ public final class SimulationData extends SimData {
 	 * @param model	Referenz auf das Objekt, das die statischen Daten fr die Simulation enthlt
 	 */
 	public SimulationData(final EventManager eventManager, final EventCache eventCache, final int threadNr, final int threadCount, final CallcenterRunModel model) {
+		this(eventManager,eventCache,threadNr,threadCount,model,null);
+	}
+
+	/**
+	 * Konstruktor der Klasse <code>ComplexSimData</code>
+	 * @param eventManager	Referenz auf das zur Simulation zu verwendende EventManager-Objekt
+	 * @param eventCache	Referenz auf das zur Simulation zu verwendende EventCache-Objekt
+	 * @param threadNr	Nummer des Simulationsthreads (von 0 an gezhlt)
+	 * @param threadCount	Anzahl der Rechenthreads (wird bentigt, um aus der Gesamtzahl der zu simulierenden Anrufe auf die in diesem Thread zu simulierende Anruferanzahl zu schlieen)
+	 * @param model	Referenz auf das Objekt, das die statischen Daten fr die Simulation enthlt
+	 * @param dayDispatcher	Optionales, von allen Threads gemeinsam genutztes Objekt zur dynamischen Verteilung der Tage auf die Threads (kann <code>null</code> sein, dann erfolgt eine feste Aufteilung)
+	 */
+	public SimulationData(final EventManager eventManager, final EventCache eventCache, final int threadNr, final int threadCount, final CallcenterRunModel model, final SimDayDispatcher dayDispatcher) {
 		super(eventManager,eventCache,threadNr,threadCount);
 		this.model=model;
+		this.dayDispatcher=dayDispatcher;
 
-		simDaysByOtherThreads=0;
-		for (int i=0;i<threadNr;i++) {
-			simDaysByOtherThreads+=model.getDays()/threadCount;
-			if (model.getDays()%threadCount>=threadNr+1) simDaysByOtherThreads++;
-		}
+		if (dayDispatcher==null) {
+			simDaysByOtherThreads=0;
+			for (int i=0;i<threadNr;i++) {
+				simDaysByOtherThreads+=model.getDays()/threadCount;
+				if (model.getDays()%threadCount>=threadNr+1) simDaysByOtherThreads++;
+			}
 
-		simDays=model.getDays()/threadCount;
-		if (model.getDays()%threadCount>=threadNr+1) simDays++;
+			simDays=model.getDays()/threadCount;
+			if (model.getDays()%threadCount>=threadNr+1) simDays++;
+		} else {
+			/* Die Anzahl an Tagen pro Thread steht erst nach der Simulation fest und wird in initDay gezhlt. */
+			simDaysByOtherThreads=0;
+			simDays=0;
+		}
 
 		dynamicSimData=new RunData(model);
 		statisticSimData=new Statistics(null,model,threadCount,simDays);
+		commonRandomNumbers=CommonRandomNumbers.isActive(model)?new CommonRandomNumbers(model):null;
+	}
+
+	/**
+	 * Synchronisierte Zufallszahlenstrme pro Kundengruppe und Verwendungszweck
+	 * (<code>null</code>, wenn alle Zufallszahlen aus dem Strom des Threads gezogen werden)
+	 * @see #getRandomGenerator(CallcenterRunModelCaller, int)
+	 */
+	private final CommonRandomNumbers commonRandomNumbers;
+
+	/**
+	 * Liefert den Zufallszahlengenerator, aus dem die Zufallszahlen fr eine Kundengruppe und einen Verwendungszweck gezogen werden sollen.
+	 * @param group	Kundengruppe
+	 * @param purpose	Verwendungszweck (z.B. {@link CommonRandomNumbers#SERVICE})
+	 * @return	Synchronisierter Strom fr Kundengruppe und Verwendungszweck oder, wenn keine synchronisierten Strme verwendet werden, {@link DistributionRandomNumber#generator}
+	 */
+	public RandomGenerator getRandomGenerator(final CallcenterRunModelCaller group, final int purpose) {
+		if (commonRandomNumbers==null) return DistributionRandomNumber.generator;
+		return commonRandomNumbers.get(group,purpose);
+	}
+
+	/**
+	 * Liefert den Zufallszahlengenerator, aus dem die Zufallszahlen fr einen Kunden und einen Verwendungszweck gezogen werden sollen.
+	 * @param caller	Kunde
+	 * @param purpose	Verwendungszweck ({@link CommonRandomNumbers#PATIENCE}, {@link CommonRandomNumbers#SERVICE} oder {@link CommonRandomNumbers#FOLLOW_UP})
+	 * @return	Kundenindividueller synchronisierter Strom oder, wenn keine synchronisierten Strme verwendet werden, {@link DistributionRandomNumber#generator}
+	 * @see #initRandomStreams(CallerRecord)
+	 */
+	public RandomGenerator getRandomGenerator(final CallerRecord caller, final int purpose) {
+		if (commonRandomNumbers==null) return DistributionRandomNumber.generator;
+		return CommonRandomNumbers.get(caller,purpose);
+	}
+
+	/**
+	 * Initialisiert bei der Verwendung von synchronisierten Zufallszahlen die Strme eines neu angelegten Kunden.
+	 * @param caller	Neuer Kunde (die Kundengruppe muss bereits eingetragen sein)
+	 * @see #getRandomGenerator(CallerRecord, int)
+	 */
+	public void initRandomStreams(final CallerRecord caller) {
+		if (commonRandomNumbers!=null) commonRandomNumbers.initCaller(caller);
+	}
+
+	/**
+	 * Initialisiert bei der Verwendung von synchronisierten Zufallszahlen die Strme eines Kunden, der durch einen anderen Kunden ausgelst wurde.
+	 * @param caller	Neuer Kunde
+	 * @param parent	Auslsender Kunde
+	 * @see #getRandomGenerator(CallerRecord, int)
+	 */
+	public void initRandomStreams(final CallerRecord caller, final CallerRecord parent) {
+		if (commonRandomNumbers!=null) CommonRandomNumbers.initCaller(caller,parent);
+	}
+
+	/**
+	 * Globale Nummern der in diesem Thread simulierten Tage (in der Reihenfolge der Simulation)
+	 * @see #getSimulatedDaysGlobal()
+	 */
+	private final List<Long> simulatedDaysGlobal=new ArrayList<>();
+
+	/**
+	 * Liefert die globalen Nummern der in diesem Thread simulierten Tage.
+	 * @return	Globale Nummern der simulierten Tage (in der Reihenfolge, in der die Tage simuliert und in der Statistik erfasst wurden)
+	 */
+	public long[] getSimulatedDaysGlobal() {
+		final long[] result=new long[simulatedDaysGlobal.size()];
+		for (int i=0;i<result.length;i++) result[i]=simulatedDaysGlobal.get(i);
+		return result;
+	}
+
+	/**
+	 * Sollen die Ankunftszeitpunkte der Erstanrufer des jeweils nchsten Tages bereits
+	 * whrend der Simulation des aktuellen Tages in einem Hilfs-Task erzeugt werden?
+	 * @see #setPrefetchFreshCalls(boolean)
+	 */
+	private boolean prefetchFreshCalls=false;
+
+	/**
+	 * Laufende oder abgeschlossene Vorausberechnung der Erstanrufer des nchsten Tages (kann <code>null</code> sein)
+	 */
+	private FreshCallsPrefetch freshCallsPrefetch=null;
+
+	/**
+	 * Bei dynamischer Verteilung der Tage bereits im Voraus angeforderter nchster Tag
+	 * (-1, wenn keine Tage mehr verfgbar sind, oder -2, wenn kein Tag im Voraus angefordert wurde)
+	 * @see #nextDay()
+	 */
+	private long lookaheadDay=-2;
+
+	/**
+	 * Stellt ein, ob die Ankunftszeitpunkte der Erstanrufer des jeweils nchsten Tages bereits
+	 * whrend der Simulation des aktuellen Tages in einem Hilfs-Task erzeugt werden sollen.<br>
+	 * Der Simulationsthread muss die vorab erzeugten Zeitpunkte dann zu Beginn des Tages nur noch in
+	 * Ereignisse bertragen. Die Ergebnisse sind identisch zur Simulation ohne Vorausberechnung.
+	 * Bei dynamischer Verteilung der Tage auf die Threads fordert der Thread dafr jeweils einen Tag im Voraus an
+	 * (siehe {@link #isLookaheadAllowed()}).
+	 * @param prefetchFreshCalls	Erstanrufer des nchsten Tages vorab erzeugen
+	 * @see FreshCallsPrefetch
+	 */
+	public void setPrefetchFreshCalls(final boolean prefetchFreshCalls) {
+		this.prefetchFreshCalls=prefetchFreshCalls;
+	}
+
+	/**
+	 * Optionales, von allen Threads gemeinsam genutztes sequentielles Abbruchkriterium (kann <code>null</code> sein)
+	 * @see #setSequentialStopping(SequentialStopping)
+	 */
+	private SequentialStopping sequentialStopping=null;
+
+	/**
+	 * Globale Nummer des aktuell in diesem Thread simulierten Tages
+	 */
+	private long currentDayGlobal;
+
+	/**
+	 * Stellt ein sequentielles Abbruchkriterium ein, an das nach jedem Tag die Tagesergebnisse gemeldet werden.
+	 * @param sequentialStopping	Von allen Threads gemeinsam genutztes Abbruchkriterium (kann <code>null</code> sein)
+	 * @see SequentialStopping
+	 */
+	public void setSequentialStopping(final SequentialStopping sequentialStopping) {
+		this.sequentialStopping=sequentialStopping;
+	}
+
+	/**
+	 * Werden die Tage als Paare aus einem normalen und einem antithetischen Tag simuliert?
+	 * @see #setAntitheticVariates(long)
+	 */
+	private boolean antitheticVariates=false;
+
+	/**
+	 * Startwert, aus dem im Fall von {@link #antitheticVariates} die Zufallszahlenstrme der Tagespaare abgeleitet werden
+	 * @see #setAntitheticVariates(long)
+	 */
+	private long antitheticSeed;
+
+	/**
+	 * Aktiviert die Simulation von Tagespaaren mit antithetischen Zufallszahlen.<br>
+	 * Der zweite Tag eines Paares (ungerade globale Tagesnummer) verwendet den Zufallszahlenstrom des ersten Tages,
+	 * wobei anstelle jeder gleichverteilten Zufallszahl <code>u</code> der Wert <code>1-u</code> verwendet wird.
+	 * Beide Tage eines Paares mssen von demselben Thread simuliert werden (siehe {@link SimDayDispatcher#SimDayDispatcher(long, int)}).
+	 * @param seed	Startwert, aus dem die Zufallszahlenstrme der Tagespaare abgeleitet werden (bei einem festen Startwert im Modell sollte dieser verwendet werden)
+	 * @see Statistics.KundenDaten#updateInterDayData(long)
+	 */
+	public void setAntitheticVariates(final long seed) {
+		antitheticVariates=true;
+		antitheticSeed=seed;
+	}
+
+	@Override
+	public long nextDay() {
+		if (!prefetchFreshCalls) return super.nextDay();
+		final long day=(lookaheadDay==-2)?super.nextDay():lookaheadDay;
+		lookaheadDay=(day>=0 && isLookaheadAllowed())?super.nextDay():-2;
+		return day;
+	}
+
+	/**
+	 * Gibt an, ob bei dynamischer Verteilung der Tage bereits der nchste Tag angefordert werden darf.<br>
+	 * Sind weniger noch nicht vergebene Tage als Threads vorhanden, so wird kein Tag im Voraus angefordert,
+	 * damit die verbleibenden Tage von gerade freien Threads bernommen werden knnen. Nach dem Ansprechen
+	 * des sequentiellen Abbruchkriteriums werden ebenfalls keine Tage mehr im Voraus angefordert.
+	 * @return	Liefert <code>true</code>, wenn der nchste Tag im Voraus angefordert werden darf
+	 * @see #nextDay()
+	 */
+	private boolean isLookaheadAllowed() {
+		if (dayDispatcher.isStopped()) return false;
+		return dayDispatcher.getDays()-dayDispatcher.getDispatchedDays()>=(long)threadCount*dayDispatcher.getBlockSize();
+	}
+
+	/**
+	 * Startet, sofern aktiviert, die Erzeugung der Erstanrufer des nchsten in diesem Thread zu simulierenden Tages.
+	 * @param day	Nummer des aktuellen Tages innerhalb dieses Threads
+	 * @param dayGlobal	Nummer des aktuellen Tages (global ber alle Threads)
+	 * @see #setPrefetchFreshCalls(boolean)
+	 */
+	private void startFreshCallsPrefetch(final long day, final long dayGlobal) {
+		if (!prefetchFreshCalls) return;
+		final long nextDayGlobal;
+		if (dayDispatcher==null) nextDayGlobal=(day+1<simDays)?dayGlobal+1:-1; else nextDayGlobal=lookaheadDay;
+		if (nextDayGlobal<0) return;
+		final long nextDayModel=nextDayGlobal+model.editModel.daysOffset;
+		if (antitheticVariates) {
+			final boolean antithetic=(nextDayGlobal%2==1);
+			freshCallsPrefetch=new FreshCallsPrefetch(model,nextDayModel,true,antitheticSeed,antithetic?(nextDayModel-1):nextDayModel,antithetic);
+		} else {
+			freshCallsPrefetch=new FreshCallsPrefetch(model,nextDayModel);
+		}
 	}
 
 	/**
@@ -117,6 +328,17 @@ public final class SimulationData extends SimData {
 			initCallsList.clear();
 		}
 
+		/* Ggf. bereits vorab erzeugte Ankunftszeitpunkte der Erstanrufer bernehmen */
+		long[][] freshCallTimes=null;
+		if (freshCallsPrefetch!=null) {
+			if (freshCallsPrefetch.dayModel==dayGlobal) freshCallTimes=freshCallsPrefetch.get(); else freshCallsPrefetch.cancel();
+			freshCallsPrefetch=null;
+		}
+
+		/* Erzeugen alle Kundengruppen ihre Ankunftszeitpunkte sortiert, so wird auch die Gesamtliste bereits sortiert aufgebaut */
+		long[][] sortedFreshCalls=null;
+		if (allFreshCallsSorted()) sortedFreshCalls=new long[model.caller.length][];
+
 		/* Liste mit allen Anrufern anlegen */
 		for (int i=0;i<model.caller.length;i++) {
 
@@ -128,32 +350,49 @@ public final class SimulationData extends SimData {
 			assert(i==group.index);
 
 			/* Echte Erstanrufer und additionalCaller anlegen */
-			final DataDistributionImpl freshCallsDist=group.freshCalls;
-			int freshCallsCount=group.freshCallsCountMean;
-			if (group.freshCallsCountSD>0) {
-				freshCallsCount=(int) Math.max(0,Math.round(freshCallsCount+DistributionRandomNumber.getStdNormalRandom()*group.freshCallsCountSD));
+			final long[] times;
+			if (freshCallTimes!=null) {
+				/* Ankunftszeitpunkte wurden bereits whrend des Vortages erzeugt */
+				times=freshCallTimes[i];
+			} else {
+				times=group.freshCallsSorted?FreshCallsPrefetch.getFreshCallTimes(group,dayGlobal,getRandomGenerator(group,CommonRandomNumbers.ARRIVALS)):null;
 			}
-			if (group.freshCallsCountAddByDay!=null && group.freshCallsCountAddByDay.length>dayGlobal) freshCallsCount+=group.freshCallsCountAddByDay[(int)dayGlobal];
-			for (int j=0;j<freshCallsCount;j++) {
-				/*
-				final CallerRecord record=dynamicSimData.getNewCallerRecord();
-				record.callerType=group;
-				record.statisticClient=k2;
-				record.statisticCall=k2;
-				 */
-				final CallEvent call;
-				if (firstDay) {
-					/* Am ersten Simulationstag kann noch kein Event im Cache sein, dann ist das direkt Anlegen schneller. */
-					call=new CallEvent();
-				} else {
-					call=(CallEvent)getEvent(CallEvent.class);
+			if (times!=null && sortedFreshCalls!=null) {
+				/* Bereits sortierte Ankunftszeitpunkte werden nach dem Anlegen der brigen Anrufer zusammengefhrt */
+				sortedFreshCalls[i]=times;
+			} else if (times!=null) {
+				for (int j=0;j<times.length;j++) {
+					final CallEvent call=firstDay?new CallEvent():(CallEvent)getEvent(CallEvent.TYPE_ID);
+					call.init(times[j]);
+					call.callerRecord=null;
+					call.callerGroup=group;
+					initCallsList.add(call);
+				}
+			} else {
+				final DataDistributionImpl freshCallsDist=group.freshCalls;
+				final RandomGenerator generator=getRandomGenerator(group,CommonRandomNumbers.ARRIVALS);
+				final int freshCallsCount=FreshCallsPrefetch.getFreshCallsCount(group,dayGlobal,generator);
+				for (int j=0;j<freshCallsCount;j++) {
+					/*
+					final CallerRecord record=dynamicSimData.getNewCallerRecord();
+					record.callerType=group;
+					record.statisticClient=k2;
+					record.statisticCall=k2;
+					 */
+					final CallEvent call;
+					if (firstDay) {
+						/* Am ersten Simulationstag kann noch kein Event im Cache sein, dann ist das direkt Anlegen schneller. */
+						call=new CallEvent();
+					} else {
+						call=(CallEvent)getEvent(CallEvent.TYPE_ID);
+					}
+					long time=FastMath.round(1000*freshCallsDist.random(generator));
+					call.init(time);
+					/* call.callerRecord=record; */
+					call.callerRecord=null;
+					call.callerGroup=group;
+					initCallsList.add(call);
 				}
-				long time=FastMath.round(1000*freshCallsDist.random(DistributionRandomNumber.generator));
-				call.init(time);
-				/* call.callerRecord=record; */
-				call.callerRecord=null;
-				call.callerGroup=group;
-				initCallsList.add(call);
 			}
 
 			/* Wiederholer vom Vortag anlegen */
@@ -165,7 +404,8 @@ public final class SimulationData extends SimData {
 					record.statisticClient=k2;
 					record.statisticCall=k2;
 					record.initialRestWaitingTolerance=-1;
-					CallEvent call=(CallEvent)getEvent(CallEvent.class);
+					initRandomStreams(record);
+					CallEvent call=(CallEvent)getEvent(CallEvent.TYPE_ID);
 					long time=retryTimes[j];
 					call.init(time);
 					call.callerRecord=record;
@@ -186,7 +426,8 @@ public final class SimulationData extends SimData {
 					record.statisticCall=k2;
 					record.initialStartWaitingTime=0-waiting[j];
 					record.initialRestWaitingTolerance=tolerance[j];
-					call=(CallEvent)getEvent(CallEvent.class);
+					initRandomStreams(record);
+					call=(CallEvent)getEvent(CallEvent.TYPE_ID);
 					call.init(0);
 					call.callerRecord=record;
 					initCallsList.add(call);
@@ -194,16 +435,111 @@ public final class SimulationData extends SimData {
 			}
 		}
 
+		if (sortedFreshCalls!=null) mergeSortedFreshCalls(sortedFreshCalls,firstDay);
+
 		/* Sortieren, verketten, erstes Ereignis einfgen */
 		eventManager.addInitialEvents(initCallsList);
 	}
 
+	/**
+	 * Prft, ob alle Kundengruppen ihre Ankunftszeitpunkte bereits sortiert erzeugen.
+	 * @return	Liefert <code>true</code>, wenn fr alle Kundengruppen {@link CallcenterRunModelCaller#freshCallsSorted} gesetzt ist
+	 */
+	private boolean allFreshCallsSorted() {
+		for (CallcenterRunModelCaller group: model.caller) if (!group.freshCallsSorted) return false;
+		return model.caller.length>0;
+	}
+
+	/**
+	 * Liefert den Zeitpunkt des nchsten Anrufers einer Quelle beim Zusammenfhren in {@link #mergeSortedFreshCalls(long[][], boolean)}.
+	 * @param sortedFreshCalls	Sortierte Ankunftszeitpunkte pro Kundengruppe
+	 * @param otherCalls	Sortierte Liste der brigen Anrufer (Wiederholer und bertrag vom Vortag)
+	 * @param source	Quelle (Index der Kundengruppe oder Anzahl an Kundengruppen fr die brigen Anrufer)
+	 * @param position	Aktuelle Position in der Quelle
+	 * @return	Zeitpunkt des nchsten Anrufers der Quelle
+	 */
+	private static long getMergeTime(final long[][] sortedFreshCalls, final List<CallEvent> otherCalls, final int source, final int position) {
+		return (source==sortedFreshCalls.length)?otherCalls.get(position).time:sortedFreshCalls[source][position];
+	}
+
+	/**
+	 * Fhrt die sortierten Ankunftszeitpunkte der Erstanrufer aller Kundengruppen und die brigen
+	 * Anrufer (Wiederholer und bertrag vom Vortag) zu einer sortierten Liste zusammen, so dass der
+	 * Eventmanager beim Einfgen nicht mehr sortieren muss.
+	 * @param sortedFreshCalls	Sortierte Ankunftszeitpunkte pro Kundengruppe
+	 * @param firstDay	Erster Tag der Simulation?
+	 */
+	private void mergeSortedFreshCalls(final long[][] sortedFreshCalls, final boolean firstDay) {
+		/* brige Anrufer vorab sortieren (stabil, meist nur wenige) */
+		final List<CallEvent> otherCalls=new ArrayList<>(initCallsList);
+		otherCalls.sort(null);
+		initCallsList.clear();
+
+		final int sources=sortedFreshCalls.length+1;
+		final int[] size=new int[sources];
+		for (int i=0;i<sortedFreshCalls.length;i++) size[i]=sortedFreshCalls[i].length;
+		size[sources-1]=otherCalls.size();
+		final int[] position=new int[sources];
+
+		/* Min-Heap der Quellen nach Zeitpunkt des jeweils nchsten Anrufers (bei Gleichheit nach Quelle) */
+		final int[] heap=new int[sources];
+		int heapSize=0;
+		for (int i=0;i<sources;i++) if (size[i]>0) {
+			int index=heapSize++;
+			final long time=getMergeTime(sortedFreshCalls,otherCalls,i,0);
+			while (index>0) {
+				final int parent=(index-1)/2;
+				final long parentTime=getMergeTime(sortedFreshCalls,otherCalls,heap[parent],0);
+				if (parentTime<time || (parentTime==time && heap[parent]<i)) break;
+				heap[index]=heap[parent];
+				index=parent;
+			}
+			heap[index]=i;
+		}
+
+		while (heapSize>0) {
+			final int source=heap[0];
+			if (source==sources-1) {
+				initCallsList.add(otherCalls.get(position[source]));
+			} else {
+				final CallEvent call=firstDay?new CallEvent():(CallEvent)getEvent(CallEvent.TYPE_ID);
+				call.init(sortedFreshCalls[source][position[source]]);
+				call.callerRecord=null;
+				call.callerGroup=model.caller[source];
+				initCallsList.add(call);
+			}
+			position[source]++;
+
+			/* Wurzel ersetzen und absinken lassen */
+			final int top;
+			if (position[source]<size[source]) top=source; else {heapSize--; top=heap[heapSize];}
+			if (heapSize==0) break;
+			final long time=getMergeTime(sortedFreshCalls,otherCalls,top,position[top]);
+			int index=0;
+			while (true) {
+				int child=2*index+1;
+				if (child>=heapSize) break;
+				long childTime=getMergeTime(sortedFreshCalls,otherCalls,heap[child],position[heap[child]]);
+				if (child+1<heapSize) {
+					final long rightTime=getMergeTime(sortedFreshCalls,otherCalls,heap[child+1],position[heap[child+1]]);
+					if (rightTime<childTime || (rightTime==childTime && heap[child+1]<heap[child])) {child++; childTime=rightTime;}
+				}
+				if (time<childTime || (time==childTime && top<heap[child])) break;
+				heap[index]=heap[child];
+				index=child;
+			}
+			heap[index]=top;
+		}
+	}
+
 	/**
 	 * Einstellen der Agenten
 	 * @param firstDay	Erster Tag der Simulation?
 	 * @param backgroundMode	Luft die Simulation momentan im Hintergrund?
 	 */
 	private void initAgents(final boolean firstDay, boolean backgroundMode) {
+		if (!firstDay && agentSchedule!=null) {replayAgentSchedule(); return;}
+
 		int count=0;
 
 		final List<AgentReadyEvent> agents=new ArrayList<AgentReadyEvent>(firstDay?2000:dynamicSimData.agentRecord.length);
@@ -232,6 +568,8 @@ public final class SimulationData extends SimData {
 					int k=-1; for (int l=0;l<model.skills.length;l++) if (model.skills[l]==agent.skillLevel) {k=l; break;}
 					assert(k>=0);
 					record.statisticProSkilllevel=statisticSimData.agentenProSkilllevel[k];
+					record.routingEligible=callcenter.routingEligible[k];
+					record.routingScore=callcenter.routingScore[k];
 					if (firstDayList!=null) firstDayList.add(record);
 
 					/* Einmalig die Agenten zhlen usw. */
@@ -244,7 +582,7 @@ public final class SimulationData extends SimData {
 					record.reinit();
 				}
 
-				AgentReadyEvent agentEvent=(AgentReadyEvent)getEvent(AgentReadyEvent.class);
+				AgentReadyEvent agentEvent=(AgentReadyEvent)getEvent(AgentReadyEvent.TYPE_ID);
 				agentEvent.init(agent.workingTimeStart*1000);
 				agentEvent.agentRecord=record;
 				agents.add(agentEvent);
@@ -255,6 +593,79 @@ public final class SimulationData extends SimData {
 
 		/* Sortieren, verketten, erstes Ereignis einfgen */
 		eventManager.addInitialEvents(agents);
+
+		if (firstDay) storeAgentSchedule(agents);
+	}
+
+	/**
+	 * Agentendatenstze in der Reihenfolge, in der die Agenten-Ereignisse am ersten Tag vom Eventmanager
+	 * sortiert und verkettet wurden (oder <code>null</code>, wenn die Reihenfolge nicht bestimmt werden konnte)
+	 * @see #storeAgentSchedule(List)
+	 * @see #replayAgentSchedule()
+	 */
+	private AgentRecord[] agentSchedule=null;
+
+	/**
+	 * Startzeitpunkte (in Millisekunden) zu den Agentendatenstzen in {@link #agentSchedule}
+	 */
+	private long[] agentScheduleTime=null;
+
+	/**
+	 * Speichert die Reihenfolge, in der der Eventmanager die Agenten-Ereignisse am ersten Tag verkettet hat.<br>
+	 * Die Schichtplne sind an allen Tagen identisch, so dass die Ereignisse an den folgenden Tagen ber
+	 * {@link #replayAgentSchedule()} ohne erneutes Sortieren in exakt derselben Reihenfolge (auch bei zeitgleichen
+	 * Ereignissen) eingefgt werden knnen.
+	 * @param agents	Liste der Agenten-Ereignisse, die an {@link EventManager#addInitialEvents(List)} bergeben wurde
+	 */
+	private void storeAgentSchedule(final List<AgentReadyEvent> agents) {
+		agentSchedule=null;
+		agentScheduleTime=null;
+		final int size=agents.size();
+		if (size==0) return;
+
+		/* Kopf der Kette ist das einzige Ereignis, das von keinem anderen Ereignis referenziert wird */
+		final Set<Event> referenced=Collections.newSetFromMap(new IdentityHashMap<>(size*2));
+		for (int i=0;i<size;i++) {final Event next=agents.get(i).addNextEvent; if (next!=null) referenced.add(next);}
+		Event event=null;
+		for (int i=0;i<size;i++) if (!referenced.contains(agents.get(i))) {
+			if (event!=null) return; /* Mehrere Ketten: Reihenfolge nicht eindeutig bestimmbar */
+			event=agents.get(i);
+		}
+
+		final AgentRecord[] schedule=new AgentRecord[size];
+		final long[] scheduleTime=new long[size];
+		int count=0;
+		while (event!=null) {
+			if (count==size || !(event instanceof AgentReadyEvent)) return;
+			schedule[count]=((AgentReadyEvent)event).agentRecord;
+			scheduleTime[count]=event.time;
+			count++;
+			event=event.addNextEvent;
+		}
+		if (count<size) return;
+
+		agentSchedule=schedule;
+		agentScheduleTime=scheduleTime;
+	}
+
+	/**
+	 * Reinitialisiert die Agentendatenstze und fgt die Agenten-Ereignisse in der am ersten Tag
+	 * gespeicherten Reihenfolge bereits verkettet in die Ereignisliste ein.
+	 * @see #storeAgentSchedule(List)
+	 */
+	private void replayAgentSchedule() {
+		final AgentRecord[] schedule=agentSchedule;
+		final long[] scheduleTime=agentScheduleTime;
+		Event lastEvent=null;
+		for (int i=0;i<schedule.length;i++) {
+			final AgentRecord record=schedule[i];
+			record.reinit();
+			final AgentReadyEvent agentEvent=(AgentReadyEvent)getEvent(AgentReadyEvent.TYPE_ID);
+			agentEvent.init(scheduleTime[i]);
+			agentEvent.agentRecord=record;
+			if (lastEvent==null) eventManager.addEvent(agentEvent); else lastEvent.addNextEvent=agentEvent;
+			lastEvent=agentEvent;
+		}
 	}
 
 	/**
@@ -269,10 +680,26 @@ public final class SimulationData extends SimData {
 
 	@Override
 	public void initDay(final long day, final long dayGlobal, boolean backgroundMode) {
-		initCalls(day==0,dayGlobal,backgroundMode);
+		simulatedDaysGlobal.add(dayGlobal);
+		currentDayGlobal=dayGlobal;
+		if (dayDispatcher!=null) statisticSimData.simulationData.runRepeatCount++;
+		final long dayModel=dayGlobal+model.editModel.daysOffset;
+		/* Eigener Zufallszahlenstrom pro Tag, damit die Ergebnisse nicht von der Verteilung der Tage auf die Threads abhngen */
+		if (antitheticVariates) {
+			/* Der zweite Tag eines Paares verwendet die Zufallszahlenstrme des ersten Tages antithetisch */
+			final boolean antithetic=(dayGlobal%2==1);
+			final long streamDay=antithetic?(dayModel-1):dayModel;
+			DistributionRandomNumber.setThreadStream(antitheticSeed,streamDay,antithetic);
+			if (commonRandomNumbers!=null) commonRandomNumbers.initDay(streamDay,antithetic);
+		} else {
+			if (model.editModel.useFixedSeed) DistributionRandomNumber.setThreadStream(model.editModel.fixedSeed,dayModel);
+			if (commonRandomNumbers!=null) commonRandomNumbers.initDay(dayModel);
+		}
+		initCalls(day==0,dayModel,backgroundMode);
 		initAgents(day==0,backgroundMode);
 		dynamicSimData.workingAgentsCount=0;
 		StopTestEvent.addStopTestEvent(this,86401*1000);
+		startFreshCallsPrefetch(day,dayGlobal);
 	}
 
 	@Override
@@ -280,14 +707,20 @@ public final class SimulationData extends SimData {
 		for (AgentRecord record : dynamicSimData.agentRecord) record.doneDay(Math.max(86400*1000,now),model.agentCostsUsed);
 		dynamicSimData.freeAgents.clear();
 
-		statisticSimData.kundenGlobal.updateInterDayData();
-		for (int i=0;i<statisticSimData.kundenProTyp.length;i++) statisticSimData.kundenProTyp[i].updateInterDayData();
+		final long pair=antitheticVariates?(currentDayGlobal/2):-1;
+		statisticSimData.kundenGlobal.updateInterDayData(pair);
+		for (int i=0;i<statisticSimData.kundenProTyp.length;i++) statisticSimData.kundenProTyp[i].updateInterDayData(pair);
+		if (sequentialStopping!=null) sequentialStopping.addDay(currentDayGlobal,statisticSimData.kundenGlobal);
 	}
 
 	@Override
 	public void finalTerminateCleanUp(final long eventCount) {
 		super.finalTerminateCleanUp(eventCount);
 
+		if (freshCallsPrefetch!=null) {freshCallsPrefetch.cancel(); freshCallsPrefetch=null;}
+
+		if (model.editModel.useFixedSeed || antitheticVariates) DistributionRandomNumber.clearThreadSeed();
+
 		statisticSimData.simulationData.runEvents=eventCount;
 
 		/* anrufeWartezeitSum wird bereits whrend der Simulation bentigt, kann also nicht erst am Ende zusammengezhlt werden */
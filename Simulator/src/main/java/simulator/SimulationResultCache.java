@@ -0,0 +1,179 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import tools.SetupData;
+import ui.VersionConst;
+import ui.model.CallcenterModel;
+import xml.XMLTools.FileType;
+
+/**
+ * Zwischenspeicher fr Simulationsergebnisse.<br>
+ * Die Ergebnisse werden ber eine Prfsumme des Modellinhalts, die Anzahl an simulierten Tagen,
+ * den Startwert des Zufallszahlengenerators und die Programmversion identifiziert. Die zuletzt
+ * verwendeten Ergebnisse werden (komprimiert) im Arbeitsspeicher vorgehalten; optional werden
+ * die Ergebnisse zustzlich in einem Verzeichnis abgelegt.<br>
+ * Es werden nur Modelle mit festem Startwert fr den Zufallszahlengenerator und ohne
+ * sequentielle Abbruchregel bercksichtigt, da nur bei diesen eine erneute Simulation
+ * exakt dieselben Ergebnisse liefern wrde.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see SetupData#simulationCache
+ * @see CachedSimulator
+ */
+public final class SimulationResultCache {
+	/** Instanz des Zwischenspeichers */
+	private static SimulationResultCache cache;
+
+	/** Zwischengespeicherte Ergebnisse (komprimierte Statistik-xml-Daten) in der Reihenfolge des letzten Zugriffs */
+	private final Map<String,byte[]> memory;
+	/** Sichert parallele Zugriffe auf {@link #memory} ab */
+	private final Lock mutex;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse kann nicht direkt instanziert werden, sondern es kann nur ber die statische Methode {@link #getCache()} eine Instanz abgerufen werden.
+	 */
+	private SimulationResultCache() {
+		mutex=new ReentrantLock();
+		memory=new LinkedHashMap<String,byte[]>(16,0.75f,true) {
+			/**
+			 * Serialisierungs-ID der Klasse
+			 * @see java.io.Serializable
+			 */
+			private static final long serialVersionUID=-2146457315958357349L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String,byte[]> eldest) {
+				return size()>Math.max(0,SetupData.getSetup().simulationCacheSize);
+			}
+		};
+	}
+
+	/**
+	 * Liefert die Instanz des Zwischenspeichers fr Simulationsergebnisse.
+	 * @return	Zwischenspeicher fr Simulationsergebnisse
+	 */
+	public static synchronized SimulationResultCache getCache() {
+		if (cache==null) cache=new SimulationResultCache();
+		return cache;
+	}
+
+	/**
+	 * Berechnet den Schlssel, unter dem die Ergebnisse zu einem Modell abgelegt werden.
+	 * @param editModel	Zu simulierendes Modell (mit der tatschlich zu simulierenden Anzahl an Tagen)
+	 * @return	Schlssel oder <code>null</code>, wenn die Ergebnisse zu dem Modell nicht zwischengespeichert werden sollen
+	 */
+	public static String getKey(final CallcenterModel editModel) {
+		if (editModel==null || !editModel.useFixedSeed || editModel.useSequentialStopping()) return null;
+		final String hash=editModel.getContentHash(false);
+		if (hash==null) return null;
+		return hash+"-"+editModel.days+"-"+editModel.fixedSeed+"-"+VersionConst.version;
+	}
+
+	/**
+	 * Liefert die Datei, in der die Ergebnisse zu einem Schlssel dauerhaft abgelegt werden.
+	 * @param key	Schlssel
+	 * @return	Datei oder <code>null</code>, wenn kein Verzeichnis fr die dauerhafte Speicherung eingestellt ist
+	 */
+	private File getFile(final String key) {
+		final String folder=SetupData.getSetup().simulationCacheFolder;
+		if (folder==null || folder.trim().isEmpty()) return null;
+		final File dir=new File(folder.trim());
+		if (!dir.isDirectory()) return null;
+		return new File(dir,key+".zip");
+	}
+
+	/**
+	 * Ldt die Statistikdaten aus den komprimierten xml-Daten.
+	 * @param data	Komprimierte xml-Daten
+	 * @return	Statistikdaten oder <code>null</code>, wenn die Daten nicht geladen werden konnten
+	 */
+	private Statistics loadStatistics(final byte[] data) {
+		final Statistics statistics=new Statistics(null,null,0,0);
+		if (statistics.loadFromStream(new ByteArrayInputStream(data),FileType.ZIP_XML)!=null) return null;
+		return statistics;
+	}
+
+	/**
+	 * Sucht nach zwischengespeicherten Ergebnissen.<br>
+	 * Es wird bei jedem Aufruf ein neues Statistik-Objekt erstellt, so dass der Aufrufer dieses verndern darf.
+	 * @param key	Schlssel (siehe {@link #getKey(CallcenterModel)}, kann <code>null</code> sein)
+	 * @return	Liefert im Erfolgsfall die Statistikdaten, sonst <code>null</code>
+	 */
+	public Statistics get(final String key) {
+		if (key==null || !SetupData.getSetup().simulationCache) return null;
+
+		byte[] data;
+		mutex.lock();
+		try {
+			data=memory.get(key);
+		} finally {
+			mutex.unlock();
+		}
+
+		if (data==null) {
+			final File file=getFile(key);
+			if (file==null || !file.isFile()) return null;
+			try {
+				data=Files.readAllBytes(file.toPath());
+			} catch (IOException e) {return null;}
+			mutex.lock();
+			try {
+				memory.put(key,data);
+			} finally {
+				mutex.unlock();
+			}
+		}
+
+		return loadStatistics(data);
+	}
+
+	/**
+	 * Legt Simulationsergebnisse im Zwischenspeicher ab.
+	 * @param key	Schlssel (siehe {@link #getKey(CallcenterModel)}, kann <code>null</code> sein)
+	 * @param statistics	Abzulegende Statistikdaten
+	 */
+	public void put(final String key, final Statistics statistics) {
+		if (key==null || statistics==null || !SetupData.getSetup().simulationCache) return;
+
+		final ByteArrayOutputStream stream=new ByteArrayOutputStream();
+		if (!statistics.saveToStream(stream,FileType.ZIP_XML)) return;
+		final byte[] data=stream.toByteArray();
+
+		mutex.lock();
+		try {
+			memory.put(key,data);
+		} finally {
+			mutex.unlock();
+		}
+
+		final File file=getFile(key);
+		if (file!=null) try {
+			Files.write(file.toPath(),data);
+		} catch (IOException e) {}
+	}
+}
@@ -19,16 +19,30 @@ import java.io.File;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.concurrent.ThreadLocalRandom;
 
 import language.Language;
 import simcore.SimData;
+import simcore.SimDayDispatcher;
 import simcore.SimulatorBase;
-import simcore.eventcache.HashMapEventCache;
+import simcore.eventcache.EventCache;
+import simcore.eventcache.TypeIndexedEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
+import simcore.eventmanager.EventManager;
 import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
+import simcore.logging.ShardedLogger;
+import simcore.logging.TraceDecoder;
+import simcore.logging.TraceRecorder;
+import simulator.events.CallCancelEvent;
+import simulator.events.CallEvent;
+import simulator.events.ReCheckEvent;
+import simulator.events.StopTestEvent;
 import tools.SetupData;
 import ui.VersionConst;
 import ui.model.CallcenterModel;
+import ui.model.CallcenterModelCaller;
 import ui.model.CallcenterRunModel;
 import ui.model.CallcenterRunModelCaller;
 
@@ -59,15 +73,68 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 	 */
 	public CallcenterRunModel runModel;
 
+	/**
+	 * Gemeinsames Objekt aller Simulationsthreads zur dynamischen Verteilung der Tage
+	 * @see SimulationData#dayDispatcher
+	 */
+	private final SimDayDispatcher dayDispatcher;
+
+	/**
+	 * Gemeinsames sequentielles Abbruchkriterium aller Simulationsthreads
+	 * (<code>null</code>, wenn die im Modell eingestellte Anzahl an Tagen vollstndig simuliert werden soll)
+	 * @see CallcenterModel#useSequentialStopping()
+	 */
+	private final SequentialStopping sequentialStopping;
+
+	/**
+	 * Fhrt die Logeintrge der einzelnen Threads zusammen, wenn mit Logging und mehreren Threads simuliert wird
+	 * (sonst <code>null</code>)
+	 * @see #getSimDataForThread(int, int)
+	 */
+	private final ShardedLogger shardedLogger;
+
+	/**
+	 * Sollen die Erstanrufer des jeweils nchsten Tages in einem Hilfs-Task vorab erzeugt werden?
+	 * @see #usePrefetchFreshCalls(CallcenterRunModel, int)
+	 * @see SimulationData#setPrefetchFreshCalls(boolean)
+	 */
+	private final boolean prefetchFreshCalls;
+
+	/**
+	 * Startwert fr die Zufallszahlenstrme der Tagespaare, wenn im Modell {@link CallcenterModel#useAntitheticVariates} gesetzt ist
+	 * (entspricht dem festen Startwert des Modells oder wird sonst einmal pro Simulationslauf zufllig gewhlt)
+	 * @see SimulationData#setAntitheticVariates(long)
+	 */
+	private final long antitheticSeed;
+
+	/**
+	 * Mindestanzahl an Erstanrufern pro Tag, ab der sich die Vorab-Erzeugung der Erstanrufer des nchsten Tages lohnt
+	 * @see #usePrefetchFreshCalls(CallcenterRunModel, int)
+	 */
+	private static final int PREFETCH_MIN_FRESH_CALLS=50_000;
+
+	/**
+	 * Legt fest, ob die Erstanrufer des jeweils nchsten Tages in einem Hilfs-Task vorab erzeugt werden sollen.<br>
+	 * Dies lohnt sich nur, wenn mehrere Tage mit vielen Anrufern simuliert werden und neben den
+	 * Simulationsthreads noch freie Rechenkerne fr die Hilfs-Tasks zur Verfgung stehen.
+	 * @param runModel	Beinhaltet das aktuell zu simulierende Laufzeit-Modell
+	 * @param threadCount	Anzahl an Simulationsthreads
+	 * @return	Liefert <code>true</code>, wenn die Erstanrufer vorab erzeugt werden sollen
+	 */
+	private static boolean usePrefetchFreshCalls(final CallcenterRunModel runModel, final int threadCount) {
+		if (runModel.getDays()<2) return false;
+		if (threadCount>=Runtime.getRuntime().availableProcessors()) return false;
+		int callerSum=0;
+		for (CallcenterRunModelCaller group: runModel.caller) callerSum+=group.freshCallsCountMean;
+		return callerSum>=PREFETCH_MIN_FRESH_CALLS;
+	}
+
 	/**
 	 * Legt fest, mit wie vielen Threads der Simulator arbeiten soll.
-	 * @param logFile	Gibt den Namen der Log-Datei (oder <code>null</code>, wenn keine Aufzeichnung erfolgen soll) an.
 	 * @param runModel	Beinhaltet das aktuell zu simulierende Laufzeit-Modell
 	 * @return	Gibt zurck, wie viele Threads unter den als Parameter angegebenen Bedingungen verwendet werden sollen.
 	 */
-	private static int getThreadCount(final File logFile, final CallcenterRunModel runModel) {
-		if (logFile!=null) return 1;
-
+	private static int getThreadCount(final CallcenterRunModel runModel) {
 		/* Mehr Speicher fr das JRE ist per -Xmx6G einstellbar, der Simulator verwendet dann auch entsprechend mehr. */
 
 		long MB=Runtime.getRuntime().maxMemory()/1024/1024;
@@ -82,7 +149,7 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 	 * @param MB	Verfgbarer Arbeitsspeicher (in MB)
 	 * @param countKiloAgents	Anzahl an Agenten (in 1000ern)
 	 * @return	Maximale Thread-Anzahl
-	 * @see #getThreadCount(File, CallcenterRunModel)
+	 * @see #getThreadCount(CallcenterRunModel)
 	 */
 	private static int getThreadCountByAgents(long MB, int countKiloAgents) {
 		if (MB<3600) {
@@ -119,7 +186,7 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 	 * @param MB	Verfgbarer Arbeitsspeicher (in MB)
 	 * @param countKiloCalls	Anzahl an Anrufern (in 1000ern)
 	 * @return	Maximale Thread-Anzahl
-	 * @see #getThreadCount(File, CallcenterRunModel)
+	 * @see #getThreadCount(CallcenterRunModel)
 	 */
 	private static int getThreadCountByCalls(long MB, int countKiloCalls) {
 		if (MB<3600) {
@@ -149,10 +216,15 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 	 * @see CallcenterRunModel
 	 */
 	public Simulator(final int allowMaxCore, final CallcenterRunModel runModel, final File logFile) {
-		super(Math.min(Math.min(allowMaxCore,runModel.getDays()),getThreadCount(logFile,runModel)),SetupData.getSetup().moreThreads,false);
+		super(Math.min(Math.min(allowMaxCore,runModel.getDays()),getThreadCount(runModel)),SetupData.getSetup().moreThreads,false);
 		this.editModel=runModel.editModel;
 		this.runModel=runModel;
 		this.logFile=logFile;
+		shardedLogger=(logFile!=null && !isTraceFile(logFile) && threadCount>1)?new ShardedLogger(SimData.getDefaultLogger(logFile),threadCount):null;
+		dayDispatcher=editModel.useAntitheticVariates?new SimDayDispatcher(runModel.getDays(),2):new SimDayDispatcher(runModel.getDays());
+		antitheticSeed=editModel.useFixedSeed?editModel.fixedSeed:ThreadLocalRandom.current().nextLong();
+		sequentialStopping=editModel.useSequentialStopping()?new SequentialStopping(editModel,dayDispatcher):null;
+		prefetchFreshCalls=usePrefetchFreshCalls(runModel,threadCount);
 	}
 
 	/**
@@ -165,24 +237,93 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 		this(allowMaxCore,runModel,null);
 	}
 
+	/**
+	 * Liefert die fr das Modell passende Ereignisverwaltung.<br>
+	 * Bei Kunden mit langen Wartezeittoleranzen liegen viele Ereignisse weit in der Zukunft (bzw. nach dem Ende
+	 * des Tages), so dass in diesem Fall eine Kalender-Warteschlange, die nicht an die Tageslnge gebunden ist,
+	 * verwendet wird.
+	 * @return	Neue Ereignisverwaltung fr einen Simulationsthread
+	 */
+	private EventManager getEventManager() {
+		for (CallcenterModelCaller caller: editModel.caller) {
+			if (caller.active && caller.waitingTimeMode==CallcenterModelCaller.WAITING_TIME_MODE_LONG) return new CalendarQueueEventManager();
+		}
+		return new MultiArrayEventManagerWithHeapSort(); /* MultiArray ist ein paar Prozent schneller als MultiPriorityQueue */
+	}
+
+	/**
+	 * Liefert einen Ereignis-Cache fr einen Simulationsthread.<br>
+	 * Die Anzahl an vorgehaltenen Ereignissen pro Typ wird dabei aus der Anzahl an Anrufern
+	 * pro Tag (Anruf-, Abbruch- und Prfereignisse) bzw. der Anzahl an Agenten (Bedien- und
+	 * Schichtereignisse) bestimmt.
+	 * @return	Neuer Ereignis-Cache fr einen Simulationsthread
+	 */
+	private EventCache getEventCache() {
+		int callerSum=0;
+		for (CallcenterRunModelCaller group: runModel.caller) callerSum+=group.freshCallsCountMean;
+		final int callEvents=Math.max(2000,callerSum*11/10);
+		final int agentEvents=Math.max(1000,runModel.getTotalNumberOfAgents());
+
+		final TypeIndexedEventCache cache=new TypeIndexedEventCache(agentEvents);
+		cache.setMaxPoolSize(CallEvent.TYPE_ID,callEvents);
+		cache.setMaxPoolSize(CallCancelEvent.TYPE_ID,callEvents);
+		cache.setMaxPoolSize(ReCheckEvent.TYPE_ID,callEvents);
+		cache.setMaxPoolSize(StopTestEvent.TYPE_ID,16);
+		return cache;
+	}
+
 	/* (non-Javadoc)
 	 * @see simcore.Simulator#getSimDataForThread(int)
 	 */
 	@Override
 	protected SimData getSimDataForThread(final int threadNr, final int threadCount) {
-		int callerSum=0;
-		for (CallcenterRunModelCaller group: runModel.caller) callerSum+=group.freshCallsCountMean;
-		SimData data=new SimulationData(
-				new MultiArrayEventManagerWithHeapSort(), /* MultiArray ist ein paar Prozent schneller als MultiPriorityQueue */
-				new HashMapEventCache(Math.max(2000,callerSum*11/10)), /* AssociativeEventCache bringt nichts */
+		final SimulationData data=new SimulationData(
+				getEventManager(),
+				getEventCache(),
 				threadNr,
 				threadCount,
-				runModel
+				runModel,
+				dayDispatcher
 				);
-		if (logFile!=null) data.activateLogging(logFile);
+		data.setPrefetchFreshCalls(prefetchFreshCalls);
+		data.setSequentialStopping(sequentialStopping);
+		if (editModel.useAntitheticVariates) data.setAntitheticVariates(antitheticSeed);
+		if (logFile!=null) {
+			if (isTraceFile(logFile)) {
+				final TraceRecorder recorder=new TraceRecorder(getTraceFile(logFile,threadNr,threadCount));
+				recorder.setObjectLabels(Language.tr("Simulation.Log.General.Client"),Language.tr("Simulation.Log.General.Agent"));
+				data.activateLogging(recorder);
+			} else {
+				if (shardedLogger==null) data.activateLogging(logFile); else data.activateLogging(shardedLogger.getShard(threadNr));
+			}
+		}
 		return data;
 	}
 
+	/**
+	 * Gibt an, ob die Simulation statt in eine Textdatei als binre Ereignisaufzeichnung ({@link TraceRecorder}) aufgezeichnet werden soll.
+	 * @param logFile	Logdatei
+	 * @return	Liefert <code>true</code>, wenn die Logdatei die Endung ".trace" besitzt
+	 */
+	private static boolean isTraceFile(final File logFile) {
+		return logFile.getName().toLowerCase().endsWith(".trace");
+	}
+
+	/**
+	 * Liefert die Aufzeichnungsdatei fr einen Simulationsthread.<br>
+	 * Bei mehreren Threads wird an den Dateinamen die Nummer des Threads angehngt
+	 * (z.B. "log-1.trace", "log-2.trace"), die Dateien knnen per {@link TraceDecoder} gemeinsam ausgewertet werden.
+	 * @param logFile	Logdatei
+	 * @param threadNr	Nummer des Threads
+	 * @param threadCount	Anzahl an Threads
+	 * @return	Aufzeichnungsdatei fr den Thread
+	 */
+	private static File getTraceFile(final File logFile, final int threadNr, final int threadCount) {
+		if (threadCount<=1) return logFile;
+		final String name=logFile.getName();
+		return new File(logFile.getParentFile(),name.substring(0,name.length()-".trace".length())+"-"+(threadNr+1)+".trace");
+	}
+
 	/**
 	 * Adresse des eigenen Rechners (um diese nicht immer wieder abrufen zu mssen)
 	 * @see #collectStatisticIntern()
@@ -205,11 +346,18 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 		if (threads==null || threads.length==0 || threads[0]==null || threads[0].simData==null) return null;
 		Statistics statistics=((SimulationData)threads[0].simData).statisticSimData;
 		statistics.editModel=editModel.clone();
+		if (dayDispatcher.isStopped()) statistics.editModel.days=(int)dayDispatcher.getDispatchedDays();
 		statistics.calcModelAgents();
 		statistics.editModel.version=VersionConst.version;
 
-		for (int i=1;i<threadCount;i++)
-			statistics.addData(((SimulationData)threads[i].simData).statisticSimData);
+		final Statistics[] threadStatistics=new Statistics[threadCount];
+		final long[][] simulatedDaysGlobal=new long[threadCount][];
+		for (int i=0;i<threadCount;i++) {
+			threadStatistics[i]=((SimulationData)threads[i].simData).statisticSimData;
+			simulatedDaysGlobal[i]=((SimulationData)threads[i].simData).getSimulatedDaysGlobal();
+		}
+		Statistics.addDataParallel(threadStatistics);
+		statistics.sortSimDays(Arrays.stream(simulatedDaysGlobal).flatMapToLong(Arrays::stream).toArray());
 
 		Calendar cal=Calendar.getInstance();
 		SimpleDateFormat sdf=new SimpleDateFormat(Language.tr("Simulation.FullDateFormat"));
@@ -252,7 +400,11 @@ public final class Simulator extends SimulatorBase implements CallcenterSimulato
 	 * @see complexcallcenter.simulator.ComplexCallcenterSimulatorInterface#getSimDaysCount()
 	 */
 	@Override
-	public long getSimDaysCount() {return editModel.days;}
+	public long getSimDaysCount() {
+		/* Nach dem Ansprechen der sequentiellen Abbruchregel werden nur noch die bereits vergebenen Tage simuliert. */
+		if (dayDispatcher.isStopped()) return dayDispatcher.getDispatchedDays();
+		return editModel.days;
+	}
 
 	@Override
 	public File getLogFile() {
@@ -29,6 +29,7 @@ import language.Language;
 import mathtools.NumberTools;
 import mathtools.TimeTools;
 import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.LogBucketHistogram;
 import statistics.StatisticsBase;
 import statistics.StatisticsSimulationBaseData;
 import ui.VersionConst;
@@ -183,6 +184,18 @@ public final class Statistics extends StatisticsBase {
 		}
 	}
 
+	/**
+	 * Bringt die pro simuliertem Tag erfassten Kundendaten in die Reihenfolge der globalen Tagesnummern.<br>
+	 * Muss nach dem Zusammenfhren der Teilstatistiken aufgerufen werden, wenn die Tage dynamisch auf
+	 * die Threads verteilt wurden.
+	 * @param dayGlobal	Globale Tagesnummern der simulierten Tage (in der Reihenfolge, in der die Teilstatistiken zusammengefhrt wurden)
+	 */
+	public void sortSimDays(final long[] dayGlobal) {
+		if (dayGlobal==null) return;
+		kundenGlobal.sortSimDays(dayGlobal);
+		for (int i=0;i<kundenProTyp.length;i++) kundenProTyp[i].sortSimDays(dayGlobal);
+	}
+
 	/**
 	 * Die mittlere Warteschlangenlnge wird von Tag zu Tag aufsummiert, muss also am Ende durch simDays geteilt
 	 * werden. Erfolgt dies Thread-weise, so kann bei verschieden vielen Tagen pro Thread ein verzerrtes Ergebnis
@@ -769,6 +782,23 @@ public final class Statistics extends StatisticsBase {
 		/** Maximalwert der Werteverteilung (z.B. Wartezeiten) fr die Langzeiterfassung */
 		public static final int DistMaxLong=3240000;
 
+		/** Index der Kenngre Erreichbarkeit auf Anrufbasis in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SUCCESS_CALLS=0;
+		/** Index der Kenngre Erreichbarkeit auf Kundenbasis in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SUCCESS_CLIENTS=1;
+		/** Index der Kenngre mittlere Wartezeit in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_WAITING_TIME=2;
+		/** Index der Kenngre Service-Level auf Anrufbasis (erfolgreiche Anrufe) in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS=3;
+		/** Index der Kenngre Service-Level auf Anrufbasis (alle Anrufe) in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SERVICE_LEVEL_CALLS_ALL=4;
+		/** Index der Kenngre Service-Level auf Kundenbasis (erfolgreiche Kunden) in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS=5;
+		/** Index der Kenngre Service-Level auf Kundenbasis (alle Kunden) in {@link #interDayPairSum} und {@link #interDayPairSum2} */
+		public static final int INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL=6;
+		/** Anzahl an Kenngren, fr die Konfidenzintervalle berechnet werden */
+		public static final int INTER_DAY_VALUE_COUNT=7;
+
 		/** Name der Kundengruppe */
 		public String name;
 
@@ -834,11 +864,11 @@ public final class Statistics extends StatisticsBase {
 		public DataDistributionImpl kundenAbbruchzeitVerteilung=new DataDistributionImpl(DistMax,DistMax);
 
 		/** Verteilung der Wartezeiten-Hufigkeiten der Kunden (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl kundenWartezeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram kundenWartezeitVerteilungLang=new LogBucketHistogram();
 		/** Verteilung der Verweilzeiten-Hufigkeiten der Kunden (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl kundenVerweilzeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram kundenVerweilzeitVerteilungLang=new LogBucketHistogram();
 		/** Verteilung der Abbruchzeiten-Hufigkeiten der Kunden (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl kundenAbbruchzeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram kundenAbbruchzeitVerteilungLang=new LogBucketHistogram();
 
 		/** Anzahl der Anrufe in dieser Gruppe */
 		public int anrufe;
@@ -898,11 +928,11 @@ public final class Statistics extends StatisticsBase {
 		public DataDistributionImpl anrufeAbbruchzeitVerteilung=new DataDistributionImpl(DistMax,DistMax);
 
 		/** Verteilung der Wartezeiten-Hufigkeiten der Anrufe (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl anrufeWartezeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram anrufeWartezeitVerteilungLang=new LogBucketHistogram();
 		/** Verteilung der Verweilzeiten-Hufigkeiten der Anrufe (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl anrufeVerweilzeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram anrufeVerweilzeitVerteilungLang=new LogBucketHistogram();
 		/** Verteilung der Abbruchzeiten-Hufigkeiten der Anrufe (lange Zeitdauern; auf Halbstundenbasis) */
-		public DataDistributionImpl anrufeAbbruchzeitVerteilungLang=new DataDistributionImpl(DistMaxLong,DistMax);
+		public LogBucketHistogram anrufeAbbruchzeitVerteilungLang=new LogBucketHistogram();
 
 		/* Konfidenzintervall-Daten */
 
@@ -935,6 +965,17 @@ public final class Statistics extends StatisticsBase {
 		/** Summe ber die quadrierten Service-Level-Werte auf Kundenbasis (alle Kunden) pro Simulationstag (fr die Konfidenzintervall-Berechnung) */
 		public double interDayServiceLevelClientsAllSum2;
 
+		/**
+		 * Anzahl an vollstndig erfassten Tagespaaren aus einem normalen und einem antithetischen Tag
+		 * (0, wenn die Tage unabhngig voneinander simuliert wurden)
+		 * @see #updateInterDayData(long)
+		 */
+		public long interDayPairCount;
+		/** Summen ber die Mittelwerte der Kenngren pro Tagespaar (Index z.B. {@link #INTER_DAY_WAITING_TIME}; fr die Konfidenzintervall-Berechnung) */
+		public final double[] interDayPairSum=new double[INTER_DAY_VALUE_COUNT];
+		/** Summen ber die quadrierten Mittelwerte der Kenngren pro Tagespaar (Index z.B. {@link #INTER_DAY_WAITING_TIME}; fr die Konfidenzintervall-Berechnung) */
+		public final double[] interDayPairSum2=new double[INTER_DAY_VALUE_COUNT];
+
 		/** Ertrag durch diese Kundengruppe */
 		public double revenue;
 		/** Wartezeitkosten durch diese Kundengruppe */
@@ -982,6 +1023,34 @@ public final class Statistics extends StatisticsBase {
 			this.name=name;
 		}
 
+		/**
+		 * Wandelt eine der Langzeit-Verteilungen (z.B. {@link #kundenWartezeitVerteilungLang}) in eine
+		 * empirische Verteilung mit {@link #DistMax} Werten auf Halbstundenbasis um.
+		 * @param histogram	Langzeit-Verteilung
+		 * @return	Empirische Verteilung (Werte oberhalb des letzten Eintrags werden in diesem zusammengefasst)
+		 */
+		public DataDistributionImpl getLongDistribution(final LogBucketHistogram histogram) {
+			return histogram.toDataDistribution(DistMaxLong,DistMax);
+		}
+
+		/**
+		 * Ldt eine der Langzeit-Verteilungen aus einer Zeichenkette.<br>
+		 * ltere Statistikdateien enthalten an dieser Stelle ein Dichte-Array auf Halbstundenbasis;
+		 * auch diese knnen geladen werden.
+		 * @param s	Zeichenkette mit den Verteilungsdaten
+		 * @return	Langzeit-Verteilung oder <code>null</code>, wenn die Daten nicht geladen werden konnten
+		 * @see LogBucketHistogram#createFromString(String)
+		 */
+		private LogBucketHistogram loadLongDistribution(final String s) {
+			final LogBucketHistogram histogram=LogBucketHistogram.createFromString(s);
+			if (histogram!=null) return histogram;
+
+			final DataDistributionImpl dist=DataDistributionImpl.createFromString(s,DistMaxLong);
+			if (dist==null) return null;
+			dist.stretchToValueCount(DistMax);
+			return LogBucketHistogram.createFromDensity(dist.densityData);
+		}
+
 		/**
 		 * Fgt Daten eines weiteren Kunden-Datensatzes zu diesem Datensatz hinzu.
 		 * @param data	Weitere Daten die zu diesem Datensatz hinzugefgt werden sollen
@@ -1019,9 +1088,9 @@ public final class Statistics extends StatisticsBase {
 			addDensity(kundenVerweilzeitVerteilung,data.kundenVerweilzeitVerteilung);
 			addDensity(kundenAbbruchzeitVerteilung,data.kundenAbbruchzeitVerteilung);
 
-			addDensity(kundenWartezeitVerteilungLang,data.kundenWartezeitVerteilungLang);
-			addDensity(kundenVerweilzeitVerteilungLang,data.kundenVerweilzeitVerteilungLang);
-			addDensity(kundenAbbruchzeitVerteilungLang,data.kundenAbbruchzeitVerteilungLang);
+			kundenWartezeitVerteilungLang.addToThis(data.kundenWartezeitVerteilungLang);
+			kundenVerweilzeitVerteilungLang.addToThis(data.kundenVerweilzeitVerteilungLang);
+			kundenAbbruchzeitVerteilungLang.addToThis(data.kundenAbbruchzeitVerteilungLang);
 
 			anrufe+=data.anrufe;
 			anrufeBlocked+=data.anrufeBlocked;
@@ -1053,9 +1122,9 @@ public final class Statistics extends StatisticsBase {
 			addDensity(anrufeVerweilzeitVerteilung,data.anrufeVerweilzeitVerteilung);
 			addDensity(anrufeAbbruchzeitVerteilung,data.anrufeAbbruchzeitVerteilung);
 
-			addDensity(anrufeWartezeitVerteilungLang,data.anrufeWartezeitVerteilungLang);
-			addDensity(anrufeVerweilzeitVerteilungLang,data.anrufeVerweilzeitVerteilungLang);
-			addDensity(anrufeAbbruchzeitVerteilungLang,data.anrufeAbbruchzeitVerteilungLang);
+			anrufeWartezeitVerteilungLang.addToThis(data.anrufeWartezeitVerteilungLang);
+			anrufeVerweilzeitVerteilungLang.addToThis(data.anrufeVerweilzeitVerteilungLang);
+			anrufeAbbruchzeitVerteilungLang.addToThis(data.anrufeAbbruchzeitVerteilungLang);
 
 			interDayWartezeitSum+=data.interDayWartezeitSum;
 			interDayWartezeitSum2+=data.interDayWartezeitSum2;
@@ -1071,6 +1140,11 @@ public final class Statistics extends StatisticsBase {
 			interDayServiceLevelClientsSuccessSum2+=data.interDayServiceLevelClientsSuccessSum2;
 			interDayServiceLevelClientsAllSum+=data.interDayServiceLevelClientsAllSum;
 			interDayServiceLevelClientsAllSum2+=data.interDayServiceLevelClientsAllSum2;
+			interDayPairCount+=data.interDayPairCount;
+			for (int i=0;i<INTER_DAY_VALUE_COUNT;i++) {
+				interDayPairSum[i]+=data.interDayPairSum[i];
+				interDayPairSum2[i]+=data.interDayPairSum2[i];
+			}
 
 			revenue+=data.revenue;
 			costWaiting+=data.costWaiting;
@@ -1083,6 +1157,37 @@ public final class Statistics extends StatisticsBase {
 			kundenNextDayUebertragRestWaitingToleranceProSimDay.addAll(data.kundenNextDayUebertragRestWaitingToleranceProSimDay);
 		}
 
+		/**
+		 * Bringt die pro simuliertem Tag erfassten Daten in die Reihenfolge der globalen Tagesnummern.<br>
+		 * Werden die Tage dynamisch auf die Threads verteilt, so entspricht die Reihenfolge nach dem
+		 * Zusammenfhren der Teilstatistiken nicht mehr der Reihenfolge der Tage.
+		 * @param dayGlobal	Globale Tagesnummern der bisher erfassten Tage (in der Reihenfolge, in der die Daten in den Listen stehen)
+		 * @see Statistics#sortSimDays(long[])
+		 */
+		private void sortSimDays(final long[] dayGlobal) {
+			if (dayGlobal.length!=kundenAbbruchProSimDay.size()) return;
+			final Integer[] index=new Integer[dayGlobal.length];
+			for (int i=0;i<index.length;i++) index[i]=i;
+			Arrays.sort(index,(i1,i2)->Long.compare(dayGlobal[i1],dayGlobal[i2]));
+			kundenAbbruchProSimDay=sortByIndex(kundenAbbruchProSimDay,index);
+			kundenNextDayRetryProSimDay=sortByIndex(kundenNextDayRetryProSimDay,index);
+			kundenNextDayUebertragWaitingTimeProSimDay=sortByIndex(kundenNextDayUebertragWaitingTimeProSimDay,index);
+			kundenNextDayUebertragRestWaitingToleranceProSimDay=sortByIndex(kundenNextDayUebertragRestWaitingToleranceProSimDay,index);
+		}
+
+		/**
+		 * Ordnet eine Liste gem einer Indexliste neu an.
+		 * @param list	Ausgangsliste
+		 * @param index	Indices der Ausgangsliste in der neuen Reihenfolge
+		 * @return	Neu angeordnete Liste
+		 * @see #sortSimDays(long[])
+		 */
+		private <T> List<T> sortByIndex(final List<T> list, final Integer[] index) {
+			final List<T> result=new ArrayList<>(list.size());
+			for (int i=0;i<index.length;i++) result.add(list.get(index[i]));
+			return result;
+		}
+
 		/**
 		 * Wird in {@link #updateInterDayData()} verwendet, um bertrge zwischen
 		 * mehreren Tagen verwalten zu knnen.
@@ -1132,34 +1237,108 @@ public final class Statistics extends StatisticsBase {
 		 */
 		private int lastDayKundenServicelevel;
 
+		/**
+		 * Mittlere Wartezeit (in Sekunden) der erfolgreichen Anrufe am zuletzt abgeschlossenen Simulationstag
+		 * (wird von {@link #updateInterDayData()} gesetzt und nicht gespeichert)
+		 */
+		public double completedDayWartezeit;
+
+		/**
+		 * Anteil der erfolgreichen Anrufe am zuletzt abgeschlossenen Simulationstag
+		 * (wird von {@link #updateInterDayData()} gesetzt und nicht gespeichert)
+		 */
+		public double completedDaySuccessCalls;
+
+		/**
+		 * Service-Level (bezogen auf die erfolgreichen Anrufe) am zuletzt abgeschlossenen Simulationstag
+		 * (wird von {@link #updateInterDayData()} gesetzt und nicht gespeichert)
+		 */
+		public double completedDayServiceLevelCallsSuccess;
+
+		/**
+		 * Nummer des Tagespaares, dessen erster Tag bereits erfasst, aber noch nicht mit dem zweiten Tag zusammengefasst wurde (-1 fr keines)
+		 * @see #updateInterDayData(long)
+		 */
+		private long pendingPair=-1;
+
+		/**
+		 * Kenngren des zuletzt abgeschlossenen Simulationstages
+		 * @see #updateInterDayData(long)
+		 */
+		private final double[] dayValues=new double[INTER_DAY_VALUE_COUNT];
+
+		/**
+		 * Kenngren des ersten Tages des Tagespaares {@link #pendingPair}
+		 * @see #updateInterDayData(long)
+		 */
+		private final double[] pendingPairValues=new double[INTER_DAY_VALUE_COUNT];
+
 		/**
 		 * Aktualisiert die Daten fr die Konfidenzinervall-Berechnung nach jeweils einem Simulationstag.
 		 */
 		public final void updateInterDayData() {
+			updateInterDayData(-1);
+		}
+
+		/**
+		 * Aktualisiert die Daten fr die Konfidenzinervall-Berechnung nach jeweils einem Simulationstag.<br>
+		 * Werden die Tage als Paare aus einem normalen und einem antithetischen Tag simuliert, so werden
+		 * zustzlich die Mittelwerte der Kenngren pro Tagespaar erfasst. Die Konfidenzintervalle werden
+		 * dann auf Basis dieser (voneinander unabhngigen) Paar-Mittelwerte berechnet.
+		 * @param antitheticPair	Nummer des Tagespaares, zu dem der Tag gehrt (-1, wenn die Tage unabhngig voneinander simuliert werden)
+		 * @see #getInterDayConfidence(int, double)
+		 */
+		public final void updateInterDayData(final long antitheticPair) {
 			/* Daten fr die Konfidenzintervalle */
 			double wartezeit=(double)(anrufeWartezeitSum-lastDayAnrufeWartezeitSum)/Math.max(1,anrufeErfolg-lastDayAnrufeErfolg);
 			interDayWartezeitSum+=wartezeit;
 			interDayWartezeitSum2+=wartezeit*wartezeit;
+			completedDayWartezeit=wartezeit;
+			dayValues[INTER_DAY_WAITING_TIME]=wartezeit;
 
 			double success=(double)(anrufeErfolg-lastDayAnrufeErfolg)/Math.max(1,(anrufe-anrufeUebertrag)-lastDayAnrufe);
+			completedDaySuccessCalls=success;
 			interDaySuccessCallsSum+=success;
 			interDaySuccessCallsSum2+=success*success;
+			dayValues[INTER_DAY_SUCCESS_CALLS]=success;
 			success=(double)(kundenErfolg-lastDayKundenErfolg)/Math.max(1,(kunden-kundenUebertrag)-lastDayKunden);
 			interDaySuccessClientsSum+=success;
 			interDaySuccessClientsSum2+=success*success;
+			dayValues[INTER_DAY_SUCCESS_CLIENTS]=success;
 
 			double serviceLevel=(double)(anrufeServicelevel-lastDayAnrufeServicelevel)/Math.max(1,anrufeErfolg-lastDayAnrufeErfolg);
+			completedDayServiceLevelCallsSuccess=serviceLevel;
 			interDayServiceLevelCallsSuccessSum+=serviceLevel;
 			interDayServiceLevelCallsSuccessSum2+=serviceLevel*serviceLevel;
+			dayValues[INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS]=serviceLevel;
 			serviceLevel=(double)(anrufeServicelevel-lastDayAnrufeServicelevel)/Math.max(1,anrufe-lastDayAnrufe);
 			interDayServiceLevelCallsAllSum+=serviceLevel;
 			interDayServiceLevelCallsAllSum2+=serviceLevel*serviceLevel;
+			dayValues[INTER_DAY_SERVICE_LEVEL_CALLS_ALL]=serviceLevel;
 			serviceLevel=(double)(kundenServicelevel-lastDayKundenServicelevel)/Math.max(1,kundenErfolg-lastDayKundenErfolg);
 			interDayServiceLevelClientsSuccessSum+=serviceLevel;
 			interDayServiceLevelClientsSuccessSum2+=serviceLevel*serviceLevel;
+			dayValues[INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS]=serviceLevel;
 			serviceLevel=(double)(kundenServicelevel-lastDayKundenServicelevel)/Math.max(1,kunden-lastDayKunden);
 			interDayServiceLevelClientsAllSum+=serviceLevel;
 			interDayServiceLevelClientsAllSum2+=serviceLevel*serviceLevel;
+			dayValues[INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL]=serviceLevel;
+
+			/* Daten fr die Konfidenzintervalle auf Basis von Tagespaaren */
+			if (antitheticPair>=0) {
+				if (pendingPair==antitheticPair) {
+					for (int i=0;i<INTER_DAY_VALUE_COUNT;i++) {
+						final double mean=(pendingPairValues[i]+dayValues[i])/2;
+						interDayPairSum[i]+=mean;
+						interDayPairSum2[i]+=mean*mean;
+					}
+					interDayPairCount++;
+					pendingPair=-1;
+				} else {
+					pendingPair=antitheticPair;
+					System.arraycopy(dayValues,0,pendingPairValues,0,INTER_DAY_VALUE_COUNT);
+				}
+			}
 
 			/* Hilfsdaten fr die Berechnung der Konfidenzintervalle */
 			lastDayAnrufe=anrufe-anrufeUebertrag;
@@ -1441,25 +1620,22 @@ public final class Statistics extends StatisticsBase {
 
 				if (Language.trAll("XML.Statistic.Clients.WaitingTimeDistributionLong.Clients",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					kundenWartezeitVerteilungLang=DataDistributionImpl.createFromString(t,kundenWartezeitVerteilungLang.upperBound);
+					kundenWartezeitVerteilungLang=loadLongDistribution(t);
 					if (kundenWartezeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.WaitingTimeDistributionLong.Clients.Error");
-					kundenWartezeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
 				if (Language.trAll("XML.Statistic.Clients.HoldingTimeDistributionLong.Clients",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					kundenVerweilzeitVerteilungLang=DataDistributionImpl.createFromString(t,kundenVerweilzeitVerteilungLang.upperBound);
+					kundenVerweilzeitVerteilungLang=loadLongDistribution(t);
 					if (kundenVerweilzeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.HoldingTimeDistributionLong.Clients.Error");
-					kundenVerweilzeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
 				if (Language.trAll("XML.Statistic.Clients.CancelTimeDistributionLong.Clients",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					kundenAbbruchzeitVerteilungLang=DataDistributionImpl.createFromString(t,kundenAbbruchzeitVerteilungLang.upperBound);
+					kundenAbbruchzeitVerteilungLang=loadLongDistribution(t);
 					if (kundenAbbruchzeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.CancelTimeDistributionLong.Clients.Error");
-					kundenAbbruchzeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
@@ -1613,29 +1789,32 @@ public final class Statistics extends StatisticsBase {
 
 				if (Language.trAll("XML.Statistic.Clients.WaitingTimeDistributionLong.Calls",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					anrufeWartezeitVerteilungLang=DataDistributionImpl.createFromString(t,anrufeWartezeitVerteilungLang.upperBound);
+					anrufeWartezeitVerteilungLang=loadLongDistribution(t);
 					if (anrufeWartezeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.WaitingTimeDistributionLong.Calls.Error");
-					anrufeWartezeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
 				if (Language.trAll("XML.Statistic.Clients.HoldingTimeDistributionLong.Calls",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					anrufeVerweilzeitVerteilungLang=DataDistributionImpl.createFromString(t,anrufeVerweilzeitVerteilungLang.upperBound);
+					anrufeVerweilzeitVerteilungLang=loadLongDistribution(t);
 					if (anrufeVerweilzeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.HoldingTimeDistributionLong.Calls.Error");
-					anrufeVerweilzeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
 				if (Language.trAll("XML.Statistic.Clients.CancelTimeDistributionLong.Calls",s)) {
 					String t=Language.trAllAttribute("XML.Statistic.GeneralAttributes.Distribution",e);
-					anrufeAbbruchzeitVerteilungLang=DataDistributionImpl.createFromString(t,anrufeAbbruchzeitVerteilungLang.upperBound);
+					anrufeAbbruchzeitVerteilungLang=loadLongDistribution(t);
 					if (anrufeAbbruchzeitVerteilungLang==null) return Language.tr("XML.Statistic.Clients.CancelTimeDistributionLong.Calls.Error");
-					anrufeAbbruchzeitVerteilungLang.stretchToValueCount(DistMax);
 					continue;
 				}
 
 				if (Language.trAll("XML.Statistic.Confidence",s)) {
+					final String pairs=Language.trAllAttribute("XML.Statistic.Confidence.AntitheticPairs",e);
+					if (!pairs.isEmpty()) {
+						final Long L=NumberTools.getNotNegativeLong(pairs);
+						if (L==null) return String.format(Language.tr("XML.Statistic.Confidence.AntitheticPairs.Error"),pairs);
+						interDayPairCount=L;
+					}
 					NodeList l2=e.getChildNodes();
 					for (int j=0; j<l2.getLength();j++) {
 						if (!(l2.item(j) instanceof Element)) continue;
@@ -1650,6 +1829,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDaySuccessCallsSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.Accessibility.Calls.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SUCCESS_CALLS);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1661,6 +1842,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDaySuccessClientsSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.Accessibility.Clients.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SUCCESS_CLIENTS);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1673,6 +1856,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDayWartezeitSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.WaitingTime.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_WAITING_TIME);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1684,6 +1869,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDayServiceLevelCallsSuccessSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.ServiceLevel.CallsSuccess.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1695,6 +1882,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDayServiceLevelCallsAllSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.ServiceLevel.CallsAll.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SERVICE_LEVEL_CALLS_ALL);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1706,6 +1895,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDayServiceLevelClientsSuccessSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.ServiceLevel.ClientsSuccess.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS);
+							if (u!=null) return u;
 							continue;
 						}
 
@@ -1717,6 +1908,8 @@ public final class Statistics extends StatisticsBase {
 							u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.SquaresSum",e2);
 							d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
 							if (d!=null) interDayServiceLevelClientsAllSum2=d; else return String.format(Language.tr("XML.Statistic.Confidence.ServiceLevel.ClientsAll.ErrorSquaresSum"),u);
+							u=loadConfidencePairSums(e2,INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL);
+							if (u!=null) return u;
 							continue;
 						}
 					}
@@ -1776,20 +1969,82 @@ public final class Statistics extends StatisticsBase {
 			return interval;
 		}
 
+		/**
+		 * Liefert die Summe bzw. die Summe der quadrierten Tageswerte einer Kenngre.
+		 * @param index	Index der Kenngre (z.B. {@link #INTER_DAY_WAITING_TIME})
+		 * @param squares	Summe der quadrierten Werte (<code>true</code>) oder Summe der Werte (<code>false</code>)
+		 * @return	Summe bzw. Summe der quadrierten Werte ber alle Simulationstage
+		 */
+		private double getInterDaySum(final int index, final boolean squares) {
+			switch (index) {
+			case INTER_DAY_SUCCESS_CALLS: return squares?interDaySuccessCallsSum2:interDaySuccessCallsSum;
+			case INTER_DAY_SUCCESS_CLIENTS: return squares?interDaySuccessClientsSum2:interDaySuccessClientsSum;
+			case INTER_DAY_WAITING_TIME: return squares?interDayWartezeitSum2:interDayWartezeitSum;
+			case INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS: return squares?interDayServiceLevelCallsSuccessSum2:interDayServiceLevelCallsSuccessSum;
+			case INTER_DAY_SERVICE_LEVEL_CALLS_ALL: return squares?interDayServiceLevelCallsAllSum2:interDayServiceLevelCallsAllSum;
+			case INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS: return squares?interDayServiceLevelClientsSuccessSum2:interDayServiceLevelClientsSuccessSum;
+			case INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL: return squares?interDayServiceLevelClientsAllSum2:interDayServiceLevelClientsAllSum;
+			default: return 0;
+			}
+		}
+
+		/**
+		 * Berechnet das Konfidenzintervall fr den Mittelwert einer Kenngre ber alle Simulationstage.<br>
+		 * Wurden die Tage als Paare aus einem normalen und einem antithetischen Tag simuliert, so wird
+		 * das Intervall auf Basis der Paar-Mittelwerte berechnet, sonst auf Basis der einzelnen Tageswerte.
+		 * @param index	Index der Kenngre (z.B. {@link #INTER_DAY_WAITING_TIME})
+		 * @param p	Wahrscheinlichkeit, zu der das Konfidenzintervall bestimmt werden soll
+		 * @return	Konfidenzintervall zur Wahrscheinlichkeit <code>p</code>
+		 * @see #interDayPairCount
+		 */
+		public double[] getInterDayConfidence(final int index, final double p) {
+			if (interDayPairCount>1) return calcConfidence(interDayPairSum2[index],interDayPairSum[index],interDayPairCount,p);
+			return calcConfidence(getInterDaySum(index,true),getInterDaySum(index,false),simulationData.runRepeatCount,p);
+		}
+
+		/**
+		 * Speichert die Summen und Quadratsummen einer Kenngre (sowie ggf. die Summen ber die Tagespaare).
+		 * @param node2	XML-Element in dem die Daten als Attribute gespeichert werden sollen
+		 * @param index	Index der Kenngre (z.B. {@link #INTER_DAY_WAITING_TIME})
+		 */
+		private final void saveConfidenceSums(final Element node2, final int index) {
+			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Sum"),NumberTools.formatSystemNumber(getInterDaySum(index,false)));
+			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.SquaresSum"),NumberTools.formatSystemNumber(getInterDaySum(index,true)));
+			if (interDayPairCount>0) {
+				node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.PairSum"),NumberTools.formatSystemNumber(interDayPairSum[index]));
+				node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.PairSquaresSum"),NumberTools.formatSystemNumber(interDayPairSum2[index]));
+			}
+		}
+
+		/**
+		 * Ldt die Summen ber die Tagespaare fr eine Kenngre (sofern vorhanden).
+		 * @param e2	XML-Element, aus dem die Daten geladen werden sollen
+		 * @param index	Index der Kenngre (z.B. {@link #INTER_DAY_WAITING_TIME})
+		 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+		 */
+		private final String loadConfidencePairSums(final Element e2, final int index) {
+			String u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.PairSum",e2);
+			if (u.isEmpty()) return null;
+			Double d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
+			if (d!=null) interDayPairSum[index]=d; else return String.format(Language.tr("XML.Statistic.Confidence.ErrorPairSum"),u);
+			u=Language.trAllAttribute("XML.Statistic.GeneralAttributes.PairSquaresSum",e2);
+			d=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(u));
+			if (d!=null) interDayPairSum2[index]=d; else return String.format(Language.tr("XML.Statistic.Confidence.ErrorPairSquaresSum"),u);
+			return null;
+		}
+
 		/**
 		 * Speichert Konfidenzintervall-Daten fr eine Kenngre.
 		 * @param node2	XML-Element in dem die Daten als Attribute gespeichert werden sollen
-		 * @param sum	Summe der Werte fr die Kenngre
-		 * @param sum2	Summe der quadrierten Werte fr die Kenngre
+		 * @param index	Index der Kenngre (z.B. {@link #INTER_DAY_SUCCESS_CALLS})
 		 */
-		private final void saveConfidencePercentValue(final Element node2, final double sum, final double sum2) {
+		private final void saveConfidencePercentValue(final Element node2, final int index) {
 			double[] c;
-			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Sum"),NumberTools.formatSystemNumber(sum));
-			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.SquaresSum"),NumberTools.formatSystemNumber(sum2));
-			c=calcConfidence(sum2,sum,simulationData.runRepeatCount,0.9);
+			saveConfidenceSums(node2,index);
+			c=getInterDayConfidence(index,0.9);
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence90Min"),NumberTools.formatSystemNumber(c[0]*100,5)+"%");
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence90Max"),NumberTools.formatSystemNumber(c[1]*100,5)+"%");
-			c=calcConfidence(sum2,sum,simulationData.runRepeatCount,0.95);
+			c=getInterDayConfidence(index,0.95);
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence95Min"),NumberTools.formatSystemNumber(c[0]*100,5)+"%");
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence95Max"),NumberTools.formatSystemNumber(c[1]*100,5)+"%");
 		}
@@ -2133,34 +2388,34 @@ public final class Statistics extends StatisticsBase {
 
 			double[] c;
 			parent.appendChild(node=doc.createElement(Language.trPrimary("XML.Statistic.Confidence")));
+			if (interDayPairCount>0) node.setAttribute(Language.trPrimary("XML.Statistic.Confidence.AntitheticPairs"),""+interDayPairCount);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.Accessibility.Calls")));
-			saveConfidencePercentValue(node2,interDaySuccessCallsSum,interDaySuccessCallsSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SUCCESS_CALLS);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.Accessibility.Clients")));
-			saveConfidencePercentValue(node2,interDaySuccessClientsSum,interDaySuccessClientsSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SUCCESS_CLIENTS);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.WaitingTime")));
-			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Sum"),NumberTools.formatSystemNumber(interDayWartezeitSum));
-			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.SquaresSum"),NumberTools.formatSystemNumber(interDayWartezeitSum2));
-			c=calcConfidence(interDayWartezeitSum2,interDayWartezeitSum,simulationData.runRepeatCount,0.9);
+			saveConfidenceSums(node2,INTER_DAY_WAITING_TIME);
+			c=getInterDayConfidence(INTER_DAY_WAITING_TIME,0.9);
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence90Min"),TimeTools.formatExactSystemTime(c[0]));
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence90Max"),TimeTools.formatExactSystemTime(c[1]));
-			c=calcConfidence(interDayWartezeitSum2,interDayWartezeitSum,simulationData.runRepeatCount,0.95);
+			c=getInterDayConfidence(INTER_DAY_WAITING_TIME,0.95);
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence95Min"),TimeTools.formatExactSystemTime(c[0]));
 			node2.setAttribute(Language.trPrimary("XML.Statistic.GeneralAttributes.Confidence95Max"),TimeTools.formatExactSystemTime(c[1]));
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.ServiceLevel.CallsSuccess")));
-			saveConfidencePercentValue(node2,interDayServiceLevelCallsSuccessSum,interDayServiceLevelCallsSuccessSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.ServiceLevel.CallsAll")));
-			saveConfidencePercentValue(node2,interDayServiceLevelCallsAllSum,interDayServiceLevelCallsAllSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SERVICE_LEVEL_CALLS_ALL);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.ServiceLevel.ClientsSuccess")));
-			saveConfidencePercentValue(node2,interDayServiceLevelClientsSuccessSum,interDayServiceLevelClientsSuccessSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS);
 
 			node.appendChild(node2=doc.createElement(Language.trPrimary("XML.Statistic.Confidence.ServiceLevel.ClientsAll")));
-			saveConfidencePercentValue(node2,interDayServiceLevelClientsAllSum,interDayServiceLevelClientsAllSum2);
+			saveConfidencePercentValue(node2,INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL);
 
 			parent.appendChild(node=doc.createElement(Language.trPrimary("XML.Statistic.Costs")));
 			node.setAttribute(Language.trPrimary("XML.Statistic.Costs.Yield"),NumberTools.formatSystemNumber(revenue));
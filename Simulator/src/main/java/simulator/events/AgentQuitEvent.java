@@ -18,6 +18,7 @@ package simulator.events;
 import language.Language;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -29,6 +30,12 @@ import simulator.SimulationData;
  * @version 1.0
  */
 public final class AgentQuitEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(AgentQuitEvent.class,AgentQuitEvent::new);
+
 	/**
 	 * Agent fr den das Dienstende erreicht ist
 	 */
@@ -18,6 +18,7 @@ package simulator.events;
 import language.Language;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -30,6 +31,12 @@ import simulator.SimulationData;
  * @version 1.0
  */
 public final class AgentReadyEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(AgentReadyEvent.class,AgentReadyEvent::new);
+
 	/**
 	 * Agent, der sich als bereit meldet
 	 */
@@ -81,7 +88,7 @@ public final class AgentReadyEvent extends Event {
 			if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Ready.ShiftStart"),null,agentRecord,null);
 			agentRecord.logStatusChange(time,RunData.AGENT_VOR_DIENST,RunData.AGENT_LEERLAUF,null);
 			if (!agentRecord.agent.workingNoEndTime) {
-				final AgentQuitEvent quitEvent=(AgentQuitEvent)data.getEvent(AgentQuitEvent.class);
+				final AgentQuitEvent quitEvent=(AgentQuitEvent)data.getEvent(AgentQuitEvent.TYPE_ID);
 				quitEvent.init(((long)(agentRecord.agent.workingTimeEnd))*1000);
 				quitEvent.agentRecord=agentRecord;
 				data.eventManager.addEvent(quitEvent);
@@ -15,12 +15,14 @@
  */
 package simulator.events;
 
-import java.util.concurrent.ThreadLocalRandom;
+import org.apache.commons.math3.random.RandomGenerator;
 
 import language.Language;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
+import simulator.CommonRandomNumbers;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -35,6 +37,12 @@ import ui.model.CallcenterRunModelCaller;
  * @version 1.0
  */
 public final class CallCancelEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(CallCancelEvent.class,CallCancelEvent::new);
+
 	/**
 	 * Kunde der das Warten aufgibt
 	 */
@@ -80,9 +88,8 @@ public final class CallCancelEvent extends Event {
 			statisticGlobal.anrufeAbbruchzeitVerteilung.densityData[index]++;
 			statisticCall.anrufeAbbruchzeitVerteilung.densityData[index]++;
 
-			index=Math.min(statisticGlobal.anrufeAbbruchzeitVerteilungLang.densityData.length-1,cancelTime/1800);
-			statisticGlobal.anrufeAbbruchzeitVerteilungLang.densityData[index]++;
-			statisticCall.anrufeAbbruchzeitVerteilungLang.densityData[index]++;
+			statisticGlobal.anrufeAbbruchzeitVerteilungLang.add(cancelTime/1800);
+			statisticCall.anrufeAbbruchzeitVerteilungLang.add(cancelTime/1800);
 		}
 
 		if (!retry) logGiveUpWhileExtern(data,callerRecord,time,0,endOfDay);
@@ -131,9 +138,8 @@ public final class CallCancelEvent extends Event {
 			statisticGlobal.kundenAbbruchzeitVerteilung.densityData[index]++;
 			statisticClient.kundenAbbruchzeitVerteilung.densityData[index]++;
 
-			index=Math.min(statisticGlobal.kundenAbbruchzeitVerteilungLang.densityData.length-1,cancelTime/1800);
-			statisticGlobal.kundenAbbruchzeitVerteilungLang.densityData[index]++;
-			statisticClient.kundenAbbruchzeitVerteilungLang.densityData[index]++;
+			statisticGlobal.kundenAbbruchzeitVerteilungLang.add(cancelTime/1800);
+			statisticClient.kundenAbbruchzeitVerteilungLang.add(cancelTime/1800);
 		}
 	}
 
@@ -166,8 +172,9 @@ public final class CallCancelEvent extends Event {
 				rates=callerRecord.callerType.retryCallerTypeRateAfterGiveUp;
 			}
 		}
+		final RandomGenerator generator=((SimulationData)data).getRandomGenerator(callerRecord,CommonRandomNumbers.FOLLOW_UP);
 		if (types.length>0) {
-			double p=ThreadLocalRandom.current().nextDouble();
+			double p=generator.nextDouble();
 			double sum=0;
 			for (int i=0;i<rates.length;i++) {
 				sum+=rates[i];
@@ -180,8 +187,8 @@ public final class CallCancelEvent extends Event {
 		}
 
 		/* Wiederholung anlegen */
-		final long retryCallTime=time+Math.round(DistributionRandomNumber.randomNonNegative(callerRecord.callerType.retryTimeDist)*1000);
-		CallEvent call=((CallEvent)(data.getEvent(CallEvent.class)));
+		final long retryCallTime=time+Math.round(DistributionRandomNumber.sampleNonNegative(callerRecord.callerType.retryTimeSampler,generator)*1000);
+		CallEvent call=((CallEvent)(data.getEvent(CallEvent.TYPE_ID)));
 		call.init(retryCallTime);
 		call.callerRecord=callerRecord;
 		callerRecord.retryCount++;
@@ -193,7 +200,7 @@ public final class CallCancelEvent extends Event {
 		((SimulationData)data).dynamicSimData.addCallerToExternalQueue(callerRecord);
 
 		/* Textfile-Logging */
-		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.CallCancel.Retry"),callerRecord,null,Language.tr("Simulation.Log.CallCancel.Retry.Time")+": "+SimData.formatSimTime(retryCallTime)+"\n");
+		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.CallCancel.Retry"),callerRecord,null,null,Language.tr("Simulation.Log.CallCancel.Retry.Time"),retryCallTime,null,0);
 	}
 
 	/* (non-Javadoc)
@@ -220,7 +227,7 @@ public final class CallCancelEvent extends Event {
 
 		/* Wiederholung ? */
 		double retryProbability=(callerRecord.retryCount==0)?callerRecord.callerType.retryProbabiltyAfterGiveUpFirstRetry:callerRecord.callerType.retryProbabiltyAfterGiveUp;
-		boolean retry=(retryProbability>=ThreadLocalRandom.current().nextDouble());
+		boolean retry=(retryProbability>=((SimulationData)data).getRandomGenerator(callerRecord,CommonRandomNumbers.FOLLOW_UP).nextDouble());
 
 		logGiveUp((SimulationData)data,callerRecord,time,retry,false);
 		if (retry) {
@@ -15,13 +15,13 @@
  */
 package simulator.events;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 import language.Language;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import parser.MathCalcError;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
+import simulator.CommonRandomNumbers;
 import simulator.LogTools;
 import simulator.RunData.AgentRecord;
 import simulator.RunData.CallerRecord;
@@ -35,6 +35,12 @@ import ui.model.CallcenterRunModelCaller;
  * @version 1.0
  */
 public final class CallEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(CallEvent.class,CallEvent::new);
+
 	/**
 	 * Kundendatensatz
 	 */
@@ -135,14 +141,14 @@ public final class CallEvent extends Event {
 				waitingTime=((double)callerRecord.initialRestWaitingTolerance)/1000;
 				callerRecord.initialRestWaitingTolerance=0;
 			} else {
-				waitingTime=DistributionRandomNumber.randomNonNegative(callerRecord.callerType.waitingTimeDist);
+				waitingTime=DistributionRandomNumber.sampleNonNegative(callerRecord.callerType.waitingTimeSampler,data.getRandomGenerator(callerRecord,CommonRandomNumbers.PATIENCE));
 			}
 
 			/* Cancel-Event nicht anlegen, wenn bereits zugeordnet und technische Bereitzeit < Abbruchzeit */
 			if (agentRecord==null || (agentRecord.callcenter.technicalFreeTime>waitingTime && agentRecord.callcenter.technicalFreeTimeIsWaitingTime)) {
 				cancelTime=time+Math.round(waitingTime*1000);
 				if (cancelTime<0) cancelTime=86400*1000; /* berlauf weil Wartezeittoleranz nahe \infty */
-				CallCancelEvent cancel=((CallCancelEvent)data.getEvent(CallCancelEvent.class));
+				CallCancelEvent cancel=((CallCancelEvent)data.getEvent(CallCancelEvent.TYPE_ID));
 				cancel.init(cancelTime);
 				cancel.callerRecord=callerRecord;
 				callerRecord.callCancelEvent=cancel;
@@ -164,7 +170,7 @@ public final class CallEvent extends Event {
 				if (time+minWaitingTime>=cancelTime) continue;
 
 				/* Recheck-Event anlegen */
-				recheck=(ReCheckEvent)(data.getEvent(ReCheckEvent.class));
+				recheck=(ReCheckEvent)(data.getEvent(ReCheckEvent.TYPE_ID));
 				recheck.init(time+minWaitingTime);
 				recheck.callerRecord=callerRecord;
 				data.eventManager.addEvent(recheck);
@@ -196,25 +202,25 @@ public final class CallEvent extends Event {
 		logCall(data,callerRecord,time,(callerRecord.retryCount==0) && !callerRecord.callContinued);
 
 		String info=null;
+		String lastDayLabel=null;
 		if (callerRecord.initialRestWaitingTolerance!=0) {
 			if (callerRecord.initialRestWaitingTolerance<0) callerRecord.initialRestWaitingTolerance=0; /* Ein Wert <0 wird nur hier verwendet, um anzudeuten, dass es sich um einen Anrufer handelt, der schon am Vortag einmal da war. */
 			if (data.loggingActive) {
 				info=Language.tr("Simulation.Log.Call.CarriedOver")+"\n";
-				if (callerRecord.startWaitingTime!=time) info+=Language.tr("Simulation.Log.Call.CarriedOver.LastDayWaitingTime")+": "+SimData.formatSimTime(time-callerRecord.startWaitingTime)+"\n";
+				if (callerRecord.startWaitingTime!=time) lastDayLabel=Language.tr("Simulation.Log.Call.CarriedOver.LastDayWaitingTime");
 			}
 		}
+		final long lastDayWaitingTime=time-callerRecord.startWaitingTime;
 
 		/* Warteschlange voll ? */
 		if (callerRecord.callerType.blocksLine) {
-			final double[] param=data.dynamicSimData.workingAgentsCountArray;
-			param[0]=data.dynamicSimData.workingAgentsCount;
 			try {
-				final double d=data.model.maxQueueLength.calc(param);
+				final double d=data.model.maxQueueLength.calc(data.dynamicSimData.workingAgentsCount);
 				if (d<=data.dynamicSimData.getPhoneCallQueueLength()) {
 					/* Warteschlange ist voll */
-					if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Call.Blocked"),callerRecord,null,info);
+					if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Call.Blocked"),callerRecord,null,info,lastDayLabel,lastDayWaitingTime,null,0);
 					final double retryProbability=(callerRecord.retryCount==0)?callerRecord.callerType.retryProbabiltyAfterBlockedFirstRetry:callerRecord.callerType.retryProbabiltyAfterBlocked;
-					final boolean retry=(retryProbability>=ThreadLocalRandom.current().nextDouble());
+					final boolean retry=(retryProbability>=data.getRandomGenerator(callerRecord,CommonRandomNumbers.FOLLOW_UP).nextDouble());
 					logBlocked(data,callerRecord,time,retry);
 					if (retry) CallCancelEvent.retryCall(callerRecord,time,data,callerRecord.retryCount==0,true);
 					return;
@@ -232,12 +238,11 @@ public final class CallEvent extends Event {
 		if (agentRecord==null) {
 			data.dynamicSimData.addCallerToQueue(callerRecord,time,data.statisticSimData);
 			if (data.loggingActive) {
-				if (info==null) info="";
-				info+=(cancelTime==Long.MAX_VALUE)?"":(Language.tr("Simulation.Log.Call.EndOfWaitingTimeTolerance")+": "+SimData.formatSimTime(cancelTime))+"\n";
-				LogTools.log(data,Language.tr("Simulation.Log.Call.Queue"),callerRecord,null,info);
+				final String cancelLabel=(cancelTime==Long.MAX_VALUE)?null:Language.tr("Simulation.Log.Call.EndOfWaitingTimeTolerance");
+				LogTools.log(data,Language.tr("Simulation.Log.Call.Queue"),callerRecord,null,info,lastDayLabel,lastDayWaitingTime,cancelLabel,cancelTime);
 			}
 		} else {
-			if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Call.Match"),callerRecord,agentRecord,info);
+			if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Call.Match"),callerRecord,agentRecord,info,lastDayLabel,lastDayWaitingTime,null,0);
 		}
 
 		/* Prfen, ob der Tag evtl. zu Ende ist */
@@ -256,6 +261,7 @@ public final class CallEvent extends Event {
 			KundenDaten k=((SimulationData)data).statisticSimData.kundenProTyp[callerGroup.index];
 			callerRecord.statisticClient=k;
 			callerRecord.statisticCall=k;
+			((SimulationData)data).initRandomStreams(callerRecord);
 		}
 
 		/* Bei bertrgen vom Vortag eigentlichen Wartezeitbeginn verwenden */
@@ -17,10 +17,12 @@ package simulator.events;
 
 import language.Language;
 import mathtools.distribution.tools.DistributionRandomNumber;
+import parser.CalcSystemCompiled;
 import parser.MathCalcError;
-import parser.MathParser;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
+import simulator.CommonRandomNumbers;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -35,6 +37,12 @@ import ui.model.CallcenterRunModelSkillLevel;
  * @version 1.0
  */
 public final class Service1StartEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(Service1StartEvent.class,Service1StartEvent::new);
+
 	/**
 	 * Anrufer der das Gesprch beginnt
 	 */
@@ -86,17 +94,15 @@ public final class Service1StartEvent extends Event {
 		statisticGlobal.anrufeWartezeitVerteilung.densityData[index]++;
 		statisticCall.anrufeWartezeitVerteilung.densityData[index]++;
 
-		index=Math.min(statisticGlobal.anrufeWartezeitVerteilungLang.densityData.length-1,wartezeit/1800);
-		statisticGlobal.anrufeWartezeitVerteilungLang.densityData[index]++;
-		statisticCall.anrufeWartezeitVerteilungLang.densityData[index]++;
+		statisticGlobal.anrufeWartezeitVerteilungLang.add(wartezeit/1800);
+		statisticCall.anrufeWartezeitVerteilungLang.add(wartezeit/1800);
 
 		index=Math.min(statisticGlobal.anrufeVerweilzeitVerteilung.densityData.length-1,verweilzeit);
 		statisticGlobal.anrufeVerweilzeitVerteilung.densityData[index]++;
 		statisticCall.anrufeVerweilzeitVerteilung.densityData[index]++;
 
-		index=Math.min(statisticGlobal.anrufeVerweilzeitVerteilungLang.densityData.length-1,verweilzeit/1800);
-		statisticGlobal.anrufeVerweilzeitVerteilungLang.densityData[index]++;
-		statisticCall.anrufeVerweilzeitVerteilungLang.densityData[index]++;
+		statisticGlobal.anrufeVerweilzeitVerteilungLang.add(verweilzeit/1800);
+		statisticCall.anrufeVerweilzeitVerteilungLang.add(verweilzeit/1800);
 
 		if (wartezeit<=serviceLevelSeconds) {
 			statisticGlobal.anrufeServicelevel++;
@@ -131,11 +137,11 @@ public final class Service1StartEvent extends Event {
 		assert(skillLevelNr>=0);
 		final int interval=(int)Math.max(0,Math.min(47,time/1000/1800));
 
-		long workingTime=Math.round(DistributionRandomNumber.randomNonNegative(skillLevel.callerTypeWorkingTime[skillLevelNr][interval])*1000);
-		MathParser calc=skillLevel.callerTypeWorkingTimeAddOn[skillLevelNr][interval];
+		long workingTime=Math.round(DistributionRandomNumber.sampleNonNegative(skillLevel.callerTypeWorkingTimeSampler[skillLevelNr][interval],((SimulationData)data).getRandomGenerator(caller,CommonRandomNumbers.SERVICE))*1000);
+		final CalcSystemCompiled calc=skillLevel.callerTypeWorkingTimeAddOn[skillLevelNr][interval];
 		if (calc!=null) {
 			try {
-				final double d=calc.calc(new double[]{wartezeit});
+				final double d=calc.calc(wartezeit);
 				workingTime+=Math.max(d*1000,0);
 			} catch (MathCalcError e) {}
 		}
@@ -144,7 +150,7 @@ public final class Service1StartEvent extends Event {
 		logServiceStarts((SimulationData)data,caller.callerType.serviceLevelSeconds,time-caller.startWaitingTime,time-caller.startWaitingTime+workingTime);
 
 		/* Ereignis fr Beginn der Nachbearbeitungszeit anlegen */
-		Service2StartEvent nextEvent=((Service2StartEvent)data.getEvent(Service2StartEvent.class));
+		Service2StartEvent nextEvent=((Service2StartEvent)data.getEvent(Service2StartEvent.TYPE_ID));
 		nextEvent.init(time+workingTime);
 		nextEvent.caller=caller;
 		nextEvent.agent=agent;
@@ -153,10 +159,9 @@ public final class Service1StartEvent extends Event {
 		nextEvent.workingtimeMS=workingTime;
 		data.eventManager.addEvent(nextEvent);
 
-		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service1Start"),caller,agent,
-				""+
-						Language.tr("Simulation.Log.Service1Start.WaitingTime")+": "+SimData.formatSimTime(time-caller.startWaitingTime)+"\n"+
-						Language.tr("Simulation.Log.Service1Start.ServiceTime")+": "+SimData.formatSimTime(workingTime)+"\n"
+		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service1Start"),caller,agent,null,
+				Language.tr("Simulation.Log.Service1Start.WaitingTime"),time-caller.startWaitingTime,
+				Language.tr("Simulation.Log.Service1Start.ServiceTime"),workingTime
 				);
 	}
 }
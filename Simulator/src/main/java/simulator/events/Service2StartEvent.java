@@ -16,12 +16,15 @@
 package simulator.events;
 
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.math3.random.RandomGenerator;
 
 import language.Language;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
+import simulator.CommonRandomNumbers;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -36,6 +39,12 @@ import ui.model.CallcenterRunModelCaller;
  * @version 1.0
  */
 public final class Service2StartEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(Service2StartEvent.class,Service2StartEvent::new);
+
 	/**
 	 * Kunden fr den die Bedienzeit endet
 	 */
@@ -110,17 +119,15 @@ public final class Service2StartEvent extends Event {
 			statisticGlobal.kundenWartezeitVerteilung.densityData[index]++;
 			statisticClient.kundenWartezeitVerteilung.densityData[index]++;
 
-			index=Math.min(statisticGlobal.kundenWartezeitVerteilungLang.densityData.length-1,callerWait/1800);
-			statisticGlobal.kundenWartezeitVerteilungLang.densityData[index]++;
-			statisticClient.kundenWartezeitVerteilungLang.densityData[index]++;
+			statisticGlobal.kundenWartezeitVerteilungLang.add(callerWait/1800);
+			statisticClient.kundenWartezeitVerteilungLang.add(callerWait/1800);
 
 			index=Math.min(statisticGlobal.kundenVerweilzeitVerteilung.densityData.length-1,callerStay);
 			statisticGlobal.kundenVerweilzeitVerteilung.densityData[index]++;
 			statisticClient.kundenVerweilzeitVerteilung.densityData[index]++;
 
-			index=Math.min(statisticGlobal.kundenVerweilzeitVerteilungLang.densityData.length-1,callerStay/1800);
-			statisticGlobal.kundenVerweilzeitVerteilungLang.densityData[index]++;
-			statisticClient.kundenVerweilzeitVerteilungLang.densityData[index]++;
+			statisticGlobal.kundenVerweilzeitVerteilungLang.add(callerStay/1800);
+			statisticClient.kundenVerweilzeitVerteilungLang.add(callerStay/1800);
 
 			if (callerWait<=serviceLevelSeconds) {
 				statisticGlobal.kundenServicelevel++;
@@ -163,11 +170,11 @@ public final class Service2StartEvent extends Event {
 	 * Plant einen Wiederanruf ein.
 	 * @param data	Simulationsdatenobjekt
 	 * @param time	Zeitpunkt des Wiederanrufs
-	 * @param oldType	Alter Kundentyp
+	 * @param caller	Bisheriger Kunde (mit dem alten Kundentyp)
 	 * @param newType	Neuer Kundentyp
 	 */
-	private static void scheduleRecall(final SimulationData data, final long time, final CallcenterRunModelCaller oldType, final CallcenterRunModelCaller newType) {
-		final long recallCallTime=time+Math.round(DistributionRandomNumber.randomNonNegative(oldType.recallTimeDist)*1000);
+	private static void scheduleRecall(final SimulationData data, final long time, final CallerRecord caller, final CallcenterRunModelCaller newType) {
+		final long recallCallTime=time+Math.round(DistributionRandomNumber.sampleNonNegative(caller.callerType.recallTimeSampler,data.getRandomGenerator(caller,CommonRandomNumbers.FOLLOW_UP))*1000);
 
 		final CallerRecord record=data.dynamicSimData.getNewCallerRecord();
 		final KundenDaten statisticGlobal=data.statisticSimData.kundenGlobal;
@@ -177,7 +184,8 @@ public final class Service2StartEvent extends Event {
 		record.statisticClient=statisticClient;
 		record.statisticCall=statisticClient;
 		record.isRecall=true;
-		CallEvent call=(CallEvent)data.getEvent(CallEvent.class);
+		data.initRandomStreams(record,caller);
+		CallEvent call=(CallEvent)data.getEvent(CallEvent.TYPE_ID);
 		call.init(recallCallTime);
 		call.callerRecord=record;
 
@@ -202,26 +210,27 @@ public final class Service2StartEvent extends Event {
 
 		/* Nachbearbeitungszeit ermitteln */
 		final int interval=(int)Math.max(0,Math.min(47,time/1000/1800));
-		final double processingTime=DistributionRandomNumber.randomNonNegative(agent.skillLevel.callerTypePostProcessingTime[skillLevelNr][interval]);
+		final double processingTime=DistributionRandomNumber.sampleNonNegative(agent.skillLevel.callerTypePostProcessingTimeSampler[skillLevelNr][interval],((SimulationData)data).getRandomGenerator(caller,CommonRandomNumbers.SERVICE));
 
 		/* Ereignis fr Ende der Nachbearbeitungszeit erstellen */
-		final AgentReadyEvent agentReady=((AgentReadyEvent)data.getEvent(AgentReadyEvent.class));
+		final AgentReadyEvent agentReady=((AgentReadyEvent)data.getEvent(AgentReadyEvent.TYPE_ID));
 		agentReady.init(time+Math.round(processingTime*1000));
 		agentReady.agentRecord=agent;
 		data.eventManager.addEvent(agentReady);
 
-		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service2Start"),caller,agent,Language.tr("Simulation.Log.Service2Start.Time")+": "+SimData.formatSimTime(Math.round(processingTime*1000))+"\n");
+		if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service2Start"),caller,agent,null,Language.tr("Simulation.Log.Service2Start.Time"),Math.round(processingTime*1000),null,0);
 
 		final CallcenterRunModelCaller callerType=caller.callerType;
+		final RandomGenerator generator=((SimulationData)data).getRandomGenerator(caller,CommonRandomNumbers.FOLLOW_UP);
 
 		/* Weiterleitung ? */
 		final int specialContinue=(callerType.continueSkillLevel.size()>0)?callerType.continueSkillLevel.indexOf(agent.skillLevel):-1;
 
 		boolean callContinue;
 		if (specialContinue>=0) {
-			callContinue=(callerType.continueSkillLevelProbability.get(specialContinue)>=ThreadLocalRandom.current().nextDouble());
+			callContinue=(callerType.continueSkillLevelProbability.get(specialContinue)>=generator.nextDouble());
 		} else {
-			callContinue=(callerType.continueProbability>=ThreadLocalRandom.current().nextDouble());
+			callContinue=(callerType.continueProbability>=generator.nextDouble());
 		}
 
 		logCallDone((SimulationData)data,callerType.serviceLevelSeconds,callContinue);
@@ -234,7 +243,7 @@ public final class Service2StartEvent extends Event {
 			caller.callContinued=true;
 
 			/* Neuen Caller-Typ setzen */
-			final double p=ThreadLocalRandom.current().nextDouble();
+			final double p=generator.nextDouble();
 			double sum=0;
 			if (specialContinue>=0) {
 				List<Double> probabilities=callerType.continueSkillLevelProbabilities.get(specialContinue);
@@ -273,14 +282,14 @@ public final class Service2StartEvent extends Event {
 
 		boolean callRecall;
 		if (specialRecall>=0) {
-			callRecall=(callerType.recallSkillLevelProbability.get(specialRecall)>=/* Math.random() */ ThreadLocalRandom.current().nextDouble());
+			callRecall=(callerType.recallSkillLevelProbability.get(specialRecall)>=/* Math.random() */ generator.nextDouble());
 		} else {
-			callRecall=(callerType.recallProbability>=/* Math.random() */ ThreadLocalRandom.current().nextDouble());
+			callRecall=(callerType.recallProbability>=/* Math.random() */ generator.nextDouble());
 		}
 
 		if (callRecall) {
 			/* Neuen Caller-Typ setzen */
-			final double p=/* Math.random() */ ThreadLocalRandom.current().nextDouble();
+			final double p=/* Math.random() */ generator.nextDouble();
 			double sum=0;
 			CallcenterRunModelCaller recallCallerType=null;
 			if (specialRecall>=0) {
@@ -308,7 +317,7 @@ public final class Service2StartEvent extends Event {
 
 			if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service2Start.Retry"),caller,null,null);
 
-			scheduleRecall((SimulationData)data,time,caller.callerType,recallCallerType);
+			scheduleRecall((SimulationData)data,time,caller,recallCallerType);
 		} else {
 			if (data.loggingActive) LogTools.log(data,Language.tr("Simulation.Log.Service2Start.Finish"),caller,null,null);
 			((SimulationData)data).dynamicSimData.cacheSingleRecord(caller);
@@ -22,6 +22,7 @@ import java.util.List;
 import language.Language;
 import simcore.Event;
 import simcore.SimData;
+import simcore.eventcache.EventTypes;
 import simulator.LogTools;
 import simulator.RunData;
 import simulator.RunData.AgentRecord;
@@ -35,6 +36,12 @@ import ui.model.CallcenterRunModelCaller;
  * @version 1.0
  */
 public class StopTestEvent extends Event {
+	/**
+	 * Typ-ID dieser Ereignisklasse fr den {@link simcore.eventcache.TypeIndexedEventCache}
+	 * @see EventTypes
+	 */
+	public static final int TYPE_ID=EventTypes.register(StopTestEvent.class,StopTestEvent::new);
+
 	/**
 	 * Entfernt einen Kunden, der nicht mehr bedient werden kann, aus der Warteschlange.
 	 * @param data	Simulationsdatenobjekt
@@ -122,8 +129,7 @@ public class StopTestEvent extends Event {
 
 		/* Kunden, die nicht mehr bedient werden knnen, aus der Warteschlange werfen */
 		for (int i=0;i<callerOk.length;i++) if (!callerOk[i]) {
-			@SuppressWarnings("unchecked")
-			List<CallerRecord> list=((ArrayList<CallerRecord>)(data.dynamicSimData.queueByType[i]).clone());
+			List<CallerRecord> list=data.dynamicSimData.queue.getCallers(i);
 			int count=list.size();
 			for (int j=0;j<count;j++) cancelCall(data,list.get(j));
 		}
@@ -149,7 +155,7 @@ public class StopTestEvent extends Event {
 	 * @param time	Zeitpunkt der Prfung (in MS)
 	 */
 	public static final void addStopTestEvent(final SimulationData data, final long time) {
-		final StopTestEvent e=((StopTestEvent)(data.getEvent(StopTestEvent.class)));
+		final StopTestEvent e=((StopTestEvent)(data.getEvent(StopTestEvent.TYPE_ID)));
 		e.init(time);
 		data.eventManager.addEvent(e);
 	}
@@ -163,6 +163,21 @@ public class SetupData extends SetupBase {
 	 */
 	public boolean increaseNumberOfDays=true;
 
+	/**
+	 * Ergebnisse von Simulationen mit festem Startwert fr den Zufallszahlengenerator zwischenspeichern und bei identischen Modellen erneut verwenden?
+	 */
+	public boolean simulationCache=true;
+
+	/**
+	 * Maximale Anzahl an im Arbeitsspeicher vorgehaltenen Simulationsergebnissen
+	 */
+	public int simulationCacheSize=32;
+
+	/**
+	 * Verzeichnis, in dem Simulationsergebnisse zustzlich dauerhaft zwischengespeichert werden sollen (leer bedeutet "nur im Arbeitsspeicher")
+	 */
+	public String simulationCacheFolder="";
+
 	/**
 	 * Mehr Threads als logische Kerne verwenden? (Um so ggf. die Auslastung zu maximieren.)
 	 */
@@ -376,6 +391,9 @@ public class SetupData extends SetupBase {
 		backgroundSimInNetworkMode=false;
 		maxNumberOfThreads=0;
 		increaseNumberOfDays=true;
+		simulationCache=true;
+		simulationCacheSize=32;
+		simulationCacheFolder="";
 		moreThreads=false;
 
 		networkUse=false;
@@ -691,6 +709,16 @@ public class SetupData extends SetupBase {
 				continue;
 			}
 
+			if (s.equalsIgnoreCase("Simulationsergebniscache") || s.equalsIgnoreCase("SimulationResultCache")) {
+				simulationCache=loadBoolean(e.getTextContent(),true);
+				String t=e.getAttribute("Groesse"); if (t==null || t.trim().isEmpty()) t=e.getAttribute("Size");
+				Integer j=NumberTools.getNotNegativeInteger(t);
+				if (j!=null) simulationCacheSize=Math.min(1000,j);
+				t=e.getAttribute("Verzeichnis"); if (t==null || t.trim().isEmpty()) t=e.getAttribute("Folder");
+				if (t!=null) simulationCacheFolder=t.trim();
+				continue;
+			}
+
 			if (s.equalsIgnoreCase("Network")) {
 				networkUse=loadBoolean(e.getAttribute("verwenden"),false) || loadBoolean(e.getAttribute("use"),false);
 				networkServer=e.getAttribute("Server");
@@ -991,6 +1019,13 @@ public class SetupData extends SetupBase {
 			node.setTextContent("0");
 		}
 
+		if (!simulationCache || simulationCacheSize!=32 || !simulationCacheFolder.isEmpty()) {
+			root.appendChild(node=doc.createElement(englishKeys?"SimulationResultCache":"Simulationsergebniscache"));
+			node.setTextContent(simulationCache?"1":"0");
+			if (simulationCacheSize!=32) node.setAttribute(englishKeys?"Size":"Groesse",""+simulationCacheSize);
+			if (!simulationCacheFolder.isEmpty()) node.setAttribute(englishKeys?"Folder":"Verzeichnis",simulationCacheFolder);
+		}
+
 		if (networkUse || !networkServer.isEmpty() || !networkPort.equals("6783") || !networkServerPort.equals("6783") || !networkServerPortWeb.equals("80") || !networkPassword.isEmpty() || !networkServerPassword.isEmpty() || networkMaxThreads!=0 || !networkPart.equals("1")) {
 			root.appendChild(node=doc.createElement(englishKeys?"Network":"Netzwerk"));
 			node.setAttribute(englishKeys?"use":"verwenden",networkUse?"1":"0");
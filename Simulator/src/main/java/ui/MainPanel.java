@@ -1981,6 +1981,28 @@ public final class MainPanel extends MainPanelBase {
 		for (AbstractButton button : menuToolsCompareKeptModel) button.setEnabled(true);
 	}
 
+	/**
+	 * Bereitet ein Modell fr den Vergleich mit dem festgehaltenen Modell vor.<br>
+	 * Ist in einem der beiden Modelle die Verwendung synchronisierter Zufallszahlenstrme aktiviert,
+	 * so werden beide Modelle mit diesen Strmen und demselben festen Startwert simuliert.
+	 * @param model	Zu simulierendes Modell (festgehaltenes oder aktuelles Modell)
+	 * @param currentModel	Aktuelles Modell
+	 * @return	Zu simulierendes Modell (ggf. eine angepasste Kopie)
+	 */
+	private CallcenterModel getCompareModel(final CallcenterModel model, final CallcenterModel currentModel) {
+		final CallcenterModel seedModel;
+		if (pinnedModel.useFixedSeed && pinnedModel.useCommonRandomNumbers) seedModel=pinnedModel; else {
+			if (currentModel.useFixedSeed && currentModel.useCommonRandomNumbers) seedModel=currentModel; else return model;
+		}
+		if (model.useFixedSeed && model.useCommonRandomNumbers && model.fixedSeed==seedModel.fixedSeed) return model;
+
+		final CallcenterModel compareModel=model.clone();
+		compareModel.useFixedSeed=true;
+		compareModel.fixedSeed=seedModel.fixedSeed;
+		compareModel.useCommonRandomNumbers=true;
+		return compareModel;
+	}
+
 	/**
 	 * Befehl Extras - Aktuelles und festgehaltenes Modell vergleichen
 	 * @param level	0: festgehaltenes Modell simulieren; 1: aktuelles Modell simulieren; 2: Ergebnisse anzeigen
@@ -2007,14 +2029,15 @@ public final class MainPanel extends MainPanelBase {
 
 			backgroundSimulator.stop(true);
 
-			StartAnySimulator startAnySimulator=new StartAnySimulator(pinnedModel,null);
+			StartAnySimulator startAnySimulator=new StartAnySimulator(getCompareModel(pinnedModel,model),null);
 			startAnySimulator.check();
 			setGUIState(new CallcenterRunPanel(startAnySimulator.run(),new SimDoneNotify(),false,1));
 			return;
 		}
 
 		if (level==1) {
-			StartAnySimulator startAnySimulator=new StartAnySimulator(modelPanel.getModel(true),null);
+			final CallcenterModel model=modelPanel.getModel(true);
+			StartAnySimulator startAnySimulator=new StartAnySimulator(getCompareModel(model,model),null);
 			startAnySimulator.check();
 			setGUIState(new CallcenterRunPanel(startAnySimulator.run(),new SimDoneNotify(),false,2));
 			return;
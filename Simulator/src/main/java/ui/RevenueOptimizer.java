@@ -15,6 +15,8 @@
  */
 package ui;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
 import org.apache.commons.math3.stat.descriptive.moment.StandardDeviation;
 
@@ -77,10 +79,30 @@ public class RevenueOptimizer {
 	 * @param signficanceLevel	Stellt ein, ab welchem Unterschied (relativ zur Standardabweichung des Ertrags des Basismodells und der Agentenanzahl) zwei Modelle als unterschiedlch angesehen werden.
 	 */
 	public RevenueOptimizer(final CallcenterModel baseModel, double signficanceLevel) {
+		this(baseModel,signficanceLevel,false);
+	}
+
+	/**
+	 * Konstruktor der Klasse <code>RevenueOptimizer</code>
+	 * @param baseModel	Zu optimierendes Ausgangsmodell (das Ausgangsmodell wird nicht verndert, es wird mit einer Kopie gearbeitet)
+	 * @param signficanceLevel	Stellt ein, ab welchem Unterschied (relativ zur Standardabweichung des Ertrags des Basismodells und der Agentenanzahl) zwei Modelle als unterschiedlch angesehen werden.
+	 * @param commonRandomNumbers	Sollen alle Modellvarianten mit denselben synchronisierten Zufallszahlenstrmen simuliert werden? (Ist im Ausgangsmodell bereits {@link CallcenterModel#useCommonRandomNumbers} gesetzt, so werden diese auch ohne diese Option verwendet.)
+	 */
+	public RevenueOptimizer(final CallcenterModel baseModel, double signficanceLevel, final boolean commonRandomNumbers) {
 		this.baseModel=prepareModel(baseModel);
+		if (commonRandomNumbers) this.baseModel.enableCommonRandomNumbers(ThreadLocalRandom.current().nextLong());
 		this.signficanceLevel=signficanceLevel;
 	}
 
+	/**
+	 * Konstruktor der Klasse <code>RevenueOptimizer</code>
+	 * @param baseModel	Zu optimierendes Ausgangsmodell (das Ausgangsmodell wird nicht verndert, es wird mit einer Kopie gearbeitet)
+	 * @param commonRandomNumbers	Sollen alle Modellvarianten mit denselben synchronisierten Zufallszahlenstrmen simuliert werden?
+	 */
+	public RevenueOptimizer(final CallcenterModel baseModel, final boolean commonRandomNumbers) {
+		this(baseModel,DEFAULT_SIGNIFICANCE_LEVEL,commonRandomNumbers);
+	}
+
 	/**
 	 * Konstruktor der Klasse <code>RevenueOptimizer</code>
 	 * @param baseModel	Zu optimierendes Ausgangsmodell (das Ausgangsmodell wird nicht verndert, es wird mit einer Kopie gearbeitet)
@@ -115,10 +115,11 @@ public abstract class AbstractSimulationCommand extends AbstractCommand {
 	 * @param editModel	Zu simulierendes Modell
 	 * @param minimalOutput	Wird hier <code>false</code> bergeben, so werden Fortschrittsmeldungen ausgegeben.
 	 * @param maxThreads Gibt an, wie viele Threads maximal verwendet werden sollen.
+	 * @param useCache	Drfen Ergebnisse aus dem Simulationsergebnis-Zwischenspeicher verwendet werden? (<code>false</code>, wenn tatschlich simuliert werden muss, z.B. fr Laufzeitmessungen)
 	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
 	 * @return	Gibt im Erfolgsfalls das Statistik-Objekt zurck, sonst <code>null</code>
 	 */
-	protected final Statistics singleSimulation(CallcenterModel editModel, boolean minimalOutput, int maxThreads, PrintStream out) {
+	protected final Statistics singleSimulation(CallcenterModel editModel, boolean minimalOutput, int maxThreads, boolean useCache, PrintStream out) {
 		/* Modell vorbereiten */
 		if (ui.VersionConst.isNewerVersion(editModel.version)) out.println(Language.tr("CommandLine.Simulation.NewerVersionWarning"));
 		CallcenterRunModel runModel=new CallcenterRunModel(editModel);
@@ -126,7 +127,7 @@ public abstract class AbstractSimulationCommand extends AbstractCommand {
 		if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Error.PreparationOfModel")+": "+s); return null;}
 
 		/* Simulation starten */
-		final StartAnySimulator starter=new StartAnySimulator(editModel);
+		final StartAnySimulator starter=new StartAnySimulator(editModel,null,useCache);
 		s=starter.check(); if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+s); return null;}
 		simulator=starter.run();
 		simulator.start(false);
@@ -148,6 +149,18 @@ public abstract class AbstractSimulationCommand extends AbstractCommand {
 		return statistics;
 	}
 
+	/**
+	 * Fhrt eine Simulation aus und liefert das Ergebnis-Statistik-Objekt zurck
+	 * @param editModel	Zu simulierendes Modell
+	 * @param minimalOutput	Wird hier <code>false</code> bergeben, so werden Fortschrittsmeldungen ausgegeben.
+	 * @param maxThreads Gibt an, wie viele Threads maximal verwendet werden sollen.
+	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
+	 * @return	Gibt im Erfolgsfalls das Statistik-Objekt zurck, sonst <code>null</code>
+	 */
+	protected final Statistics singleSimulation(CallcenterModel editModel, boolean minimalOutput, int maxThreads, PrintStream out) {
+		return singleSimulation(editModel,minimalOutput,maxThreads,true,out);
+	}
+
 	/**
 	 * Fhrt eine Simulation aus und liefert das Ergebnis-Statistik-Objekt zurck
 	 * @param editModel	Zu simulierendes Modell
@@ -43,6 +43,8 @@ public final class CommandBenchmark extends AbstractSimulationCommand {
 	private int speedTestMode=0;
 	/** Modelldatei fr Modus 1 */
 	private File modelFile;
+	/** Zustzlich jeweils eine Simulation mit antithetischen Tagespaaren durchfhren? */
+	private boolean compareAntithetic=false;
 
 	@Override
 	public String[] getKeys() {
@@ -75,12 +77,24 @@ public final class CommandBenchmark extends AbstractSimulationCommand {
 
 	@Override
 	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
-		String s=parameterCountCheck(0,1,additionalArguments); if (s!=null) return s;
+		String s=parameterCountCheck(0,2,additionalArguments); if (s!=null) return s;
 
-		if (additionalArguments.length==0) return null;
-		String arg=additionalArguments[0];
+		for (String arg: additionalArguments) {
+			s=prepareArgument(arg); if (s!=null) return s;
+		}
+		return null;
+	}
 
-		Integer I=NumberTools.getNotNegativeInteger(additionalArguments[0]);
+	/**
+	 * Verarbeitet einen einzelnen Kommandozeilenparameter
+	 * @param arg	Kommandozeilenparameter
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	private String prepareArgument(final String arg) {
+		if (arg.equalsIgnoreCase(Language.tr("CommandLine.Benchmark.Antithetic"))) {compareAntithetic=true; return null;}
+		for (String t: Language.trOther("CommandLine.Benchmark.Antithetic")) if (arg.equalsIgnoreCase(t)) {compareAntithetic=true; return null;}
+
+		Integer I=NumberTools.getNotNegativeInteger(arg);
 		if (I!=null && I!=0) {maxThreads=I; return null;}
 		if (arg.equalsIgnoreCase(Language.tr("CommandLine.Benchmark.small"))) return null;
 		for (String t: Language.trOther("CommandLine.Benchmark.small")) if (arg.equalsIgnoreCase(t)) return null;
@@ -115,14 +129,39 @@ public final class CommandBenchmark extends AbstractSimulationCommand {
 		for (int i=0;i<5;i++) {
 			if (isCanceled()) break;
 			if (i>0) out.println(Language.tr("CommandLine.Benchmark.SimulaionRun")+" "+(i+1));
-			Statistics statistics=singleSimulation(editModel,true,maxThreads,out);
+			Statistics statistics=singleSimulation(editModel,true,maxThreads,false,out);
 			if (statistics==null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Benchmark.SimulaionFailed")); return;}
 			if (i==0) out.println(Language.tr("CommandLine.Benchmark.Threads")+": "+NumberTools.formatLong(statistics.simulationData.runThreads));
 			if (i==0) out.println(Language.tr("CommandLine.Benchmark.SimulaionRun")+" "+(i+1));
 			out.println("  "+Language.tr("CommandLine.Benchmark.NeededCalculationTime")+": "+NumberTools.formatLong(statistics.simulationData.runTime)+" "+Language.tr("Statistic.Units.MilliSeconds"));
 			out.println("  "+Language.tr("CommandLine.Benchmark.ClientsPerSecond")+": "+NumberTools.formatLong(1000*(long)(statistics.kundenGlobal.kunden+statistics.kundenGlobal.kundenWiederanruf)/statistics.simulationData.runRepeatCount/statistics.simulationData.runTime));
 			out.println("  "+Language.tr("CommandLine.Benchmark.EventsPerSecond")+": "+NumberTools.formatLong(1000*statistics.simulationData.runEvents/statistics.simulationData.runTime));
+			if (compareAntithetic) {
+				printConfidenceHalfWidths(statistics,out);
+				if (isCanceled()) break;
+				final CallcenterModel antitheticModel=editModel.clone();
+				antitheticModel.useAntitheticVariates=true;
+				statistics=singleSimulation(antitheticModel,true,maxThreads,false,out);
+				if (statistics==null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Benchmark.SimulaionFailed")); return;}
+				out.println("  "+Language.tr("CommandLine.Benchmark.AntitheticRun"));
+				out.println("    "+Language.tr("CommandLine.Benchmark.NeededCalculationTime")+": "+NumberTools.formatLong(statistics.simulationData.runTime)+" "+Language.tr("Statistic.Units.MilliSeconds"));
+				printConfidenceHalfWidths(statistics,out);
+			}
 		}
 	}
 
+	/**
+	 * Gibt die halben Breiten der 95%-Konfidenzintervalle fr die mittlere Wartezeit und den Service-Level aus,
+	 * um die Genauigkeit von normalen und antithetischen Simulationslufen vergleichen zu knnen.
+	 * @param statistics	Statistikdaten des Simulationslaufs
+	 * @param out	Ausgabe-Stream
+	 */
+	private void printConfidenceHalfWidths(final Statistics statistics, final PrintStream out) {
+		double[] c;
+		c=statistics.kundenGlobal.getInterDayConfidence(Statistics.KundenDaten.INTER_DAY_WAITING_TIME,0.95);
+		out.println("    "+Language.tr("CommandLine.Benchmark.ConfidenceWaitingTime")+": "+NumberTools.formatNumber((c[1]-c[0])/2,3));
+		c=statistics.kundenGlobal.getInterDayConfidence(Statistics.KundenDaten.INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS,0.95);
+		out.println("    "+Language.tr("CommandLine.Benchmark.ConfidenceServiceLevel")+": "+NumberTools.formatNumber((c[1]-c[0])*50,3)+"%");
+	}
+
 }
@@ -78,6 +78,7 @@ public final class CommandLineSystem extends BaseCommandLineSystem {
 		commands.add(new CommandReport());
 		commands.add(new CommandModelInfo());
 		commands.add(new CommandExportStatistic());
+		commands.add(new CommandTrace());
 		commands.add(new CommandLanguage());
 		commands.add(new CommandReset());
 		commands.add(new CommandMaxThreads());
@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import language.Language;
+import mathtools.NumberTools;
 import systemtools.commandline.AbstractCommand;
 import ui.model.CallcenterModel;
+import ui.optimizer.OptimizeData;
 import ui.optimizer.OptimizeSetup;
 import ui.optimizer.Optimizer;
 
@@ -42,6 +44,10 @@ public final class CommandOptimize extends AbstractSimulationCommand {
 	private File optimizeFile;
 	/** Ausgabe-Statistikdatei */
 	private File statisticsFile;
+	/** Maximale Anzahl an Kandidaten, die pro Optimierungsschritt parallel simuliert werden */
+	private int parallelCandidates=1;
+	/** Optimierung zustzlich ohne und mit Erlang-C-Startwerten durchfhren und Anzahl an Simulationslufen und Laufzeit vergleichen? */
+	private boolean compareWarmStart=false;
 
 	@Override
 	public String[] getKeys() {
@@ -63,10 +69,13 @@ public final class CommandOptimize extends AbstractSimulationCommand {
 
 	@Override
 	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
-		String s=parameterCountCheck(3,additionalArguments); if (s!=null) return s;
+		String s=parameterCountCheck(3,5,additionalArguments); if (s!=null) return s;
 		modelFile=new File(additionalArguments[0]);
 		optimizeFile=new File(additionalArguments[1]);
 		statisticsFile=new File(additionalArguments[2]);
+		for (int i=3;i<additionalArguments.length;i++) {
+			s=prepareArgument(additionalArguments[i]); if (s!=null) return s;
+		}
 		if (!modelFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.InputDoesNotExist"),modelFile);
 		if (!isModelFile(modelFile)) return String.format(Language.tr("CommandLine.Error.File.InputNoValidCallCenterModel"),modelFile);
 		if (!optimizeFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.ConfigDoesNotExist"),optimizeFile);
@@ -74,12 +83,28 @@ public final class CommandOptimize extends AbstractSimulationCommand {
 		return null;
 	}
 
+	/**
+	 * Verarbeitet einen optionalen Kommandozeilenparameter
+	 * @param arg	Kommandozeilenparameter
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	private String prepareArgument(final String arg) {
+		if (arg.equalsIgnoreCase(Language.tr("CommandLine.Optimizer.CompareWarmStart"))) {compareWarmStart=true; return null;}
+		for (String t: Language.trOther("CommandLine.Optimizer.CompareWarmStart")) if (arg.equalsIgnoreCase(t)) {compareWarmStart=true; return null;}
+
+		final Integer I=NumberTools.getNotNegativeInteger(arg);
+		if (I==null || I<1) return String.format(Language.tr("CommandLine.Optimizer.ParallelCandidatesError"),arg);
+		parallelCandidates=I;
+		return null;
+	}
+
 	/**
 	 * Fhrt die eigentliche Optimierung aus.
 	 * @param optimizer	Optimierer-System
 	 * @param out	Ausgabe fr Fehlermeldungen
+	 * @return	Liefert <code>true</code>, wenn die Optimierung erfolgreich abgeschlossen wurde
 	 */
-	private void runOptimizer(final Optimizer optimizer, final PrintStream out) {
+	private boolean runOptimizer(final Optimizer optimizer, final PrintStream out) {
 		boolean firstRun=true;
 		int changeNeeded=0;
 		while (changeNeeded!=0 || firstRun) {
@@ -92,11 +117,40 @@ public final class CommandOptimize extends AbstractSimulationCommand {
 			changeNeeded=optimizer.simulationDone();
 			if (optimizer.isCanceled()) {
 				out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Optimizer.Canceled"));
-				return;
+				return false;
 			}
 		}
 		out.println(String.format(Language.tr("CommandLine.Optimizer.Done"),optimizer.getResults().runTime));
-		if (!optimizer.getResults().saveToFile(statisticsFile))	{out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Error.UnableToSaveStatistic")); return;}
+		return true;
+	}
+
+	/**
+	 * Initialisiert den Optimierer und fhrt die Optimierung aus.
+	 * @param editModel	Ausgangsmodell
+	 * @param optimizeSetup	Optimierer-Konfiguration
+	 * @param out	Ausgabe fr Fehlermeldungen
+	 * @return	Liefert im Erfolgsfall die Optimierungsergebnisse, sonst <code>null</code>
+	 */
+	private OptimizeData optimize(final CallcenterModel editModel, final OptimizeSetup optimizeSetup, final PrintStream out) {
+		Optimizer optimizer=new Optimizer(null,out,editModel,optimizeSetup);
+		optimizer.setParallelCandidates(parallelCandidates);
+		String s=optimizer.checkAndInit();
+		if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Optimizer.InitializationError")+": "+s); return null;}
+		if (!runOptimizer(optimizer,out)) return null;
+		return optimizer.getResults();
+	}
+
+	/**
+	 * Gibt die Anzahl an Simulationslufen und die Laufzeit einer Optimierung aus.
+	 * @param title	Bezeichnung der Optimierung
+	 * @param results	Optimierungsergebnisse
+	 * @param out	Ausgabe-Stream
+	 */
+	private void printRunInfo(final String title, final OptimizeData results, final PrintStream out) {
+		out.println(title);
+		out.println("  "+Language.tr("CommandLine.Optimizer.RunCount")+": "+NumberTools.formatLong(results.runCount));
+		out.println("  "+Language.tr("CommandLine.Optimizer.RunTime")+": "+NumberTools.formatLong(results.runTime)+" "+Language.tr("Statistic.Seconds"));
+		if (results.warmStartTime>=0) out.println("  "+Language.tr("CommandLine.Optimizer.WarmStartTime")+": "+NumberTools.formatLong(results.warmStartTime)+" "+Language.tr("Statistic.Units.MilliSeconds"));
 	}
 
 	@Override
@@ -108,9 +162,24 @@ public final class CommandOptimize extends AbstractSimulationCommand {
 		s=optimizeSetup.loadFromFile(optimizeFile);
 		if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Optimizer.ErrorLoadingSetup")+": "+s); return;}
 		if (optimizeSetup.optimizeMaxValue>=0) out.println(Language.tr("Dialog.Title.Warning").toUpperCase()+": "+Language.tr("Optimizer.UpDownWarning.Info"));
-		Optimizer optimizer=new Optimizer(null,out,editModel,optimizeSetup);
-		s=optimizer.checkAndInit();
-		if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Optimizer.InitializationError")+": "+s); return;}
-		runOptimizer(optimizer,out);
+
+		OptimizeData results;
+		if (compareWarmStart) {
+			final OptimizeSetup coldSetup=optimizeSetup.cloneOptimizeSetup();
+			coldSetup.erlangCWarmStart=false;
+			final OptimizeData coldResults=optimize(editModel,coldSetup,out);
+			if (coldResults==null) return;
+			final OptimizeSetup warmSetup=optimizeSetup.cloneOptimizeSetup();
+			warmSetup.erlangCWarmStart=true;
+			results=optimize(editModel,warmSetup,out);
+			if (results==null) return;
+			printRunInfo(Language.tr("CommandLine.Optimizer.ColdStart"),coldResults,out);
+			printRunInfo(Language.tr("CommandLine.Optimizer.WarmStart"),results,out);
+		} else {
+			results=optimize(editModel,optimizeSetup,out);
+			if (results==null) return;
+		}
+
+		if (!results.saveToFile(statisticsFile)) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Error.UnableToSaveStatistic")); return;}
 	}
 }
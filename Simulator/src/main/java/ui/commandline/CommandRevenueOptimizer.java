@@ -39,6 +39,8 @@ public class CommandRevenueOptimizer extends AbstractSimulationCommand {
 	private File inputFile;
 	/** Ausgabe-Modelldatei */
 	private File outputFile;
+	/** Alle Modellvarianten mit denselben synchronisierten Zufallszahlenstrmen simulieren? */
+	private boolean commonRandomNumbers;
 
 	@Override
 	public String[] getKeys() {
@@ -60,7 +62,7 @@ public class CommandRevenueOptimizer extends AbstractSimulationCommand {
 
 	@Override
 	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
-		String s=parameterCountCheck(2,additionalArguments); if (s!=null) return s;
+		String s=parameterCountCheck(2,3,additionalArguments); if (s!=null) return s;
 
 		inputFile=new File(additionalArguments[0]);
 		outputFile=new File(additionalArguments[1]);
@@ -68,6 +70,14 @@ public class CommandRevenueOptimizer extends AbstractSimulationCommand {
 		if (!isModelFile(inputFile)) return String.format(Language.tr("CommandLine.Error.File.InputNoValidCallCenterModel"),inputFile);
 		if (outputFile.exists()) return String.format(Language.tr("CommandLine.Error.File.OutputAlreadyExist"),outputFile);
 
+		commonRandomNumbers=false;
+		if (additionalArguments.length>2) {
+			final String arg=additionalArguments[2].trim();
+			if (arg.equalsIgnoreCase(Language.tr("CommandLine.RevenueOptimizer.CommonRandomNumbers"))) commonRandomNumbers=true;
+			for (String t: Language.trOther("CommandLine.RevenueOptimizer.CommonRandomNumbers")) if (arg.equalsIgnoreCase(t)) commonRandomNumbers=true;
+			if (!commonRandomNumbers) return String.format(Language.tr("CommandLine.RevenueOptimizer.InvalidParameter"),arg);
+		}
+
 		return null;
 	}
 
@@ -77,7 +87,7 @@ public class CommandRevenueOptimizer extends AbstractSimulationCommand {
 		String s=baseModel.loadFromFile(inputFile);
 		if (s!=null) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Error.LoadingModel")+" "+s); return;}
 
-		RevenueOptimizer revenueOptimizer=new RevenueOptimizer(baseModel);
+		RevenueOptimizer revenueOptimizer=new RevenueOptimizer(baseModel,commonRandomNumbers);
 		if (!revenueOptimizer.run()) {
 			out.println(revenueOptimizer.getError());
 		} else {
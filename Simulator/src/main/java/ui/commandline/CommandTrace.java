@@ -0,0 +1,125 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ui.commandline;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import language.Language;
+import mathtools.NumberTools;
+import simcore.logging.TraceDecoder;
+import simcore.logging.TraceRecorder;
+import systemtools.commandline.AbstractCommand;
+
+/**
+ * Wandelt per {@link TraceRecorder} erstellte binre Ereignisaufzeichnungen in eine
+ * Logdatei um oder erstellt eine Zusammenfassung der Ereignisse.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see AbstractCommand
+ * @see CommandLineSystem
+ * @see TraceDecoder
+ */
+public final class CommandTrace extends AbstractCommand {
+	/** Lnge eines Intervalls fr die Zusammenfassung in Millisekunden (Werte &le;0 fr "keine Zusammenfassung, sondern Logdatei erstellen") */
+	private long summaryIntervalMS=0;
+	/** Ausgabedatei */
+	private File outputFile;
+	/** Einzulesende Aufzeichnungsdateien */
+	private File[] traceFiles;
+
+	@Override
+	public String[] getKeys() {
+		List<String> list=new ArrayList<String>();
+		list.add(Language.tr("CommandLine.Trace.Name"));
+		for (String s: Language.trOther("CommandLine.Trace.Name")) if (!list.contains(s)) list.add(s);
+		return list.toArray(new String[0]);
+	}
+
+	@Override
+	public String getShortDescription() {
+		return Language.tr("CommandLine.Trace.Description.Short");
+	}
+
+	@Override
+	public String[] getLongDescription() {
+		return Language.tr("CommandLine.Trace.Description.Long").split("\n");
+	}
+
+	/**
+	 * Prft, ob der Parameter dem Schlsselwort fr die Zusammenfassung entspricht.
+	 * @param arg	Kommandozeilenparameter
+	 * @return	Liefert <code>true</code>, wenn eine Zusammenfassung erstellt werden soll
+	 */
+	private boolean isSummaryKeyword(final String arg) {
+		if (arg.equalsIgnoreCase(Language.tr("CommandLine.Trace.Summary"))) return true;
+		for (String t: Language.trOther("CommandLine.Trace.Summary")) if (arg.equalsIgnoreCase(t)) return true;
+		return false;
+	}
+
+	@Override
+	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
+		String s=parameterCountCheck(2,Integer.MAX_VALUE,additionalArguments); if (s!=null) return s;
+
+		int firstFile=1;
+		summaryIntervalMS=0;
+		if (isSummaryKeyword(additionalArguments[0])) {
+			s=parameterCountCheck(4,Integer.MAX_VALUE,additionalArguments); if (s!=null) return s;
+			final Double D=NumberTools.getPositiveDouble(additionalArguments[1]);
+			if (D==null) return String.format(Language.tr("CommandLine.Trace.InvalidInterval"),additionalArguments[1]);
+			summaryIntervalMS=Math.max(1,Math.round(D*1000));
+			firstFile=3;
+		}
+
+		outputFile=new File(additionalArguments[firstFile-1]);
+		if (outputFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.OutputAlreadyExist"),outputFile);
+		if (outputFile.isDirectory()) return String.format(Language.tr("CommandLine.Error.File.OutputFileIsFolder"),outputFile);
+
+		traceFiles=new File[additionalArguments.length-firstFile];
+		for (int i=0;i<traceFiles.length;i++) {
+			traceFiles[i]=new File(additionalArguments[firstFile+i]);
+			if (!traceFiles[i].isFile()) return String.format(Language.tr("CommandLine.Error.File.InputDoesNotExist"),traceFiles[i]);
+		}
+
+		return null;
+	}
+
+	@Override
+	public void run(AbstractCommand[] allCommands, InputStream in, PrintStream out) {
+		final TraceDecoder decoder=new TraceDecoder();
+		if (!decoder.load(traceFiles)) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+Language.tr("CommandLine.Trace.ErrorLoading")); return;}
+
+		boolean ok;
+		if (summaryIntervalMS>0) {
+			final String summary=decoder.getSummary(summaryIntervalMS);
+			ok=(summary!=null);
+			if (ok) try {
+				Files.write(outputFile.toPath(),summary.getBytes(StandardCharsets.UTF_8));
+			} catch (IOException e) {ok=false;}
+		} else {
+			ok=decoder.decode(outputFile);
+		}
+
+		if (!ok) {out.println(Language.tr("Dialog.Title.Error").toUpperCase()+": "+String.format(Language.tr("CommandLine.Trace.ErrorSaving"),outputFile.toString())); return;}
+		out.println(Language.tr("CommandLine.Trace.Records")+": "+NumberTools.formatLong(decoder.getRecordCount()));
+	}
+}
@@ -106,6 +106,8 @@ public class SetupDialog extends BaseEditDialog {
 	private JTextField maxNumberOfThreads;
 	/** Option "Anzahl an zu simulierenden Tagen erhhen wenn sinnvoll" */
 	private JCheckBox increaseNumberOfDays;
+	/** Option "Ergebnisse von Simulationen mit festem Startwert zwischenspeichern" */
+	private JCheckBox simulationCache;
 	/** Auswahloption "Simulation auf lokalem Rechner durchfhren" */
 	private JRadioButton simulationLocal;
 	/** Auswahloption "Simulation auf Rechner im Netzwerk durchfhren" */
@@ -328,6 +330,8 @@ public class SetupDialog extends BaseEditDialog {
 		p.add(new JLabel(Language.tr("SettingsDialog.MaxNumberOfThreads.Info")));
 		mainarea.add(p=new JPanel(new FlowLayout(FlowLayout.LEFT)));
 		p.add(increaseNumberOfDays=new JCheckBox(Language.tr("SettingsDialog.IncreaseNumberOfDays")));
+		mainarea.add(p=new JPanel(new FlowLayout(FlowLayout.LEFT)));
+		p.add(simulationCache=new JCheckBox(Language.tr("SettingsDialog.SimulationCache")));
 
 		mainarea.add(Box.createVerticalStrut(15));
 		mainarea.add(p=new JPanel(new FlowLayout(FlowLayout.LEFT)));
@@ -502,6 +506,7 @@ public class SetupDialog extends BaseEditDialog {
 		backgroundSim.setSelected(setup.backgroundSim);
 		maxNumberOfThreads.setText(""+setup.maxNumberOfThreads);
 		increaseNumberOfDays.setSelected(setup.increaseNumberOfDays);
+		simulationCache.setSelected(setup.simulationCache);
 		simulationRemote.setSelected(setup.networkUse);
 		networkName.setText(setup.networkServer);
 		networkPort.setText(""+setup.networkPort);
@@ -615,6 +620,7 @@ public class SetupDialog extends BaseEditDialog {
 		setup.backgroundSim=backgroundSim.isSelected();
 		I=NumberTools.getInteger(maxNumberOfThreads,false);
 		setup.increaseNumberOfDays=increaseNumberOfDays.isSelected();
+		setup.simulationCache=simulationCache.isSelected();
 		if (I!=null) setup.maxNumberOfThreads=I;
 		setup.networkUse=simulationRemote.isSelected();
 		setup.networkServer=networkName.getText().trim();
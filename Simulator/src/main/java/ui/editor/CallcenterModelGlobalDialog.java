@@ -30,6 +30,7 @@ import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -70,6 +71,24 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 	private JComboBox<String> minimumShiftLength;
 	/** Eingabefeld fr den Service-Level */
 	private JTextField serviceLevel;
+	/** Option "Festen Startwert fr den Zufallszahlengenerator verwenden" */
+	private JCheckBox useFixedSeed;
+	/** Eingabefeld fr den festen Startwert fr den Zufallszahlengenerator */
+	private JTextField fixedSeed;
+	/** Option "Synchronisierte Zufallszahlenstrme pro Kundengruppe verwenden" */
+	private JCheckBox useCommonRandomNumbers;
+	/** Option "Tage als Paare aus normalem und antithetischem Tag simulieren" */
+	private JCheckBox useAntitheticVariates;
+	/** Option "Simulation beenden, sobald die Konfidenzintervalle schmal genug sind" */
+	private JCheckBox useSequentialStopping;
+	/** Eingabefeld fr das Konfidenzniveau des sequentiellen Abbruchkriteriums */
+	private JTextField stopConfidenceLevel;
+	/** Eingabefeld fr die angestrebte halbe Breite des Konfidenzintervalls fr den Service-Level */
+	private JTextField stopServiceLevel;
+	/** Eingabefeld fr die angestrebte halbe Breite des Konfidenzintervalls fr die mittlere Wartezeit */
+	private JTextField stopWaitingTime;
+	/** Eingabefeld fr die angestrebte halbe Breite des Konfidenzintervalls fr die Abbruchrate */
+	private JTextField stopCancelRate;
 	/** Schaltflche "Produktivitt der Agentengruppen" */
 	private JButton efficiency;
 	/** Schaltflche "Krankheitsbedingter Zuschlag" */
@@ -97,6 +116,41 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 		preferredShiftLength.setSelectedIndex(Math.max(0,model.preferredShiftLength-1));
 		minimumShiftLength.setSelectedIndex(Math.max(0,model.minimumShiftLength-1));
 		serviceLevel.setText(""+model.serviceLevelSeconds);
+		useFixedSeed.setSelected(model.useFixedSeed);
+		fixedSeed.setText(""+model.fixedSeed);
+		useSequentialStopping.setSelected(model.useSequentialStopping());
+	}
+
+	/**
+	 * Erzeugt ein Eingabefeld fr das sequentielle Abbruchkriterium und fgt es samt Beschriftung in eine Zeile ein.
+	 * @param p	Zeile, in die das Eingabefeld eingefgt werden soll
+	 * @param name	Beschriftung des Eingabefeldes
+	 * @param value	Anfnglicher Wert (Werte &le;0 werden als leeres Feld dargestellt)
+	 * @return	Liefert das neue Eingabefeld zurck (welches bereits in die Zeile eingefgt ist)
+	 */
+	private JTextField addStopField(final JPanel p, final String name, final double value) {
+		final JTextField field;
+		p.add(new JLabel(name+":"));
+		p.add(Box.createHorizontalStrut(5));
+		p.add(field=new JTextField((value>0)?NumberTools.formatNumberMax(value):"",5));
+		p.add(Box.createHorizontalStrut(10));
+		field.addKeyListener(new DialogElementListener());
+		field.setEditable(!readOnly);
+		return field;
+	}
+
+	/**
+	 * Liest eine angestrebte halbe Konfidenzintervallbreite aus einem Eingabefeld.
+	 * @param field	Eingabefeld
+	 * @param setColor	Soll das Eingabefeld im Fehlerfall rot eingefrbt werden?
+	 * @return	Halbe Breite (0, wenn das Feld leer ist) oder <code>null</code>, wenn der Wert ungltig ist
+	 */
+	private static Double getStopHalfWidth(final JTextField field, final boolean setColor) {
+		if (field.getText().trim().isEmpty()) {
+			if (setColor) field.setBackground(SystemColor.text);
+			return 0.0;
+		}
+		return NumberTools.getNotNegativeDouble(field,setColor);
 	}
 
 	/**
@@ -185,6 +239,40 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 
 		serviceLevel=addInputLine(p,Language.tr("Editor.GeneralData.GlobalParameters.ServiceLevel"),""+model.serviceLevelSeconds,3,"("+Language.tr("Editor.GeneralData.GlobalParameters.ServiceLevel.Info")+")");
 		serviceLevel.addKeyListener(new DialogElementListener());
+
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(useFixedSeed=new JCheckBox(Language.tr("Editor.GeneralData.GlobalParameters.FixedSeed"),model.useFixedSeed));
+		p2.add(Box.createHorizontalStrut(10));
+		p2.add(fixedSeed=new JTextField(""+model.fixedSeed,10));
+		fixedSeed.addKeyListener(new DialogElementListener());
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(new JLabel("("+Language.tr("Editor.GeneralData.GlobalParameters.FixedSeed.Info")+")"));
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(useCommonRandomNumbers=new JCheckBox(Language.tr("Editor.GeneralData.GlobalParameters.CommonRandomNumbers"),model.useFixedSeed && model.useCommonRandomNumbers));
+		useCommonRandomNumbers.setToolTipText(Language.tr("Editor.GeneralData.GlobalParameters.CommonRandomNumbers.Info"));
+		useCommonRandomNumbers.addActionListener(e->{if (useCommonRandomNumbers.isSelected()) useFixedSeed.setSelected(true);});
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(useAntitheticVariates=new JCheckBox(Language.tr("Editor.GeneralData.GlobalParameters.AntitheticVariates"),model.useAntitheticVariates));
+		useAntitheticVariates.setToolTipText(Language.tr("Editor.GeneralData.GlobalParameters.AntitheticVariates.Info"));
+
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(useSequentialStopping=new JCheckBox(Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping"),model.useSequentialStopping()));
+		p2.add(Box.createHorizontalStrut(10));
+		stopConfidenceLevel=addStopField(p2,Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel"),model.stopConfidenceLevel);
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		stopServiceLevel=addStopField(p2,Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.ServiceLevel"),model.stopServiceLevelHalfWidth);
+		stopWaitingTime=addStopField(p2,Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.WaitingTime"),model.stopWaitingTimeHalfWidth);
+		stopCancelRate=addStopField(p2,Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.CancelRate"),model.stopCancelRateHalfWidth);
+		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT,0,0)));
+		p2.setBorder(BorderFactory.createEmptyBorder(0,0,5,0));
+		p2.add(new JLabel("("+Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.Info")+")"));
+
 		p.add(p2=new JPanel(new FlowLayout(FlowLayout.LEFT)));
 		p2.add(efficiency=new JButton(Language.tr("Editor.GeneralData.GlobalParameters.AgentGroupsProductivity")));
 		efficiency.addActionListener(new ButtonActionListener());
@@ -199,6 +287,11 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 		preferredShiftLength.setEnabled(!readOnly);
 		minimumShiftLength.setEnabled(!readOnly);
 		serviceLevel.setEnabled(!readOnly);
+		useFixedSeed.setEnabled(!readOnly);
+		fixedSeed.setEditable(!readOnly);
+		useCommonRandomNumbers.setEnabled(!readOnly);
+		useAntitheticVariates.setEnabled(!readOnly);
+		useSequentialStopping.setEnabled(!readOnly);
 	}
 
 	/* (non-Javadoc)
@@ -225,6 +318,22 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 			i=NumberTools.getNotNegativeInteger(serviceLevel,false);
 			if (i==null || i<1) {caption=Language.tr("Editor.GeneralData.GlobalParameters.ServiceLevel.InvalidTitle"); s=String.format(Language.tr("Editor.GeneralData.GlobalParameters.ServiceLevel.InvalidInfo"),serviceLevel.toString());}
 		}
+		if (s==null && useFixedSeed.isSelected()) {
+			if (NumberTools.getLong(fixedSeed,false)==null) {caption=Language.tr("Editor.GeneralData.GlobalParameters.FixedSeed.InvalidTitle"); s=String.format(Language.tr("Editor.GeneralData.GlobalParameters.FixedSeed.InvalidInfo"),fixedSeed.getText());}
+		}
+		if (s==null && useSequentialStopping.isSelected()) {
+			final Double D=NumberTools.getProbability(stopConfidenceLevel,false);
+			if (D==null || D==0 || D==1) {caption=Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.InvalidTitle"); s=String.format(Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.ConfidenceLevel.InvalidInfo"),stopConfidenceLevel.getText());}
+		}
+		if (s==null && useSequentialStopping.isSelected()) {
+			double sum=0;
+			for (JTextField field: new JTextField[]{stopServiceLevel,stopWaitingTime,stopCancelRate}) {
+				final Double D=getStopHalfWidth(field,false);
+				if (D==null) {caption=Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.InvalidTitle"); s=String.format(Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.HalfWidth.InvalidInfo"),field.getText()); break;}
+				sum+=D;
+			}
+			if (s==null && sum==0) {caption=Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.InvalidTitle"); s=Language.tr("Editor.GeneralData.GlobalParameters.SequentialStopping.NoTarget");}
+		}
 
 		if (s!=null) {
 			MsgBox.error(this,caption,s);
@@ -243,6 +352,18 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 		model.preferredShiftLength=preferredShiftLength.getSelectedIndex()+1;
 		model.minimumShiftLength=minimumShiftLength.getSelectedIndex()+1;
 		model.serviceLevelSeconds=NumberTools.getNotNegativeShort(serviceLevel,false);
+		model.useFixedSeed=useFixedSeed.isSelected();
+		if (model.useFixedSeed) model.fixedSeed=NumberTools.getLong(fixedSeed,false);
+		model.useCommonRandomNumbers=model.useFixedSeed && useCommonRandomNumbers.isSelected();
+		model.useAntitheticVariates=useAntitheticVariates.isSelected();
+		if (useSequentialStopping.isSelected()) {
+			model.stopConfidenceLevel=NumberTools.getProbability(stopConfidenceLevel,false);
+			model.stopServiceLevelHalfWidth=getStopHalfWidth(stopServiceLevel,false);
+			model.stopWaitingTimeHalfWidth=getStopHalfWidth(stopWaitingTime,false);
+			model.stopCancelRateHalfWidth=getStopHalfWidth(stopCancelRate,false);
+		} else {
+			model.clearSequentialStopping();
+		}
 	}
 
 	/**
@@ -297,6 +418,15 @@ public final class CallcenterModelGlobalDialog extends BaseEditDialog {
 			if (ok) maxQueueLength.setBackground(SystemColor.text); else maxQueueLength.setBackground(Color.red);
 			NumberTools.getNotNegativeInteger(days,true);
 			NumberTools.getNotNegativeInteger(serviceLevel,true);
+			if (e.getSource()==fixedSeed) useFixedSeed.setSelected(true);
+			if (useFixedSeed.isSelected()) NumberTools.getLong(fixedSeed,true);
+			if (e.getSource()==stopConfidenceLevel || e.getSource()==stopServiceLevel || e.getSource()==stopWaitingTime || e.getSource()==stopCancelRate) useSequentialStopping.setSelected(true);
+			if (useSequentialStopping.isSelected()) {
+				NumberTools.getProbability(stopConfidenceLevel,true);
+				getStopHalfWidth(stopServiceLevel,true);
+				getStopHalfWidth(stopWaitingTime,true);
+				getStopHalfWidth(stopCancelRate,true);
+			}
 		}
 
 		@Override
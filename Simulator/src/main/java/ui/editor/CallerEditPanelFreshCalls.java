@@ -24,6 +24,7 @@ import java.io.Serializable;
 import javax.swing.BorderFactory;
 import javax.swing.Icon;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JMenuItem;
@@ -80,6 +81,8 @@ public class CallerEditPanelFreshCalls extends CallerEditPanel {
 	private JDataDistributionEditPanel freshCalls;
 	/** Auswahl der Granularitt von {@link #freshCalls} (15 Minuten, 30 Minuten oder 60 Minuten) */
 	private JComboBox<String> freshCallsType;
+	/** Ankunftszeitpunkte bereits sortiert erzeugen? */
+	private JCheckBox freshCallsSorted;
 
 	/**
 	 * Konstruktor der Klasse
@@ -119,6 +122,9 @@ public class CallerEditPanelFreshCalls extends CallerEditPanel {
 		if (caller.freshCallsDist48!=null) {freshCallsType.setSelectedIndex(1); dist=caller.freshCallsDist48;}
 		if (caller.freshCallsDist96!=null) {freshCallsType.setSelectedIndex(2); dist=caller.freshCallsDist96;}
 		freshCallsType.addActionListener(dialogElementListener);
+		p2.add(freshCallsSorted=new JCheckBox(Language.tr("Editor.Caller.FreshCalls.Sorted"),caller.freshCallsSorted));
+		freshCallsSorted.setToolTipText(Language.tr("Editor.Caller.FreshCalls.Sorted.Tooltip"));
+		freshCallsSorted.setEnabled(!readOnly);
 
 		add(freshCalls=new JDataDistributionEditPanel(dist,JDataDistributionEditPanel.PlotMode.PLOT_BOTH,!readOnly,readOnly?0:1,true),BorderLayout.CENTER);
 		freshCalls.setImageSaveSize(SetupData.getSetup().imageSize);
@@ -168,6 +174,7 @@ public class CallerEditPanelFreshCalls extends CallerEditPanel {
 	public void writeToCaller(CallcenterModelCaller newCaller) {
 		newCaller.freshCallsCountMean=NumberTools.getNotNegativeInteger(freshCallsCountMean,false);
 		newCaller.freshCallsCountSD=NumberTools.getNotNegativeDouble(freshCallsCountSD,false);
+		newCaller.freshCallsSorted=freshCallsSorted.isSelected();
 		newCaller.freshCallsDist24=null;
 		newCaller.freshCallsDist48=null;
 		newCaller.freshCallsDist96=null;
@@ -18,15 +18,22 @@ package ui.model;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import language.Language;
@@ -89,6 +96,65 @@ public final class CallcenterModel implements Cloneable {
 	/** Einstellungen zu mglichen Schwellenwert-berschreitungen in den Ergebnissen */
 	public CallcenterModelWarnings warnings;
 
+	/** Vorgabewert fr das Konfidenzniveau des sequentiellen Abbruchkriteriums */
+	public static final double DEFAULT_STOP_CONFIDENCE_LEVEL=0.95;
+
+	/** Soll ein fester Startwert fr den Zufallszahlengenerator verwendet werden? */
+	public boolean useFixedSeed;
+
+	/**
+	 * Fester Startwert fr den Zufallszahlengenerator (wird nur verwendet, wenn {@link #useFixedSeed} gesetzt ist)<br>
+	 * Aus diesem Wert und der globalen Nummer des Tages wird fr jeden simulierten Tag ein eigener
+	 * Zufallszahlenstrom abgeleitet, so dass die Ergebnisse nicht von der Anzahl an Threads abhngen.
+	 */
+	public long fixedSeed;
+
+	/**
+	 * Sollen fr jede Kundengruppe und jeden Verwendungszweck (Anknfte, Wartezeittoleranz, Bedienung, Folgeentscheidungen)
+	 * eigene, synchronisierte Zufallszahlenstrme verwendet werden? (Common Random Numbers; wird nur verwendet, wenn {@link #useFixedSeed} gesetzt ist)<br>
+	 * Werden Modellvarianten mit demselben festen Startwert und dieser Option simuliert, so gehen die Unterschiede
+	 * in den Ergebnissen im Wesentlichen auf die Modellnderungen und nicht auf Zufallsschwankungen zurck.
+	 */
+	public boolean useCommonRandomNumbers;
+
+	/**
+	 * Sollen die Tage als Paare simuliert werden, bei denen der zweite Tag die Zufallszahlen des ersten Tages
+	 * antithetisch (<code>1-u</code> statt <code>u</code>) verwendet? (Antithetic Variates)<br>
+	 * Die Konfidenzintervalle werden dann auf Basis der Mittelwerte pro Tagespaar berechnet.
+	 */
+	public boolean useAntitheticVariates;
+
+	/**
+	 * Nummer des ersten zu simulierenden Tages (global ber alle Rechner)<br>
+	 * Wird eine Simulation auf mehrere Rechner aufgeteilt, so erhlt jeder Rechner einen
+	 * eigenen Bereich von Tagesnummern.
+	 */
+	public int daysOffset;
+
+	/**
+	 * Konfidenzniveau fr das sequentielle Abbruchkriterium (z.B. 0,95)
+	 * @see #useSequentialStopping()
+	 */
+	public double stopConfidenceLevel;
+
+	/**
+	 * Angestrebte halbe Breite des Konfidenzintervalls fr den Service-Level (als Anteil, Werte &le;0 fr keine Vorgabe)
+	 * @see #useSequentialStopping()
+	 */
+	public double stopServiceLevelHalfWidth;
+
+	/**
+	 * Angestrebte halbe Breite des Konfidenzintervalls fr die mittlere Wartezeit (in Sekunden, Werte &le;0 fr keine Vorgabe)
+	 * @see #useSequentialStopping()
+	 */
+	public double stopWaitingTimeHalfWidth;
+
+	/**
+	 * Angestrebte halbe Breite des Konfidenzintervalls fr die Abbruchrate (als Anteil, Werte &le;0 fr keine Vorgabe)
+	 * @see #useSequentialStopping()
+	 */
+	public double stopCancelRateHalfWidth;
+
 	/**
 	 * Konstruktor der Klasse
 	 * @param name	Name des Modells
@@ -103,6 +169,15 @@ public final class CallcenterModel implements Cloneable {
 		preferredShiftLength=16;
 		minimumShiftLength=1;
 		serviceLevelSeconds=20;
+		useFixedSeed=false;
+		fixedSeed=0;
+		useCommonRandomNumbers=false;
+		useAntitheticVariates=false;
+		daysOffset=0;
+		stopConfidenceLevel=DEFAULT_STOP_CONFIDENCE_LEVEL;
+		stopServiceLevelHalfWidth=0;
+		stopWaitingTimeHalfWidth=0;
+		stopCancelRateHalfWidth=0;
 		caller=new ArrayList<CallcenterModelCaller>();
 		callcenter=new ArrayList<CallcenterModelCallcenter>();
 		skills=new ArrayList<CallcenterModelSkillLevel>();
@@ -138,10 +213,53 @@ public final class CallcenterModel implements Cloneable {
 		c.efficiencyPerInterval=efficiencyPerInterval.clone();
 		c.additionPerInterval=additionPerInterval.clone();
 		c.warnings=warnings.clone();
+		c.useFixedSeed=useFixedSeed;
+		c.fixedSeed=fixedSeed;
+		c.useCommonRandomNumbers=useCommonRandomNumbers;
+		c.useAntitheticVariates=useAntitheticVariates;
+		c.daysOffset=daysOffset;
+		c.stopConfidenceLevel=stopConfidenceLevel;
+		c.stopServiceLevelHalfWidth=stopServiceLevelHalfWidth;
+		c.stopWaitingTimeHalfWidth=stopWaitingTimeHalfWidth;
+		c.stopCancelRateHalfWidth=stopCancelRateHalfWidth;
 
 		return c;
 	}
 
+	/**
+	 * Gibt an, ob die Simulation vorzeitig beendet werden soll, sobald die Konfidenzintervalle der
+	 * Kenngren, fr die eine Zielgenauigkeit vorgegeben ist, schmal genug sind.<br>
+	 * Die Anzahl an Tagen {@link #days} ist in diesem Fall die Obergrenze fr die zu simulierenden Tage.
+	 * @return	Liefert <code>true</code>, wenn fr mindestens eine Kenngre eine Zielgenauigkeit vorgegeben ist
+	 */
+	public boolean useSequentialStopping() {
+		return stopServiceLevelHalfWidth>0 || stopWaitingTimeHalfWidth>0 || stopCancelRateHalfWidth>0;
+	}
+
+	/**
+	 * Schaltet das sequentielle Abbruchkriterium ab.
+	 * @see #useSequentialStopping()
+	 */
+	public void clearSequentialStopping() {
+		stopServiceLevelHalfWidth=0;
+		stopWaitingTimeHalfWidth=0;
+		stopCancelRateHalfWidth=0;
+	}
+
+	/**
+	 * Aktiviert synchronisierte Zufallszahlenstrme (Common Random Numbers).<br>
+	 * Ist im Modell noch kein fester Startwert eingestellt, so wird der bergebene Startwert verwendet.
+	 * @param seed	Fester Startwert, der verwendet wird, wenn im Modell noch kein fester Startwert eingestellt ist
+	 * @see #useCommonRandomNumbers
+	 */
+	public void enableCommonRandomNumbers(final long seed) {
+		if (!useFixedSeed) {
+			useFixedSeed=true;
+			fixedSeed=seed;
+		}
+		useCommonRandomNumbers=true;
+	}
+
 	/**
 	 * Erhht die Anzahl an zu simulierenden Tagen,
 	 * so dass alle CPU-Kerne gleichmig ausgelastet werden.
@@ -181,6 +299,18 @@ public final class CallcenterModel implements Cloneable {
 		if (model.preferredShiftLength!=preferredShiftLength) return false;
 		if (model.minimumShiftLength!=minimumShiftLength) return false;
 		if (model.serviceLevelSeconds!=serviceLevelSeconds) return false;
+		if (model.useFixedSeed!=useFixedSeed) return false;
+		if (useFixedSeed && model.fixedSeed!=fixedSeed) return false;
+		if (useFixedSeed && model.useCommonRandomNumbers!=useCommonRandomNumbers) return false;
+		if (model.useAntitheticVariates!=useAntitheticVariates) return false;
+		if (model.daysOffset!=daysOffset) return false;
+		if (model.useSequentialStopping()!=useSequentialStopping()) return false;
+		if (useSequentialStopping()) {
+			if (model.stopConfidenceLevel!=stopConfidenceLevel) return false;
+			if (model.stopServiceLevelHalfWidth!=stopServiceLevelHalfWidth) return false;
+			if (model.stopWaitingTimeHalfWidth!=stopWaitingTimeHalfWidth) return false;
+			if (model.stopCancelRateHalfWidth!=stopCancelRateHalfWidth) return false;
+		}
 
 		if (!DistributionTools.compare(model.efficiencyPerInterval,efficiencyPerInterval)) return false;
 		if (!DistributionTools.compare(model.additionPerInterval,additionPerInterval)) return false;
@@ -190,6 +320,91 @@ public final class CallcenterModel implements Cloneable {
 		return true;
 	}
 
+	/**
+	 * Berechnet eine Prfsumme ber den Inhalt des Modells.<br>
+	 * Grundlage ist die xml-Darstellung des Modells. Die Reihenfolge der globalen Einstellungen
+	 * und der Attribute spielt dabei keine Rolle, die Reihenfolge der Kundentypen, Callcenter
+	 * und Skill-Level hingegen schon (da sich die Statistikdaten auf diese Reihenfolge beziehen).
+	 * Die Versionskennung fliet (wie auch bei {@link #equalsCallcenterModel(CallcenterModel)}) nicht in die Prfsumme ein.
+	 * @param includeMetaData	Sollen Name, Beschreibung und Datum des Modells in die Prfsumme einflieen?
+	 * @return	SHA-256-Prfsumme als Hexadezimal-Zeichenkette oder <code>null</code>, wenn die Prfsumme nicht berechnet werden konnte
+	 * @see #equalsCallcenterModel(CallcenterModel)
+	 */
+	public String getContentHash(final boolean includeMetaData) {
+		final XMLTools xml=new XMLTools();
+		final Element root=xml.generateRoot(Language.trPrimary("XML.Model.BaseElement"));
+		if (root==null) return null;
+		addDataToXML(root,true);
+
+		final List<String> metaData=new ArrayList<>();
+		metaData.add(Language.trPrimary("XML.Model.Version"));
+		if (!includeMetaData) {
+			metaData.add(Language.trPrimary("XML.Model.Name"));
+			metaData.add(Language.trPrimary("XML.Model.Description"));
+			metaData.add(Language.trPrimary("XML.Model.Date"));
+		}
+
+		/* Globale Einstellungen nach Namen sortieren; gleichnamige Elemente (Kundentypen usw.) behalten ihre Reihenfolge, da die Sortierung stabil ist */
+		final List<String[]> elements=new ArrayList<>();
+		final NodeList children=root.getChildNodes();
+		for (int i=0;i<children.getLength();i++) {
+			if (!(children.item(i) instanceof Element)) continue;
+			final Element e=(Element)children.item(i);
+			if (metaData.contains(e.getNodeName())) continue;
+			final StringBuilder sb=new StringBuilder();
+			appendCanonicalXML(sb,e);
+			elements.add(new String[]{e.getNodeName(),sb.toString()});
+		}
+		elements.sort(Comparator.comparing((String[] e)->e[0]));
+
+		final MessageDigest md;
+		try {
+			md=MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {return null;}
+		for (String[] e: elements) md.update(e[1].getBytes(StandardCharsets.UTF_8));
+
+		final StringBuilder hash=new StringBuilder();
+		for (byte b: md.digest()) hash.append(String.format("%02x",b));
+		return hash.toString();
+	}
+
+	/**
+	 * Fgt eine kanonische Textdarstellung eines xml-Elements (mit sortierten Attributen) an einen StringBuilder an.
+	 * @param sb	StringBuilder, an den die Darstellung angefgt werden soll
+	 * @param element	Auszugebendes xml-Element
+	 * @see #getContentHash(boolean)
+	 */
+	private static void appendCanonicalXML(final StringBuilder sb, final Element element) {
+		sb.append('<').append(element.getNodeName());
+		final NamedNodeMap attributes=element.getAttributes();
+		final List<String> attr=new ArrayList<>();
+		for (int i=0;i<attributes.getLength();i++) {
+			final Node a=attributes.item(i);
+			attr.add(a.getNodeName()+"=\""+escapeCanonicalXML(a.getNodeValue())+"\"");
+		}
+		Collections.sort(attr);
+		for (String a: attr) sb.append(' ').append(a);
+		sb.append('>');
+
+		final NodeList children=element.getChildNodes();
+		for (int i=0;i<children.getLength();i++) {
+			final Node child=children.item(i);
+			if (child instanceof Element) {appendCanonicalXML(sb,(Element)child); continue;}
+			if (child.getNodeType()==Node.TEXT_NODE || child.getNodeType()==Node.CDATA_SECTION_NODE) sb.append(escapeCanonicalXML(child.getNodeValue()));
+		}
+		sb.append("</").append(element.getNodeName()).append('>');
+	}
+
+	/**
+	 * Maskiert die Sonderzeichen in einem Text fr {@link #appendCanonicalXML(StringBuilder, Element)}
+	 * @param text	Zu maskierender Text
+	 * @return	Maskierter Text
+	 */
+	private static String escapeCanonicalXML(final String text) {
+		if (text==null) return "";
+		return text.replace("&","&amp;").replace("<","&lt;").replace("\"","&quot;");
+	}
+
 	/**
 	 * Ergnzt optionale Daten (wie es auch die Bearbeiten-Dialoge machen),
 	 * um unntige Starts der Hintergrunsimulation bedingt durch nur scheinbar
@@ -322,6 +537,40 @@ public final class CallcenterModel implements Cloneable {
 		return loadFromXML(root);
 	}
 
+	/**
+	 * Ldt die Einstellungen fr das sequentielle Abbruchkriterium aus einem XML-Element.
+	 * @param node	XML-Element, dessen Attribute die Zielgenauigkeiten enthalten
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 * @see #useSequentialStopping()
+	 */
+	private String loadStoppingRuleFromXML(final Element node) {
+		String t=Language.trAllAttribute("XML.Model.StoppingRule.ConfidenceLevel",node);
+		if (!t.isEmpty()) {
+			Double D=NumberTools.getProbability(NumberTools.systemNumberToLocalNumber(t));
+			if (D==null || D==0 || D==1) return Language.tr("XML.Model.StoppingRule.Error");
+			stopConfidenceLevel=D;
+		}
+		t=Language.trAllAttribute("XML.Model.StoppingRule.ServiceLevel",node);
+		if (!t.isEmpty()) {
+			Double D=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(t));
+			if (D==null) return Language.tr("XML.Model.StoppingRule.Error");
+			stopServiceLevelHalfWidth=D;
+		}
+		t=Language.trAllAttribute("XML.Model.StoppingRule.WaitingTime",node);
+		if (!t.isEmpty()) {
+			Double D=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(t));
+			if (D==null) return Language.tr("XML.Model.StoppingRule.Error");
+			stopWaitingTimeHalfWidth=D;
+		}
+		t=Language.trAllAttribute("XML.Model.StoppingRule.CancelRate",node);
+		if (!t.isEmpty()) {
+			Double D=NumberTools.getNotNegativeDouble(NumberTools.systemNumberToLocalNumber(t));
+			if (D==null) return Language.tr("XML.Model.StoppingRule.Error");
+			stopCancelRateHalfWidth=D;
+		}
+		return null;
+	}
+
 	/**
 	 * Versucht ein Callcenter-Modell aus dem bergebenen XML-Node zu laden
 	 * @param node	XML-Knoten, der das Callcenter-Modell enthlt
@@ -338,6 +587,15 @@ public final class CallcenterModel implements Cloneable {
 		preferredShiftLength=16;
 		minimumShiftLength=1;
 		serviceLevelSeconds=20;
+		useFixedSeed=false;
+		fixedSeed=0;
+		useCommonRandomNumbers=false;
+		useAntitheticVariates=false;
+		daysOffset=0;
+		stopConfidenceLevel=DEFAULT_STOP_CONFIDENCE_LEVEL;
+		stopServiceLevelHalfWidth=0;
+		stopWaitingTimeHalfWidth=0;
+		stopCancelRateHalfWidth=0;
 		caller.clear();
 		callcenter.clear();
 		skills.clear();
@@ -386,6 +644,27 @@ public final class CallcenterModel implements Cloneable {
 				additionPerInterval=newAdditionPerInterval;
 				continue;
 			}
+			if (Language.trAll("XML.Model.FixedSeed",s)) {
+				Long L=NumberTools.getLong(e.getTextContent());
+				if (L==null) return Language.tr("XML.Model.FixedSeed.Error");
+				useFixedSeed=true;
+				fixedSeed=L; continue;
+			}
+			if (Language.trAll("XML.Model.CommonRandomNumbers",s)) {
+				useCommonRandomNumbers=true; continue;
+			}
+			if (Language.trAll("XML.Model.AntitheticVariates",s)) {
+				useAntitheticVariates=true; continue;
+			}
+			if (Language.trAll("XML.Model.DaysOffset",s)) {
+				Integer J=NumberTools.getNotNegativeInteger(e.getTextContent());
+				if (J==null) return Language.tr("XML.Model.DaysOffset.Error");
+				daysOffset=J; continue;
+			}
+			if (Language.trAll("XML.Model.StoppingRule",s)) {
+				String t=loadStoppingRuleFromXML(e); if (t!=null) return t;
+				continue;
+			}
 			if (Language.trAll("XML.Model.Warnings",s)) {
 				String t=warnings.loadFromXML(e); if (t!=null) return t;
 				continue;
@@ -482,6 +761,17 @@ public final class CallcenterModel implements Cloneable {
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.PreferredShiftLength"))); e.setTextContent(""+preferredShiftLength);
 		if (minimumShiftLength>1) {node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.MinimumShiftLength"))); e.setTextContent(""+minimumShiftLength);}
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.ServiceLevel"))); e.setTextContent(""+serviceLevelSeconds);
+		if (useFixedSeed) {node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.FixedSeed"))); e.setTextContent(""+fixedSeed);}
+		if (useFixedSeed && useCommonRandomNumbers) node.appendChild(doc.createElement(Language.trPrimary("XML.Model.CommonRandomNumbers")));
+		if (useAntitheticVariates) node.appendChild(doc.createElement(Language.trPrimary("XML.Model.AntitheticVariates")));
+		if (daysOffset>0) {node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.DaysOffset"))); e.setTextContent(""+daysOffset);}
+		if (useSequentialStopping()) {
+			node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.StoppingRule")));
+			e.setAttribute(Language.trPrimary("XML.Model.StoppingRule.ConfidenceLevel"),NumberTools.formatSystemNumber(stopConfidenceLevel));
+			if (stopServiceLevelHalfWidth>0) e.setAttribute(Language.trPrimary("XML.Model.StoppingRule.ServiceLevel"),NumberTools.formatSystemNumber(stopServiceLevelHalfWidth));
+			if (stopWaitingTimeHalfWidth>0) e.setAttribute(Language.trPrimary("XML.Model.StoppingRule.WaitingTime"),NumberTools.formatSystemNumber(stopWaitingTimeHalfWidth));
+			if (stopCancelRateHalfWidth>0) e.setAttribute(Language.trPrimary("XML.Model.StoppingRule.CancelRate"),NumberTools.formatSystemNumber(stopCancelRateHalfWidth));
+		}
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.Productivity"))); e.setTextContent(efficiencyPerInterval.storeToString());
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.Surcharge"))); e.setTextContent(additionPerInterval.storeToString());
 
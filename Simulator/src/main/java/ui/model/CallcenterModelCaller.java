@@ -65,6 +65,13 @@ public final class CallcenterModelCaller implements Cloneable {
 	public DataDistributionImpl freshCallsDist48;
 	/** Verteilung der Kundenanknfte ber den Tag (bei 96 Intervallen pro Tag; kann auch <code>null</code> sein) */
 	public DataDistributionImpl freshCallsDist96;
+	/**
+	 * Sollen die Ankunftszeitpunkte der Erstanrufer bereits sortiert erzeugt werden?<br>
+	 * (Multinomialverteilte Anzahlen pro Intervall und sortierte gleichverteilte Zeitpunkte innerhalb
+	 * der Intervalle; statistisch gleichwertig, aber mit anderen Zufallszahlen als die unabhngige Erzeugung.)
+	 * @see DataDistributionImpl#randomSorted(org.apache.commons.math3.random.RandomGenerator, int)
+	 */
+	public boolean freshCallsSorted;
 
 	/** Score-Basis fr diesen Kundentyp */
 	public double scoreBase;
@@ -209,6 +216,7 @@ public final class CallcenterModelCaller implements Cloneable {
 		freshCallsDist24=null;
 		freshCallsDist48=new DataDistributionImpl(freshCallsDistMaxX,48);
 		freshCallsDist96=null;
+		freshCallsSorted=false;
 
 		scoreBase=1;
 		scoreSecond=1;
@@ -284,6 +292,7 @@ public final class CallcenterModelCaller implements Cloneable {
 		if (freshCallsDist24!=null) caller.freshCallsDist24=freshCallsDist24.clone(); else caller.freshCallsDist24=null;
 		if (freshCallsDist48!=null) caller.freshCallsDist48=freshCallsDist48.clone(); else caller.freshCallsDist48=null;
 		if (freshCallsDist96!=null) caller.freshCallsDist96=freshCallsDist96.clone(); else caller.freshCallsDist96=null;
+		caller.freshCallsSorted=freshCallsSorted;
 
 		caller.scoreBase=scoreBase;
 		caller.scoreSecond=scoreSecond;
@@ -368,6 +377,7 @@ public final class CallcenterModelCaller implements Cloneable {
 
 		if (caller.freshCallsCountMean!=freshCallsCountMean) return false;
 		if (caller.freshCallsCountSD!=freshCallsCountSD) return false;
+		if (caller.freshCallsSorted!=freshCallsSorted) return false;
 		if (freshCallsDist24!=null) {
 			if (caller.freshCallsDist24==null) return false;
 			if (!DistributionTools.compare(caller.freshCallsDist24,freshCallsDist24)) return false;
@@ -567,6 +577,7 @@ public final class CallcenterModelCaller implements Cloneable {
 		freshCallsDist24=null;
 		freshCallsDist48=null;
 		freshCallsDist96=null;
+		freshCallsSorted=false;
 		scoreBase=1;
 		scoreSecond=0;
 		scoreContinued=0;
@@ -615,6 +626,7 @@ public final class CallcenterModelCaller implements Cloneable {
 			String s=e.getNodeName();
 
 			if (Language.trAll("XML.Model.ClientType.FreshCalls",s)) {
+				if (Language.trAll("XML.General.BoolTrue",Language.trAllAttribute("XML.Model.ClientType.FreshCalls.Sorted",e))) freshCallsSorted=true;
 				NodeList l2=e.getChildNodes();
 				for (int j=0; j<l2.getLength();j++) {
 					if (!(l2.item(j) instanceof Element)) continue;
@@ -907,6 +919,7 @@ public final class CallcenterModelCaller implements Cloneable {
 		Element e,e2,e3;
 
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.Model.ClientType.FreshCalls")));
+		if (freshCallsSorted) e.setAttribute(Language.trPrimary("XML.Model.ClientType.FreshCalls.Sorted"),Language.trPrimary("XML.General.BoolTrue"));
 		e.appendChild(e2=doc.createElement(Language.trPrimary("XML.Model.ClientType.FreshCalls.Count"))); e2.setTextContent(""+freshCallsCountMean);
 		if (freshCallsCountSD>0) e2.setAttribute(Language.trPrimary("XML.Model.ClientType.FreshCalls.StandardDeviation"),NumberTools.formatSystemNumber(freshCallsCountSD));
 		if (freshCallsDist24!=null) {e.appendChild(e2=doc.createElement(Language.trPrimary("XML.Model.ClientType.FreshCalls.Distribution"))); e2.setTextContent(freshCallsDist24.storeToString());}
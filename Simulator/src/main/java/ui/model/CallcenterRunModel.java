@@ -23,8 +23,8 @@ import mathtools.NumberTools;
 import mathtools.distribution.DataDistributionImpl;
 import mathtools.distribution.tools.DistributionTools;
 import parser.CalcSystem;
+import parser.CalcSystemCompiled;
 import parser.MathCalcError;
-import parser.MathParser;
 import simulator.SimulationData;
 import tools.SetupData;
 
@@ -61,7 +61,7 @@ public final class CallcenterRunModel {
 	/* Allgemeine Daten */
 
 	/** Maximale Warteschlangenlnge<br>(Ist die Warteschlange voll, erhalten Anrufer das Besetztzeichen.) */
-	public MathParser maxQueueLength;
+	public CalcSystemCompiled maxQueueLength;
 
 	/** Anzahl der zu simulierenden Tage */
 	private int days;
@@ -191,11 +191,10 @@ public final class CallcenterRunModel {
 		if (days<=0) return String.format(Language.tr("Model.Check.InvalidNumberOfSimulationDays"),days);
 
 		/* Maximale Warteschlangenlnge */
-		MathParser parser=new CalcSystem(editModel.maxQueueLength,new String[]{"a"});
-		boolean ok=(parser.parse()==-1);
-		if (ok) try {ok=(parser.calc(new double[]{1.0})>=0);} catch (MathCalcError e) {ok=false;}
+		final CalcSystem maxQueueLengthParser=new CalcSystem(editModel.maxQueueLength,new String[]{"a"});
+		boolean ok=(maxQueueLengthParser.parse()==-1);
+		if (ok) try {ok=(maxQueueLengthParser.calc(new double[]{1.0})>=0);} catch (MathCalcError e) {ok=false;}
 		if (!ok) return String.format(Language.tr("Model.Check.InvalidMaximumQueueLength"),editModel.maxQueueLength);
-		maxQueueLength=parser;
 
 		/* Minimale / Maximale Schichtlnge */
 		if (editModel.minimumShiftLength>editModel.preferredShiftLength) return String.format(Language.tr("Model.Check.MinimalShiftLengthLongerThanPreferredShiftLength"));
@@ -246,6 +245,9 @@ public final class CallcenterRunModel {
 		}
 		if (agentSum==0) return Language.tr("Model.Check.Agents.No");
 
+		/* Maximale Warteschlangenlnge fr alle mglichen Anzahlen an arbeitenden Agenten vorab berechnen */
+		maxQueueLength=maxQueueLengthParser.compile(agentSum+1);
+
 		/* Agentengruppen */
 		for (int i=0;i<editModel.callcenter.size();i++) for (int j=0;j<editModel.callcenter.get(i).agents.size();j++) {
 			CallcenterModelAgent a=editModel.callcenter.get(i).agents.get(j);
@@ -276,14 +278,14 @@ public final class CallcenterRunModel {
 		}
 		agentCostsUsed=b;
 
+		/* Routing-Tabellen (erst nach Callcenter.checkAndInit und SkillLevel.checkAndInit mglich) */
+		for (int i=0;i<skills.length;i++) skills[i].index=i;
+		for (CallcenterRunModelCallcenter cc: callcenter) cc.initRouting(caller,skills);
+
 		/* Mindestwartezeiten (erst nach Callcenter.checkAndInit mglich) */
 		if (callerMinWaitingTimeUsed) for (int i=0;i<caller.length;i++) for (int j=0;j<callcenter.length;j++) {
 			CallcenterRunModelCaller ca=caller[i];
-			CallcenterRunModelCallcenter cc=callcenter[j];
-			int index=cc.callerMinWaitingTimeClass.indexOf(ca);
-			if (index<0) continue;
-
-			int time=cc.callerMinWaitingTimeMilliSecond.get(index);
+			int time=callcenter[j].routingMinWaitingTime[ca.index];
 			if (time<=0) continue;
 
 			if (ca.recheckTimesMilliSecond==null) {
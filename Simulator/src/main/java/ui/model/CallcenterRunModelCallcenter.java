@@ -57,6 +57,28 @@ public final class CallcenterRunModelCallcenter {
 	/** Liste der Namen fr die kundenspezifischen Mindestwartezeiten */
 	private final List<String> callerMinWaitingTimeName;
 
+	/**
+	 * Mindestwartezeit in Millisekunden pro Kundentyp-Index (0, wenn keine Mindestwartezeit gilt)<br>
+	 * (wird von <code>initRouting</code> gesetzt)
+	 * @see #initRouting(CallcenterRunModelCaller[], CallcenterRunModelSkillLevel[])
+	 */
+	public int[] routingMinWaitingTime;
+
+	/**
+	 * Knnen Agenten mit einem Skill-Level (1. Index) Kunden eines Typs (2. Index) bedienen?<br>
+	 * (wird von <code>initRouting</code> gesetzt)
+	 * @see #initRouting(CallcenterRunModelCaller[], CallcenterRunModelSkillLevel[])
+	 */
+	public boolean[][] routingEligible;
+
+	/**
+	 * Vom Leerlauf unabhngiger Teil des Agentenscores (Callcenter-Score plus Skill-Level-Score)
+	 * fr ein Skill-Level (1. Index) und einen Kundentyp (2. Index)<br>
+	 * (wird von <code>initRouting</code> gesetzt)
+	 * @see #initRouting(CallcenterRunModelCaller[], CallcenterRunModelSkillLevel[])
+	 */
+	public int[][] routingScore;
+
 	/**
 	 * Konstruktor der Klasse <code>CallcenterRunModelCallcenter</code>
 	 * @param editModelCallcenter	Zugehriges Editor-Modell Callcenter-Objekt
@@ -127,4 +149,29 @@ public final class CallcenterRunModelCallcenter {
 		return null;
 	}
 
+	/**
+	 * Erstellt die Routing-Tabellen fr die Simulation.<br>
+	 * Darf erst aufgerufen werden, nachdem die Callcenter und die Skill-Level per <code>checkAndInit</code> vorbereitet wurden.
+	 * @param caller	Liste mit allen Anrufer-Klassen
+	 * @param skills	Liste mit allen Skill-Level-Klassen
+	 * @see #routingMinWaitingTime
+	 * @see #routingEligible
+	 * @see #routingScore
+	 */
+	public void initRouting(final CallcenterRunModelCaller[] caller, final CallcenterRunModelSkillLevel[] skills) {
+		routingMinWaitingTime=new int[caller.length];
+		for (int i=callerMinWaitingTimeClass.size()-1;i>=0;i--) routingMinWaitingTime[callerMinWaitingTimeClass.get(i).index]=callerMinWaitingTimeMilliSecond.get(i); /* Bei mehrfachen Eintrgen gilt der erste */
+
+		routingEligible=new boolean[skills.length][caller.length];
+		routingScore=new int[skills.length][caller.length];
+		for (int i=0;i<skills.length;i++) {
+			final CallcenterRunModelSkillLevel skill=skills[i];
+			for (int j=0;j<caller.length;j++) {
+				final short nr=skill.callerTypeByIndex[caller[j].index];
+				if (nr<0) continue;
+				routingEligible[i][j]=true;
+				routingScore[i][j]=score+skill.callerTypeScore[nr];
+			}
+		}
+	}
 }
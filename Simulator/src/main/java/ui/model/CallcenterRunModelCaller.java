@@ -22,7 +22,9 @@ import org.apache.commons.math3.distribution.AbstractRealDistribution;
 
 import language.Language;
 import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.DistributionWithRandom;
 import mathtools.distribution.LogNormalDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionTools;
 
 /**
@@ -47,6 +49,8 @@ public final class CallcenterRunModelCaller {
 	public final int[] freshCallsCountAddByDay;
 	/** Verteilung der Kundenanknfte ber den Tag */
 	public final DataDistributionImpl freshCalls;
+	/** Ankunftszeitpunkte der Erstanrufer bereits sortiert erzeugen (siehe {@link CallcenterModelCaller#freshCallsSorted}) */
+	public final boolean freshCallsSorted;
 
 	/** Wiederholer vom Vortrag mit bestimmten Anrufzeiten [Tag][nr] */
 	public final long[][] freshCallsSheduledByDay;
@@ -72,9 +76,13 @@ public final class CallcenterRunModelCaller {
 	public boolean waitingTimeDistActive;
 	/** Wartezeittoleranzverteilung */
 	public final AbstractRealDistribution waitingTimeDist;
+	/** Zufallszahlengenerator fr die Wartezeittoleranzen (wird von <code>checkAndInit</code> gesetzt) */
+	public DistributionWithRandom waitingTimeSampler;
 
 	/** Wiederholabstndeverteilung */
 	public final AbstractRealDistribution retryTimeDist;
+	/** Zufallszahlengenerator fr die Wiederholabstnde (wird von <code>checkAndInit</code> gesetzt) */
+	public DistributionWithRandom retryTimeSampler;
 
 	/** Wiederholrate nach "besetzt" - erster Versuch */
 	public double retryProbabiltyAfterBlockedFirstRetry;
@@ -123,6 +131,8 @@ public final class CallcenterRunModelCaller {
 	public double recallProbability;
 	/** Wiederanrufabstndeverteilung */
 	public final AbstractRealDistribution recallTimeDist;
+	/** Zufallszahlengenerator fr die Wiederanrufabstnde (wird von <code>checkAndInit</code> gesetzt) */
+	public DistributionWithRandom recallTimeSampler;
 
 	/** Liste der mglichen neuen Kundentypen bei einem Wiederanruf (wird von <code>checkAndInit</code> gesetzt) */
 	public CallcenterRunModelCaller[] recallType;
@@ -295,6 +305,7 @@ public final class CallcenterRunModelCaller {
 		if (editModel.freshCallsDist48!=null) temp=(DataDistributionImpl)DistributionTools.normalizeDistribution(editModel.freshCallsDist48);
 		if (editModel.freshCallsDist96!=null) temp=(DataDistributionImpl)DistributionTools.normalizeDistribution(editModel.freshCallsDist96);
 		freshCalls=temp;
+		freshCallsSorted=editModel.freshCallsSorted;
 
 		freshCallsSheduledByDay=retryByDay;
 		freshCallsInitialWaitingByDay=uebertragWaitingByDay;
@@ -696,6 +707,12 @@ public final class CallcenterRunModelCaller {
 		tempRecallTypeSkillType=null;
 		tempRecallTypeSkillTypeName=null;
 
+		/* Zufallszahlengeneratoren vorberechnen */
+		if (freshCalls!=null) freshCalls.prepareSampler();
+		waitingTimeSampler=DistributionRandomNumber.getSampler(waitingTimeDist);
+		retryTimeSampler=DistributionRandomNumber.getSampler(retryTimeDist);
+		recallTimeSampler=DistributionRandomNumber.getSampler(recallTimeDist);
+
 		return null;
 	}
 }
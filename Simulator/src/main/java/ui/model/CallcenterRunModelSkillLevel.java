@@ -17,15 +17,21 @@ package ui.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 
 import language.Language;
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.DistributionWithRandom;
+import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionTools;
 import parser.CalcSystem;
+import parser.CalcSystemCompiled;
 import parser.MathCalcError;
-import parser.MathParser;
 
 /**
  * Modelliert einen Agenten-Skill-Typ
@@ -35,9 +41,15 @@ import parser.MathParser;
  * @see CallcenterRunModelAgent
  */
 public final class CallcenterRunModelSkillLevel {
+	/** Anzahl an ganzzahligen Wartezeiten (in Sekunden, ab 0), fr die die Bedienzeitverlngerungen vorab berechnet werden */
+	private static final int WORKING_TIME_ADD_ON_TABLE_SIZE=3601;
+
 	/** Name des Skill-Levels */
 	public final String name;
 
+	/** Index des Skill-Levels in der Liste der Skill-Level des Modells (wird von <code>CallcenterRunModel.checkAndInit</code> gesetzt) */
+	public int index;
+
 	/**
 	 * Liefert den Index in den folgenden Arrays fr Kunden des jeweils durch den
 	 * Index in diesem Array spezifizierten Typs. Werte -1 bedeuten, dass in diesem
@@ -48,11 +60,15 @@ public final class CallcenterRunModelSkillLevel {
 	/** Liste der Kundentyp spezifische Daten (wird von <code>checkAndInit</code> gesetzt) */
 	public CallcenterRunModelCaller[] callerType;
 	/** Liste der Kundentyp spezifischen Bedienzeitverlngerungen gem der Wartezeit */
-	public MathParser[][] callerTypeWorkingTimeAddOn;
+	public CalcSystemCompiled[][] callerTypeWorkingTimeAddOn;
 	/** Liste der Kundentyp spezifischen Bedienzeitverteilungen */
 	public AbstractRealDistribution[][] callerTypeWorkingTime;
 	/** Liste der Kundentyp spezifischen Nachbearbeitungszeitverteilung */
 	public AbstractRealDistribution[][] callerTypePostProcessingTime;
+	/** Zufallszahlengeneratoren fr die Kundentyp spezifischen Bedienzeiten (wird von <code>checkAndInit</code> gesetzt) */
+	public DistributionWithRandom[][] callerTypeWorkingTimeSampler;
+	/** Zufallszahlengeneratoren fr die Kundentyp spezifischen Nachbearbeitungszeiten (wird von <code>checkAndInit</code> gesetzt) */
+	public DistributionWithRandom[][] callerTypePostProcessingTimeSampler;
 	/** Liste der Kundentyp spezifischen Prioritten */
 	public int[] callerTypeScore;
 
@@ -89,7 +105,7 @@ public final class CallcenterRunModelSkillLevel {
 			AbstractRealDistribution d=DistributionTools.normalizeDistribution(editModel.callerTypeWorkingTime.get(i));
 			AbstractRealDistribution[] dArray=new AbstractRealDistribution[48];
 			AbstractRealDistribution[] dOrig=editModel.callerTypeIntervalWorkingTime.get(i);
-			for (int j=0;j<dArray.length;j++) dArray[j]=(dOrig[j]==null)?d:dOrig[j];
+			for (int j=0;j<dArray.length;j++) dArray[j]=(dOrig[j]==null)?d:getRunDistribution(dOrig[j]);
 			callerTypeWorkingTimeList.add(dArray);
 		}
 
@@ -98,13 +114,44 @@ public final class CallcenterRunModelSkillLevel {
 			AbstractRealDistribution d=DistributionTools.normalizeDistribution(editModel.callerTypePostProcessingTime.get(i));
 			AbstractRealDistribution[] dArray=new AbstractRealDistribution[48];
 			AbstractRealDistribution[] dOrig=editModel.callerTypeIntervalPostProcessingTime.get(i);
-			for (int j=0;j<dArray.length;j++) dArray[j]=(dOrig[j]==null)?d:dOrig[j];
+			for (int j=0;j<dArray.length;j++) dArray[j]=(dOrig[j]==null)?d:getRunDistribution(dOrig[j]);
 			callerTypePostProcessingTimeList.add(dArray);
 		}
 
 		callerTypeScoreList=editModel.callerTypeScore;
 	}
 
+	/**
+	 * Liefert zu einer intervallabhngigen Verteilung aus dem Editor-Modell die im Laufzeit-Modell zu verwendende Verteilung.<br>
+	 * Empirische Verteilungen werden kopiert, damit der vorberechnete Zufallszahlengenerator nicht im (ggf. von mehreren
+	 * Laufzeit-Modellen gemeinsam verwendeten) Editor-Modell angelegt wird.
+	 * @param distribution	Verteilung aus dem Editor-Modell
+	 * @return	Im Laufzeit-Modell zu verwendende Verteilung
+	 */
+	private static AbstractRealDistribution getRunDistribution(final AbstractRealDistribution distribution) {
+		if (distribution instanceof DataDistributionImpl) return ((DataDistributionImpl)distribution).clone();
+		return distribution;
+	}
+
+	/**
+	 * Erstellt die Zufallszahlengeneratoren zu den Verteilungen pro Kundentyp und Intervall.
+	 * @param distributions	Verteilungen pro Kundentyp und Intervall
+	 * @param samplers	Bereits erstellte Zufallszahlengeneratoren (da in den meisten Intervallen dieselben Verteilungsobjekte verwendet werden)
+	 * @return	Zufallszahlengeneratoren pro Kundentyp und Intervall
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 */
+	private static DistributionWithRandom[][] getSamplers(final AbstractRealDistribution[][] distributions, final Map<AbstractRealDistribution,DistributionWithRandom> samplers) {
+		final DistributionWithRandom[][] result=new DistributionWithRandom[distributions.length][];
+		for (int i=0;i<distributions.length;i++) {
+			result[i]=new DistributionWithRandom[distributions[i].length];
+			for (int j=0;j<distributions[i].length;j++) {
+				final AbstractRealDistribution dist=distributions[i][j];
+				if (dist!=null) result[i][j]=samplers.computeIfAbsent(dist,DistributionRandomNumber::getSampler);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Bereitet das Objekt auf die Simulation vor.
 	 * @param caller	Liste mit allen Anrufer-Klassen
@@ -144,24 +191,30 @@ public final class CallcenterRunModelSkillLevel {
 		}
 
 		callerType=callerTypeList.toArray(new CallcenterRunModelCaller[0]);
-		callerTypeWorkingTimeAddOn=new MathParser[callerTypeWorkingTimeAddOnList.size()][];
+		callerTypeWorkingTimeAddOn=new CalcSystemCompiled[callerTypeWorkingTimeAddOnList.size()][];
+		final Map<String,CalcSystemCompiled> compiledAddOns=new HashMap<>();
 		for (int j=0;j<callerTypeWorkingTimeAddOnList.size();j++) {
 			String[] orig=callerTypeWorkingTimeAddOnList.get(j);
-			callerTypeWorkingTimeAddOn[j]=new MathParser[orig.length];
-			MathParser[] data=callerTypeWorkingTimeAddOn[j];
+			callerTypeWorkingTimeAddOn[j]=new CalcSystemCompiled[orig.length];
+			CalcSystemCompiled[] data=callerTypeWorkingTimeAddOn[j];
 			for (int k=0;k<orig.length;k++) {
 				data[k]=null;
 				if (orig[k]!=null && !orig[k].trim().isEmpty() && !orig[k].trim().equals("0")) {
-					MathParser calc=new CalcSystem(orig[k],new String[]{"w"});
-					int pos=calc.parse();
-					if (pos!=-1) {
-						return String.format(Language.tr("Model.Check.SkillLevel.InvalidHoldingTimeAddOnExpression"),orig[k],pos+1);
+					CalcSystemCompiled compiled=compiledAddOns.get(orig[k]);
+					if (compiled==null) {
+						CalcSystem calc=new CalcSystem(orig[k],new String[]{"w"});
+						int pos=calc.parse();
+						if (pos!=-1) {
+							return String.format(Language.tr("Model.Check.SkillLevel.InvalidHoldingTimeAddOnExpression"),orig[k],pos+1);
+						}
+						compiled=calc.compile(WORKING_TIME_ADD_ON_TABLE_SIZE);
+						compiledAddOns.put(orig[k],compiled);
 					}
-					if (!calc.isConstValue()) {
-						data[k]=calc;
+					if (!compiled.isConstValue()) {
+						data[k]=compiled;
 					} else {
 						try {
-							if (calc.calc()!=0) data[k]=calc;
+							if (compiled.calc(null)!=0) data[k]=compiled;
 						} catch (MathCalcError e) {}
 					}
 				}
@@ -169,6 +222,9 @@ public final class CallcenterRunModelSkillLevel {
 		}
 		callerTypeWorkingTime=callerTypeWorkingTimeList.toArray(new AbstractRealDistribution[0][0]);
 		callerTypePostProcessingTime=callerTypePostProcessingTimeList.toArray(new AbstractRealDistribution[0][0]);
+		final Map<AbstractRealDistribution,DistributionWithRandom> samplers=new IdentityHashMap<>();
+		callerTypeWorkingTimeSampler=getSamplers(callerTypeWorkingTime,samplers);
+		callerTypePostProcessingTimeSampler=getSamplers(callerTypePostProcessingTime,samplers);
 		callerTypeScore=new int[callerTypeScoreList.size()]; for (int j=0;j<callerTypeScoreList.size();j++) callerTypeScore[j]=callerTypeScoreList.get(j);
 
 		int size=callerTypeWorkingTimeAddOn.length;
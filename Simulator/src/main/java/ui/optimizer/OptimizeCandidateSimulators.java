@@ -0,0 +1,132 @@
+/**
+ * Copyright 2020 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ui.optimizer;
+
+import java.io.File;
+
+import simulator.CallcenterSimulatorInterface;
+import simulator.Statistics;
+
+/**
+ * Fasst die Simulatoren der parallel simulierten Kandidaten eines Optimierungsschritts zusammen.<br>
+ * Nach auen verhlt sich das Objekt wie ein einzelner Simulator, der so lange luft, bis alle
+ * Kandidaten fertig simuliert sind. Die Statistikergebnisse werden nicht zusammengefhrt, sondern
+ * vom {@link Optimizer} pro Kandidat ber {@link #getSimulator(int)} abgerufen.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see Optimizer#setParallelCandidates(int)
+ */
+final class OptimizeCandidateSimulators implements CallcenterSimulatorInterface {
+	/** Simulatoren der einzelnen Kandidaten */
+	private final CallcenterSimulatorInterface[] simulators;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param simulators	Simulatoren der einzelnen Kandidaten
+	 */
+	public OptimizeCandidateSimulators(final CallcenterSimulatorInterface[] simulators) {
+		this.simulators=simulators;
+	}
+
+	/**
+	 * Liefert die Anzahl an Kandidaten.
+	 * @return	Anzahl an Kandidaten
+	 */
+	public int getCount() {
+		return simulators.length;
+	}
+
+	/**
+	 * Liefert den Simulator eines Kandidaten.
+	 * @param index	0-basierter Index des Kandidaten
+	 * @return	Simulator des Kandidaten
+	 */
+	public CallcenterSimulatorInterface getSimulator(final int index) {
+		return simulators[index];
+	}
+
+	@Override
+	public void start(boolean lowPriority) {
+		for (CallcenterSimulatorInterface simulator: simulators) simulator.start(lowPriority);
+	}
+
+	@Override
+	public void cancel() {
+		for (CallcenterSimulatorInterface simulator: simulators) simulator.cancel();
+	}
+
+	@Override
+	public boolean isRunning() {
+		for (CallcenterSimulatorInterface simulator: simulators) if (simulator.isRunning()) return true;
+		return false;
+	}
+
+	@Override
+	public String finalizeRun() {
+		String error=null;
+		for (CallcenterSimulatorInterface simulator: simulators) {
+			final String s=simulator.finalizeRun();
+			if (error==null) error=s;
+		}
+		return error;
+	}
+
+	@Override
+	public Statistics collectStatistic() {
+		return simulators[0].collectStatistic();
+	}
+
+	@Override
+	public long getEventCount() {
+		long count=0;
+		for (CallcenterSimulatorInterface simulator: simulators) count+=simulator.getEventCount();
+		return count;
+	}
+
+	@Override
+	public int getEventsPerSecond() {
+		int count=0;
+		for (CallcenterSimulatorInterface simulator: simulators) count+=simulator.getEventsPerSecond();
+		return count;
+	}
+
+	/**
+	 * Liefert den Fortschritt des langsamsten Kandidaten,
+	 * so dass die Fortschrittsanzeige erst am Ende aller Simulationen den Maximalwert erreicht.
+	 * @return	Anzahl der bisher simulierten Tage des langsamsten Kandidaten
+	 */
+	@Override
+	public long getSimDayCount() {
+		long count=Long.MAX_VALUE;
+		for (CallcenterSimulatorInterface simulator: simulators) count=Math.min(count,simulator.getSimDayCount());
+		return count;
+	}
+
+	@Override
+	public long getSimDaysCount() {
+		return simulators[0].getSimDaysCount();
+	}
+
+	@Override
+	public void setPriority(boolean low) {
+		for (CallcenterSimulatorInterface simulator: simulators) simulator.setPriority(low);
+	}
+
+	@Override
+	public File getLogFile() {
+		return null;
+	}
+}
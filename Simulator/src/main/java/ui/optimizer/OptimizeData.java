@@ -54,6 +54,13 @@ public final class OptimizeData {
 	 */
 	public int runTime=0;
 
+	/**
+	 * Rechenzeit fr die Bestimmung der Startwerte per Erlang-C gemessen in Millisekunden
+	 * (-1, wenn keine Erlang-C-Startwerte verwendet wurden)
+	 * @see OptimizeSetup#erlangCWarmStart
+	 */
+	public long warmStartTime=-1;
+
 	/**
 	 * Mgliche Namen des Basiselement von Optimierer-Daten-XML-Dateien (zur Erkennung von Dateien dieses Typs.)
 	 */
@@ -101,6 +108,7 @@ public final class OptimizeData {
 		setup=null;
 		runTime=0;
 		runCount=1;
+		warmStartTime=-1;
 
 		NodeList l=node.getChildNodes();
 		for (int i=0; i<l.getLength();i++) {
@@ -115,6 +123,13 @@ public final class OptimizeData {
 				continue;
 			}
 
+			if (Language.trAll("XML.OptimizerResults.WarmStartTime",s)) {
+				Long L=NumberTools.getNotNegativeLong(e.getTextContent());
+				if (L==null) return String.format(Language.tr("Optimizer.LoadError.WarmStartTime"),e.getTextContent());
+				warmStartTime=L;
+				continue;
+			}
+
 			if (Language.trAll("XML.OptimizerResults.RunCount",s)) {
 				Integer in=NumberTools.getNotNegativeInteger(e.getTextContent());
 				if (in==null) return String.format(Language.tr("Optimizer.LoadError.NumberOfSimulations"),e.getTextContent());
@@ -188,6 +203,7 @@ public final class OptimizeData {
 
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerResults.RunTime"))); e.setTextContent(""+runTime);
 		node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerResults.RunCount"))); e.setTextContent(""+runCount);
+		if (warmStartTime>=0) {node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerResults.WarmStartTime"))); e.setTextContent(""+warmStartTime);}
 		setup.saveToXML(node);
 		for(int i=0;i<data.size();i++) {
 			node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerResults.SimulationRun")));
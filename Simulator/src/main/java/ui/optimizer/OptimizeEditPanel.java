@@ -131,6 +131,10 @@ public final class OptimizeEditPanel extends JTabbedPane {
 	private final JComboBox<String> changeGroups;
 	/** Auswahl der Gruppen (Kunden oder Agenten) die verndert werden sollen */
 	private final CheckBoxTree changeGroupTree;
+	/** Auswahl, ob alle Modellvarianten mit synchronisierten Zufallszahlenstrmen simuliert werden sollen */
+	private final JCheckBox commonRandomNumbers;
+	/** Auswahl, ob die Startwerte fr die Agentenanzahlen per Erlang-C-Vorplanung bestimmt werden sollen */
+	private final JCheckBox erlangCWarmStart;
 
 	/** Namen der Gruppen fr gruppen-spezifische Einschrnkungen */
 	private final List<String> groupRestrictionName;
@@ -266,6 +270,12 @@ public final class OptimizeEditPanel extends JTabbedPane {
 				Language.tr("Optimizer.ControlVariable.ChangeAgentGroups.Selected")
 		}));
 		changeGroups.addActionListener(new DialogElementListener());
+		p2.add(p3=new JPanel(new FlowLayout(FlowLayout.LEFT)));
+		p3.add(commonRandomNumbers=new JCheckBox(Language.tr("Optimizer.ControlVariable.CommonRandomNumbers")));
+		commonRandomNumbers.setToolTipText(Language.tr("Optimizer.ControlVariable.CommonRandomNumbers.Info"));
+		p2.add(p3=new JPanel(new FlowLayout(FlowLayout.LEFT)));
+		p3.add(erlangCWarmStart=new JCheckBox(Language.tr("Optimizer.ControlVariable.ErlangCWarmStart")));
+		erlangCWarmStart.setToolTipText(Language.tr("Optimizer.ControlVariable.ErlangCWarmStart.Info"));
 
 		changeGroupTree=new CheckBoxTree();
 		p.add(new JScrollPane(changeGroupTree.tree),BorderLayout.CENTER);
@@ -492,6 +502,8 @@ public final class OptimizeEditPanel extends JTabbedPane {
 
 		changeValue.setText(NumberTools.formatPercent(setup.changeValue));
 		changeGroups.setSelectedIndex(setup.changeAll?0:1);
+		commonRandomNumbers.setSelected(setup.commonRandomNumbers);
+		erlangCWarmStart.setSelected(setup.erlangCWarmStart);
 
 		day0statisticsField.setText(setup.uebertragFile);
 		uebertrag=OptimizeSetup.cloneUebertrag(setup.uebertrag);
@@ -670,6 +682,8 @@ public final class OptimizeEditPanel extends JTabbedPane {
 		setup.changeValue=d;
 
 		setup.changeAll=(changeGroups.getSelectedIndex()==0);
+		setup.commonRandomNumbers=commonRandomNumbers.isSelected();
+		setup.erlangCWarmStart=erlangCWarmStart.isSelected();
 
 		if (changeGroups.getSelectedIndex()==1) {
 			String[] l=changeGroupTree.getSelected(true);
@@ -186,6 +186,20 @@ public final class OptimizeSetup {
 	 */
 	public String[] changeGroups=null;
 
+	/**
+	 * Sollen alle Modellvarianten mit denselben synchronisierten Zufallszahlenstrmen simuliert werden?
+	 * (Common Random Numbers; ist im Ausgangsmodell kein fester Startwert eingestellt, so wird fr die Optimierung ein Startwert festgelegt)
+	 * @see ui.model.CallcenterModel#enableCommonRandomNumbers(long)
+	 */
+	public boolean commonRandomNumbers=false;
+
+	/**
+	 * Sollen die Startwerte fr die Agentenanzahlen vor dem ersten Simulationslauf ber ein erweitertes Erlang-C-Modell bestimmt werden?
+	 * (Nur fr Zielgren, die sich per Erlang-C abschtzen lassen, d.h. nicht fr die Verweilzeit)
+	 * @see ui.Preplanning
+	 */
+	public boolean erlangCWarmStart=false;
+
 	/**
 	 * Gibt den Dateinamen fr die bertragsdatei ein.
 	 * @see #uebertrag
@@ -360,6 +374,9 @@ public final class OptimizeSetup {
 			node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerSetup.ModificationGroup"))); e.setTextContent(changeGroups[i]);
 		}
 
+		if (commonRandomNumbers) node.appendChild(doc.createElement(Language.trPrimary("XML.OptimizerSetup.CommonRandomNumbers")));
+		if (erlangCWarmStart) node.appendChild(doc.createElement(Language.trPrimary("XML.OptimizerSetup.ErlangCWarmStart")));
+
 		if (!uebertragFile.isEmpty() || uebertrag.size()>0) {
 			node.appendChild(e=doc.createElement(Language.trPrimary("XML.OptimizerSetup.CarryOver")));
 			if (!uebertragFile.isEmpty()) e.setAttribute(Language.trPrimary("XML.OptimizerSetup.CarryOver.StatisticFile"),uebertragFile);
@@ -421,6 +438,8 @@ public final class OptimizeSetup {
 		changeValue=0.01;
 		changeAll=true;
 		changeGroups=null;
+		commonRandomNumbers=false;
+		erlangCWarmStart=false;
 		uebertragFile="";
 		uebertrag.clear();
 		uebertragAdditionalCaller.clear();
@@ -527,6 +546,16 @@ public final class OptimizeSetup {
 				continue;
 			}
 
+			if (Language.trAll("XML.OptimizerSetup.CommonRandomNumbers",s)) {
+				commonRandomNumbers=true;
+				continue;
+			}
+
+			if (Language.trAll("XML.OptimizerSetup.ErlangCWarmStart",s)) {
+				erlangCWarmStart=true;
+				continue;
+			}
+
 			if (Language.trAll("XML.OptimizerSetup.ModificationGroup",s)) {
 				List<String> list;
 				if (changeGroups==null || changeGroups.length==0) list=new ArrayList<String>(); else list=new ArrayList<String>(Arrays.asList(changeGroups));
@@ -638,6 +667,8 @@ public final class OptimizeSetup {
 			setup.changeGroups=new String[changeGroups.length];
 			System.arraycopy(changeGroups,0,setup.changeGroups,0,changeGroups.length);
 		}
+		setup.commonRandomNumbers=commonRandomNumbers;
+		setup.erlangCWarmStart=erlangCWarmStart;
 
 		setup.uebertragFile=uebertragFile;
 		setup.uebertrag=cloneUebertrag(uebertrag);
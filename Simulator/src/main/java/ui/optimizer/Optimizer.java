@@ -18,8 +18,12 @@ package ui.optimizer;
 import java.awt.Window;
 import java.io.File;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import language.Language;
 import mathtools.NumberTools;
@@ -32,6 +36,7 @@ import simulator.Statistics.AgentenDaten;
 import simulator.Statistics.KundenDaten;
 import systemtools.MsgBox;
 import tools.SetupData;
+import ui.Preplanning;
 import ui.connected.ConnectedSimulation;
 import ui.model.CallcenterModel;
 import ui.model.CallcenterModelAgent;
@@ -100,6 +105,33 @@ public final class Optimizer {
 	 */
 	private OptimizeData results;
 
+	/**
+	 * Maximale Anzahl an Kandidaten, die pro Optimierungsschritt parallel simuliert werden (1=keine parallele Auswertung)
+	 * @see #setParallelCandidates(int)
+	 */
+	private int parallelCandidates=1;
+
+	/**
+	 * Simulatoren der aktuell parallel simulierten Kandidaten (oder <code>null</code>, wenn nur ein Modell simuliert wird)
+	 * @see #simulationStartCandidates(int)
+	 */
+	private OptimizeCandidateSimulators candidates;
+
+	/**
+	 * Zustnde des Optimierers nach der Erzeugung der einzelnen Kandidaten
+	 * @see #simulationStartCandidates(int)
+	 */
+	private CandidateState[] candidateStates;
+
+	/** Richtung der Vernderung, fr die die aktuellen Kandidaten erzeugt wurden */
+	private int candidateDirection;
+
+	/** Intervalle, in denen zum Zeitpunkt der Erzeugung der Kandidaten Vernderungen notwendig waren */
+	private double[] candidateNeedsChange;
+
+	/** Letztes abgeschlossenes Intervall in Bezug auf Vernderungen in die erste Richtung zum Zeitpunkt der Erzeugung der Kandidaten */
+	private int candidateLastOKInterval;
+
 	/**
 	 * Konstruktor der Klasse
 	 * @param owner	bergeordnetes Fenster
@@ -108,6 +140,14 @@ public final class Optimizer {
 	 * @param setup	Objekt vom Typ {@link OptimizeSetup}, welches Informationen darber enthlt, was zu optimieren ist.
 	 */
 	public Optimizer(Window owner, PrintStream out, CallcenterModel initialEditModel, OptimizeSetup setup) {
+		if (setup.commonRandomNumbers || setup.erlangCWarmStart) {
+			/* Das Ausgangsmodell wird verndert, daher mit einer Kopie arbeiten */
+			initialEditModel=initialEditModel.clone();
+		}
+		if (setup.commonRandomNumbers) {
+			/* Alle Modellvarianten werden aus diesem Modell abgeleitet und erben so den gemeinsamen Startwert */
+			initialEditModel.enableCommonRandomNumbers(ThreadLocalRandom.current().nextLong());
+		}
 		this.initialEditModel=initialEditModel;
 		this.setup=setup;
 		this.owner=owner;
@@ -138,6 +178,20 @@ public final class Optimizer {
 		intervalAbsoluteAdd=new DataDistributionImpl(steps,steps);
 	}
 
+	/**
+	 * Stellt ein, wie viele Kandidaten pro Optimierungsschritt parallel simuliert werden sollen.<br>
+	 * Bei mehr als einem Kandidaten werden ausgehend vom aktuellen Stand die nchsten Schritte in dieselbe
+	 * Richtung (d.h. mit jeweils grerer Schrittweite) gleichzeitig simuliert, wobei sich die Kandidaten
+	 * die verfgbaren Rechenthreads teilen. Die Ergebnisse werden anschlieend in der Reihenfolge der Schritte
+	 * ausgewertet; ein Kandidat wird nur bernommen, wenn die Auswertung des vorherigen Schritts genau zu diesem
+	 * Kandidaten gefhrt htte. Der Ablauf und die gespeicherten Zwischenergebnisse entsprechen damit denen der
+	 * sequentiellen Optimierung, nicht verwendbare Kandidaten werden verworfen.
+	 * @param parallelCandidates	Maximale Anzahl an parallel zu simulierenden Kandidaten (Werte &le;1 fr eine rein sequentielle Optimierung)
+	 */
+	public void setParallelCandidates(final int parallelCandidates) {
+		this.parallelCandidates=Math.max(1,parallelCandidates);
+	}
+
 	/**
 	 * Prft die Liste der anzupassenden Agentengruppen.
 	 * @param names	Liste der anzupassenden Agentengruppen
@@ -265,15 +319,115 @@ public final class Optimizer {
 		String s=runModel.checkAndInit(false,false,SetupData.getSetup().strictCheck);
 		if (s!=null) return Language.tr("Optimizer.Error.Preparation")+":\n"+s;
 
+		/* Startwerte per Erlang-C bestimmen */
+		long warmStartTime=-1;
+		if (setup.erlangCWarmStart) {
+			final long time=System.currentTimeMillis();
+			if (applyErlangCWarmStart()) warmStartTime=System.currentTimeMillis()-time;
+		}
+
 		/* Am Anfang alle Agenten auf 100% der Ausgangswerte */
 		intervalNeedsChange.setToValue(-1);
 		intervalPercent.setToValue(1);
 
 		results=new OptimizeData(setup.cloneOptimizeSetup());
+		results.warmStartTime=warmStartTime;
 
 		return null;
 	}
 
+	/**
+	 * Liefert den Modus fr die Erlang-C-Vorplanung, der der Zielgre der Optimierung entspricht.
+	 * @return	Modus fr {@link Preplanning#calc(ui.Preplanning.Mode, ui.Preplanning.Mode, double, boolean, double)} oder <code>null</code>, wenn sich die Zielgre nicht per Erlang-C abschtzen lsst
+	 */
+	private Preplanning.Mode getErlangCWarmStartMode() {
+		switch (setup.optimizeProperty) {
+		case OPTIMIZE_PROPERTY_SUCCESS_BY_CALL:
+		case OPTIMIZE_PROPERTY_SUCCESS_BY_CLIENT:
+			return Preplanning.Mode.MODE_SUCCESS;
+		case OPTIMIZE_PROPERTY_WAITING_TIME_BY_CALL:
+		case OPTIMIZE_PROPERTY_WAITING_TIME_BY_CLIENT:
+			return Preplanning.Mode.MODE_WAITING_TIME;
+		case OPTIMIZE_PROPERTY_SERVICE_LEVEL_BY_CALL:
+		case OPTIMIZE_PROPERTY_SERVICE_LEVEL_BY_CALL_ALL:
+		case OPTIMIZE_PROPERTY_SERVICE_LEVEL_BY_CLIENT:
+		case OPTIMIZE_PROPERTY_SERVICE_LEVEL_BY_CLIENT_ALL:
+			return Preplanning.Mode.MODE_SERVICE_LEVEL;
+		case OPTIMIZE_PROPERTY_WORK_LOAD:
+			return Preplanning.Mode.MODE_FIXED_LOAD;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Wird die angegebene Agentengruppe durch den Optimierer verndert?
+	 * @param callcenterName	Name des Callcenters
+	 * @param groupNr	1-basierte Nummer der Agentengruppe innerhalb des Callcenters
+	 * @return	Liefert <code>true</code>, wenn die Agentengruppe verndert wird
+	 */
+	private boolean isChangedAgentGroup(final String callcenterName, final int groupNr) {
+		if (setup.changeAll) return true;
+		Object[] obj=OptimizeSetup.splitCallcenterAgentGroupData(setup.changeGroups);
+		String[] callcenterNames=(String[])obj[0];
+		int[] groupNumbers=(int[])obj[1];
+		for (int i=0;i<callcenterNames.length;i++) if (callcenterNames[i].equalsIgnoreCase(callcenterName) && groupNumbers[i]==groupNr) return true;
+		return false;
+	}
+
+	/**
+	 * Ersetzt die Agentenanzahlen pro Intervall der zu verndernden Agentengruppen durch die Werte
+	 * einer Vorplanung auf Basis des erweiterten Erlang-C-Modells (d.h. unter Bercksichtigung von
+	 * Warteabbrechern und Wiederholern). Die Optimierung startet dann von diesen Werten aus.<br>
+	 * Sind nur einzelne Intervalle fr die Optimierung ausgewhlt, so werden nur in diesen
+	 * Intervallen die Werte der Vorplanung bernommen; in allen brigen Intervallen bleiben die
+	 * Agentenanzahlen des Modells erhalten.<br>
+	 * Agentengruppen mit festen Arbeitszeiten werden nicht verndert. Die Vorplanung erfolgt
+	 * fr alle Agentengruppen gemeinsam; werden nur ausgewhlte Gruppen optimiert, so werden die
+	 * brigen Gruppen nicht bercksichtigt und die Startwerte fallen eher zu hoch aus.
+	 * @return	Liefert <code>true</code>, wenn die Startwerte verndert wurden
+	 * @see OptimizeSetup#erlangCWarmStart
+	 */
+	private boolean applyErlangCWarmStart() {
+		final Preplanning.Mode mode=getErlangCWarmStartMode();
+		if (mode==null) return false;
+
+		final Preplanning preplanning=new Preplanning(initialEditModel);
+		final CallcenterModel planned=preplanning.calc(mode,Preplanning.Mode.SIMPLIFY_NO,setup.optimizeValue,mode!=Preplanning.Mode.MODE_FIXED_LOAD,Preplanning.DEFAULT_MULTI_SKILL_REDUCTION);
+		if (planned==null) return false;
+
+		final boolean allIntervals=allIntervals();
+		final double[] optimizeIntervals=setup.optimizeIntervals.densityData;
+
+		boolean changed=false;
+		for (int i=0;i<initialEditModel.callcenter.size();i++) {
+			final CallcenterModelCallcenter callcenter=initialEditModel.callcenter.get(i);
+			if (!callcenter.active) continue;
+			for (int j=0;j<callcenter.agents.size();j++) {
+				final CallcenterModelAgent agent=callcenter.agents.get(j);
+				if (!agent.active || agent.count>=0 || !isChangedAgentGroup(callcenter.name,j+1)) continue;
+
+				/* Bisherige Agentenanzahlen (werden in nicht zu optimierenden Intervallen beibehalten) */
+				final DataDistributionImpl count;
+				if (agent.count==-2) count=agent.calcAgentDistributionFromCallers(initialEditModel.caller); else count=agent.getCountPerInterval().clone();
+				if (count.densityData.length!=steps) count.stretchToValueCount(steps);
+
+				/* Werte der Vorplanung in den zu optimierenden Intervallen bernehmen */
+				final DataDistributionImpl plannedCount=planned.callcenter.get(i).agents.get(j).getCountPerInterval().clone();
+				if (plannedCount.densityData.length!=steps) plannedCount.stretchToValueCount(steps);
+				for (int k=0;k<steps;k++) {
+					final int interval48=k*48/steps;
+					if (allIntervals || (interval48<optimizeIntervals.length && optimizeIntervals[interval48]>0.1)) count.densityData[k]=plannedCount.densityData[k];
+				}
+
+				agent.setCountPerInterval(count);
+				agent.count=-1;
+				changed=true;
+			}
+		}
+		return changed;
+	}
+
 	/**
 	 * Wurden Intervalle fr die Optimierung ausgewhlt?
 	 * @return	Liefert <code>true</code>, wenn Intervalle fr die Optimierung ausgewhlt wurden
@@ -538,6 +692,24 @@ public final class Optimizer {
 	 * @return	Gibt <code>null</code> zurck, wenn der Simulationslauf gestartet werden konnte, sonst wird ein Fehlermeldungs-String zurckgegeben.
 	 */
 	public String simulationStart(int changeModelDirection) {
+		candidates=null;
+		candidateStates=null;
+		if (parallelCandidates>1 && runNr>0 && changeModelDirection!=0 && !SetupData.getSetup().networkUse) return simulationStartCandidates(changeModelDirection);
+
+		final Object o=prepareRun(changeModelDirection);
+		if (o instanceof String) return (String)o;
+		simulator=((StartAnySimulator)o).run();
+		simulator.start(false);
+
+		return null;
+	}
+
+	/**
+	 * Verndert das Modell fr den nchsten Simulationslauf und bereitet dessen Start vor.
+	 * @param	changeModelDirection	Gibt an, ob Agenten hinzugefgt werden sollen (&gt;0) oder entfernt werden sollen (&lt;0); bei ==0 erfolgt keine Vernderung
+	 * @return	Liefert im Erfolgsfall ein geprftes {@link StartAnySimulator}-Objekt, sonst eine Fehlermeldung
+	 */
+	private Object prepareRun(final int changeModelDirection) {
 		runNr++;
 		results.runCount=runNr;
 
@@ -566,9 +738,50 @@ public final class Optimizer {
 		StartAnySimulator startAnySimulator=new StartAnySimulator(editModel);
 		s=startAnySimulator.check();
 		if (s!=null) return s;
-		simulator=startAnySimulator.run();
+
+		return startAnySimulator;
+	}
+
+	/**
+	 * Startet die Simulation mehrerer Kandidaten fr die nchsten Optimierungsschritte.<br>
+	 * Es wird angenommen, dass die Auswertung jedes Kandidaten wieder zu einer Vernderung in dieselbe Richtung
+	 * und in denselben Intervallen fhrt. Ob dies tatschlich der Fall ist, wird in {@link #simulationDone()} geprft.
+	 * @param	changeModelDirection	Gibt an, ob Agenten hinzugefgt werden sollen (&gt;0) oder entfernt werden sollen (&lt;0)
+	 * @return	Gibt <code>null</code> zurck, wenn die Simulationslufe gestartet werden konnten, sonst wird ein Fehlermeldungs-String zurckgegeben.
+	 * @see #setParallelCandidates(int)
+	 */
+	private String simulationStartCandidates(final int changeModelDirection) {
+		candidateDirection=changeModelDirection;
+		candidateNeedsChange=intervalNeedsChange.densityData.clone();
+		candidateLastOKInterval=lastOKInterval;
+
+		final List<StartAnySimulator> starters=new ArrayList<>();
+		final List<CandidateState> states=new ArrayList<>();
+		for (int i=0;i<parallelCandidates;i++) {
+			final Object o=prepareRun(changeModelDirection);
+			if (o instanceof String) {
+				if (i==0) return (String)o;
+				/* Spter Kandidat nicht verwendbar, dann nur die bisherigen Kandidaten simulieren */
+				states.get(i-1).restore();
+				break;
+			}
+			starters.add((StartAnySimulator)o);
+			states.add(new CandidateState());
+			if (thisIsLastRun) break;
+		}
+
+		final int threads=Math.min(SetupData.getSetup().getRealMaxThreadNumber(),Runtime.getRuntime().availableProcessors());
+		final CallcenterSimulatorInterface[] simulators=new CallcenterSimulatorInterface[starters.size()];
+		for (int i=0;i<simulators.length;i++) simulators[i]=starters.get(i).run(Math.max(1,threads/simulators.length));
+
+		candidateStates=states.toArray(new CandidateState[0]);
+		candidates=new OptimizeCandidateSimulators(simulators);
+		simulator=candidates;
 		simulator.start(false);
 
+		/* Bis zur Auswertung gilt der erste Kandidat als aktueller Optimierungsschritt */
+		candidateStates[0].restore();
+
 		return null;
 	}
 
@@ -1007,6 +1220,54 @@ public final class Optimizer {
 	 * @return	Gibt <code>0</code> zurck, wenn das Optimierungsergebnis erreicht wurde. Werte &gt;0 bedeuten, dass Agenten hinzugefgt werden sollen; Werte &lt;0 bedeuten, dass Agenten entfernt werden sollen.
 	 */
 	public final int simulationDone() {
+		if (candidates!=null) return candidatesDone();
+
+		final Statistics statistics=finishSimulation(simulator);
+		if (statistics==null) return 0;
+		return processResults(statistics);
+	}
+
+	/**
+	 * Wertet die parallel simulierten Kandidaten in der Reihenfolge der Optimierungsschritte aus.<br>
+	 * Der jeweils nchste Kandidat wird nur bernommen, wenn die Auswertung des vorherigen Kandidaten zu einer
+	 * Vernderung in dieselbe Richtung und in denselben Intervallen gefhrt hat, d.h. wenn die sequentielle
+	 * Optimierung genau dieses Modell als nchstes simuliert htte.
+	 * @return	Gibt <code>0</code> zurck, wenn das Optimierungsergebnis erreicht wurde. Werte &gt;0 bedeuten, dass Agenten hinzugefgt werden sollen; Werte &lt;0 bedeuten, dass Agenten entfernt werden sollen.
+	 * @see #simulationStartCandidates(int)
+	 */
+	private int candidatesDone() {
+		final OptimizeCandidateSimulators simulators=candidates;
+		final CandidateState[] states=candidateStates;
+		candidates=null;
+		candidateStates=null;
+
+		int changeNeeded=0;
+		int used=0;
+		while (used<simulators.getCount()) {
+			if (used>0) states[used].restore();
+			final Statistics statistics=finishSimulation(simulators.getSimulator(used));
+			used++;
+			if (statistics==null) {changeNeeded=0; break;}
+			changeNeeded=processResults(statistics);
+			if (changeNeeded!=candidateDirection) break;
+			if (lastOKInterval!=candidateLastOKInterval || lastOKInterval2!=states[used-1].lastOKInterval2) break;
+			if (!Arrays.equals(intervalNeedsChange.densityData,candidateNeedsChange)) break;
+		}
+
+		/* Nicht verwendete Kandidaten verwerfen */
+		for (int i=used;i<simulators.getCount();i++) simulators.getSimulator(i).finalizeRun();
+		simulator=simulators.getSimulator(used-1);
+		results.runCount=runNr;
+
+		return changeNeeded;
+	}
+
+	/**
+	 * Schliet einen Simulationslauf ab und liefert dessen Ergebnisse.
+	 * @param simulator	Simulator des Laufs
+	 * @return	Statistikergebnisse oder <code>null</code>, wenn die Simulation fehlgeschlagen ist (die Optimierung gilt dann als abgebrochen)
+	 */
+	private Statistics finishSimulation(final CallcenterSimulatorInterface simulator) {
 		/* Ergebnisse aus Simulator auslesen */
 		String errorMessage=simulator.finalizeRun();
 		/* Vom Server gesandte Meldungen ausgeben */
@@ -1017,12 +1278,20 @@ public final class Optimizer {
 				MsgBox.error(owner,Language.tr("Optimization.Error.GeneralTitle"),errorMessage);
 			}
 			canceled=true;
-			return 0;
+			return null;
 		}
 
 		Statistics statistics=simulator.collectStatistic();
-		if (statistics==null) {canceled=true; return 0;}
+		if (statistics==null) canceled=true;
+		return statistics;
+	}
 
+	/**
+	 * Wertet die Ergebnisse eines Simulationslaufs aus, speichert sie und prft, ob weitere Lufe notwendig sind.
+	 * @param statistics	Statistikergebnisse des Laufs
+	 * @return	Gibt <code>0</code> zurck, wenn das Optimierungsergebnis erreicht wurde. Werte &gt;0 bedeuten, dass Agenten hinzugefgt werden sollen; Werte &lt;0 bedeuten, dass Agenten entfernt werden sollen.
+	 */
+	private int processResults(final Statistics statistics) {
 		/* Berechnen, ob weitere Lufe notwendig sind */
 		int changeNeeded=calcResultValues(statistics);
 		if (thisIsLastRun) changeNeeded=0;
@@ -1101,4 +1370,64 @@ public final class Optimizer {
 	public final OptimizeData getResults() {
 		return (results.data.size()>0)?results:null;
 	}
+
+	/**
+	 * Zustand des Optimierers nach der Erzeugung eines Kandidaten<br>
+	 * Enthlt alle Daten, die von {@link Optimizer#changeModel(int)} verndert werden, so dass der
+	 * Optimierer bei der bernahme eines Kandidaten auf genau diesen Stand gesetzt werden kann.
+	 * @see Optimizer#simulationStartCandidates(int)
+	 */
+	private final class CandidateState {
+		/** Gesamtzahl der Simulationslufe */
+		private final int runNr;
+		/** Letztes abgeschlossenes Intervall in Bezug auf Vernderungen in die zweite Richtung */
+		private final int lastOKInterval2;
+		/** Handelt es sich um den letzten Lauf? */
+		private final boolean thisIsLastRun;
+		/** Aktuelle Anzahl an Agenten pro Intervall */
+		private final DataDistributionImpl agents;
+		/** Vernderung der Anzahl an Agenten im letzten Optimierungsschritt */
+		private final DataDistributionImpl agentsChangedLast;
+		/** Vernderung der Anzahl an Agenten seit Start der Optimierung */
+		private final DataDistributionImpl agentsChanged;
+		/** Prozentuale Vernderung pro Intervall */
+		private final double[] intervalPercent;
+		/** Absolute Vernderung pro Intervall */
+		private final double[] intervalAbsoluteAdd;
+		/** Grenzen fr die Vernderungen pro Intervall */
+		private final Map<String,DataDistributionImpl> intervalChangeAllowed;
+
+		/**
+		 * Konstruktor der Klasse<br>
+		 * Erfasst den aktuellen Zustand des Optimierers.
+		 */
+		public CandidateState() {
+			runNr=Optimizer.this.runNr;
+			lastOKInterval2=Optimizer.this.lastOKInterval2;
+			thisIsLastRun=Optimizer.this.thisIsLastRun;
+			agents=Optimizer.this.agents.clone();
+			agentsChangedLast=Optimizer.this.agentsChangedLast.clone();
+			agentsChanged=Optimizer.this.agentsChanged.clone();
+			intervalPercent=Optimizer.this.intervalPercent.densityData.clone();
+			intervalAbsoluteAdd=Optimizer.this.intervalAbsoluteAdd.densityData.clone();
+			intervalChangeAllowed=new HashMap<>();
+			for (Map.Entry<String,DataDistributionImpl> entry: Optimizer.this.intervalChangeAllowed.entrySet()) intervalChangeAllowed.put(entry.getKey(),entry.getValue().clone());
+		}
+
+		/**
+		 * Setzt den Optimierer auf den erfassten Zustand.
+		 */
+		public void restore() {
+			Optimizer.this.runNr=runNr;
+			Optimizer.this.lastOKInterval2=lastOKInterval2;
+			Optimizer.this.thisIsLastRun=thisIsLastRun;
+			Optimizer.this.agents=agents.clone();
+			Optimizer.this.agentsChangedLast=agentsChangedLast.clone();
+			Optimizer.this.agentsChanged=agentsChanged.clone();
+			System.arraycopy(intervalPercent,0,Optimizer.this.intervalPercent.densityData,0,intervalPercent.length);
+			System.arraycopy(intervalAbsoluteAdd,0,Optimizer.this.intervalAbsoluteAdd.densityData,0,intervalAbsoluteAdd.length);
+			Optimizer.this.intervalChangeAllowed.clear();
+			for (Map.Entry<String,DataDistributionImpl> entry: intervalChangeAllowed.entrySet()) Optimizer.this.intervalChangeAllowed.put(entry.getKey(),entry.getValue().clone());
+		}
+	}
 }
\ No newline at end of file
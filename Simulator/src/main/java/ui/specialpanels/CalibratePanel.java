@@ -331,7 +331,11 @@ public class CalibratePanel extends JWorkPanel {
 			if (cancelWork) {timer.cancel(); simulator.cancel(); everythingDone(); return;}
 
 			if (simulator.isRunning()) {
-				count++; if (count%8==0) statusProgress.setValue((int)simulator.getSimDayCount());
+				count++;
+				if (count%8==0) {
+					statusProgress.setMaximum((int)simulator.getSimDaysCount());
+					statusProgress.setValue((int)simulator.getSimDayCount());
+				}
 				return;
 			}
 
@@ -204,6 +204,7 @@ public class CallcenterRunPanel extends JCloseablePanel {
 					}
 
 					statusbar.setText(String.format(Language.tr("Simulation.RunInfo.Status"),NumberTools.formatLong(day),NumberTools.formatLong(days),NumberTools.formatLong(simulator.getEventCount()/1000000),NumberTools.formatLong(simulator.getEventsPerSecond()/1000)));
+					progress.setMaximum((int)days);
 					progress.setValue((int)day);
 				}
 			} else {
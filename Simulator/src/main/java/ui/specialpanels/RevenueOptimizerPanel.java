@@ -22,6 +22,7 @@ import java.io.Serializable;
 import java.util.Timer;
 import java.util.TimerTask;
 
+import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -64,6 +65,8 @@ public class RevenueOptimizerPanel extends JWorkPanel {
 	/** Modell fr die Rckgabe an den Editor */
 	private CallcenterModel returnModel=null;
 
+	/** Option: Alle Modellvarianten mit denselben synchronisierten Zufallszahlenstrmen simulieren */
+	private final JCheckBox commonRandomNumbers;
 	/** Fuzeile mit Informationen */
 	private final JPanel bottomInfoPanel;
 	/** Text innerhalb der Fuzeile */
@@ -93,6 +96,11 @@ public class RevenueOptimizerPanel extends JWorkPanel {
 
 		addFooter(Language.tr("RevenueOptimizer.Button.Opzimize"),Images.REVENUSE_OPTIMIZER_RUN.getIcon(),Language.tr("RevenueOptimizer.Button.Cancel"));
 
+		final JPanel topPanel=new JPanel(new FlowLayout(FlowLayout.LEFT));
+		add(topPanel,BorderLayout.NORTH);
+		topPanel.add(commonRandomNumbers=new JCheckBox(Language.tr("RevenueOptimizer.CommonRandomNumbers"),model.useCommonRandomNumbers));
+		commonRandomNumbers.setToolTipText(Language.tr("RevenueOptimizer.CommonRandomNumbers.Info"));
+
 		add(bottomInfoPanel=new JPanel(new FlowLayout(FlowLayout.LEFT)),BorderLayout.SOUTH);
 		bottomInfoPanel.add(bottomInfoLabel=new JLabel());
 
@@ -117,6 +125,12 @@ public class RevenueOptimizerPanel extends JWorkPanel {
 		}
 	}
 
+	@Override
+	protected void setWorkMode(boolean running) {
+		super.setWorkMode(running);
+		commonRandomNumbers.setEnabled(!running);
+	}
+
 	/**
 	 * Lscht die bisherigen Ausgaben in {@link #statusField}
 	 * und initialisiert die Stile fr die Ausgabe.
@@ -186,7 +200,7 @@ public class RevenueOptimizerPanel extends JWorkPanel {
 	protected void run() {
 		clearText();
 
-		revenueOptimizer=new RevenueOptimizer(bestModel) {
+		revenueOptimizer=new RevenueOptimizer(bestModel,commonRandomNumbers.isSelected()) {
 			@Override
 			protected void statusOutput(boolean isHeading,String text) {addStatusLine(isHeading?1:0,text);}
 		};
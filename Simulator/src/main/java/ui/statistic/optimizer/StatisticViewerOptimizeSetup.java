@@ -198,6 +198,7 @@ public class StatisticViewerOptimizeSetup extends StatisticViewerText {
 			if (results.runCount>0) addLine(""+results.runCount+" "+Language.tr("SimStatistic.OptimizeSetup.RunTime.RunCount"));
 			addLine(""+results.data.size()+" "+Language.tr("SimStatistic.OptimizeSetup.RunTime.ResultCount"));
 			addLine(""+results.runTime+" "+Language.tr("Statistic.Seconds")+" "+Language.tr("SimStatistic.OptimizeSetup.RunTime.Time"));
+			if (results.warmStartTime>=0) addLine(NumberTools.formatLong(results.warmStartTime)+" "+Language.tr("Statistic.Units.MilliSeconds")+" "+Language.tr("SimStatistic.OptimizeSetup.RunTime.WarmStart"));
 			endParagraph();
 		}
 	}
@@ -303,28 +303,28 @@ public class StatisticViewerKundenAgentenLineChart extends StatisticViewerLineCh
 
 		case DATA_TYPE_CLIENT_WAITINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+Language.tr("SimStatistic.OnClientBasis")+")",Language.tr("SimStatistic.WaitingTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.BLUE,kunden.kundenWartezeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.kundenWartezeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
 
 		case DATA_TYPE_CALLER_WAITINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+Language.tr("SimStatistic.OnCallBasis")+")",Language.tr("SimStatistic.WaitingTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.BLUE,kunden.anrufeWartezeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.anrufeWartezeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
 
 		case DATA_TYPE_CLIENT_STAYINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+Language.tr("SimStatistic.OnClientBasis")+")",Language.tr("SimStatistic.ResidenceTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.kundenVerweilzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.kundenVerweilzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
 
 		case DATA_TYPE_CALLER_STAYINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+Language.tr("SimStatistic.OnCallBasis")+")",Language.tr("SimStatistic.ResidenceTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.anrufeVerweilzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.anrufeVerweilzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
@@ -345,15 +345,15 @@ public class StatisticViewerKundenAgentenLineChart extends StatisticViewerLineCh
 
 		case DATA_TYPE_CLIENT_WAITINGANDSTAYINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.WaitingResidenceTimeDistribution")+" ("+Language.tr("SimStatistic.OnClientBasis")+")",Language.tr("Statistic.Period"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.RED,kunden.kundenWartezeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
-			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.kundenVerweilzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.RED,kunden.getLongDistribution(kunden.kundenWartezeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.kundenVerweilzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			smartZoom(10);
 			break;
 
 		case DATA_TYPE_CALLER_WAITINGANDSTAYINGTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.WaitingResidenceTimeDistribution")+" ("+Language.tr("SimStatistic.OnCallBasis")+")",Language.tr("Statistic.Period"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.RED,kunden.anrufeWartezeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
-			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.anrufeVerweilzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.WaitingTimeDistribution")+" ("+type+")",Color.RED,kunden.getLongDistribution(kunden.anrufeWartezeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.ResidenceTimeDistribution")+" ("+type+")",Color.BLUE,kunden.getLongDistribution(kunden.anrufeVerweilzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			smartZoom(10);
 			break;
 
@@ -373,14 +373,14 @@ public class StatisticViewerKundenAgentenLineChart extends StatisticViewerLineCh
 
 		case DATA_TYPE_CLIENT_CANCELTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+Language.tr("SimStatistic.OnClientBasis")+")",Language.tr("SimStatistic.CancelTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+type+")",Color.RED,kunden.kundenAbbruchzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+type+")",Color.RED,kunden.getLongDistribution(kunden.kundenAbbruchzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
 
 		case DATA_TYPE_CALLER_CANCELTIME_DIST_LONG:
 			setupLongTime(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+Language.tr("SimStatistic.OnCallBasis")+")",Language.tr("SimStatistic.CancelTime"),Language.tr("Statistic.Frequency"));
-			addLongSeriesPart(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+type+")",Color.RED,kunden.anrufeAbbruchzeitVerteilungLang.divide(statistic.simulationData.runRepeatCount),1200,5);
+			addLongSeriesPart(Language.tr("SimStatistic.CancelTimeDistribution")+" ("+type+")",Color.RED,kunden.getLongDistribution(kunden.anrufeAbbruchzeitVerteilungLang).divide(statistic.simulationData.runRepeatCount),1200,5);
 			addFillColor(0);
 			smartZoom(10);
 			break;
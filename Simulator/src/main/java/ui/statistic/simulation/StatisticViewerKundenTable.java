@@ -376,32 +376,32 @@ public class StatisticViewerKundenTable extends StatisticViewerTable {
 			break;
 
 		case DATA_TYPE_CALLER_WAITINGTIME_DIST_LONG:
-			d=kunden.anrufeWartezeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.anrufeWartezeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 
 		case DATA_TYPE_CALLER_STAYINGTIME_DIST_LONG:
-			d=kunden.anrufeVerweilzeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.anrufeVerweilzeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 
 		case DATA_TYPE_CALLER_CANCELTIME_DIST_LONG:
-			d=kunden.anrufeAbbruchzeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.anrufeAbbruchzeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 
 		case DATA_TYPE_CLIENT_WAITINGTIME_DIST_LONG:
-			d=kunden.kundenWartezeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.kundenWartezeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 
 		case DATA_TYPE_CLIENT_STAYINGTIME_DIST_LONG:
-			d=kunden.kundenVerweilzeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.kundenVerweilzeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 
 		case DATA_TYPE_CLIENT_CANCELTIME_DIST_LONG:
-			d=kunden.kundenAbbruchzeitVerteilungLang.densityData;
+			d=kunden.getLongDistribution(kunden.kundenAbbruchzeitVerteilungLang).densityData;
 			for (int i=0;i<KundenDaten.DistMax;i++) line.add(NumberTools.formatNumber(d[i]/days,3));
 			break;
 		}
@@ -336,9 +336,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDaySuccessCallsSum2,kunden.interDaySuccessCallsSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDaySuccessCallsSum/simDays),3);
-			c=calcConfidence(kunden.interDaySuccessCallsSum2,kunden.interDaySuccessCallsSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SUCCESS_CALLS,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDaySuccessCallsSum2,kunden.interDaySuccessCallsSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SUCCESS_CALLS,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -350,9 +350,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDaySuccessClientsSum2,kunden.interDaySuccessClientsSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDaySuccessClientsSum/simDays),3);
-			c=calcConfidence(kunden.interDaySuccessClientsSum2,kunden.interDaySuccessClientsSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SUCCESS_CLIENTS,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDaySuccessClientsSum2,kunden.interDaySuccessClientsSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SUCCESS_CLIENTS,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -364,9 +364,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDayWartezeitSum2,kunden.interDayWartezeitSum,simDays);
 			addShortTime(2,Language.tr("Distribution.StdDev"),d);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDayWartezeitSum/simDays),3);
-			c=calcConfidence(kunden.interDayWartezeitSum2,kunden.interDayWartezeitSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_WAITING_TIME,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+TimeTools.formatExactTime(c[0])+";"+TimeTools.formatExactTime(c[1])+"]");
-			c=calcConfidence(kunden.interDayWartezeitSum2,kunden.interDayWartezeitSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_WAITING_TIME,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+TimeTools.formatExactTime(c[0])+";"+TimeTools.formatExactTime(c[1])+"]");
 			endParagraph();
 		}
@@ -378,9 +378,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDayServiceLevelCallsSuccessSum2,kunden.interDayServiceLevelCallsSuccessSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDayServiceLevelCallsSuccessSum/simDays),3);
-			c=calcConfidence(kunden.interDayServiceLevelCallsSuccessSum2,kunden.interDayServiceLevelCallsSuccessSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDayServiceLevelCallsSuccessSum2,kunden.interDayServiceLevelCallsSuccessSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CALLS_SUCCESS,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -392,9 +392,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDayServiceLevelCallsAllSum2,kunden.interDayServiceLevelCallsAllSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDayServiceLevelCallsAllSum/simDays),3);
-			c=calcConfidence(kunden.interDayServiceLevelCallsAllSum2,kunden.interDayServiceLevelCallsAllSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CALLS_ALL,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDayServiceLevelCallsAllSum2,kunden.interDayServiceLevelCallsAllSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CALLS_ALL,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -406,9 +406,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDayServiceLevelClientsSuccessSum2,kunden.interDayServiceLevelClientsSuccessSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDayServiceLevelClientsSuccessSum/simDays),3);
-			c=calcConfidence(kunden.interDayServiceLevelClientsSuccessSum2,kunden.interDayServiceLevelClientsSuccessSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDayServiceLevelClientsSuccessSum2,kunden.interDayServiceLevelClientsSuccessSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CLIENTS_SUCCESS,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -420,9 +420,9 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 			d=calcStd(kunden.interDayServiceLevelClientsAllSum2,kunden.interDayServiceLevelClientsAllSum,simDays);
 			addLine(2,Language.tr("Distribution.StdDev"),d,3);
 			addLine(2,Language.tr("Distribution.CV"),d/(kunden.interDayServiceLevelClientsAllSum/simDays),3);
-			c=calcConfidence(kunden.interDayServiceLevelClientsAllSum2,kunden.interDayServiceLevelClientsAllSum,simDays,0.9);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL,0.9);
 			addLine(2,"90%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
-			c=calcConfidence(kunden.interDayServiceLevelClientsAllSum2,kunden.interDayServiceLevelClientsAllSum,simDays,0.95);
+			c=kunden.getInterDayConfidence(KundenDaten.INTER_DAY_SERVICE_LEVEL_CLIENTS_ALL,0.95);
 			addLine(2,"95%"+Language.tr("SimStatistic.ConfidenceIntervals.ForMean")+": ["+NumberTools.formatNumber(c[0]*100,2)+"%;"+NumberTools.formatNumber(c[1]*100,2)+"%]");
 			endParagraph();
 		}
@@ -438,6 +438,7 @@ public class StatisticViewerTextInformation extends StatisticViewerText {
 		addHeading(1,Language.tr("SimStatistic.ConfidenceIntervals"));
 
 		addLines(Language.tr("SimStatistic.ConfidenceIntervals.Info"));
+		if (statistic.kundenGlobal.interDayPairCount>0) addLines(String.format(Language.tr("SimStatistic.ConfidenceIntervals.AntitheticPairs"),statistic.kundenGlobal.interDayPairCount));
 
 		buildKonfidenceClientData(statistic.kundenGlobal,statistic.simulationData.runRepeatCount,statistic.editModel.serviceLevelSeconds);
 		if (statistic.kundenProTyp.length>1) for (int i=0;i<statistic.kundenProTyp.length;i++) {